@@ -34,6 +34,18 @@ public interface AmqpSendLink extends AmqpLink {
      */
     Mono<Void> send(List<Message> messageBatch);
 
+    /**
+     * Sends a batch message that has already been encoded with {@link BatchMessageEncoder}, such as a batch encoded as
+     * its messages were added to it.
+     *
+     * @param encodedBatch The encoded batch message. Its first {@code size} bytes must not be modified until the
+     *     returned Mono completes.
+     * @param size The size of the encoded batch message.
+     * @return A Mono that completes when the batch message is successfully transmitted to the service.
+     * @throws AmqpException if {@code size} exceeds the link's capacity for a single message.
+     */
+    Mono<Void> sendEncodedBatch(byte[] encodedBatch, int size);
+
     /**
      * Gets the size of the send link. {@link Message Messages} sent on the link cannot exceed the size.
      *
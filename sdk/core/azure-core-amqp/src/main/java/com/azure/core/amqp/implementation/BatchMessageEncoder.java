@@ -0,0 +1,102 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.message.Message;
+
+import java.nio.BufferOverflowException;
+import java.util.List;
+
+/**
+ * Encodes batch messages: the message annotations of the first message of the batch followed by a Data section holding
+ * each encoded message, sent with the batch message format.
+ *
+ * <p>proton-j doesn't support multiple Data sections in a message, so the sections are encoded as proton-j encodes a
+ * message whose body is a single Data section. See https://github.com/apache/qpid-proton/pull/54. A batch can be
+ * encoded all at once or, by encoding its header then each of its sections, as its messages are added to it.</p>
+ */
+public final class BatchMessageEncoder {
+    // The descriptor of a Data section, and the largest constructor of its binary value: vbin32 with a 4 byte size.
+    private static final byte[] DATA_SECTION_DESCRIPTOR = new byte[]{0x00, 0x53, 0x75};
+    private static final int DATA_SECTION_MAX_HEADER_SIZE = DATA_SECTION_DESCRIPTOR.length + 5;
+    private static final int VBIN8_MAX_SIZE = 255;
+    private static final byte VBIN8 = (byte) 0xa0;
+    private static final byte VBIN32 = (byte) 0xb0;
+
+    private BatchMessageEncoder() {
+    }
+
+    /**
+     * Encodes a batch of messages as a single batch message.
+     *
+     * @param messageBatch The messages to encode.
+     * @param buffer The buffer to encode the batch message into.
+     * @param maxMessageSize The maximum size of the batch message.
+     * @return The size of the encoded batch message.
+     * @throws BufferOverflowException if the batch message exceeds {@code maxMessageSize}.
+     */
+    static int encodeBatch(List<Message> messageBatch, byte[] buffer, int maxMessageSize) {
+        int offset = encodeHeader(messageBatch.get(0), buffer, 0, maxMessageSize);
+        for (final Message amqpMessage : messageBatch) {
+            offset += encodeDataSection(amqpMessage, buffer, offset, maxMessageSize - offset - 1);
+        }
+
+        return offset;
+    }
+
+    /**
+     * Encodes the header of a batch message, the message annotations of its first message.
+     *
+     * @param firstMessage The first message of the batch.
+     * @param buffer The buffer to encode the header into.
+     * @param offset The offset in {@code buffer} to encode the header at.
+     * @param length The number of bytes available in {@code buffer} from {@code offset}.
+     * @return The size of the encoded header.
+     * @throws BufferOverflowException if the header exceeds {@code length}.
+     */
+    public static int encodeHeader(Message firstMessage, byte[] buffer, int offset, int length) {
+        final Message batchMessage = Proton.message();
+        batchMessage.setMessageAnnotations(firstMessage.getMessageAnnotations());
+
+        return batchMessage.encode(buffer, offset, length);
+    }
+
+    /**
+     * Encodes a message of a batch into a Data section, without encoding it into an intermediate array. The message is
+     * encoded after the largest section header and moved next to the header when its size fits the smaller vbin8
+     * constructor.
+     *
+     * @param message The message to encode.
+     * @param buffer The buffer to encode the Data section into.
+     * @param offset The offset in {@code buffer} to encode the Data section at.
+     * @param length The number of bytes available in {@code buffer} from {@code offset}.
+     * @return The size of the encoded Data section.
+     * @throws BufferOverflowException if the Data section exceeds {@code length}.
+     */
+    public static int encodeDataSection(Message message, byte[] buffer, int offset, int length) {
+        if (length < DATA_SECTION_MAX_HEADER_SIZE) {
+            throw new BufferOverflowException();
+        }
+
+        final int messageOffset = offset + DATA_SECTION_MAX_HEADER_SIZE;
+        final int messageSize = message.encode(buffer, messageOffset, length - DATA_SECTION_MAX_HEADER_SIZE);
+
+        System.arraycopy(DATA_SECTION_DESCRIPTOR, 0, buffer, offset, DATA_SECTION_DESCRIPTOR.length);
+        int position = offset + DATA_SECTION_DESCRIPTOR.length;
+        if (messageSize <= VBIN8_MAX_SIZE) {
+            buffer[position++] = VBIN8;
+            buffer[position++] = (byte) messageSize;
+            System.arraycopy(buffer, messageOffset, buffer, position, messageSize);
+        } else {
+            buffer[position++] = VBIN32;
+            buffer[position++] = (byte) (messageSize >>> 24);
+            buffer[position++] = (byte) (messageSize >>> 16);
+            buffer[position++] = (byte) (messageSize >>> 8);
+            buffer[position++] = (byte) messageSize;
+        }
+
+        return position + messageSize - offset;
+    }
+}
@@ -0,0 +1,262 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A timer for large numbers of short-lived timeouts that are usually cancelled before they expire, such as the
+ * timeouts of AMQP sends.
+ *
+ * <p>Timeouts are hashed by their deadline into the buckets of a wheel that a single worker thread advances one bucket
+ * per tick, expiring the timeouts of the bucket whose deadline has passed. Scheduling and cancelling a timeout is
+ * constant time: both are queued and applied to the wheel by the worker on its next tick. Timeouts expire up to one
+ * tick late, and their tasks run on the worker thread so they must not block.</p>
+ */
+final class HashedWheelTimer implements AutoCloseable {
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private final ClientLogger logger = new ClientLogger(HashedWheelTimer.class);
+    private final Queue<Timeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final long startNanos = System.nanoTime();
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread worker;
+
+    /**
+     * Creates a timer, whose worker thread is started when the first timeout is scheduled.
+     *
+     * @param threadName The name of the worker thread.
+     * @param tickDuration The duration of a tick, the precision of the timeouts.
+     * @param ticksPerWheel The number of buckets in the wheel, rounded up to a power of two.
+     */
+    HashedWheelTimer(String threadName, Duration tickDuration, int ticksPerWheel) {
+        this.tickNanos = tickDuration.toNanos();
+        if (tickNanos <= 0 || ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'tickDuration' must be positive and 'ticksPerWheel' must be between 1 and 2^30."));
+        }
+
+        final int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(1, wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        this.mask = wheel.length - 1;
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Schedules a task to run once a delay has elapsed, unless its timeout is cancelled first.
+     *
+     * @param task The task to run.
+     * @param delay The delay after which the task runs.
+     * @return The timeout of the task.
+     * @throws IllegalStateException if the timer is closed.
+     */
+    Timeout schedule(Runnable task, Duration delay) {
+        if (state.get() == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            worker.start();
+        } else if (state.get() == STATE_CLOSED) {
+            throw logger.logExceptionAsError(new IllegalStateException("Cannot schedule a task, the timer is closed."));
+        }
+
+        final Timeout timeout = new Timeout(this, task, System.nanoTime() - startNanos + delay.toNanos());
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread. Timeouts that haven't expired never will.
+     */
+    @Override
+    public void close() {
+        if (state.getAndSet(STATE_CLOSED) == STATE_STARTED) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        long tick = (System.nanoTime() - startNanos) / tickNanos;
+        while (state.get() == STATE_STARTED) {
+            if (!waitForTick(tick)) {
+                return;
+            }
+
+            removeCancelledTimeouts();
+            transferScheduledTimeouts(tick);
+            wheel[(int) (tick & mask)].expireTimeouts();
+            tick++;
+        }
+    }
+
+    /*
+     * Sleeps until the end of the tick, returns false if the timer was closed in the meantime.
+     */
+    private boolean waitForTick(long tick) {
+        final long deadline = startNanos + (tick + 1) * tickNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_CLOSED) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferScheduledTimeouts(long tick) {
+        Timeout timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.STATE_PENDING) {
+                continue;
+            }
+
+            // A timeout whose deadline has already passed expires with the current tick.
+            final long deadlineTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            wheel[(int) (Math.max(deadlineTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * The timeout of a scheduled task.
+     */
+    static final class Timeout {
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+        // Only accessed by the worker thread.
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout previous;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadlineNanos) {
+            this.timer = timer;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the timeout so its task doesn't run.
+         *
+         * @return {@code true} if the timeout was cancelled, {@code false} if it has already expired or been
+         *     cancelled.
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        /**
+         * Gets whether the timeout has expired and its task has run or is running.
+         *
+         * @return {@code true} if the timeout has expired.
+         */
+        boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                timer.logger.warning("Error running a timed out task.", e);
+            }
+        }
+    }
+
+    /*
+     * A doubly linked list of the timeouts hashed to a slot of the wheel, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+
+            timeout.bucket = null;
+            timeout.next = null;
+            timeout.previous = null;
+        }
+    }
+}
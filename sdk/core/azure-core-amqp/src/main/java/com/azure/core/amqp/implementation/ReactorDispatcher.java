@@ -9,14 +9,16 @@ import org.apache.qpid.proton.Proton;
 import org.apache.qpid.proton.reactor.Reactor;
 import org.apache.qpid.proton.reactor.Selectable;
 import org.apache.qpid.proton.reactor.Selectable.Callback;
+import reactor.util.concurrent.Queues;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.Pipe;
 import java.time.Duration;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Queue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * {@link Reactor} is not thread-safe - all calls to {@link Proton} APIs should be on the Reactor Thread.
@@ -30,6 +32,12 @@ import java.util.concurrent.RejectedExecutionException;
  * </p>
  *
  * <p>
+ * Signals are coalesced: a byte is only written to the {@link Pipe} when work is queued while no signal is pending,
+ * and the Reactor runs all the queued work each time it is signalled. Work queued in bursts costs one pipe write and
+ * one Reactor wakeup rather than one per work item.
+ * </p>
+ *
+ * <p>
  * Cardinality: Multiple {@link ReactorDispatcher}'s could be attached to 1 {@link Reactor}.
  * Each {@link ReactorDispatcher} should be initialized synchronously - as it calls API in {@link Reactor} which is not
  * thread-safe.
@@ -40,13 +48,15 @@ public final class ReactorDispatcher {
     private final CloseHandler onClose;
     private final Reactor reactor;
     private final Pipe ioSignal;
-    private final ConcurrentLinkedQueue<Work> workQueue;
+    private final Queue<Work> workQueue;
+    private final AtomicBoolean isSignalPending = new AtomicBoolean();
     private final WorkScheduler workScheduler;
 
     public ReactorDispatcher(final Reactor reactor) throws IOException {
         this.reactor = reactor;
         this.ioSignal = Pipe.open();
-        this.workQueue = new ConcurrentLinkedQueue<>();
+        // Only the Reactor thread polls the queue.
+        this.workQueue = Queues.<Work>unboundedMultiproducer().get();
         this.onClose = new CloseHandler();
         this.workScheduler = new WorkScheduler();
 
@@ -95,25 +105,39 @@ public final class ReactorDispatcher {
     }
 
     private void signalWorkQueue() throws IOException {
+        // The Reactor has yet to run the work queued since the last signal, and will run this work with it.
+        if (!isSignalPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        boolean isSignalled = false;
         try {
             ByteBuffer oneByteBuffer = ByteBuffer.allocate(1);
             while (this.ioSignal.sink().write(oneByteBuffer) == 0) {
                 oneByteBuffer = ByteBuffer.allocate(1);
             }
+            isSignalled = true;
         } catch (ClosedChannelException ignorePipeClosedDuringReactorShutdown) {
             logger.info("signalWorkQueue failed with an error: {}", ignorePipeClosedDuringReactorShutdown);
+        } finally {
+            // Without a signal, the Reactor won't run the queued work, so the next caller has to signal it.
+            if (!isSignalled) {
+                isSignalPending.set(false);
+            }
         }
     }
 
     // Schedules work to be executed in reactor.
     private final class WorkScheduler implements Callback {
+        // Only used on the Reactor thread.
+        private final ByteBuffer oneKbByteBuffer = ByteBuffer.allocate(1024);
+
         @Override
         public void run(Selectable selectable) {
             try {
-                ByteBuffer oneKbByteBuffer = ByteBuffer.allocate(1024);
                 while (ioSignal.source().read(oneKbByteBuffer) > 0) {
                     // read until the end of the stream
-                    oneKbByteBuffer = ByteBuffer.allocate(1024);
+                    oneKbByteBuffer.clear();
                 }
             } catch (ClosedChannelException ignorePipeClosedDuringReactorShutdown) {
                 logger.info("WorkScheduler.run() failed with an error: %s", ignorePipeClosedDuringReactorShutdown);
@@ -122,6 +146,9 @@ public final class ReactorDispatcher {
                 throw logger.logExceptionAsError(new RuntimeException(ioException));
             }
 
+            // Cleared before polling, so work queued from now on either is polled below or signals again.
+            isSignalPending.set(false);
+
             Work topWork;
             while ((topWork = workQueue.poll()) != null) {
                 if (topWork.delay != null) {
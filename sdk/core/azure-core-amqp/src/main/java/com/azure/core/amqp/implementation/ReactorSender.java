@@ -11,12 +11,9 @@ import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.exception.OperationCancelledException;
 import com.azure.core.amqp.implementation.handler.SendLinkHandler;
 import com.azure.core.util.logging.ClientLogger;
-import org.apache.qpid.proton.Proton;
-import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.UnsignedLong;
 import org.apache.qpid.proton.amqp.messaging.Accepted;
-import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Rejected;
 import org.apache.qpid.proton.amqp.messaging.Released;
 import org.apache.qpid.proton.amqp.transport.DeliveryState;
@@ -41,8 +38,6 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.PriorityQueue;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
@@ -55,6 +50,13 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * Handles scheduling and transmitting events through proton-j to Event Hubs service.
  */
 class ReactorSender implements AmqpSendLink {
+    // Encoded messages are shared by every sender, they're held from when they're encoded until they're settled.
+    private static final SendBufferPool BUFFER_POOL = new SendBufferPool();
+
+    // Send timeouts of every sender share a single thread, a timeout is cancelled once its delivery is settled.
+    private static final HashedWheelTimer SEND_TIMEOUT_TIMER =
+        new HashedWheelTimer("azure-amqp-send-timeout", Duration.ofMillis(100), 512);
+
     private final String entityPath;
     private final Sender sender;
     private final SendLinkHandler handler;
@@ -80,7 +82,6 @@ class ReactorSender implements AmqpSendLink {
     private final MessageSerializer messageSerializer;
     private final AmqpRetryPolicy retry;
     private final Duration timeout;
-    private final Timer sendTimeoutTimer = new Timer("SendTimeout-timer");
 
     private final Object errorConditionLock = new Object();
 
@@ -153,26 +154,30 @@ class ReactorSender implements AmqpSendLink {
 
     @Override
     public Mono<Void> send(Message message) {
-        final int payloadSize = messageSerializer.getSize(message);
-        final int allocationSize =
-            Math.min(payloadSize + ClientConstants.MAX_AMQP_HEADER_SIZE_BYTES, maxMessageSize);
-        final byte[] bytes = new byte[allocationSize];
+        // Each subscription encodes the message into its own pooled buffer, which its work item releases.
+        return Mono.defer(() -> {
+            final int payloadSize = messageSerializer.getSize(message);
+            final int allocationSize =
+                Math.min(payloadSize + ClientConstants.MAX_AMQP_HEADER_SIZE_BYTES, maxMessageSize);
+            final byte[] bytes = BUFFER_POOL.acquire(allocationSize);
+
+            int encodedSize;
+            try {
+                encodedSize = message.encode(bytes, 0, allocationSize);
+            } catch (BufferOverflowException exception) {
+                BUFFER_POOL.release(bytes);
+                final String errorMessage =
+                    String.format(Locale.US,
+                        "Error sending. Size of the payload exceeded maximum message size: %s kb",
+                        maxMessageSize / 1024);
+                final Throwable error = new AmqpException(false, AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
+                    errorMessage, exception, handler.getErrorContext(sender));
 
-        int encodedSize;
-        try {
-            encodedSize = message.encode(bytes, 0, allocationSize);
-        } catch (BufferOverflowException exception) {
-            final String errorMessage =
-                String.format(Locale.US,
-                    "Error sending. Size of the payload exceeded maximum message size: %s kb",
-                    maxMessageSize / 1024);
-            final Throwable error = new AmqpException(false, AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
-                errorMessage, exception, handler.getErrorContext(sender));
-
-            return Mono.error(error);
-        }
+                return Mono.error(error);
+            }
 
-        return send(bytes, encodedSize, DeliveryImpl.DEFAULT_MESSAGE_FORMAT);
+            return send(bytes, encodedSize, DeliveryImpl.DEFAULT_MESSAGE_FORMAT, BUFFER_POOL);
+        });
     }
 
     @Override
@@ -181,34 +186,15 @@ class ReactorSender implements AmqpSendLink {
             return send(messageBatch.get(0));
         }
 
-        final Message firstMessage = messageBatch.get(0);
-
-        // proton-j doesn't support multiple dataSections to be part of AmqpMessage
-        // here's the alternate approach provided by them: https://github.com/apache/qpid-proton/pull/54
-        final Message batchMessage = Proton.message();
-        batchMessage.setMessageAnnotations(firstMessage.getMessageAnnotations());
-
-        final int maxMessageSizeTemp = this.maxMessageSize;
-
-        final byte[] bytes = new byte[maxMessageSizeTemp];
-        int encodedSize = batchMessage.encode(bytes, 0, maxMessageSizeTemp);
-        int byteArrayOffset = encodedSize;
-
-        for (final Message amqpMessage : messageBatch) {
-            final Message messageWrappedByData = Proton.message();
-
-            int payloadSize = messageSerializer.getSize(amqpMessage);
-            int allocationSize =
-                Math.min(payloadSize + ClientConstants.MAX_AMQP_HEADER_SIZE_BYTES, maxMessageSizeTemp);
-
-            byte[] messageBytes = new byte[allocationSize];
-            int messageSizeBytes = amqpMessage.encode(messageBytes, 0, allocationSize);
-            messageWrappedByData.setBody(new Data(new Binary(messageBytes, 0, messageSizeBytes)));
+        return Mono.defer(() -> {
+            final int maxMessageSizeTemp = this.maxMessageSize;
+            final byte[] bytes = BUFFER_POOL.acquire(maxMessageSizeTemp);
 
+            final int encodedSize;
             try {
-                encodedSize =
-                    messageWrappedByData.encode(bytes, byteArrayOffset, maxMessageSizeTemp - byteArrayOffset - 1);
+                encodedSize = BatchMessageEncoder.encodeBatch(messageBatch, bytes, maxMessageSizeTemp);
             } catch (BufferOverflowException exception) {
+                BUFFER_POOL.release(bytes);
                 final String message =
                     String.format(Locale.US,
                         "Size of the payload exceeded maximum message size: %s kb",
@@ -219,10 +205,22 @@ class ReactorSender implements AmqpSendLink {
                 return Mono.error(error);
             }
 
-            byteArrayOffset = byteArrayOffset + encodedSize;
+            return send(bytes, encodedSize, AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT, BUFFER_POOL);
+        });
+    }
+
+    @Override
+    public Mono<Void> sendEncodedBatch(byte[] encodedBatch, int size) {
+        final int maxMessageSizeTemp = this.maxMessageSize;
+        if (maxMessageSizeTemp > 0 && size > maxMessageSizeTemp) {
+            final String message = String.format(Locale.US,
+                "Size of the payload exceeded maximum message size: %s kb", maxMessageSizeTemp / 1024);
+            return Mono.error(new AmqpException(false, AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED, message,
+                handler.getErrorContext(sender)));
         }
 
-        return send(bytes, byteArrayOffset, AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT);
+        // The caller owns the encoded batch, so it isn't returned to the buffer pool.
+        return send(encodedBatch, size, AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT, null);
     }
 
     @Override
@@ -282,15 +280,16 @@ class ReactorSender implements AmqpSendLink {
         tokenManager.close();
     }
 
-    private Mono<Void> send(byte[] bytes, int arrayOffset, int messageFormat) {
+    private Mono<Void> send(byte[] bytes, int arrayOffset, int messageFormat, SendBufferPool bufferPool) {
         if (hasConnected.get()) {
-            return Mono.create(sink -> send(new RetriableWorkItem(bytes, arrayOffset, messageFormat, sink, timeout)));
+            return Mono.create(sink -> send(new RetriableWorkItem(bytes, arrayOffset, messageFormat, sink, timeout,
+                bufferPool)));
         } else {
             return RetryUtil.withRetry(
                 handler.getEndpointStates().takeUntil(state -> state == EndpointState.ACTIVE),
                 timeout, retry)
                 .then(Mono.create(sink -> {
-                    send(new RetriableWorkItem(bytes, arrayOffset, messageFormat, sink, timeout));
+                    send(new RetriableWorkItem(bytes, arrayOffset, messageFormat, sink, timeout, bufferPool));
                 }));
         }
     }
@@ -350,7 +349,14 @@ class ReactorSender implements AmqpSendLink {
                 delivery = sender.delivery(deliveryTag.getBytes(UTF_8));
                 delivery.setMessageFormat(workItem.getMessageFormat());
 
-                sentMsgSize = sender.send(workItem.getMessage(), 0, workItem.getEncodedMessageSize());
+                sentMsgSize = workItem.send(sender);
+                if (sentMsgSize == -1) {
+                    // The work item timed out while it was waiting to be retried, its buffer has been released.
+                    pendingSendsMap.remove(deliveryTag, workItem);
+                    delivery.free();
+                    continue;
+                }
+
                 assert sentMsgSize == workItem.getEncodedMessageSize()
                     : "Contract of the ProtonJ library for Sender. Send API changed";
 
@@ -364,7 +370,7 @@ class ReactorSender implements AmqpSendLink {
                     getLinkName(), deliveryTag);
 
                 workItem.setWaitingForAck();
-                sendTimeoutTimer.schedule(new SendTimeout(deliveryTag), timeout.toMillis());
+                workItem.setSendTimeout(SEND_TIMEOUT_TIMER.schedule(new SendTimeout(deliveryTag), timeout));
             } else {
                 logger.verbose(
                     "clientId[{}]. path[{}], linkName[{}], deliveryTag[{}], sentMessageSize[{}], "
@@ -385,7 +391,7 @@ class ReactorSender implements AmqpSendLink {
                         "Entity(%s): send operation failed while advancing delivery(tag: %s).",
                         entityPath, deliveryTag), context);
 
-                workItem.getSink().error(exception);
+                workItem.error(exception);
             }
         }
     }
@@ -405,13 +411,15 @@ class ReactorSender implements AmqpSendLink {
             return;
         }
 
+        workItem.cancelSendTimeout();
+
         if (outcome instanceof Accepted) {
             synchronized (errorConditionLock) {
                 lastKnownLinkError = null;
                 retryAttempts.set(0);
             }
 
-            workItem.getSink().success();
+            workItem.success();
         } else if (outcome instanceof Rejected) {
             final Rejected rejected = (Rejected) outcome;
             final org.apache.qpid.proton.amqp.transport.ErrorCondition error = rejected.getError();
@@ -468,7 +476,7 @@ class ReactorSender implements AmqpSendLink {
 
     private void cleanupFailedSend(final RetriableWorkItem workItem, final Exception exception) {
         //TODO (conniey): is there some timeout task I should handle?
-        workItem.getSink().error(exception);
+        workItem.error(exception);
     }
 
     private static boolean isGeneralSendError(Symbol amqpError) {
@@ -506,7 +514,7 @@ class ReactorSender implements AmqpSendLink {
     /**
      * Keeps track of Messages that have been sent, but may not have been acknowledged by the service.
      */
-    private class SendTimeout extends TimerTask {
+    private class SendTimeout implements Runnable {
         private final String deliveryTag;
 
         SendTimeout(String deliveryTag) {
@@ -551,7 +559,7 @@ class ReactorSender implements AmqpSendLink {
                     handler.getErrorContext(sender));
             }
 
-            workItem.getSink().error(exception);
+            workItem.error(exception);
         }
     }
 }
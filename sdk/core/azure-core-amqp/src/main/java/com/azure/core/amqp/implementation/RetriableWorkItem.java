@@ -3,6 +3,7 @@
 
 package com.azure.core.amqp.implementation;
 
+import org.apache.qpid.proton.engine.Sender;
 import reactor.core.publisher.MonoSink;
 
 import java.time.Duration;
@@ -15,37 +16,82 @@ class RetriableWorkItem {
     private final AtomicInteger retryAttempts = new AtomicInteger();
     private final MonoSink<Void> monoSink;
     private final TimeoutTracker timeoutTracker;
-    private final byte[] amqpMessage;
+    private final SendBufferPool bufferPool;
     private final int messageFormat;
     private final int encodedMessageSize;
 
+    // Guarded by this. Returned to the buffer pool, if it came from one, and cleared once the work item completes.
+    private byte[] amqpMessage;
+
     private boolean waitingForAck;
+    private volatile HashedWheelTimer.Timeout sendTimeout;
     private Exception lastKnownException;
 
     RetriableWorkItem(byte[] amqpMessage, int encodedMessageSize, int messageFormat, MonoSink<Void> monoSink,
-                      Duration timeout) {
-        this(amqpMessage, encodedMessageSize, messageFormat, monoSink, new TimeoutTracker(timeout, false));
+                      Duration timeout, SendBufferPool bufferPool) {
+        this(amqpMessage, encodedMessageSize, messageFormat, monoSink, new TimeoutTracker(timeout, false),
+            bufferPool);
     }
 
     private RetriableWorkItem(byte[] amqpMessage, int encodedMessageSize, int messageFormat, MonoSink<Void> monoSink,
-                              TimeoutTracker timeout) {
+                              TimeoutTracker timeout, SendBufferPool bufferPool) {
         this.amqpMessage = amqpMessage;
+        this.bufferPool = bufferPool;
         this.encodedMessageSize = encodedMessageSize;
         this.messageFormat = messageFormat;
         this.monoSink = monoSink;
         this.timeoutTracker = timeout;
     }
 
-    byte[] getMessage() {
-        return amqpMessage;
+    /**
+     * Sends the encoded message on the sender's current delivery. proton-j copies the bytes, but they're kept until
+     * the work item completes in case the send is retried.
+     *
+     * @param sender The sender to send the message with.
+     * @return The number of bytes sent, or -1 if the work item has already completed.
+     */
+    synchronized int send(Sender sender) {
+        if (amqpMessage == null) {
+            return -1;
+        }
+
+        return sender.send(amqpMessage, 0, encodedMessageSize);
     }
 
     TimeoutTracker getTimeoutTracker() {
         return timeoutTracker;
     }
 
-    MonoSink<Void> getSink() {
-        return monoSink;
+    /**
+     * Completes the send successfully, unless it has already completed.
+     */
+    void success() {
+        if (complete()) {
+            monoSink.success();
+        }
+    }
+
+    /**
+     * Completes the send with an error, unless it has already completed.
+     *
+     * @param error The error of the send.
+     */
+    void error(Throwable error) {
+        if (complete()) {
+            monoSink.error(error);
+        }
+    }
+
+    private synchronized boolean complete() {
+        if (amqpMessage == null) {
+            return false;
+        }
+
+        if (bufferPool != null) {
+            bufferPool.release(amqpMessage);
+        }
+        amqpMessage = null;
+        return true;
     }
 
     int incrementRetryAttempts() {
@@ -79,4 +125,23 @@ class RetriableWorkItem {
     boolean isWaitingForAck() {
         return this.waitingForAck;
     }
+
+    /**
+     * Sets the timeout of the current delivery of the message.
+     *
+     * @param sendTimeout The timeout of the delivery.
+     */
+    void setSendTimeout(HashedWheelTimer.Timeout sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * Cancels the timeout of the current delivery of the message, once the delivery has been settled.
+     */
+    void cancelSendTimeout() {
+        final HashedWheelTimer.Timeout timeout = this.sendTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
 }
@@ -0,0 +1,122 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of the byte arrays messages are encoded into before they are sent, in power of two size classes.
+ *
+ * <p>An array is held by its send until the service settles it, which is usually on another thread than the one that
+ * encoded the message, so arrays are pooled per size class rather than per thread. Each size class retains a bounded
+ * number of arrays and arrays larger than the largest size class aren't pooled. An array that is never released is
+ * garbage collected like any other.</p>
+ */
+final class SendBufferPool {
+    static final int DEFAULT_MIN_BUFFER_SIZE = 1024;
+    static final int DEFAULT_MAX_BUFFER_SIZE = 1024 * 1024;
+    static final int DEFAULT_MAX_RETAINED_BYTES_PER_SIZE_CLASS = 2 * 1024 * 1024;
+
+    private static final int MIN_RETAINED_BUFFERS_PER_SIZE_CLASS = 2;
+
+    private final int minShift;
+    private final int maxBufferSize;
+    private final SizeClass[] sizeClasses;
+
+    /**
+     * Creates a pool with the default size classes, from 1 KB up to 1 MB, the maximum message size of most entities.
+     */
+    SendBufferPool() {
+        this(DEFAULT_MIN_BUFFER_SIZE, DEFAULT_MAX_BUFFER_SIZE, DEFAULT_MAX_RETAINED_BYTES_PER_SIZE_CLASS);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param minBufferSize The size of the smallest size class, a power of two.
+     * @param maxBufferSize The size of the largest size class, a power of two.
+     * @param maxRetainedBytesPerSizeClass The number of bytes each size class retains at most, each size class
+     *     retains at least two arrays.
+     * @throws IllegalArgumentException if the buffer sizes aren't powers of two or the minimum exceeds the maximum.
+     */
+    SendBufferPool(int minBufferSize, int maxBufferSize, int maxRetainedBytesPerSizeClass) {
+        if (Integer.bitCount(minBufferSize) != 1 || Integer.bitCount(maxBufferSize) != 1
+            || minBufferSize > maxBufferSize) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                "Buffer sizes must be powers of two and minBufferSize (%d) can't exceed maxBufferSize (%d).",
+                minBufferSize, maxBufferSize));
+        }
+
+        this.minShift = Integer.numberOfTrailingZeros(minBufferSize);
+        this.maxBufferSize = maxBufferSize;
+        this.sizeClasses = new SizeClass[Integer.numberOfTrailingZeros(maxBufferSize) - minShift + 1];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            final int bufferSize = 1 << (minShift + i);
+            sizeClasses[i] = new SizeClass(
+                Math.max(MIN_RETAINED_BUFFERS_PER_SIZE_CLASS, maxRetainedBytesPerSizeClass / bufferSize));
+        }
+    }
+
+    /**
+     * Gets an array to encode a message into, its contents are undefined.
+     *
+     * @param minimumSize The number of bytes the array must hold at least.
+     * @return An array of the smallest size class holding {@code minimumSize} bytes, or an array of exactly {@code
+     *     minimumSize} bytes if it exceeds the largest size class.
+     */
+    byte[] acquire(int minimumSize) {
+        if (minimumSize > maxBufferSize) {
+            return new byte[minimumSize];
+        }
+
+        final int index = getSizeClassIndex(minimumSize);
+        final SizeClass sizeClass = sizeClasses[index];
+        final byte[] buffer = sizeClass.buffers.poll();
+        if (buffer != null) {
+            sizeClass.retained.decrementAndGet();
+            return buffer;
+        }
+
+        return new byte[1 << (minShift + index)];
+    }
+
+    /**
+     * Returns an array acquired from the pool, which must no longer be used by its send.
+     *
+     * @param buffer The array to return.
+     */
+    void release(byte[] buffer) {
+        final int length = buffer.length;
+        if (length > maxBufferSize || Integer.bitCount(length) != 1
+            || Integer.numberOfTrailingZeros(length) < minShift) {
+            return;
+        }
+
+        final SizeClass sizeClass = sizeClasses[Integer.numberOfTrailingZeros(length) - minShift];
+        if (sizeClass.retained.incrementAndGet() <= sizeClass.maxRetained) {
+            sizeClass.buffers.offer(buffer);
+        } else {
+            sizeClass.retained.decrementAndGet();
+        }
+    }
+
+    private int getSizeClassIndex(int size) {
+        // The number of bits of size - 1 is the exponent of the smallest power of two holding size.
+        final int shift = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1);
+        return Math.max(0, shift - minShift);
+    }
+
+    private static final class SizeClass {
+        private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger retained = new AtomicInteger();
+        private final int maxRetained;
+
+        private SizeClass(int maxRetained) {
+            this.maxRetained = maxRetained;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.core.amqp.implementation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests {@link HashedWheelTimer}.
+ */
+class HashedWheelTimerTest {
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setup() {
+        // A small wheel so timeouts longer than a round are covered.
+        timer = new HashedWheelTimer("test-timer", TICK, 4);
+    }
+
+    @AfterEach
+    void teardown() {
+        timer.close();
+    }
+
+    /**
+     * Verifies that a task runs once its delay has elapsed.
+     */
+    @Test
+    void expiresAfterDelay() throws InterruptedException {
+        // Arrange
+        final CountDownLatch expired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        // Act
+        final HashedWheelTimer.Timeout timeout = timer.schedule(expired::countDown, Duration.ofMillis(100));
+
+        // Assert
+        Assertions.assertTrue(expired.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertTrue(timeout.isExpired());
+        Assertions.assertFalse(timeout.cancel());
+    }
+
+    /**
+     * Verifies that a cancelled timeout doesn't run its task, while the others still run.
+     */
+    @Test
+    void cancelledTimeoutDoesNotExpire() throws InterruptedException {
+        // Arrange
+        final AtomicInteger cancelledRuns = new AtomicInteger();
+        final CountDownLatch expired = new CountDownLatch(1);
+        final HashedWheelTimer.Timeout cancelled = timer.schedule(cancelledRuns::incrementAndGet,
+            Duration.ofMillis(50));
+
+        // Act
+        Assertions.assertTrue(cancelled.cancel());
+        timer.schedule(expired::countDown, Duration.ofMillis(100));
+
+        // Assert
+        Assertions.assertTrue(expired.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, cancelledRuns.get());
+        Assertions.assertFalse(cancelled.isExpired());
+        Assertions.assertFalse(cancelled.cancel());
+    }
+
+    /**
+     * Verifies that many timeouts sharing buckets expire in deadline order, and only once.
+     */
+    @Test
+    void expiresTimeoutsInDeadlineOrder() throws InterruptedException {
+        // Arrange
+        final int count = 20;
+        final List<Integer> order = new ArrayList<>();
+        final CountDownLatch expired = new CountDownLatch(count);
+
+        // Act
+        for (int i = count - 1; i >= 0; i--) {
+            final int index = i;
+            timer.schedule(() -> {
+                synchronized (order) {
+                    order.add(index);
+                }
+                expired.countDown();
+            }, TICK.multipliedBy(3L * i));
+        }
+
+        // Assert
+        Assertions.assertTrue(expired.await(5, TimeUnit.SECONDS));
+        Thread.sleep(TICK.multipliedBy(8).toMillis());
+        synchronized (order) {
+            Assertions.assertEquals(count, order.size());
+            for (int i = 0; i < count; i++) {
+                Assertions.assertEquals(i, order.get(i));
+            }
+        }
+    }
+
+    /**
+     * Verifies that a task that throws doesn't stop the timer.
+     */
+    @Test
+    void failingTaskDoesNotStopTimer() throws InterruptedException {
+        // Arrange
+        final CountDownLatch expired = new CountDownLatch(1);
+
+        // Act
+        timer.schedule(() -> {
+            throw new IllegalStateException("Test error.");
+        }, Duration.ZERO);
+        timer.schedule(expired::countDown, Duration.ofMillis(30));
+
+        // Assert
+        Assertions.assertTrue(expired.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Verifies that tasks can't be scheduled once the timer is closed.
+     */
+    @Test
+    void rejectsTasksWhenClosed() {
+        // Act
+        timer.close();
+
+        // Assert
+        Assertions.assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, Duration.ZERO));
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.reactor.Reactor;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of work dispatched to a reactor through {@link ReactorDispatcher}, as senders and receivers
+ * do for each send and credit update. Each operation dispatches a burst of work items and waits until the reactor has
+ * run them. Run with {@code -t} to dispatch from several threads.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ReactorDispatchBenchMark {
+    private static final int BURST_SIZE = 100;
+
+    @Param({"1", "100"})
+    private int burstSize;
+
+    private Reactor reactor;
+    private ReactorDispatcher dispatcher;
+    private Thread reactorThread;
+    private volatile boolean isRunning;
+
+    @Setup
+    public void setup() throws IOException {
+        reactor = Proton.reactor();
+        reactor.setTimeout(10);
+        dispatcher = new ReactorDispatcher(reactor);
+
+        isRunning = true;
+        reactorThread = new Thread(() -> {
+            reactor.start();
+            boolean hasEvents = true;
+            while (isRunning && hasEvents) {
+                hasEvents = reactor.process();
+            }
+        });
+        reactorThread.start();
+    }
+
+    @TearDown
+    public void teardown() throws InterruptedException {
+        isRunning = false;
+        reactorThread.join();
+        reactor.free();
+    }
+
+    /**
+     * Dispatches {@value #BURST_SIZE} work items in bursts of {@code burstSize}, waiting for the reactor to run each
+     * burst before the next. Throughput is reported per work item.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public void dispatch() throws IOException, InterruptedException {
+        for (int i = 0; i < BURST_SIZE; i += burstSize) {
+            final CountDownLatch burst = new CountDownLatch(burstSize);
+            for (int j = 0; j < burstSize; j++) {
+                dispatcher.invoke(burst::countDown);
+            }
+
+            burst.await();
+        }
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.reactor.Reactor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ReactorDispatcher}, dispatching to a reactor run on its own thread.
+ */
+public class ReactorDispatcherTest {
+    private static final int THREADS = 4;
+    private static final int WORK_PER_THREAD = 10000;
+
+    private Reactor reactor;
+    private ReactorDispatcher dispatcher;
+    private Thread reactorThread;
+    private volatile boolean isRunning;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        reactor = Proton.reactor();
+        reactor.setTimeout(10);
+        dispatcher = new ReactorDispatcher(reactor);
+
+        isRunning = true;
+        reactorThread = new Thread(() -> {
+            reactor.start();
+            boolean hasEvents = true;
+            while (isRunning && hasEvents) {
+                hasEvents = reactor.process();
+            }
+        });
+        reactorThread.start();
+    }
+
+    @AfterEach
+    public void teardown() throws InterruptedException {
+        isRunning = false;
+        reactorThread.join(TimeUnit.SECONDS.toMillis(10));
+        reactor.free();
+    }
+
+    /**
+     * Verifies that all the work queued from several threads runs on the reactor thread, however the signals for it
+     * are coalesced.
+     */
+    @Test
+    public void runsWorkQueuedFromManyThreads() throws InterruptedException {
+        // Arrange
+        final CountDownLatch completed = new CountDownLatch(THREADS * WORK_PER_THREAD);
+        final Set<Thread> workThreads = ConcurrentHashMap.newKeySet();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < WORK_PER_THREAD; j++) {
+                    try {
+                        dispatcher.invoke(() -> {
+                            workThreads.add(Thread.currentThread());
+                            completed.countDown();
+                        });
+                    } catch (IOException e) {
+                        Assertions.fail(e);
+                    }
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+
+        // Assert
+        Assertions.assertTrue(completed.await(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, workThreads.size());
+        Assertions.assertTrue(workThreads.contains(reactorThread));
+    }
+
+    /**
+     * Verifies that work queued by work running on the reactor thread, while the queue is being drained, runs.
+     */
+    @Test
+    public void runsWorkQueuedFromReactorThread() throws IOException, InterruptedException {
+        // Arrange
+        final CountDownLatch completed = new CountDownLatch(2);
+
+        // Act
+        dispatcher.invoke(() -> {
+            completed.countDown();
+            try {
+                dispatcher.invoke(completed::countDown);
+            } catch (IOException e) {
+                Assertions.fail(e);
+            }
+        });
+
+        // Assert
+        Assertions.assertTrue(completed.await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Verifies that delayed work runs once its delay elapses, alongside work that is not delayed.
+     */
+    @Test
+    public void runsDelayedWork() throws IOException, InterruptedException {
+        // Arrange
+        final CountDownLatch delayed = new CountDownLatch(1);
+        final CountDownLatch immediate = new CountDownLatch(1);
+
+        // Act
+        dispatcher.invoke(delayed::countDown, Duration.ofMillis(50));
+        dispatcher.invoke(immediate::countDown);
+
+        // Assert
+        Assertions.assertTrue(immediate.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(delayed.await(10, TimeUnit.SECONDS));
+    }
+}
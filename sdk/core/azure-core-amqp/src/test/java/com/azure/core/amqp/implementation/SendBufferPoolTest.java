@@ -0,0 +1,191 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.Symbol;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.message.Message;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests {@link SendBufferPool} and the encoding of batch messages into its buffers by {@link BatchMessageEncoder}.
+ */
+class SendBufferPoolTest {
+    private static final int MAX_MESSAGE_SIZE = 256 * 1024;
+
+    /**
+     * Verifies that buffers are rounded up to their size class and reused once released.
+     */
+    @Test
+    void reusesReleasedBuffers() {
+        // Arrange
+        final SendBufferPool pool = new SendBufferPool(1024, 4096, 8192);
+
+        // Act
+        final byte[] first = pool.acquire(1500);
+        pool.release(first);
+        final byte[] second = pool.acquire(2048);
+
+        // Assert
+        Assertions.assertEquals(2048, first.length);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1024, pool.acquire(1).length);
+    }
+
+    /**
+     * Verifies that each size class retains a bounded number of buffers.
+     */
+    @Test
+    void retainsBoundedNumberOfBuffers() {
+        // Arrange
+        final SendBufferPool pool = new SendBufferPool(1024, 4096, 8192);
+        final List<byte[]> buffers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            buffers.add(pool.acquire(4096));
+        }
+
+        // Act
+        buffers.forEach(pool::release);
+
+        // Assert
+        Assertions.assertSame(buffers.get(0), pool.acquire(4096));
+        Assertions.assertSame(buffers.get(1), pool.acquire(4096));
+        final byte[] allocated = pool.acquire(4096);
+        Assertions.assertFalse(buffers.contains(allocated));
+    }
+
+    /**
+     * Verifies that buffers larger than the largest size class aren't pooled.
+     */
+    @Test
+    void doesNotPoolOversizedBuffers() {
+        // Arrange
+        final SendBufferPool pool = new SendBufferPool(1024, 4096, 8192);
+
+        // Act
+        final byte[] buffer = pool.acquire(5000);
+        pool.release(buffer);
+
+        // Assert
+        Assertions.assertEquals(5000, buffer.length);
+        Assertions.assertNotSame(buffer, pool.acquire(5000));
+    }
+
+    /**
+     * Verifies that the size classes must be powers of two.
+     */
+    @Test
+    void rejectsInvalidSizeClasses() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SendBufferPool(1000, 4096, 8192));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SendBufferPool(4096, 1024, 8192));
+    }
+
+    /**
+     * Verifies that a batch encoded straight into a buffer matches the batch proton-j encodes when each message is
+     * wrapped in a Data section, for messages that use either binary constructor.
+     *
+     * @param bodySize Size of the body of each message.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, 230, 260, 10000})
+    void encodesBatchLikeProton(int bodySize) {
+        // Arrange
+        final List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Message message = Proton.message();
+            final Map<Symbol, Object> annotations = new HashMap<>();
+            annotations.put(Symbol.getSymbol("x-opt-partition-key"), "key" + i);
+            message.setMessageAnnotations(new MessageAnnotations(annotations));
+            final byte[] body = new byte[bodySize];
+            Arrays.fill(body, (byte) i);
+            message.setBody(new Data(new Binary(body)));
+            messages.add(message);
+        }
+
+        final byte[] expected = encodeWithProton(messages);
+        final byte[] buffer = new byte[MAX_MESSAGE_SIZE];
+
+        // Act
+        final int encodedSize = BatchMessageEncoder.encodeBatch(messages, buffer, MAX_MESSAGE_SIZE);
+
+        // Assert
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(buffer, encodedSize));
+    }
+
+    /**
+     * Verifies that a batch encoded as its messages are added, its header then each of its Data sections, matches the
+     * batch encoded all at once.
+     */
+    @Test
+    void encodesBatchIncrementally() {
+        // Arrange
+        final List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Message message = Proton.message();
+            message.setMessageAnnotations(new MessageAnnotations(
+                Collections.singletonMap(Symbol.getSymbol("x-opt-partition-key"), "key" + i)));
+            message.setBody(new Data(new Binary(new byte[i * 200])));
+            messages.add(message);
+        }
+
+        final byte[] expected = new byte[MAX_MESSAGE_SIZE];
+        final int expectedSize = BatchMessageEncoder.encodeBatch(messages, expected, MAX_MESSAGE_SIZE);
+        final byte[] buffer = new byte[MAX_MESSAGE_SIZE];
+
+        // Act
+        int offset = BatchMessageEncoder.encodeHeader(messages.get(0), buffer, 0, MAX_MESSAGE_SIZE);
+        for (Message message : messages) {
+            offset += BatchMessageEncoder.encodeDataSection(message, buffer, offset, MAX_MESSAGE_SIZE - offset);
+        }
+
+        // Assert
+        Assertions.assertEquals(expectedSize, offset);
+        Assertions.assertArrayEquals(Arrays.copyOf(expected, expectedSize), Arrays.copyOf(buffer, offset));
+    }
+
+    /**
+     * Verifies that encoding a batch larger than the maximum message size fails.
+     */
+    @Test
+    void encodeBatchOverflows() {
+        // Arrange
+        final Message message = Proton.message();
+        message.setBody(new Data(new Binary(new byte[600])));
+        final List<Message> messages = Arrays.asList(message, message);
+
+        // Act & Assert
+        Assertions.assertThrows(BufferOverflowException.class,
+            () -> BatchMessageEncoder.encodeBatch(messages, new byte[MAX_MESSAGE_SIZE], 1024));
+    }
+
+    private static byte[] encodeWithProton(List<Message> messages) {
+        final byte[] bytes = new byte[MAX_MESSAGE_SIZE];
+        final Message batchMessage = Proton.message();
+        batchMessage.setMessageAnnotations(messages.get(0).getMessageAnnotations());
+        int offset = batchMessage.encode(bytes, 0, MAX_MESSAGE_SIZE);
+
+        for (Message message : messages) {
+            final byte[] messageBytes = new byte[MAX_MESSAGE_SIZE];
+            final int messageSize = message.encode(messageBytes, 0, MAX_MESSAGE_SIZE);
+            final Message wrapped = Proton.message();
+            wrapped.setBody(new Data(new Binary(messageBytes, 0, messageSize)));
+            offset += wrapped.encode(bytes, offset, MAX_MESSAGE_SIZE - offset);
+        }
+
+        return Arrays.copyOf(bytes, offset);
+    }
+}
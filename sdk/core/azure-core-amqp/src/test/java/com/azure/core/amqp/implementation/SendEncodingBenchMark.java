@@ -0,0 +1,153 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.core.amqp.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.Symbol;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.message.Message;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the send throughput of encoding messages and batches as {@link ReactorSender} does, into pooled buffers,
+ * against allocating arrays for every message. Each operation ends with the copy proton-j makes when a message is
+ * sent. Run with {@code -prof gc} to compare allocation rates and with {@code -t} to share the pool across threads.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SendEncodingBenchMark {
+    private static final int MAX_MESSAGE_SIZE = 1024 * 1024;
+    private static final int BATCH_SIZE = 32;
+
+    @Param({"128", "1024", "16384"})
+    private int bodySize;
+
+    private final MessageSerializer serializer = new SizeOnlySerializer();
+    private final SendBufferPool pool = new SendBufferPool();
+    private Message message;
+    private List<Message> batch;
+
+    @Setup
+    public void setup() {
+        message = Proton.message();
+        message.setMessageAnnotations(new MessageAnnotations(
+            Collections.singletonMap(Symbol.getSymbol("x-opt-partition-key"), "partition-key")));
+        message.setBody(new Data(new Binary(new byte[bodySize])));
+        batch = new ArrayList<>(Collections.nCopies(BATCH_SIZE, message));
+    }
+
+    /**
+     * Encodes a message into an array allocated for it.
+     */
+    @Benchmark
+    public void sendMessageAllocating(Blackhole blackhole) {
+        final byte[] bytes = new byte[getAllocationSize(message)];
+        final int size = message.encode(bytes, 0, bytes.length);
+        blackhole.consume(Arrays.copyOf(bytes, size));
+    }
+
+    /**
+     * Encodes a message into a pooled buffer, released once the message is sent.
+     */
+    @Benchmark
+    public void sendMessagePooled(Blackhole blackhole) {
+        final int allocationSize = getAllocationSize(message);
+        final byte[] bytes = pool.acquire(allocationSize);
+        final int size = message.encode(bytes, 0, allocationSize);
+        blackhole.consume(Arrays.copyOf(bytes, size));
+        pool.release(bytes);
+    }
+
+    /**
+     * Encodes a batch into an array of the maximum message size, wrapping each message encoded into its own array in
+     * a Data section.
+     */
+    @Benchmark
+    public void sendBatchAllocating(Blackhole blackhole) {
+        final Message batchMessage = Proton.message();
+        batchMessage.setMessageAnnotations(batch.get(0).getMessageAnnotations());
+        final byte[] bytes = new byte[MAX_MESSAGE_SIZE];
+        int offset = batchMessage.encode(bytes, 0, MAX_MESSAGE_SIZE);
+
+        for (Message amqpMessage : batch) {
+            final byte[] messageBytes = new byte[getAllocationSize(amqpMessage)];
+            final int messageSize = amqpMessage.encode(messageBytes, 0, messageBytes.length);
+            final Message wrapped = Proton.message();
+            wrapped.setBody(new Data(new Binary(messageBytes, 0, messageSize)));
+            offset += wrapped.encode(bytes, offset, MAX_MESSAGE_SIZE - offset - 1);
+        }
+
+        blackhole.consume(Arrays.copyOf(bytes, offset));
+    }
+
+    /**
+     * Encodes a batch straight into a pooled buffer, released once the batch is sent.
+     */
+    @Benchmark
+    public void sendBatchPooled(Blackhole blackhole) {
+        final byte[] bytes = pool.acquire(MAX_MESSAGE_SIZE);
+        final int size = BatchMessageEncoder.encodeBatch(batch, bytes, MAX_MESSAGE_SIZE);
+        blackhole.consume(Arrays.copyOf(bytes, size));
+        pool.release(bytes);
+    }
+
+    private int getAllocationSize(Message amqpMessage) {
+        return Math.min(serializer.getSize(amqpMessage) + ClientConstants.MAX_AMQP_HEADER_SIZE_BYTES,
+            MAX_MESSAGE_SIZE);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+
+    /**
+     * Sizes messages by their body as the Event Hubs and Service Bus serializers do.
+     */
+    private static final class SizeOnlySerializer implements MessageSerializer {
+        @Override
+        public int getSize(Message amqpMessage) {
+            return ((Data) amqpMessage.getBody()).getValue().getLength();
+        }
+
+        @Override
+        public <T> Message serialize(T object) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T deserialize(Message message, Class<T> clazz) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> List<T> deserializeList(Message message, Class<T> clazz) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
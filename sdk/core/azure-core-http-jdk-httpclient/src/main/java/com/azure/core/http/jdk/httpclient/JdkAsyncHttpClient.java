@@ -3,11 +3,16 @@
 
 package com.azure.core.http.jdk.httpclient;
 
+import com.azure.core.http.ConnectionPoolMetrics;
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.implementation.http.ConnectionLimiter;
+import com.azure.core.implementation.http.ConnectionPoolTracker;
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.logging.ClientLogger;
@@ -22,9 +27,11 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.net.http.HttpRequest.BodyPublishers.fromPublisher;
 import static java.net.http.HttpRequest.BodyPublishers.noBody;
@@ -37,6 +44,9 @@ class JdkAsyncHttpClient implements HttpClient {
     private final ClientLogger logger = new ClientLogger(JdkAsyncHttpClient.class);
 
     private final java.net.http.HttpClient jdkHttpClient;
+    // The JDK HttpClient doesn't expose its connections, each exchange is tracked as the connection it uses.
+    private final ConnectionPoolTracker poolTracker = new ConnectionPoolTracker(false);
+    private final ConnectionLimiter connectionLimiter;
 
     // These headers are restricted by default in native JDK12 HttpClient.
     // These headers can be whitelisted by setting jdk.httpclient.allowRestrictedHeaders
@@ -56,8 +66,9 @@ class JdkAsyncHttpClient implements HttpClient {
         JDK12_RESTRICTED_HEADERS = Collections.unmodifiableSet(treeSet);
     }
 
-    JdkAsyncHttpClient(java.net.http.HttpClient httpClient) {
+    JdkAsyncHttpClient(java.net.http.HttpClient httpClient, ConnectionPoolOptions connectionPoolOptions) {
         this.jdkHttpClient = httpClient;
+        this.connectionLimiter = new ConnectionLimiter(connectionPoolOptions);
         int javaVersion = getJavaVersion();
         if (javaVersion <= 11) {
             logger.error("JdkAsyncHttpClient is not supported in Java version 11 and below.");
@@ -66,9 +77,58 @@ class JdkAsyncHttpClient implements HttpClient {
 
     @Override
     public Mono<HttpResponse> send(HttpRequest request) {
+        final String host = ConnectionPoolTracker.getHost(request.getUrl());
         return toJdkHttpRequest(request)
-            .flatMap(jdkRequest -> Mono.fromCompletionStage(jdkHttpClient.sendAsync(jdkRequest, ofPublisher()))
-                .map(innerResponse -> new JdkHttpResponse(request, innerResponse)));
+            .flatMap(jdkRequest -> {
+                final ConnectionPoolTracker.PendingAcquire pendingAcquire = poolTracker.beginAcquire(host);
+                return connectionLimiter.acquire(host)
+                    .doOnNext(ignored -> pendingAcquire.complete(true))
+                    .doFinally(ignored -> pendingAcquire.complete(false))
+                    .flatMap(permit -> send(request, jdkRequest, new Exchange(host, permit)));
+            });
+    }
+
+    private Mono<HttpResponse> send(HttpRequest request, java.net.http.HttpRequest jdkRequest, Exchange exchange) {
+        return Mono.fromCompletionStage(jdkHttpClient.sendAsync(jdkRequest, ofPublisher()))
+            .map(innerResponse -> {
+                final Flux<ByteBuffer> body = JdkFlowAdapter.flowPublisherToFlux(innerResponse.body())
+                    .flatMapSequential(Flux::fromIterable);
+                if (!hasBody(request, innerResponse)) {
+                    // The exchange is complete once the headers arrive, drain the empty body so the connection can be
+                    // reused and give the permit back without waiting for the caller to consume or close the response.
+                    body.subscribe(ignored -> { }, ignored -> { });
+                    exchange.release();
+                    return (HttpResponse) new JdkHttpResponse(request, innerResponse, Flux.empty(), () -> { });
+                }
+
+                return new JdkHttpResponse(request, innerResponse, body, exchange::release);
+            })
+            .doOnError(ignored -> exchange.release())
+            .doOnCancel(exchange::release);
+    }
+
+    /**
+     * Determines whether the response has a body, HEAD responses, informational, 204 and 304 responses and responses
+     * with a zero Content-Length never do.
+     *
+     * @param request the request the response is for
+     * @param innerResponse the JDK response
+     * @return whether the response has a body
+     */
+    private static boolean hasBody(HttpRequest request,
+                                   java.net.http.HttpResponse<Flow.Publisher<List<ByteBuffer>>> innerResponse) {
+        final int statusCode = innerResponse.statusCode();
+        if (request.getHttpMethod() == HttpMethod.HEAD || statusCode < 200 || statusCode == 204
+            || statusCode == 304) {
+            return false;
+        }
+
+        return innerResponse.headers().firstValueAsLong("Content-Length").orElse(-1L) != 0L;
+    }
+
+    @Override
+    public List<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+        return poolTracker.getMetrics();
     }
 
     /**
@@ -166,19 +226,44 @@ class JdkAsyncHttpClient implements HttpClient {
         }
     }
 
+    /**
+     * An exchange with a host, which holds a permit to use a connection until its response is consumed or closed, or
+     * until the response headers arrive when the response has no body.
+     */
+    private final class Exchange {
+        private final ConnectionLimiter.Permit permit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Exchange(String host, ConnectionLimiter.Permit permit) {
+            this.permit = permit;
+            poolTracker.connectionAcquired(host, this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                poolTracker.connectionReleased(this);
+                permit.release();
+            }
+        }
+    }
+
     private static class JdkHttpResponse extends HttpResponse {
         private final int statusCode;
-        private final HttpHeaders headers;
+        private final java.net.http.HttpHeaders jdkHeaders;
         private final Flux<ByteBuffer> contentFlux;
+        private final Runnable onDisposed;
+        // azure-core headers are created from the JDK headers on first use.
+        private volatile HttpHeaders headers;
         private volatile boolean disposed = false;
 
         protected JdkHttpResponse(final HttpRequest request,
-                                  java.net.http.HttpResponse<Flow.Publisher<List<ByteBuffer>>> innerResponse) {
+                                  java.net.http.HttpResponse<Flow.Publisher<List<ByteBuffer>>> innerResponse,
+                                  Flux<ByteBuffer> contentFlux, Runnable onDisposed) {
             super(request);
+            this.onDisposed = onDisposed;
             this.statusCode = innerResponse.statusCode();
-            this.headers = fromJdkHttpHeaders(innerResponse.headers());
-            this.contentFlux = JdkFlowAdapter.flowPublisherToFlux(innerResponse.body())
-                .flatMapSequential(Flux::fromIterable);
+            this.jdkHeaders = innerResponse.headers();
+            this.contentFlux = contentFlux;
         }
 
         @Override
@@ -188,18 +273,24 @@ class JdkAsyncHttpClient implements HttpClient {
 
         @Override
         public String getHeaderValue(String name) {
-            return this.headers.getValue(name);
+            return joinValues(this.jdkHeaders.allValues(name));
         }
 
         @Override
         public HttpHeaders getHeaders() {
+            if (this.headers == null) {
+                this.headers = fromJdkHttpHeaders(this.jdkHeaders);
+            }
             return this.headers;
         }
 
         @Override
         public Flux<ByteBuffer> getBody() {
             return this.contentFlux
-                .doFinally(signalType -> disposed = true);
+                .doFinally(signalType -> {
+                    disposed = true;
+                    onDisposed.run();
+                });
         }
 
         @Override
@@ -211,7 +302,7 @@ class JdkAsyncHttpClient implements HttpClient {
         @Override
         public Mono<String> getBodyAsString() {
             return getBodyAsByteArray().map(bytes ->
-                CoreUtils.bomAwareToString(bytes, headers.getValue("Content-Type")));
+                CoreUtils.bomAwareToString(bytes, getHeaderValue("Content-Type")));
         }
 
         @Override
@@ -227,6 +318,7 @@ class JdkAsyncHttpClient implements HttpClient {
                     .subscribe()
                     .dispose();
             }
+            onDisposed.run();
         }
 
         /**
@@ -236,18 +328,31 @@ class JdkAsyncHttpClient implements HttpClient {
          * @return the azure-core Http headers
          */
         private static HttpHeaders fromJdkHttpHeaders(java.net.http.HttpHeaders headers) {
-            final HttpHeaders httpHeaders = new HttpHeaders();
-            for (final String key : headers.map().keySet()) {
-                final List<String> values = headers.allValues(key);
-                if (CoreUtils.isNullOrEmpty(values)) {
-                    continue;
-                } else if (values.size() == 1) {
-                    httpHeaders.put(key, values.get(0));
-                } else {
-                    httpHeaders.put(key, String.join(",", values));
+            final Map<String, List<String>> headersMap = headers.map();
+            final HttpHeaders httpHeaders = new HttpHeaders(headersMap.size());
+            for (final Map.Entry<String, List<String>> header : headersMap.entrySet()) {
+                final String value = joinValues(header.getValue());
+                if (value != null) {
+                    httpHeaders.put(header.getKey(), value);
                 }
             }
             return httpHeaders;
         }
+
+        /**
+         * Joins the values of a JDK Http header into a single comma separated value.
+         *
+         * @param values the values of the header
+         * @return the comma separated value, or null if the header has no values
+         */
+        private static String joinValues(List<String> values) {
+            if (CoreUtils.isNullOrEmpty(values)) {
+                return null;
+            } else if (values.size() == 1) {
+                return values.get(0);
+            } else {
+                return String.join(",", values);
+            }
+        }
     }
 }
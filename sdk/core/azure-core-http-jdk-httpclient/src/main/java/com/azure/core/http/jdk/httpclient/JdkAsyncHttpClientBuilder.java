@@ -3,6 +3,7 @@
 
 package com.azure.core.http.jdk.httpclient;
 
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.ProxyOptions;
 import com.azure.core.http.jdk.httpclient.implementation.JdkHttpClientProxySelector;
@@ -26,6 +27,7 @@ public class JdkAsyncHttpClientBuilder {
     private ProxyOptions proxyOptions;
     private Configuration configuration;
     private Executor executor;
+    private ConnectionPoolOptions connectionPoolOptions;
 
     /**
      * Creates JdkAsyncHttpClientBuilder.
@@ -106,6 +108,22 @@ public class JdkAsyncHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the provider neutral configuration of the connections the client uses for each host.
+     * <p>
+     * The maximum connections per host, maximum pending acquires and pending acquire timeout are applied by the
+     * client itself. The JDK HttpClient only supports configuring the idle time of its connections through the global
+     * {@code jdk.httpclient.keepalive.timeout} system property, so the maximum idle time is ignored.
+     *
+     * @param connectionPoolOptions the connection pool configuration, {@code null} uses the JDK HttpClient defaults
+     * @return the updated JdkAsyncHttpClientBuilder object
+     */
+    public JdkAsyncHttpClientBuilder connectionPoolOptions(ConnectionPoolOptions connectionPoolOptions) {
+        // connectionPoolOptions can be null
+        this.connectionPoolOptions = connectionPoolOptions;
+        return this;
+    }
+
     /**
      * Build a HttpClient with current configurations.
      *
@@ -132,6 +150,12 @@ public class JdkAsyncHttpClientBuilder {
             httpClientBuilder.executor(executor);
         }
 
+        if (connectionPoolOptions != null) {
+            httpClientBuilder = httpClientBuilder.version(connectionPoolOptions.isHttp2Enabled()
+                ? java.net.http.HttpClient.Version.HTTP_2
+                : java.net.http.HttpClient.Version.HTTP_1_1);
+        }
+
         if (buildProxyOptions != null) {
             httpClientBuilder = httpClientBuilder.proxy(new JdkHttpClientProxySelector(
                 buildProxyOptions.getType().toProxyType(),
@@ -144,7 +168,7 @@ public class JdkAsyncHttpClientBuilder {
                         buildProxyOptions.getPassword()));
             }
         }
-        return new JdkAsyncHttpClient(httpClientBuilder.build());
+        return new JdkAsyncHttpClient(httpClientBuilder.build(), connectionPoolOptions);
     }
 
     private static class ProxyAuthenticator extends Authenticator {
@@ -3,6 +3,8 @@
 
 package com.azure.core.http.jdk.httpclient;
 
+import com.azure.core.http.ConnectionPoolMetrics;
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
@@ -32,6 +34,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -52,6 +55,9 @@ public class JdkAsyncHttpClientTests {
                 .willReturn(WireMock.aResponse().withBody("error").withStatus(500)));
         server.stubFor(
                 WireMock.post("/shortPost").willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
+        server.stubFor(WireMock.head(WireMock.urlEqualTo("/short"))
+                .willReturn(WireMock.aResponse().withHeader("Content-Length", String.valueOf(SHORT_BODY.length()))));
+        server.stubFor(WireMock.delete(WireMock.urlEqualTo("/noContent")).willReturn(WireMock.noContent()));
         server.start();
     }
 
@@ -246,6 +252,81 @@ public class JdkAsyncHttpClientTests {
         return md.digest();
     }
 
+    @Test
+    public void connectionPoolMetricsTrackExchanges() {
+        HttpClient client = new JdkAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1))
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(SHORT_BODY, getResponse(client, "/short").getBodyAsString().block());
+        }
+
+        List<ConnectionPoolMetrics> metrics = client.getConnectionPoolMetrics();
+        Assertions.assertEquals(1, metrics.size());
+        Assertions.assertEquals("localhost:" + server.port(), metrics.get(0).getHost());
+        Assertions.assertEquals(0, metrics.get(0).getActiveConnections());
+        Assertions.assertEquals(-1, metrics.get(0).getIdleConnections());
+        Assertions.assertEquals(0, metrics.get(0).getPendingAcquires());
+        Assertions.assertEquals(2, metrics.get(0).getAcquireCount());
+    }
+
+    @Test
+    public void connectionPoolRejectsRequestsBeyondMaxPendingAcquires() {
+        HttpClient client = new JdkAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1).setMaxPendingAcquires(1))
+            .build();
+
+        // The connection stays in use until the body of the first response is consumed.
+        HttpResponse first = getResponse(client, "/long");
+        Assertions.assertEquals(1, client.getConnectionPoolMetrics().get(0).getActiveConnections());
+
+        Mono<String> second = client.send(new HttpRequest(HttpMethod.GET, url(server, "/short")))
+            .flatMap(HttpResponse::getBodyAsString)
+            .cache();
+        second.subscribe();
+        Assertions.assertEquals(1, client.getConnectionPoolMetrics().get(0).getPendingAcquires());
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET, url(server, "/short"))))
+            .verifyError(IllegalStateException.class);
+
+        Assertions.assertEquals(LONG_BODY, first.getBodyAsString().block());
+        Assertions.assertEquals(SHORT_BODY, second.block());
+        Assertions.assertEquals(0, client.getConnectionPoolMetrics().get(0).getPendingAcquires());
+        Assertions.assertEquals(2, client.getConnectionPoolMetrics().get(0).getAcquireCount());
+    }
+
+    @Test
+    public void responsesWithoutBodyReleaseConnectionWithoutBeingClosed() {
+        HttpClient client = new JdkAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1)
+                .setPendingAcquireTimeout(Duration.ofSeconds(5)))
+            .build();
+
+        // None of the responses are consumed or closed, each must give the connection back once its headers arrive.
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(client.send(new HttpRequest(HttpMethod.HEAD, url(server, "/short"))))
+                .assertNext(response -> Assertions.assertEquals(200, response.getStatusCode()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(client.send(new HttpRequest(HttpMethod.DELETE, url(server, "/noContent"))))
+                .assertNext(response -> Assertions.assertEquals(204, response.getStatusCode()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+        }
+
+        Assertions.assertEquals(0, client.getConnectionPoolMetrics().get(0).getActiveConnections());
+        Assertions.assertEquals(6, client.getConnectionPoolMetrics().get(0).getAcquireCount());
+
+        // The body of a response without one is still readable.
+        HttpResponse response = client.send(new HttpRequest(HttpMethod.HEAD, url(server, "/short"))).block();
+        Assertions.assertNotNull(response);
+        StepVerifier.create(response.getBodyAsByteArray()).verifyComplete();
+    }
+
     private static final class NumberedByteBuffer {
         final long n;
         final ByteBuffer bb;
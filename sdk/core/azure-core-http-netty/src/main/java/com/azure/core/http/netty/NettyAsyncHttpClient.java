@@ -3,6 +3,7 @@
 
 package com.azure.core.http.netty;
 
+import com.azure.core.http.ConnectionPoolMetrics;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
@@ -10,9 +11,11 @@ import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.ProxyOptions;
 import com.azure.core.http.netty.implementation.HttpProxyExceptionHandler;
+import com.azure.core.implementation.http.ConnectionPoolTracker;
 import com.azure.core.util.CoreUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.proxy.ProxyHandler;
@@ -21,6 +24,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
 import reactor.netty.NettyOutbound;
 import reactor.netty.NettyPipeline;
 import reactor.netty.channel.BootstrapHandlers;
@@ -30,6 +34,8 @@ import reactor.netty.tcp.TcpClient;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -52,6 +58,8 @@ class NettyAsyncHttpClient implements HttpClient {
     private final Supplier<ProxyHandler> proxyHandlerSupplier;
     private final Pattern nonProxyHostsPattern;
     private final boolean disableBufferCopy;
+    private final boolean retainResponseBuffers;
+    private final ConnectionPoolTracker poolTracker = new ConnectionPoolTracker(true);
 
     final reactor.netty.http.client.HttpClient nettyClient;
 
@@ -59,7 +67,7 @@ class NettyAsyncHttpClient implements HttpClient {
      * Creates default NettyAsyncHttpClient.
      */
     NettyAsyncHttpClient() {
-        this(reactor.netty.http.client.HttpClient.create(), null, null, null, false);
+        this(reactor.netty.http.client.HttpClient.create(), null, null, null, false, false);
     }
 
     /**
@@ -69,16 +77,23 @@ class NettyAsyncHttpClient implements HttpClient {
      * @param eventLoopGroup {@link EventLoopGroup} that processes requests.
      * @param proxyHandlerSupplier Supplier that returns the {@link ProxyHandler} that connects to the configured
      * proxy.
+     * @param retainResponseBuffers Whether response bodies are emitted as retained views of Netty's pooled buffers.
      */
     NettyAsyncHttpClient(reactor.netty.http.client.HttpClient nettyClient, EventLoopGroup eventLoopGroup,
-        Supplier<ProxyHandler> proxyHandlerSupplier, String nonProxyHosts, boolean disableBufferCopy) {
-        this.nettyClient = nettyClient;
+        Supplier<ProxyHandler> proxyHandlerSupplier, String nonProxyHosts, boolean disableBufferCopy,
+        boolean retainResponseBuffers) {
+        this.nettyClient = nettyClient.observe((connection, newState) -> {
+            if (newState == ConnectionObserver.State.RELEASED) {
+                poolTracker.connectionReleased(connection.channel());
+            }
+        });
         this.eventLoopGroup = eventLoopGroup;
         this.proxyHandlerSupplier = proxyHandlerSupplier;
         this.nonProxyHostsPattern = (nonProxyHosts == null)
             ? null
             : Pattern.compile(nonProxyHosts, Pattern.CASE_INSENSITIVE);
         this.disableBufferCopy = disableBufferCopy;
+        this.retainResponseBuffers = retainResponseBuffers;
     }
 
     /**
@@ -89,13 +104,26 @@ class NettyAsyncHttpClient implements HttpClient {
         Objects.requireNonNull(request.getHttpMethod(), "'request.getHttpMethod()' cannot be null.");
         Objects.requireNonNull(request.getUrl(), "'request.getUrl()' cannot be null.");
         Objects.requireNonNull(request.getUrl().getProtocol(), "'request.getUrl().getProtocol()' cannot be null.");
-        return nettyClient
-            .tcpConfiguration(tcpClient -> configureTcpClient(tcpClient, request.getUrl().getHost()))
-            .request(HttpMethod.valueOf(request.getHttpMethod().toString()))
-            .uri(request.getUrl().toString())
-            .send(bodySendDelegate(request))
-            .responseConnection(responseDelegate(request, disableBufferCopy))
-            .single();
+        final String host = ConnectionPoolTracker.getHost(request.getUrl());
+        return Mono.defer(() -> {
+            final ConnectionPoolTracker.PendingAcquire pendingAcquire = poolTracker.beginAcquire(host);
+            return nettyClient
+                .tcpConfiguration(tcpClient -> configureTcpClient(tcpClient, request.getUrl().getHost()))
+                .request(HttpMethod.valueOf(request.getHttpMethod().toString()))
+                .uri(request.getUrl().toString())
+                .send(bodySendDelegate(request, pendingAcquire))
+                .responseConnection(responseDelegate(request, disableBufferCopy, retainResponseBuffers))
+                .single()
+                .doFinally(signalType -> pendingAcquire.complete(false));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+        return poolTracker.getMetrics();
     }
 
     /*
@@ -129,17 +157,24 @@ class NettyAsyncHttpClient implements HttpClient {
      * Delegate to send the request content.
      *
      * @param restRequest the Rest request contains the body to be sent
+     * @param pendingAcquire the wait of the request for a connection, which has ended once the body is sent
      * @return a delegate upon invocation sets the request body in reactor-netty outbound object
      */
-    private static BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> bodySendDelegate(
-        final HttpRequest restRequest) {
+    private BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> bodySendDelegate(
+        final HttpRequest restRequest, final ConnectionPoolTracker.PendingAcquire pendingAcquire) {
         return (reactorNettyRequest, reactorNettyOutbound) -> {
+            reactorNettyOutbound.withConnection(connection -> {
+                pendingAcquire.complete(true);
+                connectionAcquired(pendingAcquire.getHost(), connection.channel());
+            });
             for (HttpHeader header : restRequest.getHeaders()) {
                 if (header.getValue() != null) {
                     reactorNettyRequest.header(header.getName(), header.getValue());
                 }
             }
             if (restRequest.getBody() != null) {
+                // Wrapping shares the ByteBuffer's memory, so the client doesn't copy the body. Netty still copies heap
+                // buffers into direct memory when writing them to the socket.
                 Flux<ByteBuf> nettyByteBufFlux = restRequest.getBody().map(Unpooled::wrappedBuffer);
                 return reactorNettyOutbound.send(nettyByteBufFlux);
             } else {
@@ -148,6 +183,15 @@ class NettyAsyncHttpClient implements HttpClient {
         };
     }
 
+    /*
+     * Tracks a connection acquired by a request, and its closing the first time it's acquired.
+     */
+    private void connectionAcquired(String host, Channel channel) {
+        if (poolTracker.connectionAcquired(host, channel)) {
+            channel.closeFuture().addListener(future -> poolTracker.connectionClosed(channel));
+        }
+    }
+
     /**
      * Delegate to receive response.
      *
@@ -155,23 +199,31 @@ class NettyAsyncHttpClient implements HttpClient {
      * @return a delegate upon invocation setup Rest response object
      */
     private static BiFunction<HttpClientResponse, Connection, Publisher<HttpResponse>> responseDelegate(
-        final HttpRequest restRequest, final boolean disableBufferCopy) {
+        final HttpRequest restRequest, final boolean disableBufferCopy, final boolean retainResponseBuffers) {
         return (reactorNettyResponse, reactorNettyConnection) ->
             Mono.just(new ReactorNettyHttpResponse(reactorNettyResponse, reactorNettyConnection, restRequest,
-                disableBufferCopy));
+                disableBufferCopy, retainResponseBuffers));
     }
 
     static class ReactorNettyHttpResponse extends HttpResponse {
         private final HttpClientResponse reactorNettyResponse;
         private final Connection reactorNettyConnection;
         private final boolean disableBufferCopy;
+        // The pooled buffers emitted by getBody() that haven't been released, null unless buffers are retained.
+        private final NettyResponseBuffers.RetainedBuffers retainedBuffers;
 
         ReactorNettyHttpResponse(HttpClientResponse reactorNettyResponse, Connection reactorNettyConnection,
             HttpRequest httpRequest, boolean disableBufferCopy) {
+            this(reactorNettyResponse, reactorNettyConnection, httpRequest, disableBufferCopy, false);
+        }
+
+        ReactorNettyHttpResponse(HttpClientResponse reactorNettyResponse, Connection reactorNettyConnection,
+            HttpRequest httpRequest, boolean disableBufferCopy, boolean retainResponseBuffers) {
             super(httpRequest);
             this.reactorNettyResponse = reactorNettyResponse;
             this.reactorNettyConnection = reactorNettyConnection;
             this.disableBufferCopy = disableBufferCopy;
+            this.retainedBuffers = retainResponseBuffers ? new NettyResponseBuffers.RetainedBuffers() : null;
         }
 
         @Override
@@ -186,8 +238,9 @@ class NettyAsyncHttpClient implements HttpClient {
 
         @Override
         public HttpHeaders getHeaders() {
-            HttpHeaders headers = new HttpHeaders();
-            reactorNettyResponse.responseHeaders().forEach(e -> headers.put(e.getKey(), e.getValue()));
+            io.netty.handler.codec.http.HttpHeaders nettyHeaders = reactorNettyResponse.responseHeaders();
+            HttpHeaders headers = new HttpHeaders(nettyHeaders.size());
+            nettyHeaders.forEach(e -> headers.put(e.getKey(), e.getValue()));
             return headers;
         }
 
@@ -197,12 +250,17 @@ class NettyAsyncHttpClient implements HttpClient {
                 if (!reactorNettyConnection.isDisposed()) {
                     reactorNettyConnection.channel().eventLoop().execute(reactorNettyConnection::dispose);
                 }
-            }).map(byteBuf -> this.disableBufferCopy ? byteBuf.nioBuffer() : deepCopyBuffer(byteBuf));
+            }).map(byteBuf -> {
+                if (retainedBuffers != null) {
+                    return retainedBuffers.retain(byteBuf);
+                }
+                return this.disableBufferCopy ? byteBuf.nioBuffer() : deepCopyBuffer(byteBuf);
+            });
         }
 
         @Override
         public Mono<byte[]> getBodyAsByteArray() {
-            return bodyIntern().aggregate().asByteArray().doFinally(s -> {
+            return collectBody().doFinally(s -> {
                 if (!reactorNettyConnection.isDisposed()) {
                     reactorNettyConnection.channel().eventLoop().execute(reactorNettyConnection::dispose);
                 }
@@ -217,15 +275,14 @@ class NettyAsyncHttpClient implements HttpClient {
 
         @Override
         public Mono<String> getBodyAsString(Charset charset) {
-            return bodyIntern().aggregate().asString(charset).doFinally(s -> {
-                if (!reactorNettyConnection.isDisposed()) {
-                    reactorNettyConnection.channel().eventLoop().execute(reactorNettyConnection::dispose);
-                }
-            });
+            return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
         }
 
         @Override
         public void close() {
+            if (retainedBuffers != null) {
+                retainedBuffers.releaseAll();
+            }
             if (!reactorNettyConnection.isDisposed()) {
                 reactorNettyConnection.channel().eventLoop().execute(reactorNettyConnection::dispose);
             }
@@ -235,6 +292,23 @@ class NettyAsyncHttpClient implements HttpClient {
             return reactorNettyConnection.inbound().receive();
         }
 
+        /*
+         * Copies each received buffer into the resulting array as it arrives, instead of aggregating the pooled
+         * buffers until the body completes and copying them afterwards. When the response declares a length that
+         * isn't larger than BodyCollector.MAX_INITIAL_CAPACITY the array is allocated once with that size.
+         */
+        private Mono<byte[]> collectBody() {
+            final String contentLength = reactorNettyResponse.responseHeaders().get("Content-Length");
+            return bodyIntern()
+                .collect(() -> new BodyCollector(contentLength), BodyCollector::write)
+                .filter(BodyCollector::hasReceived)
+                .map(BodyCollector::toByteArray);
+        }
+
+        NettyResponseBuffers.RetainedBuffers getRetainedBuffers() {
+            return retainedBuffers;
+        }
+
         // used for testing only
         Connection internConnection() {
             return reactorNettyConnection;
@@ -247,4 +321,56 @@ class NettyAsyncHttpClient implements HttpClient {
             return buffer;
         }
     }
+
+    /*
+     * Accumulates a response body into a byte array.
+     */
+    static final class BodyCollector {
+        // Arrays larger than this may fail to allocate on some VMs.
+        private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+        // Content-Length is sent by the server, so it's only trusted to presize the array up to this size. Larger
+        // bodies grow the array as they arrive.
+        static final int MAX_INITIAL_CAPACITY = 4 * 1024 * 1024;
+
+        private byte[] body;
+        private int size;
+        private boolean received;
+
+        BodyCollector(String contentLength) {
+            int initialCapacity = 256;
+            if (contentLength != null) {
+                try {
+                    initialCapacity = (int) Math.min(Long.parseLong(contentLength), MAX_INITIAL_CAPACITY);
+                } catch (NumberFormatException ignored) {
+                    // Fall back to growing the array as the body arrives.
+                }
+            }
+            this.body = new byte[Math.max(0, initialCapacity)];
+        }
+
+        void write(ByteBuf byteBuf) {
+            received = true;
+            final int length = byteBuf.readableBytes();
+            if (size + length > body.length) {
+                final long grown = Math.max((long) size + length, 2L * body.length);
+                body = Arrays.copyOf(body, (int) Math.min(grown, MAX_ARRAY_SIZE));
+            }
+            byteBuf.getBytes(byteBuf.readerIndex(), body, size, length);
+            size += length;
+        }
+
+        boolean hasReceived() {
+            return received;
+        }
+
+        byte[] toByteArray() {
+            return size == body.length ? body : Arrays.copyOf(body, size);
+        }
+
+        // used for testing only
+        int capacity() {
+            return body.length;
+        }
+    }
 }
@@ -3,6 +3,7 @@
 
 package com.azure.core.http.netty;
 
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.ProxyOptions;
 import com.azure.core.http.netty.implementation.ChallengeHolder;
 import com.azure.core.http.netty.implementation.HttpProxyHandler;
@@ -14,6 +15,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.proxy.Socks4ProxyHandler;
 import io.netty.handler.proxy.Socks5ProxyHandler;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
@@ -33,17 +35,20 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class NettyAsyncHttpClientBuilder {
     private static final String INVALID_PROXY_MESSAGE = "Unknown Proxy type '%s' in use. Not configuring Netty proxy.";
+    private static final String CONNECTION_POOL_NAME = "azure-sdk-http-client";
 
     private final ClientLogger logger = new ClientLogger(NettyAsyncHttpClientBuilder.class);
 
     private final HttpClient baseHttpClient;
     private ProxyOptions proxyOptions;
     private ConnectionProvider connectionProvider;
+    private ConnectionPoolOptions connectionPoolOptions;
     private boolean enableWiretap;
     private int port = 80;
     private EventLoopGroup eventLoopGroup;
     private Configuration configuration;
     private boolean disableBufferCopy;
+    private boolean retainResponseBuffers;
 
     /**
      * Creates a new builder instance, where a builder is capable of generating multiple instances of {@link
@@ -78,10 +83,18 @@ public class NettyAsyncHttpClientBuilder {
             nettyHttpClient = baseHttpClient;
         } else if (this.connectionProvider != null) {
             nettyHttpClient = HttpClient.create(this.connectionProvider);
+        } else if (this.connectionPoolOptions != null) {
+            nettyHttpClient = HttpClient.create(createConnectionProvider(connectionPoolOptions));
         } else {
             nettyHttpClient = HttpClient.create();
         }
 
+        if (this.connectionPoolOptions != null) {
+            nettyHttpClient = connectionPoolOptions.isHttp2Enabled()
+                ? nettyHttpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                : nettyHttpClient.protocol(HttpProtocol.HTTP11);
+        }
+
         nettyHttpClient = nettyHttpClient
             .port(port)
             .wiretap(enableWiretap);
@@ -101,7 +114,8 @@ public class NettyAsyncHttpClientBuilder {
         AtomicReference<ChallengeHolder> proxyChallengeHolder = new AtomicReference<>();
 
         return new NettyAsyncHttpClient(nettyHttpClient, eventLoopGroup,
-            () -> getProxyHandler(handler, proxyChallengeHolder), nonProxyHosts, disableBufferCopy);
+            () -> getProxyHandler(handler, proxyChallengeHolder), nonProxyHosts, disableBufferCopy,
+            retainResponseBuffers);
     }
 
     /**
@@ -116,6 +130,20 @@ public class NettyAsyncHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the provider neutral configuration of the connection pools the client keeps for each host.
+     * <p>
+     * The pool limits are applied to a connection pool created by the builder, so they're ignored when a {@link
+     * #connectionProvider(ConnectionProvider) connection provider} or a base reactor netty HttpClient is set.
+     *
+     * @param connectionPoolOptions The connection pool configuration, {@code null} uses the reactor netty defaults.
+     * @return the updated NettyAsyncHttpClientBuilder object.
+     */
+    public NettyAsyncHttpClientBuilder connectionPoolOptions(ConnectionPoolOptions connectionPoolOptions) {
+        this.connectionPoolOptions = connectionPoolOptions;
+        return this;
+    }
+
     /**
      * Sets the {@link ProxyOptions proxy options} that the client will use.
      *
@@ -215,6 +243,51 @@ public class NettyAsyncHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Makes response bodies emit views of Netty's pooled, usually direct, buffers that stay valid until they're
+     * explicitly released, instead of copies of them on the heap.
+     * <br>
+     * Each {@link ByteBuffer} emitted by {@link com.azure.core.http.HttpResponse#getBody()} must be released with
+     * {@link NettyResponseBuffers#release(com.azure.core.http.HttpResponse, ByteBuffer)} once it has been consumed,
+     * passing the response that emitted it, which returns its memory to the
+     * pool. Any buffers that haven't been released when the response is closed are released then, so a consumer may
+     * also close the response instead of releasing each buffer. Buffers that are neither released nor closed leak
+     * pooled memory.
+     * <br>
+     * This takes precedence over {@link #disableBufferCopy(boolean)}.
+     *
+     * {@codesnippet com.azure.core.http.netty.retained-response-buffers}
+     *
+     * @param retainResponseBuffers If set to {@code true}, the client built from this builder will emit retained
+     * pooled response {@link ByteBuffer ByteBuffers} that must be released.
+     * @return The updated {@link NettyAsyncHttpClientBuilder} object.
+     */
+    public NettyAsyncHttpClientBuilder retainResponseBuffers(boolean retainResponseBuffers) {
+        this.retainResponseBuffers = retainResponseBuffers;
+        return this;
+    }
+
+    /*
+     * Creates a fixed connection pool, per remote host, from the provider neutral connection pool options.
+     */
+    private static ConnectionProvider createConnectionProvider(ConnectionPoolOptions options) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(CONNECTION_POOL_NAME);
+        if (options.getMaxConnectionsPerHost() != null) {
+            builder = builder.maxConnections(options.getMaxConnectionsPerHost());
+        }
+        if (options.getMaxPendingAcquires() != null) {
+            builder = builder.pendingAcquireMaxCount(options.getMaxPendingAcquires());
+        }
+        if (options.getPendingAcquireTimeout() != null) {
+            builder = builder.pendingAcquireTimeout(options.getPendingAcquireTimeout());
+        }
+        if (options.getMaxIdleTime() != null) {
+            builder = builder.maxIdleTime(options.getMaxIdleTime());
+        }
+
+        return builder.build();
+    }
+
     /*
      * Creates a proxy handler based on the passed ProxyOptions.
      */
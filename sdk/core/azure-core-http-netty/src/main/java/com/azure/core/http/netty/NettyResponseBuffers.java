@@ -0,0 +1,122 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.http.HttpResponse;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Releases the response body buffers of a Netty based {@link com.azure.core.http.HttpClient} that was built with
+ * {@link NettyAsyncHttpClientBuilder#retainResponseBuffers(boolean) retainResponseBuffers(true)}.
+ *
+ * <p>Those clients emit response bodies as {@link ByteBuffer ByteBuffers} that are views of Netty's pooled, usually
+ * direct, buffers rather than heap copies. Each buffer stays valid until it's passed to
+ * {@link #release(HttpResponse, ByteBuffer)} along with the response that emitted it, which returns its memory to the
+ * pool. Buffers that haven't been released when their response is {@link HttpResponse#close() closed} are released
+ * then.</p>
+ *
+ * {@codesnippet com.azure.core.http.netty.retained-response-buffers}
+ */
+public final class NettyResponseBuffers {
+    private NettyResponseBuffers() {
+    }
+
+    /**
+     * Releases a response body buffer, after which it mustn't be read.
+     *
+     * @param response The response, as returned by the {@link com.azure.core.http.HttpClient}, whose body emitted the
+     * buffer.
+     * @param buffer The buffer emitted by the response body.
+     * @return {@code true} if the buffer was released, {@code false} if it wasn't retained by the response or has
+     * already been released.
+     * @throws NullPointerException If {@code response} or {@code buffer} is {@code null}.
+     */
+    public static boolean release(HttpResponse response, ByteBuffer buffer) {
+        Objects.requireNonNull(response, "'response' cannot be null.");
+        Objects.requireNonNull(buffer, "'buffer' cannot be null.");
+        if (!(response instanceof NettyAsyncHttpClient.ReactorNettyHttpResponse)) {
+            return false;
+        }
+
+        final RetainedBuffers retainedBuffers =
+            ((NettyAsyncHttpClient.ReactorNettyHttpResponse) response).getRetainedBuffers();
+        return retainedBuffers != null && retainedBuffers.release(buffer);
+    }
+
+    /**
+     * The pooled buffers emitted by the body of a response that haven't been released yet. Each response has its own,
+     * so releasing a buffer only contends with the buffers of the same response.
+     */
+    static final class RetainedBuffers {
+        // Keyed by identity, ByteBuffer equality compares the remaining content. Guarded by this.
+        private final Map<ByteBuffer, ByteBuf> buffers = new IdentityHashMap<>();
+        private boolean closed;
+
+        /**
+         * Retains a buffer received by the response and returns a view of its readable bytes that stays valid until
+         * it's released.
+         *
+         * @param byteBuf The buffer received by the response, released by reactor-netty once it has been emitted.
+         * @return A view of the readable bytes of the buffer, or a copy of them if the response has been closed.
+         */
+        ByteBuffer retain(ByteBuf byteBuf) {
+            synchronized (this) {
+                if (!closed) {
+                    final ByteBuffer view = byteBuf.retain().nioBuffer();
+                    buffers.put(view, byteBuf);
+                    return view;
+                }
+            }
+
+            // Nothing would release a buffer retained after the response is closed, so it gets a copy instead.
+            final ByteBuffer copy = ByteBuffer.allocate(byteBuf.readableBytes());
+            byteBuf.getBytes(byteBuf.readerIndex(), copy);
+            copy.flip();
+            return copy;
+        }
+
+        /**
+         * Releases a buffer emitted by the response.
+         *
+         * @param view The buffer emitted by the response.
+         * @return {@code true} if the buffer was released, {@code false} if it isn't retained.
+         */
+        boolean release(ByteBuffer view) {
+            final ByteBuf byteBuf;
+            synchronized (this) {
+                byteBuf = buffers.remove(view);
+            }
+
+            if (byteBuf == null) {
+                return false;
+            }
+
+            byteBuf.release();
+            return true;
+        }
+
+        /**
+         * Releases the buffers that haven't been released yet, once the response is closed.
+         */
+        void releaseAll() {
+            final List<ByteBuf> unreleased;
+            synchronized (this) {
+                closed = true;
+                unreleased = new ArrayList<>(buffers.values());
+                buffers.clear();
+            }
+
+            for (ByteBuf byteBuf : unreleased) {
+                byteBuf.release();
+            }
+        }
+    }
+}
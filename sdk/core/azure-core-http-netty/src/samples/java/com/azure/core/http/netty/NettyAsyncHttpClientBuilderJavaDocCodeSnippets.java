@@ -87,6 +87,30 @@ public class NettyAsyncHttpClientBuilderJavaDocCodeSnippets {
         // END: com.azure.core.http.netty.disabled-buffer-copy
     }
 
+    /**
+     * Code snippet to demonstrate the use of a Netty based http client that retains pooled response buffers.
+     */
+    public void retainedResponseBuffersClientSample() {
+        HttpRequest httpRequest = null;
+        // BEGIN: com.azure.core.http.netty.retained-response-buffers
+        HttpClient client = new NettyAsyncHttpClientBuilder()
+            .port(8080)
+            .retainResponseBuffers(true)
+            .build();
+
+        client.send(httpRequest)
+            .flatMapMany(response -> response.getBody()
+                .map(byteBuffer -> {
+                    try {
+                        return completeProcessingByteBuffer(byteBuffer);
+                    } finally {
+                        NettyResponseBuffers.release(response, byteBuffer);
+                    }
+                }))
+            .subscribe();
+        // END: com.azure.core.http.netty.retained-response-buffers
+    }
+
     private int completeProcessingByteBuffer(ByteBuffer byteBuffer) {
         return byteBuffer.remaining();
     }
@@ -3,6 +3,8 @@
 
 package com.azure.core.http.netty;
 
+import com.azure.core.http.ConnectionPoolMetrics;
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
@@ -12,6 +14,7 @@ import com.azure.core.util.Context;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -39,9 +42,11 @@ import java.util.concurrent.CountDownLatch;
 import static com.azure.core.http.netty.NettyAsyncHttpClient.ReactorNettyHttpResponse;
 import static java.time.Duration.ofMillis;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ReactorNettyClientTests {
     private static final String SHORT_BODY_PATH = "/short";
@@ -334,6 +339,155 @@ public class ReactorNettyClientTests {
         assertEquals(LONG_BODY, delayWriteStream.aggregateAsString());
     }
 
+    /**
+     * Tests that retained response buffers stay valid after the 'onNext' operator chain has completed until they're
+     * released.
+     */
+    @Test
+    public void retainedResponseBuffersConfiguredInBuilder() {
+        HttpClient client = new NettyAsyncHttpClientBuilder().retainResponseBuffers(true).build();
+
+        HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url(server, LONG_BODY_PATH))).block();
+        assertNotNull(response);
+        assertEquals(200, response.getStatusCode());
+
+        DelayWriteStream delayWriteStream = new DelayWriteStream();
+        response.getBody().doOnNext(delayWriteStream::write).blockLast();
+        assertEquals(LONG_BODY, delayWriteStream.aggregateAsString());
+
+        for (ByteBuffer buffer : delayWriteStream.internalBuffers) {
+            assertTrue(NettyResponseBuffers.release(response, buffer));
+            assertFalse(NettyResponseBuffers.release(response, buffer));
+        }
+    }
+
+    /**
+     * Tests that closing a response releases the retained buffers that haven't been released.
+     */
+    @Test
+    public void closeReleasesRetainedResponseBuffers() {
+        HttpClient client = new NettyAsyncHttpClientBuilder().retainResponseBuffers(true).build();
+
+        HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url(server, LONG_BODY_PATH))).block();
+        assertNotNull(response);
+
+        DelayWriteStream delayWriteStream = new DelayWriteStream();
+        response.getBody().doOnNext(delayWriteStream::write).blockLast();
+        assertTrue(NettyResponseBuffers.release(response, delayWriteStream.internalBuffers.get(0)));
+
+        response.close();
+        for (ByteBuffer buffer : delayWriteStream.internalBuffers) {
+            assertFalse(NettyResponseBuffers.release(response, buffer));
+        }
+    }
+
+    @Test
+    public void releaseIgnoresBuffersThatWerentRetained() {
+        HttpClient client = new NettyAsyncHttpClientBuilder().retainResponseBuffers(true).build();
+
+        HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url(server, LONG_BODY_PATH))).block();
+        assertNotNull(response);
+
+        DelayWriteStream delayWriteStream = new DelayWriteStream();
+        response.getBody().doOnNext(delayWriteStream::write).blockLast();
+
+        // A buffer is only released through the response that emitted it.
+        HttpResponse otherResponse = client.send(new HttpRequest(HttpMethod.GET, url(server, LONG_BODY_PATH)))
+            .block();
+        assertNotNull(otherResponse);
+        assertFalse(NettyResponseBuffers.release(otherResponse, delayWriteStream.internalBuffers.get(0)));
+        assertFalse(NettyResponseBuffers.release(response, ByteBuffer.allocate(16)));
+        otherResponse.close();
+        response.close();
+    }
+
+    @Test
+    public void bodyCollectorDoesNotTrustLargeContentLength() {
+        NettyAsyncHttpClient.BodyCollector collector = new NettyAsyncHttpClient.BodyCollector("2147483000");
+        assertEquals(NettyAsyncHttpClient.BodyCollector.MAX_INITIAL_CAPACITY, collector.capacity());
+
+        byte[] chunk = new byte[NettyAsyncHttpClient.BodyCollector.MAX_INITIAL_CAPACITY];
+        chunk[0] = 1;
+        collector.write(Unpooled.wrappedBuffer(chunk));
+        collector.write(Unpooled.wrappedBuffer(new byte[] {2, 3}));
+
+        byte[] body = collector.toByteArray();
+        assertEquals(chunk.length + 2, body.length);
+        assertEquals(1, body[0]);
+        assertEquals(3, body[body.length - 1]);
+    }
+
+    @Test
+    public void bodyCollectorPresizesToContentLength() {
+        NettyAsyncHttpClient.BodyCollector collector = new NettyAsyncHttpClient.BodyCollector("3");
+        collector.write(Unpooled.wrappedBuffer(new byte[] {1, 2, 3}));
+
+        assertEquals(3, collector.capacity());
+        assertEquals(3, collector.toByteArray().length);
+    }
+
+    @Test
+    public void connectionPoolMetricsTrackConnectionReuse() throws InterruptedException {
+        HttpClient client = new NettyAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1))
+            .build();
+        String host = "localhost:" + server.port();
+
+        for (int i = 0; i < 2; i++) {
+            HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url(server, SHORT_BODY_PATH))).block();
+            assertNotNull(response);
+            assertEquals(SHORT_BODY, response.getBodyAsString().block());
+        }
+
+        ConnectionPoolMetrics metrics = awaitIdleConnections(client, 1);
+        assertEquals(host, metrics.getHost());
+        assertEquals(0, metrics.getActiveConnections());
+        assertEquals(0, metrics.getPendingAcquires());
+        assertEquals(2, metrics.getAcquireCount());
+    }
+
+    @Test
+    public void connectionPoolMetricsTrackPendingAcquires() throws InterruptedException {
+        HttpClient client = new NettyAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1))
+            .build();
+
+        // The connection stays in use until the long body of the first response is consumed.
+        HttpResponse first = client.send(new HttpRequest(HttpMethod.GET, url(server, LONG_BODY_PATH))).block();
+        assertNotNull(first);
+        assertEquals(1, client.getConnectionPoolMetrics().get(0).getActiveConnections());
+
+        Mono<String> second = client.send(new HttpRequest(HttpMethod.GET, url(server, SHORT_BODY_PATH)))
+            .flatMap(HttpResponse::getBodyAsString)
+            .cache();
+        second.subscribe();
+        assertEquals(1, client.getConnectionPoolMetrics().get(0).getPendingAcquires());
+
+        assertEquals(LONG_BODY, first.getBodyAsString().block());
+        assertEquals(SHORT_BODY, second.block());
+
+        ConnectionPoolMetrics metrics = awaitIdleConnections(client, 1);
+        assertEquals(0, metrics.getPendingAcquires());
+        assertEquals(2, metrics.getAcquireCount());
+    }
+
+    private static ConnectionPoolMetrics awaitIdleConnections(HttpClient client, int idleConnections)
+        throws InterruptedException {
+        // Connections are released to the pool on the event loop after the response completes.
+        for (int i = 0; i < 50; i++) {
+            List<ConnectionPoolMetrics> metrics = client.getConnectionPoolMetrics();
+            if (metrics.size() == 1 && metrics.get(0).getIdleConnections() == idleConnections) {
+                return metrics.get(0);
+            }
+            Thread.sleep(100);
+        }
+
+        List<ConnectionPoolMetrics> metrics = client.getConnectionPoolMetrics();
+        assertEquals(1, metrics.size());
+        assertEquals(idleConnections, metrics.get(0).getIdleConnections());
+        return metrics.get(0);
+    }
+
     private static ReactorNettyHttpResponse getResponse(String path) {
         NettyAsyncHttpClient client = new NettyAsyncHttpClient();
         return getResponse(client, path);
@@ -3,14 +3,19 @@
 
 package com.azure.core.http.okhttp;
 
+import com.azure.core.http.ConnectionPoolMetrics;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpHeader;
 import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
+import com.azure.core.http.okhttp.implementation.ConnectionPoolEventListener.PooledCall;
+import com.azure.core.implementation.http.ConnectionLimiter;
+import com.azure.core.implementation.http.ConnectionPoolTracker;
 import com.azure.core.util.CoreUtils;
 import okhttp3.Call;
+import okhttp3.Connection;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -29,6 +34,7 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
@@ -38,15 +44,49 @@ import java.util.function.Function;
  */
 class OkHttpAsyncHttpClient implements HttpClient {
     private final OkHttpClient httpClient;
+    private final ConnectionPoolTracker poolTracker;
+    private final ConnectionLimiter connectionLimiter;
     //
     private static final Mono<okio.ByteString> EMPTY_BYTE_STRING_MONO = Mono.just(okio.ByteString.EMPTY);
 
-    OkHttpAsyncHttpClient(OkHttpClient httpClient) {
+    /**
+     * Creates OkHttpAsyncHttpClient.
+     *
+     * @param httpClient the OkHttp client, whose event listeners report to {@code poolTracker}
+     * @param poolTracker the tracker of the client's connection pool
+     * @param connectionLimiter the limiter of the connections used per host
+     */
+    OkHttpAsyncHttpClient(OkHttpClient httpClient, ConnectionPoolTracker poolTracker,
+        ConnectionLimiter connectionLimiter) {
         this.httpClient = httpClient;
+        this.poolTracker = poolTracker;
+        this.connectionLimiter = connectionLimiter;
+    }
+
+    @Override
+    public List<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+        // OkHttp doesn't signal when it evicts an idle connection from its pool.
+        poolTracker.removeClosedConnections(connection -> ((Connection) connection).socket().isClosed());
+        return poolTracker.getMetrics();
     }
 
     @Override
     public Mono<HttpResponse> send(HttpRequest request) {
+        final String host = ConnectionPoolTracker.getHost(request.getUrl());
+        return Mono.defer(() -> {
+            // The call's listener completes it once it's done with its connection, unless it fails before.
+            final PooledCall pooledCall = new PooledCall(poolTracker.beginAcquire(host));
+            return connectionLimiter.acquire(host)
+                .flatMap(permit -> {
+                    pooledCall.setPermit(permit);
+                    return sendCall(request, pooledCall);
+                })
+                .doOnError(ignored -> pooledCall.complete())
+                .doOnCancel(pooledCall::complete);
+        });
+    }
+
+    private Mono<HttpResponse> sendCall(HttpRequest request, PooledCall pooledCall) {
         return Mono.create(sink -> sink.onRequest(value -> {
             // Using MonoSink::onRequest for back pressure support.
 
@@ -60,7 +100,7 @@ class OkHttpAsyncHttpClient implements HttpClient {
             //   3. If Flux<ByteBuffer> asynchronous then subscribe does not block caller thread
             //      but block on the thread backing flux. This ignore any subscribeOn applied to send(r)
             //
-            toOkHttpRequest(request).subscribe(okHttpRequest -> {
+            toOkHttpRequest(request, pooledCall).subscribe(okHttpRequest -> {
                 Call call = httpClient.newCall(okHttpRequest);
                 call.enqueue(new OkHttpCallback(sink, request));
                 sink.onCancel(call::cancel);
@@ -72,12 +112,14 @@ class OkHttpAsyncHttpClient implements HttpClient {
      * Converts the given azure-core request to okhttp request.
      *
      * @param request the azure-core request
+     * @param pooledCall the connection state of the call, tagged on the okhttp request for its event listener
      * @return the Mono emitting okhttp request
      */
-    private static Mono<okhttp3.Request> toOkHttpRequest(HttpRequest request) {
+    private static Mono<okhttp3.Request> toOkHttpRequest(HttpRequest request, PooledCall pooledCall) {
         return Mono.just(new okhttp3.Request.Builder())
             .map(rb -> {
                 rb.url(request.getUrl());
+                rb.tag(PooledCall.class, pooledCall);
                 if (request.getHeaders() != null) {
                     Map<String, String> headers = new HashMap<>();
                     for (HttpHeader hdr : request.getHeaders()) {
@@ -178,15 +220,17 @@ class OkHttpAsyncHttpClient implements HttpClient {
      */
     private static class OkHttpResponse extends HttpResponse {
         private final int statusCode;
-        private final HttpHeaders headers;
+        private final Headers okHttpHeaders;
         private final ResponseBody responseBody;
+        // azure-core headers are created from the OkHttp headers on first use.
+        private volatile HttpHeaders headers;
         // using 4K as default buffer size: https://stackoverflow.com/a/237495/1473510
         private static final int BYTE_BUFFER_CHUNK_SIZE = 4096;
 
         OkHttpResponse(Response innerResponse, HttpRequest request) {
             super(request);
             this.statusCode = innerResponse.code();
-            this.headers = fromOkHttpHeaders(innerResponse.headers());
+            this.okHttpHeaders = innerResponse.headers();
             // innerResponse.body() getter will not return null for server returned responses.
             // It can be null:
             // [a]. if response is built manually with null body (e.g for mocking)
@@ -203,11 +247,14 @@ class OkHttpAsyncHttpClient implements HttpClient {
 
         @Override
         public String getHeaderValue(String name) {
-            return this.headers.getValue(name);
+            return this.okHttpHeaders.get(name);
         }
 
         @Override
         public HttpHeaders getHeaders() {
+            if (this.headers == null) {
+                this.headers = fromOkHttpHeaders(this.okHttpHeaders);
+            }
             return this.headers;
         }
 
@@ -252,7 +299,7 @@ class OkHttpAsyncHttpClient implements HttpClient {
         @Override
         public Mono<String> getBodyAsString() {
             return getBodyAsByteArray()
-                .map(bytes -> CoreUtils.bomAwareToString(bytes, headers.getValue("Content-Type")));
+                .map(bytes -> CoreUtils.bomAwareToString(bytes, okHttpHeaders.get("Content-Type")));
         }
 
         @Override
@@ -276,7 +323,7 @@ class OkHttpAsyncHttpClient implements HttpClient {
          * @return azure-core HttpHeaders
          */
         private static HttpHeaders fromOkHttpHeaders(Headers headers) {
-            HttpHeaders httpHeaders = new HttpHeaders();
+            HttpHeaders httpHeaders = new HttpHeaders(headers.size());
             for (String headerName : headers.names()) {
                 httpHeaders.put(headerName, headers.get(headerName));
             }
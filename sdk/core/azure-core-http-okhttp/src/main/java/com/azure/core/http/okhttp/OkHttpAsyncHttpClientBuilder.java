@@ -3,20 +3,29 @@
 
 package com.azure.core.http.okhttp;
 
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.http.okhttp.implementation.ConnectionPoolEventListener;
 import com.azure.core.http.okhttp.implementation.OkHttpProxySelector;
 import com.azure.core.http.okhttp.implementation.ProxyAuthenticator;
+import com.azure.core.implementation.http.ConnectionLimiter;
+import com.azure.core.implementation.http.ConnectionPoolTracker;
 import com.azure.core.util.Configuration;
 import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
+import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Builder to configure and build an implementation of {@link HttpClient} for OkHttp.
@@ -27,12 +36,16 @@ public class OkHttpAsyncHttpClientBuilder {
 
     private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(120);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(60);
+    // The defaults of OkHttp's ConnectionPool.
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
 
     private List<Interceptor> networkInterceptors = new ArrayList<>();
     private Duration readTimeout;
     private Duration connectionTimeout;
     private ConnectionPool connectionPool;
     private Dispatcher dispatcher;
+    private ConnectionPoolOptions connectionPoolOptions;
     private ProxyOptions proxyOptions;
     private Configuration configuration;
 
@@ -129,6 +142,21 @@ public class OkHttpAsyncHttpClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the provider neutral configuration of the connection pools the client keeps for each host.
+     * <p>
+     * The maximum idle time is applied to a connection pool created by the builder, so it's ignored when a {@link
+     * #connectionPool(ConnectionPool) connection pool} is set or a base OkHttpClient is used. The other options are
+     * applied by the client itself.
+     *
+     * @param connectionPoolOptions the connection pool configuration, {@code null} uses the OkHttp defaults
+     * @return the updated OkHttpAsyncHttpClientBuilder object
+     */
+    public OkHttpAsyncHttpClientBuilder connectionPoolOptions(ConnectionPoolOptions connectionPoolOptions) {
+        this.connectionPoolOptions = connectionPoolOptions;
+        return this;
+    }
+
     /**
      * Sets the proxy.
      *
@@ -188,6 +216,18 @@ public class OkHttpAsyncHttpClientBuilder {
             httpClientBuilder = httpClientBuilder.dispatcher(dispatcher);
         }
 
+        if (this.connectionPoolOptions != null) {
+            httpClientBuilder = applyConnectionPoolOptions(httpClientBuilder, connectionPoolOptions);
+        }
+
+        // Report the connections used by each call to the tracker, along with any listener of the base client.
+        ConnectionPoolTracker poolTracker = new ConnectionPoolTracker(true);
+        EventListener.Factory baseListenerFactory = (this.okHttpClient == null)
+            ? null
+            : this.okHttpClient.eventListenerFactory();
+        httpClientBuilder = httpClientBuilder.eventListenerFactory(call -> new ConnectionPoolEventListener(poolTracker,
+            (baseListenerFactory == null) ? EventListener.NONE : baseListenerFactory.create(call)));
+
         Configuration buildConfiguration = (configuration == null)
             ? Configuration.getGlobalConfiguration()
             : configuration;
@@ -211,6 +251,31 @@ public class OkHttpAsyncHttpClientBuilder {
             }
         }
 
-        return new OkHttpAsyncHttpClient(httpClientBuilder.build());
+        return new OkHttpAsyncHttpClient(httpClientBuilder.build(), poolTracker,
+            new ConnectionLimiter(connectionPoolOptions));
+    }
+
+    /*
+     * Maps the provider neutral connection pool options onto OkHttp's connection pool and protocols. The connections
+     * per host and pending acquires are limited by the client, OkHttp's dispatcher only limits the calls whose
+     * response hasn't been received yet.
+     */
+    private OkHttpClient.Builder applyConnectionPoolOptions(OkHttpClient.Builder httpClientBuilder,
+        ConnectionPoolOptions options) {
+        Integer maxConnectionsPerHost = options.getMaxConnectionsPerHost();
+
+        if ((maxConnectionsPerHost != null || options.getMaxIdleTime() != null)
+            && this.connectionPool == null && this.okHttpClient == null) {
+            int maxIdleConnections = (maxConnectionsPerHost == null)
+                ? DEFAULT_MAX_IDLE_CONNECTIONS
+                : Math.max(DEFAULT_MAX_IDLE_CONNECTIONS, maxConnectionsPerHost);
+            Duration keepAlive = (options.getMaxIdleTime() == null) ? DEFAULT_KEEP_ALIVE : options.getMaxIdleTime();
+            httpClientBuilder = httpClientBuilder.connectionPool(
+                new ConnectionPool(maxIdleConnections, keepAlive.toNanos(), TimeUnit.NANOSECONDS));
+        }
+
+        return options.isHttp2Enabled()
+            ? httpClientBuilder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            : httpClientBuilder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
     }
 }
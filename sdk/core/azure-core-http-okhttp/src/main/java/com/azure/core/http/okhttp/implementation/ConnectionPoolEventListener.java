@@ -0,0 +1,226 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.okhttp.implementation;
+
+import com.azure.core.implementation.http.ConnectionLimiter;
+import com.azure.core.implementation.http.ConnectionPoolTracker;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * This class reports the connections acquired and released by a call to a {@link ConnectionPoolTracker}, releases
+ * the call's {@link ConnectionLimiter.Permit permit} once it completes, and forwards every event to the event listener
+ * the OkHttpClient was configured with.
+ */
+public final class ConnectionPoolEventListener extends EventListener {
+    private final ConnectionPoolTracker poolTracker;
+    private final EventListener delegate;
+
+    /**
+     * Creates the listener of a call.
+     *
+     * @param poolTracker The tracker of the client's connection pool.
+     * @param delegate The event listener the OkHttpClient was configured with.
+     */
+    public ConnectionPoolEventListener(ConnectionPoolTracker poolTracker, EventListener delegate) {
+        this.poolTracker = poolTracker;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        delegate.callStart(call);
+    }
+
+    @Override
+    public void proxySelectStart(Call call, HttpUrl url) {
+        delegate.proxySelectStart(call, url);
+    }
+
+    @Override
+    public void proxySelectEnd(Call call, HttpUrl url, List<Proxy> proxies) {
+        delegate.proxySelectEnd(call, url, proxies);
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        delegate.dnsStart(call, domainName);
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        delegate.dnsEnd(call, domainName, inetAddressList);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        delegate.connectStart(call, inetSocketAddress, proxy);
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        delegate.secureConnectStart(call);
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        delegate.secureConnectEnd(call, handshake);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        delegate.connectEnd(call, inetSocketAddress, proxy, protocol);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+        IOException ioe) {
+        delegate.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        final PooledCall pooledCall = call.request().tag(PooledCall.class);
+        final String host;
+        if (pooledCall != null) {
+            pooledCall.pendingAcquire.complete(true);
+            host = pooledCall.pendingAcquire.getHost();
+        } else {
+            final HttpUrl url = connection.route().address().url();
+            host = url.host() + ":" + url.port();
+        }
+
+        poolTracker.connectionAcquired(host, connection);
+        delegate.connectionAcquired(call, connection);
+    }
+
+    @Override
+    public void connectionReleased(Call call, Connection connection) {
+        poolTracker.connectionReleased(connection);
+        delegate.connectionReleased(call, connection);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        delegate.requestHeadersStart(call);
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        delegate.requestHeadersEnd(call, request);
+    }
+
+    @Override
+    public void requestBodyStart(Call call) {
+        delegate.requestBodyStart(call);
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        delegate.requestBodyEnd(call, byteCount);
+    }
+
+    @Override
+    public void requestFailed(Call call, IOException ioe) {
+        delegate.requestFailed(call, ioe);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        delegate.responseHeadersStart(call);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        delegate.responseHeadersEnd(call, response);
+    }
+
+    @Override
+    public void responseBodyStart(Call call) {
+        delegate.responseBodyStart(call);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        delegate.responseBodyEnd(call, byteCount);
+    }
+
+    @Override
+    public void responseFailed(Call call, IOException ioe) {
+        delegate.responseFailed(call, ioe);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        complete(call);
+        delegate.callEnd(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        complete(call);
+        delegate.callFailed(call, ioe);
+    }
+
+    private static void complete(Call call) {
+        final PooledCall pooledCall = call.request().tag(PooledCall.class);
+        if (pooledCall != null) {
+            pooledCall.complete();
+        }
+    }
+
+    /**
+     * The connection state of a call, attached to its request as a tag.
+     */
+    public static final class PooledCall {
+        private final ConnectionPoolTracker.PendingAcquire pendingAcquire;
+        private volatile ConnectionLimiter.Permit permit;
+        private volatile boolean completed;
+
+        /**
+         * Creates the state of a call that started waiting for a connection.
+         *
+         * @param pendingAcquire The wait of the call for a connection.
+         */
+        public PooledCall(ConnectionPoolTracker.PendingAcquire pendingAcquire) {
+            this.pendingAcquire = pendingAcquire;
+        }
+
+        /**
+         * Sets the permit the call acquired to use a connection, which is released once the call completes.
+         *
+         * @param permit The permit of the call.
+         */
+        public void setPermit(ConnectionLimiter.Permit permit) {
+            this.permit = permit;
+            if (completed) {
+                permit.release();
+            }
+        }
+
+        /**
+         * Reports that the call completed, successfully or not, and no longer uses a connection.
+         */
+        public void complete() {
+            completed = true;
+            pendingAcquire.complete(false);
+            final ConnectionLimiter.Permit acquiredPermit = permit;
+            if (acquiredPermit != null) {
+                acquiredPermit.release();
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@
 
 package com.azure.core.http.okhttp;
 
+import com.azure.core.http.ConnectionPoolMetrics;
+import com.azure.core.http.ConnectionPoolOptions;
 import com.azure.core.http.HttpClient;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
@@ -32,6 +34,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -228,6 +231,50 @@ public class OkHttpClientTests {
 //        assertEquals(numRequests * LONG_BODY.getBytes(StandardCharsets.UTF_8).length, numBytes);
     }
 
+    @Test
+    public void connectionPoolMetricsTrackConnectionReuse() {
+        HttpClient client = new OkHttpAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1))
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(SHORT_BODY, getResponse(client, "/short").getBodyAsString().block());
+        }
+
+        List<ConnectionPoolMetrics> metrics = client.getConnectionPoolMetrics();
+        assertEquals(1, metrics.size());
+        assertEquals("localhost:" + server.port(), metrics.get(0).getHost());
+        assertEquals(0, metrics.get(0).getActiveConnections());
+        assertEquals(1, metrics.get(0).getIdleConnections());
+        assertEquals(0, metrics.get(0).getPendingAcquires());
+        assertEquals(2, metrics.get(0).getAcquireCount());
+    }
+
+    @Test
+    public void connectionPoolRejectsRequestsBeyondMaxPendingAcquires() {
+        HttpClient client = new OkHttpAsyncHttpClientBuilder()
+            .connectionPoolOptions(new ConnectionPoolOptions().setMaxConnectionsPerHost(1).setMaxPendingAcquires(1))
+            .build();
+
+        // The connection stays in use until the body of the first response is consumed.
+        HttpResponse first = getResponse(client, "/long");
+        assertEquals(1, client.getConnectionPoolMetrics().get(0).getActiveConnections());
+
+        Mono<String> second = client.send(new HttpRequest(HttpMethod.GET, url(server, "/short")))
+            .flatMap(HttpResponse::getBodyAsString)
+            .cache();
+        second.subscribe();
+        assertEquals(1, client.getConnectionPoolMetrics().get(0).getPendingAcquires());
+
+        StepVerifier.create(client.send(new HttpRequest(HttpMethod.GET, url(server, "/short"))))
+            .verifyError(IllegalStateException.class);
+
+        assertEquals(LONG_BODY, first.getBodyAsString().block());
+        assertEquals(SHORT_BODY, second.block());
+        assertEquals(0, client.getConnectionPoolMetrics().get(0).getPendingAcquires());
+        assertEquals(2, client.getConnectionPoolMetrics().get(0).getAcquireCount());
+    }
+
     private static MessageDigest md5Digest() {
         try {
             return MessageDigest.getInstance("MD5");
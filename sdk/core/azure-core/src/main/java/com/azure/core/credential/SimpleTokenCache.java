@@ -3,34 +3,61 @@
 
 package com.azure.core.credential;
 
-import reactor.core.publisher.FluxSink;
-import reactor.core.publisher.FluxSink.OverflowStrategy;
+import com.azure.core.util.logging.ClientLogger;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.ReplayProcessor;
+import reactor.core.publisher.MonoProcessor;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
  * A token cache that supports caching a token and refreshing it.
+ *
+ * <p>Concurrent callers that need a new token share a single call to the token supplier. When created with
+ * {@link TokenRefreshOptions} the cache also refreshes the token in the background once it's close to expiring, so
+ * callers keep being served the cached token instead of waiting for the refresh. A single cache may be shared by many
+ * clients that authenticate with the same credential and scopes.</p>
  */
 public class SimpleTokenCache {
-    private static final int REFRESH_TIMEOUT_SECONDS = 30;
+    // How long to wait before retrying a background refresh that failed, the cached token is still valid meanwhile.
+    private static final Duration BACKGROUND_REFRESH_RETRY_DELAY = Duration.ofSeconds(30);
 
-    private final AtomicBoolean wip;
-    private AccessToken cache;
-    private final ReplayProcessor<AccessToken> emitterProcessor = ReplayProcessor.create(1);
-    private final FluxSink<AccessToken> sink = emitterProcessor.sink(OverflowStrategy.BUFFER);
+    private final ClientLogger logger = new ClientLogger(SimpleTokenCache.class);
     private final Supplier<Mono<AccessToken>> tokenSupplier;
+    private final TokenRefreshOptions refreshOptions;
+    private final AtomicReference<MonoProcessor<AccessToken>> inFlightRefresh = new AtomicReference<>();
+    private final TokenCacheMetrics metrics = new TokenCacheMetrics();
+
+    private volatile AccessToken cache;
+    private volatile OffsetDateTime refreshAt;
+    private volatile OffsetDateTime nextBackgroundRefresh = OffsetDateTime.MIN;
 
     /**
      * Creates an instance of RefreshableTokenCredential with default scheme "Bearer".
      *
+     * <p>The token is refreshed once it has expired, while callers wait.</p>
+     *
      * @param tokenSupplier a method to get a new token
      */
     public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier) {
-        this.wip = new AtomicBoolean(false);
         this.tokenSupplier = tokenSupplier;
+        this.refreshOptions = null;
+    }
+
+    /**
+     * Creates a token cache that refreshes the token in the background before it expires.
+     *
+     * @param tokenSupplier a method to get a new token
+     * @param refreshOptions the options that configure when the token is refreshed
+     * @throws NullPointerException if {@code refreshOptions} is null
+     */
+    public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier, TokenRefreshOptions refreshOptions) {
+        this.tokenSupplier = tokenSupplier;
+        this.refreshOptions = Objects.requireNonNull(refreshOptions, "'refreshOptions' cannot be null.");
     }
 
     /**
@@ -38,18 +65,84 @@ public class SimpleTokenCache {
      * @return a Publisher that emits an AccessToken
      */
     public Mono<AccessToken> getToken() {
-        if (cache != null && !cache.isExpired()) {
-            return Mono.just(cache);
+        final AccessToken cached = cache;
+        if (cached != null && !cached.isExpired()) {
+            if (refreshOptions != null) {
+                refreshInBackgroundIfDue();
+            }
+            metrics.recordCacheHit();
+            return Mono.just(cached);
         }
+
         return Mono.defer(() -> {
-            if (!wip.getAndSet(true)) {
-                return tokenSupplier.get().doOnNext(ac -> cache = ac)
-                    .doOnNext(sink::next)
-                    .doOnError(sink::error)
-                    .doOnTerminate(() -> wip.set(false));
-            } else {
-                return emitterProcessor.next();
-            }
+            final long start = System.nanoTime();
+            return refresh().doOnTerminate(() -> metrics.recordBlocked(System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Gets the metrics of this cache.
+     *
+     * @return the live metrics of this cache
+     */
+    public TokenCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void refreshInBackgroundIfDue() {
+        final OffsetDateTime due = refreshAt;
+        if (due == null || inFlightRefresh.get() != null) {
+            return;
+        }
+
+        final OffsetDateTime now = OffsetDateTime.now();
+        if (now.isBefore(due) || now.isBefore(nextBackgroundRefresh)) {
+            return;
+        }
+
+        refresh().subscribe(token -> { }, error -> {
+            nextBackgroundRefresh = OffsetDateTime.now().plus(BACKGROUND_REFRESH_RETRY_DELAY);
+            logger.warning("Failed to refresh the token in the background, it will be retried after {}.",
+                nextBackgroundRefresh, error);
         });
     }
+
+    /*
+     * Returns the in-flight refresh if there's one, otherwise starts a new refresh that concurrent callers join.
+     */
+    private Mono<AccessToken> refresh() {
+        while (true) {
+            final MonoProcessor<AccessToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            final MonoProcessor<AccessToken> processor = MonoProcessor.create();
+            if (inFlightRefresh.compareAndSet(null, processor)) {
+                Mono.defer(tokenSupplier)
+                    .doOnNext(this::update)
+                    .doOnError(error -> metrics.recordFailedRefresh())
+                    .doFinally(signal -> inFlightRefresh.compareAndSet(processor, null))
+                    .subscribe(processor);
+                return processor;
+            }
+        }
+    }
+
+    private void update(AccessToken token) {
+        metrics.recordRefresh();
+
+        final OffsetDateTime expiresAt = token.getExpiresAt();
+        if (refreshOptions == null || expiresAt == null) {
+            refreshAt = null;
+        } else {
+            final long jitterMillis = refreshOptions.getRefreshJitter().toMillis();
+            final Duration jitter = Duration.ofMillis(jitterMillis == 0
+                ? 0
+                : ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+            refreshAt = expiresAt.minus(refreshOptions.getRefreshOffset()).minus(jitter);
+        }
+
+        cache = token;
+    }
 }
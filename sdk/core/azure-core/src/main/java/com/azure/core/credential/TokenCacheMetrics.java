@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credential;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing how a {@link SimpleTokenCache} served its callers.
+ *
+ * <p>The counters are live and are updated as the cache is used, they never reset.</p>
+ */
+public final class TokenCacheMetrics {
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failedRefreshes = new LongAdder();
+    private final LongAdder blockedRequests = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+
+    TokenCacheMetrics() {
+    }
+
+    /**
+     * Gets the number of requests that were served a cached token without waiting.
+     *
+     * @return The number of cache hits.
+     */
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Gets the number of tokens retrieved from the token supplier, both in the background and while callers waited.
+     *
+     * @return The number of successful refreshes.
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Gets the number of token retrievals that failed.
+     *
+     * @return The number of failed refreshes.
+     */
+    public long getFailedRefreshCount() {
+        return failedRefreshes.sum();
+    }
+
+    /**
+     * Gets the number of requests that had to wait for a token to be retrieved.
+     *
+     * @return The number of blocked requests.
+     */
+    public long getBlockedRequestCount() {
+        return blockedRequests.sum();
+    }
+
+    /**
+     * Gets the total time requests spent waiting for a token to be retrieved.
+     *
+     * @return The total blocked time.
+     */
+    public Duration getBlockedTime() {
+        return Duration.ofNanos(blockedNanos.sum());
+    }
+
+    void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    void recordRefresh() {
+        refreshes.increment();
+    }
+
+    void recordFailedRefresh() {
+        failedRefreshes.increment();
+    }
+
+    void recordBlocked(long nanos) {
+        blockedRequests.increment();
+        blockedNanos.add(nanos);
+    }
+}
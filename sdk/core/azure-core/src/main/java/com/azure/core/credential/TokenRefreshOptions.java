@@ -0,0 +1,90 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credential;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The options that configure how a {@link SimpleTokenCache} refreshes its token before it expires.
+ *
+ * <p>A token is refreshed in the background once it's within the {@link #getRefreshOffset() refresh offset} of its
+ * expiry, while callers keep receiving the cached token. A random delay of up to the {@link #getRefreshJitter() refresh
+ * jitter} is subtracted from the refresh time of each token so that caches sharing a credential don't all refresh at
+ * the same moment.</p>
+ */
+public class TokenRefreshOptions {
+    private static final Duration DEFAULT_REFRESH_OFFSET = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_REFRESH_JITTER = Duration.ofSeconds(30);
+
+    private final ClientLogger logger = new ClientLogger(TokenRefreshOptions.class);
+
+    private Duration refreshOffset = DEFAULT_REFRESH_OFFSET;
+    private Duration refreshJitter = DEFAULT_REFRESH_JITTER;
+
+    /**
+     * Creates an instance with a refresh offset of five minutes and a refresh jitter of thirty seconds.
+     */
+    public TokenRefreshOptions() {
+    }
+
+    /**
+     * Gets how long before the token expires the background refresh starts.
+     *
+     * @return The refresh offset.
+     */
+    public Duration getRefreshOffset() {
+        return refreshOffset;
+    }
+
+    /**
+     * Sets how long before the token expires the background refresh starts.
+     *
+     * <p>The offset is applied to {@link AccessToken#getExpiresAt()}, which is already a short time before the actual
+     * expiry of the token.</p>
+     *
+     * @param refreshOffset The refresh offset.
+     * @return The updated TokenRefreshOptions object.
+     * @throws NullPointerException If {@code refreshOffset} is {@code null}.
+     * @throws IllegalArgumentException If {@code refreshOffset} is negative.
+     */
+    public TokenRefreshOptions setRefreshOffset(Duration refreshOffset) {
+        Objects.requireNonNull(refreshOffset, "'refreshOffset' cannot be null.");
+        if (refreshOffset.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'refreshOffset' cannot be negative."));
+        }
+
+        this.refreshOffset = refreshOffset;
+        return this;
+    }
+
+    /**
+     * Gets the upper bound of the random delay subtracted from the refresh time of each token.
+     *
+     * @return The refresh jitter.
+     */
+    public Duration getRefreshJitter() {
+        return refreshJitter;
+    }
+
+    /**
+     * Sets the upper bound of the random delay subtracted from the refresh time of each token.
+     *
+     * @param refreshJitter The refresh jitter, {@link Duration#ZERO} refreshes exactly at the refresh offset.
+     * @return The updated TokenRefreshOptions object.
+     * @throws NullPointerException If {@code refreshJitter} is {@code null}.
+     * @throws IllegalArgumentException If {@code refreshJitter} is negative.
+     */
+    public TokenRefreshOptions setRefreshJitter(Duration refreshJitter) {
+        Objects.requireNonNull(refreshJitter, "'refreshJitter' cannot be null.");
+        if (refreshJitter.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'refreshJitter' cannot be negative."));
+        }
+
+        this.refreshJitter = refreshJitter;
+        return this;
+    }
+}
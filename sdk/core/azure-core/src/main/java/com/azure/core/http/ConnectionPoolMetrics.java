@@ -0,0 +1,113 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the connection pool an {@link HttpClient} keeps for a single host.
+ *
+ * <p>A growing number of pending acquires, or an average acquire wait time that approaches the request timeout,
+ * indicate that the pool is too small for the load sent to the host.</p>
+ *
+ * @see HttpClient#getConnectionPoolMetrics()
+ */
+public final class ConnectionPoolMetrics {
+    private final String host;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int pendingAcquires;
+    private final long acquireCount;
+    private final Duration acquireWaitTime;
+
+    /**
+     * Creates a connection pool snapshot.
+     *
+     * @param host The host and port of the pool.
+     * @param activeConnections The number of connections in use.
+     * @param idleConnections The number of open connections that aren't in use, or -1 if it isn't observable.
+     * @param pendingAcquires The number of requests waiting for a connection.
+     * @param acquireCount The number of connections acquired by requests.
+     * @param acquireWaitTime The total time requests have waited to acquire a connection.
+     */
+    public ConnectionPoolMetrics(String host, int activeConnections, int idleConnections, int pendingAcquires,
+        long acquireCount, Duration acquireWaitTime) {
+        this.host = host;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.pendingAcquires = pendingAcquires;
+        this.acquireCount = acquireCount;
+        this.acquireWaitTime = acquireWaitTime;
+    }
+
+    /**
+     * Gets the host and port of the pool, in the form {@code host:port}.
+     *
+     * @return The host and port of the pool.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Gets the number of connections in use.
+     *
+     * @return The number of active connections.
+     */
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    /**
+     * Gets the number of open connections that aren't in use.
+     *
+     * @return The number of idle connections, or -1 if the HTTP client doesn't expose its idle connections.
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Gets the number of requests waiting for a connection.
+     *
+     * @return The number of pending acquires.
+     */
+    public int getPendingAcquires() {
+        return pendingAcquires;
+    }
+
+    /**
+     * Gets the number of connections acquired by requests since the client was created.
+     *
+     * @return The number of acquires.
+     */
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    /**
+     * Gets the total time requests have waited to acquire a connection since the client was created.
+     *
+     * @return The total acquire wait time.
+     */
+    public Duration getAcquireWaitTime() {
+        return acquireWaitTime;
+    }
+
+    /**
+     * Gets the average time a request has waited to acquire a connection.
+     *
+     * @return The average acquire wait time, zero if no connection has been acquired.
+     */
+    public Duration getAverageAcquireWaitTime() {
+        return acquireCount == 0 ? Duration.ZERO : acquireWaitTime.dividedBy(acquireCount);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolMetrics{host=" + host + ", activeConnections=" + activeConnections
+            + ", idleConnections=" + idleConnections + ", pendingAcquires=" + pendingAcquires
+            + ", acquireCount=" + acquireCount + ", acquireWaitTime=" + acquireWaitTime + "}";
+    }
+}
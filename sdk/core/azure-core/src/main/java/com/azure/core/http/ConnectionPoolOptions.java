@@ -0,0 +1,157 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+
+/**
+ * Provider neutral configuration of the connection pools an {@link HttpClient} keeps for each host it sends requests
+ * to.
+ *
+ * <p>Options that aren't set keep the default of the HTTP client implementation. An implementation that can't honor
+ * an option ignores it.</p>
+ */
+public class ConnectionPoolOptions {
+    private final ClientLogger logger = new ClientLogger(ConnectionPoolOptions.class);
+
+    private Integer maxConnectionsPerHost;
+    private Integer maxPendingAcquires;
+    private Duration pendingAcquireTimeout;
+    private Duration maxIdleTime;
+    private boolean http2Enabled;
+
+    /**
+     * Gets the maximum number of connections kept to a single host.
+     *
+     * @return The maximum number of connections per host, or {@code null} if the client default is used.
+     */
+    public Integer getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of connections kept to a single host.
+     *
+     * <p>Requests sent to a host that has this many connections in use wait until one is released.</p>
+     *
+     * @param maxConnectionsPerHost The maximum number of connections per host, {@code null} uses the client default.
+     * @return The updated ConnectionPoolOptions object.
+     * @throws IllegalArgumentException If {@code maxConnectionsPerHost} is less than 1.
+     */
+    public ConnectionPoolOptions setMaxConnectionsPerHost(Integer maxConnectionsPerHost) {
+        if (maxConnectionsPerHost != null && maxConnectionsPerHost < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxConnectionsPerHost' cannot be less than 1."));
+        }
+
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of requests that may wait for a connection to a single host.
+     *
+     * @return The maximum number of pending acquires per host, or {@code null} if the client default is used.
+     */
+    public Integer getMaxPendingAcquires() {
+        return maxPendingAcquires;
+    }
+
+    /**
+     * Sets the maximum number of requests that may wait for a connection to a single host.
+     *
+     * <p>Requests sent to a host that already has this many requests waiting for a connection fail immediately
+     * instead of waiting.</p>
+     *
+     * @param maxPendingAcquires The maximum number of pending acquires per host, {@code null} uses the client
+     * default.
+     * @return The updated ConnectionPoolOptions object.
+     * @throws IllegalArgumentException If {@code maxPendingAcquires} is negative.
+     */
+    public ConnectionPoolOptions setMaxPendingAcquires(Integer maxPendingAcquires) {
+        if (maxPendingAcquires != null && maxPendingAcquires < 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxPendingAcquires' cannot be negative."));
+        }
+
+        this.maxPendingAcquires = maxPendingAcquires;
+        return this;
+    }
+
+    /**
+     * Gets how long a request may wait for a connection.
+     *
+     * @return The pending acquire timeout, or {@code null} if the client default is used.
+     */
+    public Duration getPendingAcquireTimeout() {
+        return pendingAcquireTimeout;
+    }
+
+    /**
+     * Sets how long a request may wait for a connection before it fails.
+     *
+     * @param pendingAcquireTimeout The pending acquire timeout, {@code null} uses the client default.
+     * @return The updated ConnectionPoolOptions object.
+     * @throws IllegalArgumentException If {@code pendingAcquireTimeout} is zero or negative.
+     */
+    public ConnectionPoolOptions setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+        if (pendingAcquireTimeout != null && (pendingAcquireTimeout.isZero() || pendingAcquireTimeout.isNegative())) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'pendingAcquireTimeout' must be greater than zero."));
+        }
+
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+        return this;
+    }
+
+    /**
+     * Gets how long a connection may stay idle in the pool before it's closed.
+     *
+     * @return The maximum idle time, or {@code null} if the client default is used.
+     */
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    /**
+     * Sets how long a connection may stay idle in the pool before it's closed.
+     *
+     * @param maxIdleTime The maximum idle time, {@code null} uses the client default.
+     * @return The updated ConnectionPoolOptions object.
+     * @throws IllegalArgumentException If {@code maxIdleTime} is zero or negative.
+     */
+    public ConnectionPoolOptions setMaxIdleTime(Duration maxIdleTime) {
+        if (maxIdleTime != null && (maxIdleTime.isZero() || maxIdleTime.isNegative())) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxIdleTime' must be greater than zero."));
+        }
+
+        this.maxIdleTime = maxIdleTime;
+        return this;
+    }
+
+    /**
+     * Gets whether requests may be multiplexed over HTTP/2 connections.
+     *
+     * @return {@code true} if HTTP/2 is enabled.
+     */
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * Sets whether requests may be multiplexed over HTTP/2 connections.
+     *
+     * <p>When enabled the client negotiates HTTP/2 with hosts that support it and falls back to HTTP/1.1 otherwise.
+     * When disabled, which is the default, connections use HTTP/1.1.</p>
+     *
+     * @param http2Enabled Whether HTTP/2 is enabled.
+     * @return The updated ConnectionPoolOptions object.
+     */
+    public ConnectionPoolOptions setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+        return this;
+    }
+}
@@ -6,6 +6,9 @@ package com.azure.core.http;
 import com.azure.core.implementation.http.HttpClientProviders;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A generic interface for sending HTTP requests and getting responses.
  */
@@ -18,6 +21,15 @@ public interface HttpClient {
      */
     Mono<HttpResponse> send(HttpRequest request);
 
+    /**
+     * Gets a snapshot of the connection pools of this client, one for each host it has connected to.
+     *
+     * @return The connection pool snapshots, empty if the client doesn't track its connection pools.
+     */
+    default List<ConnectionPoolMetrics> getConnectionPoolMetrics() {
+        return Collections.emptyList();
+    }
+
     /**
      * Create default {@link HttpClient} instance.
      *
@@ -3,24 +3,43 @@
 
 package com.azure.core.http;
 
+import com.azure.core.implementation.http.CaseInsensitiveHeaderStore;
+
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * A collection of headers on an HTTP request or response.
+ *
+ * <p>Header names are matched case-insensitively, without lowercasing or copying the name. The collection is
+ * thread-safe, its iterator and stream read a snapshot of the headers taken when they're created.</p>
  */
 public class HttpHeaders implements Iterable<HttpHeader> {
-    private final Map<String, HttpHeader> headers = new ConcurrentHashMap<>();
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // Guarded by itself. Transient so Jackson doesn't try to bind it when headers are deserialized as HttpHeaders.
+    private final transient CaseInsensitiveHeaderStore headers;
 
     /**
      * Create an empty HttpHeaders instance.
      */
     public HttpHeaders() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an empty HttpHeaders instance sized to hold the provided number of headers without resizing.
+     *
+     * @param initialCapacity the number of headers expected to be added.
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+     */
+    public HttpHeaders(int initialCapacity) {
+        this.headers = new CaseInsensitiveHeaderStore(initialCapacity);
     }
 
     /**
@@ -29,6 +48,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param headers the map of initial headers
      */
     public HttpHeaders(Map<String, String> headers) {
+        this(headers.size());
         for (final Map.Entry<String, String> header : headers.entrySet()) {
             this.put(header.getKey(), header.getValue());
         }
@@ -40,7 +60,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @param headers the collection of initial headers
      */
     public HttpHeaders(Iterable<HttpHeader> headers) {
-        this();
+        this((headers instanceof HttpHeaders) ? ((HttpHeaders) headers).getSize() : DEFAULT_CAPACITY);
 
         for (final HttpHeader header : headers) {
             this.put(header.getName(), header.getValue());
@@ -53,7 +73,9 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the number of headers in this collection.
      */
     public int getSize() {
-        return headers.size();
+        synchronized (headers) {
+            return headers.size();
+        }
     }
 
     /**
@@ -66,7 +88,9 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return The updated HttpHeaders object
      */
     public HttpHeaders put(String name, String value) {
-        headers.put(formatKey(name), new HttpHeader(name, value));
+        synchronized (headers) {
+            headers.put(name, value);
+        }
         return this;
     }
 
@@ -78,7 +102,9 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the header if found, null otherwise.
      */
     public HttpHeader get(String name) {
-        return headers.get(formatKey(name));
+        synchronized (headers) {
+            return headers.get(name);
+        }
     }
 
     /**
@@ -89,7 +115,9 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return the header if removed, null otherwise.
      */
     public HttpHeader remove(String name) {
-        return headers.remove(formatKey(name));
+        synchronized (headers) {
+            return headers.remove(name);
+        }
     }
 
     /**
@@ -116,10 +144,6 @@ public class HttpHeaders implements Iterable<HttpHeader> {
         return header == null ? null : header.getValues();
     }
 
-    private String formatKey(final String key) {
-        return key.toLowerCase(Locale.ROOT);
-    }
-
     /**
      * Gets a {@link Map} representation of the HttpHeaders collection.
      *
@@ -127,7 +151,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      */
     public Map<String, String> toMap() {
         final Map<String, String> result = new HashMap<>();
-        for (final HttpHeader header : headers.values()) {
+        for (HttpHeader header : snapshot()) {
             result.put(header.getName(), header.getValue());
         }
         return result;
@@ -135,10 +159,13 @@ public class HttpHeaders implements Iterable<HttpHeader> {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>The iterator reads a snapshot of the headers, removing a header through {@link Iterator#remove()} removes it
+     * from the collection unless it has been replaced since the snapshot was taken.</p>
      */
     @Override
     public Iterator<HttpHeader> iterator() {
-        return headers.values().iterator();
+        return new SnapshotIterator(headers, snapshot());
     }
 
     /**
@@ -147,7 +174,7 @@ public class HttpHeaders implements Iterable<HttpHeader> {
      * @return A {@link Stream} of all header values in this instance.
      */
     public Stream<HttpHeader> stream() {
-        return headers.values().stream();
+        return Arrays.stream(snapshot());
     }
 
     @Override
@@ -156,4 +183,50 @@ public class HttpHeaders implements Iterable<HttpHeader> {
             .map(header -> header.getName() + "=" + header.getValue())
             .collect(Collectors.joining(", "));
     }
+
+    private HttpHeader[] snapshot() {
+        synchronized (headers) {
+            return headers.toArray();
+        }
+    }
+
+    /*
+     * Iterates over a snapshot of the headers, removing through the iterator removes the header from the collection.
+     */
+    private static final class SnapshotIterator implements Iterator<HttpHeader> {
+        private final CaseInsensitiveHeaderStore headers;
+        private final HttpHeader[] snapshot;
+        private int next;
+        private HttpHeader last;
+
+        private SnapshotIterator(CaseInsensitiveHeaderStore headers, HttpHeader[] snapshot) {
+            this.headers = headers;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public HttpHeader next() {
+            if (next >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            last = snapshot[next++];
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            synchronized (headers) {
+                headers.remove(last);
+            }
+            last = null;
+        }
+    }
 }
@@ -66,6 +66,15 @@ public final class HttpPipelineCallContext {
         return this.data.getData(key);
     }
 
+    /**
+     * Gets the data associated with this context.
+     *
+     * @return The data associated with this context.
+     */
+    Context getContext() {
+        return this.data;
+    }
+
     /**
      * Gets the HTTP request.
      *
@@ -4,12 +4,17 @@
 package com.azure.core.http;
 
 import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.implementation.http.HttpPipelineNextPolicyHelper;
 import reactor.core.publisher.Mono;
 
 /**
  * A type that invokes next policy in the pipeline.
  */
 public class HttpPipelineNextPolicy {
+    static {
+        HttpPipelineNextPolicyHelper.setForkAccessor(HttpPipelineNextPolicy::fork);
+    }
+
     private final HttpPipeline pipeline;
     private final HttpPipelineCallContext context;
     private int currentPolicyIndex;
@@ -58,4 +63,16 @@ public class HttpPipelineNextPolicy {
         cloned.currentPolicyIndex = this.currentPolicyIndex;
         return cloned;
     }
+
+    /*
+     * Creates a new instance of this instance that invokes the next policies with a new call context holding the
+     * provided request and the data of this instance's context. Only exposed to the implementation, through
+     * HttpPipelineNextPolicyHelper.
+     */
+    HttpPipelineNextPolicy fork(HttpRequest httpRequest) {
+        HttpPipelineNextPolicy forked = new HttpPipelineNextPolicy(this.pipeline,
+            new HttpPipelineCallContext(httpRequest, this.context.getContext()));
+        forked.currentPolicyIndex = this.currentPolicyIndex;
+        return forked;
+    }
 }
@@ -0,0 +1,128 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+/**
+ * The options that make {@link RetryPolicy} adapt to the health of the service it calls.
+ *
+ * <ul>
+ *     <li>A {@link RetryBudget} bounds the retries and hedged requests sent by all the policies sharing it.</li>
+ *     <li>Hedging sends a second copy of a GET request when the first one takes longer than a percentile of the
+ *     latencies observed so far, and uses whichever response arrives first.</li>
+ *     <li>A client wide retry after delays every request sent through the policy, not only the retry of the request
+ *     that was throttled, until the delay returned by the service has passed.</li>
+ * </ul>
+ */
+public class AdaptiveRetryOptions {
+    private static final double DEFAULT_HEDGING_PERCENTILE = 95;
+
+    private final ClientLogger logger = new ClientLogger(AdaptiveRetryOptions.class);
+
+    private RetryBudget retryBudget;
+    private boolean hedgingEnabled;
+    private double hedgingPercentile = DEFAULT_HEDGING_PERCENTILE;
+    private boolean clientWideRetryAfter;
+
+    /**
+     * Creates an instance without a retry budget and with hedging and the client wide retry after disabled.
+     */
+    public AdaptiveRetryOptions() {
+    }
+
+    /**
+     * Gets the retry budget that bounds the retries and hedged requests.
+     *
+     * @return The retry budget, or {@code null} if retries aren't budgeted.
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Sets the retry budget that bounds the retries and hedged requests.
+     *
+     * @param retryBudget The retry budget, {@code null} doesn't budget retries.
+     * @return The updated AdaptiveRetryOptions object.
+     */
+    public AdaptiveRetryOptions setRetryBudget(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
+    /**
+     * Gets whether GET requests are hedged.
+     *
+     * @return {@code true} if GET requests are hedged.
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Sets whether GET requests are hedged.
+     *
+     * <p>Only GET requests are hedged as they're idempotent. A request is hedged once it has been running for longer
+     * than the {@link #getHedgingPercentile() hedging percentile} of the GET latencies observed by the policy. No
+     * request is hedged until enough latencies have been observed.</p>
+     *
+     * @param hedgingEnabled Whether GET requests are hedged.
+     * @return The updated AdaptiveRetryOptions object.
+     */
+    public AdaptiveRetryOptions setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+        return this;
+    }
+
+    /**
+     * Gets the latency percentile after which a GET request is hedged.
+     *
+     * @return The hedging percentile.
+     */
+    public double getHedgingPercentile() {
+        return hedgingPercentile;
+    }
+
+    /**
+     * Sets the latency percentile after which a GET request is hedged.
+     *
+     * <p>If not provided, a default of 95 is used.</p>
+     *
+     * @param hedgingPercentile The hedging percentile, greater than 0 and at most 100.
+     * @return The updated AdaptiveRetryOptions object.
+     * @throws IllegalArgumentException If {@code hedgingPercentile} isn't greater than 0 and at most 100.
+     */
+    public AdaptiveRetryOptions setHedgingPercentile(double hedgingPercentile) {
+        if (!(hedgingPercentile > 0 && hedgingPercentile <= 100)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'hedgingPercentile' must be greater than 0 and at most 100."));
+        }
+
+        this.hedgingPercentile = hedgingPercentile;
+        return this;
+    }
+
+    /**
+     * Gets whether a retry after returned by the service delays every request sent through the policy.
+     *
+     * @return {@code true} if the retry after is applied to the whole client.
+     */
+    public boolean isClientWideRetryAfter() {
+        return clientWideRetryAfter;
+    }
+
+    /**
+     * Sets whether a retry after returned by the service delays every request sent through the policy.
+     *
+     * <p>The retry after is read from the header configured on the {@link RetryPolicy}.</p>
+     *
+     * @param clientWideRetryAfter Whether the retry after is applied to the whole client.
+     * @return The updated AdaptiveRetryOptions object.
+     */
+    public AdaptiveRetryOptions setClientWideRetryAfter(boolean clientWideRetryAfter) {
+        this.clientWideRetryAfter = clientWideRetryAfter;
+        return this;
+    }
+}
@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.credential.SimpleTokenCache;
 import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRefreshOptions;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
@@ -21,8 +22,6 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER = "Bearer";
 
-    private final TokenCredential credential;
-    private final String[] scopes;
     private final SimpleTokenCache cache;
 
     /**
@@ -35,11 +34,38 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
         Objects.requireNonNull(credential);
         Objects.requireNonNull(scopes);
         assert scopes.length > 0;
-        this.credential = credential;
-        this.scopes = scopes;
         this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)));
     }
 
+    /**
+     * Creates BearerTokenAuthenticationPolicy that refreshes the token in the background before it expires.
+     *
+     * @param credential the token credential to authenticate the request
+     * @param refreshOptions the options that configure when the token is refreshed
+     * @param scopes the scopes of authentication the credential should get token for
+     */
+    public BearerTokenAuthenticationPolicy(TokenCredential credential, TokenRefreshOptions refreshOptions,
+        String... scopes) {
+        Objects.requireNonNull(credential);
+        Objects.requireNonNull(refreshOptions);
+        Objects.requireNonNull(scopes);
+        assert scopes.length > 0;
+        this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)),
+            refreshOptions);
+    }
+
+    /**
+     * Creates BearerTokenAuthenticationPolicy that gets its tokens from an existing token cache.
+     *
+     * <p>Passing the same cache to the policies of several clients that authenticate with the same credential and
+     * scopes lets them share a single token and its refreshes.</p>
+     *
+     * @param cache the token cache to get the tokens from
+     */
+    public BearerTokenAuthenticationPolicy(SimpleTokenCache cache) {
+        this.cache = Objects.requireNonNull(cache);
+    }
+
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
         if ("http".equals(context.getHttpRequest().getUrl().getProtocol())) {
@@ -0,0 +1,57 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Tracks a percentile over a sliding window of the most recent latencies.
+ *
+ * The percentile is recomputed every few recorded latencies instead of on every read, so reading it is a volatile load.
+ */
+final class LatencyPercentileTracker {
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final double percentile;
+    private final long[] samples = new long[WINDOW_SIZE];
+    private long recorded;
+
+    // -1 until enough latencies have been recorded.
+    private volatile long percentileNanos = -1;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param percentile the percentile to track, greater than 0 and at most 100.
+     */
+    LatencyPercentileTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[(int) (recorded % WINDOW_SIZE)] = latencyNanos;
+        recorded++;
+
+        if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_INTERVAL == 0) {
+            final int size = (int) Math.min(recorded, WINDOW_SIZE);
+            final long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile / 100 * size) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+        }
+    }
+
+    /**
+     * Gets the tracked percentile.
+     *
+     * @return the percentile latency, or null if not enough latencies have been recorded.
+     */
+    Duration getPercentile() {
+        final long nanos = percentileNanos;
+        return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+}
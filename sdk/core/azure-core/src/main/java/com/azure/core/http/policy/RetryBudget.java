@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket that limits how many retries and hedged requests {@link RetryPolicy} sends.
+ *
+ * <p>The bucket starts full with {@code maxTokens} tokens. Every attempt that fails with a retryable response or an
+ * error removes one token and every attempt that succeeds adds {@code tokenRatio} tokens, up to {@code maxTokens}.
+ * Retries and hedged requests are only sent while more than half of the tokens are available, so when most attempts
+ * fail the extra load sent to the service is bounded by the ratio of successful attempts.</p>
+ *
+ * <p>A budget is shared by every {@link RetryPolicy} it's passed to. Pass the same instance to the clients that call
+ * the same host to budget their retries together, or a separate instance per client to budget them per client.</p>
+ */
+public final class RetryBudget {
+    // Tokens are tracked in thousandths so that fractional token ratios can be added atomically.
+    private static final long SCALE = 1000;
+
+    private final ClientLogger logger = new ClientLogger(RetryBudget.class);
+
+    private final long maxTokens;
+    private final long tokenRatio;
+    private final AtomicLong tokens;
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param maxTokens The number of tokens in a full bucket.
+     * @param tokenRatio The number of tokens a successful attempt adds back to the bucket.
+     * @throws IllegalArgumentException If {@code maxTokens} is less than 1 or {@code tokenRatio} isn't greater than 0.
+     */
+    public RetryBudget(int maxTokens, double tokenRatio) {
+        if (maxTokens < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxTokens' cannot be less than 1."));
+        }
+        if (!(tokenRatio > 0)) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'tokenRatio' must be greater than 0."));
+        }
+
+        this.maxTokens = maxTokens * SCALE;
+        this.tokenRatio = Math.max(1, Math.round(tokenRatio * SCALE));
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Gets the number of tokens currently in the bucket.
+     *
+     * @return The number of available tokens.
+     */
+    public double getAvailableTokens() {
+        return tokens.get() / (double) SCALE;
+    }
+
+    /**
+     * Whether a retry or hedged request may be sent.
+     *
+     * @return {@code true} if more than half of the tokens are available.
+     */
+    boolean isRetryAllowed() {
+        return tokens.get() * 2 > maxTokens;
+    }
+
+    void recordSuccess() {
+        tokens.accumulateAndGet(tokenRatio, (current, added) -> Math.min(maxTokens, current + added));
+    }
+
+    void recordFailure() {
+        tokens.accumulateAndGet(SCALE, (current, removed) -> Math.max(0, current - removed));
+    }
+}
@@ -3,6 +3,7 @@
 
 package com.azure.core.http.policy;
 
+import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
 import com.azure.core.http.HttpRequest;
@@ -10,6 +11,10 @@ import com.azure.core.http.HttpResponse;
 
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.azure.core.implementation.http.HttpPipelineNextPolicyHelper;
 import com.azure.core.util.logging.ClientLogger;
 import reactor.core.publisher.Mono;
 
@@ -28,6 +33,13 @@ public class RetryPolicy implements HttpPipelinePolicy {
     private final String retryAfterHeader;
     private final ChronoUnit retryAfterTimeUnit;
 
+    // Adaptive retry state, unused unless AdaptiveRetryOptions enabling any of the options are provided.
+    private final boolean adaptive;
+    private final RetryBudget retryBudget;
+    private final LatencyPercentileTracker hedgingLatencies;
+    private final boolean clientWideRetryAfter;
+    private final AtomicLong retryAfterDeadlineNanos = new AtomicLong(System.nanoTime());
+
     /**
      * Creates {@link RetryPolicy} with default {@link ExponentialBackoff} as {@link RetryStrategy} and ignore the
      * delay provided in response header.
@@ -68,12 +80,44 @@ public class RetryPolicy implements HttpPipelinePolicy {
      * is {@code null} and {@code retryAfterHeader} is not {@code null}.
      */
     public RetryPolicy(RetryStrategy retryStrategy, String retryAfterHeader, ChronoUnit retryAfterTimeUnit) {
+        this(retryStrategy, retryAfterHeader, retryAfterTimeUnit, new AdaptiveRetryOptions());
+    }
+
+    /**
+     * Creates {@link RetryPolicy} with the provided {@link RetryStrategy} that adapts its retries to the health of
+     * the service as configured by the {@link AdaptiveRetryOptions}. It will use provided {@code retryAfterHeader} in
+     * {@link HttpResponse} headers for calculating retry delay.
+     *
+     * <p>The options are read when the policy is created, later changes to them don't affect the policy.</p>
+     *
+     * @param retryStrategy The {@link RetryStrategy} used for retries.
+     * @param retryAfterHeader The HTTP header, such as 'Retry-After' or 'x-ms-retry-after-ms', to lookup for the
+     * retry delay. If the value is {@code null}, {@link RetryPolicy} will use the retry strategy to compute the delay
+     * and ignore the delay provided in response header.
+     * @param  retryAfterTimeUnit The time unit to use when applying the retry delay. {@code null} is valid if, and only
+     * if, {@code retryAfterHeader} is {@code null}.
+     * @param adaptiveRetryOptions The {@link AdaptiveRetryOptions} that configure the retry budget, hedging and client
+     * wide retry after.
+     *
+     * @throws NullPointerException When {@code retryStrategy} or {@code adaptiveRetryOptions} is {@code null}. Also
+     * when {@code retryAfterTimeUnit} is {@code null} and {@code retryAfterHeader} is not {@code null}.
+     */
+    public RetryPolicy(RetryStrategy retryStrategy, String retryAfterHeader, ChronoUnit retryAfterTimeUnit,
+        AdaptiveRetryOptions adaptiveRetryOptions) {
         this.retryStrategy = Objects.requireNonNull(retryStrategy, "'retryStrategy' cannot be null.");
         this.retryAfterHeader = retryAfterHeader;
         this.retryAfterTimeUnit = retryAfterTimeUnit;
         if (!isNullOrEmpty(retryAfterHeader)) {
             Objects.requireNonNull(retryAfterTimeUnit, "'retryAfterTimeUnit' cannot be null.");
         }
+
+        Objects.requireNonNull(adaptiveRetryOptions, "'adaptiveRetryOptions' cannot be null.");
+        this.retryBudget = adaptiveRetryOptions.getRetryBudget();
+        this.hedgingLatencies = adaptiveRetryOptions.isHedgingEnabled()
+            ? new LatencyPercentileTracker(adaptiveRetryOptions.getHedgingPercentile())
+            : null;
+        this.clientWideRetryAfter = adaptiveRetryOptions.isClientWideRetryAfter();
+        this.adaptive = retryBudget != null || hedgingLatencies != null || clientWideRetryAfter;
     }
 
     /**
@@ -90,7 +134,9 @@ public class RetryPolicy implements HttpPipelinePolicy {
 
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
-        return attemptAsync(context, next, context.getHttpRequest(), 0);
+        return adaptive
+            ? attemptAdaptiveAsync(context, next, context.getHttpRequest(), 0)
+            : attemptAsync(context, next, context.getHttpRequest(), 0);
     }
 
     private Mono<HttpResponse> attemptAsync(final HttpPipelineCallContext context, final HttpPipelineNextPolicy next,
@@ -122,6 +168,126 @@ public class RetryPolicy implements HttpPipelinePolicy {
             });
     }
 
+    /*
+     * Attempts the request with the adaptive options applied. Each attempt's outcome counts against the retry budget
+     * once, so it's mapped to the publisher to continue with before subscribing to that publisher, and errors of later
+     * attempts aren't handled again by an earlier attempt's error handling.
+     */
+    private Mono<HttpResponse> attemptAdaptiveAsync(final HttpPipelineCallContext context,
+        final HttpPipelineNextPolicy next, final HttpRequest originalHttpRequest, final int tryCount) {
+        // The attempt is only assembled once subscribed, so a delayed retry doesn't replace the request in the context
+        // or run the synchronous part of the next policies before its delay has passed.
+        Mono<HttpResponse> attempt = Mono.defer(() -> {
+            context.setHttpRequest(originalHttpRequest.copy());
+            return next.clone().process();
+        });
+        if (hedgingLatencies != null && originalHttpRequest.getHttpMethod() == HttpMethod.GET) {
+            attempt = hedge(attempt, next, originalHttpRequest);
+        }
+        if (clientWideRetryAfter) {
+            final Mono<HttpResponse> delayedAttempt = attempt;
+            attempt = Mono.defer(() -> {
+                // Read when the attempt is subscribed, so a retry after received in the meantime is applied.
+                final long remainingNanos = retryAfterDeadlineNanos.get() - System.nanoTime();
+                return remainingNanos > 0
+                    ? delayedAttempt.delaySubscription(Duration.ofNanos(remainingNanos))
+                    : delayedAttempt;
+            });
+        }
+
+        return attempt
+            .map(httpResponse -> {
+                if (shouldRetry(httpResponse, tryCount)) {
+                    recordFailure();
+                    final Duration delayDuration = determineDelayDuration(httpResponse, tryCount);
+                    if (!isRetryAllowed()) {
+                        logger.verbose("[Retry budget exhausted] Try count: {}, Status code: {}", tryCount,
+                            httpResponse.getStatusCode());
+                        return Mono.just(httpResponse);
+                    }
+
+                    logger.verbose("[Retrying] Try count: {}, Delay duration in seconds: {}", tryCount,
+                        delayDuration.getSeconds());
+                    return attemptAdaptiveAsync(context, next, originalHttpRequest, tryCount + 1)
+                        .delaySubscription(delayDuration);
+                } else {
+                    recordSuccess();
+                    return Mono.just(httpResponse);
+                }
+            })
+            .onErrorResume(err -> {
+                recordFailure();
+                int maxRetries = retryStrategy.getMaxRetries();
+                if (tryCount < maxRetries) {
+                    if (!isRetryAllowed()) {
+                        logger.verbose("[Retry budget exhausted] Try count: {}, Error: {}", tryCount, err);
+                        return Mono.just(Mono.error(err));
+                    }
+
+                    logger.verbose("[Error Resume] Try count: {}, Error: {}", tryCount, err);
+                    return Mono.just(attemptAdaptiveAsync(context, next, originalHttpRequest, tryCount + 1)
+                        .delaySubscription(retryStrategy.calculateRetryDelay(tryCount)));
+                } else {
+                    return Mono.just(Mono.error(new RuntimeException(
+                        String.format("Max retries %d times exceeded. Error Details: %s", maxRetries, err.getMessage()),
+                        err)));
+                }
+            })
+            .flatMap(Function.identity());
+    }
+
+    /*
+     * Sends a second copy of the request if the attempt takes longer than the hedging percentile of the observed
+     * latencies, and uses whichever of the two responds first. The other one is cancelled. The hedged request is sent
+     * with its own call context, as the attempt it races is still using the policy's.
+     */
+    private Mono<HttpResponse> hedge(Mono<HttpResponse> attempt, HttpPipelineNextPolicy next,
+        HttpRequest originalHttpRequest) {
+        // An attempt that's cancelled because the hedged request won took at least as long as it ran, recording that
+        // keeps the slowest latencies in the window.
+        final Mono<HttpResponse> timedAttempt = Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return attempt
+                .doOnNext(response -> hedgingLatencies.record(System.nanoTime() - start))
+                .doOnCancel(() -> hedgingLatencies.record(System.nanoTime() - start));
+        });
+
+        return Mono.defer(() -> {
+            final Duration hedgingDelay = hedgingLatencies.getPercentile();
+            if (hedgingDelay == null || !isRetryAllowed()) {
+                return timedAttempt;
+            }
+
+            final Mono<HttpResponse> hedgedAttempt = Mono.delay(hedgingDelay)
+                .filter(ignored -> isRetryAllowed())
+                .flatMap(ignored -> {
+                    // A hedged request spends from the budget like a retry does.
+                    recordFailure();
+                    logger.verbose("[Hedging] Request has been running longer than {} ms.", hedgingDelay.toMillis());
+                    return HttpPipelineNextPolicyHelper.fork(next, originalHttpRequest.copy()).process();
+                })
+                .switchIfEmpty(Mono.never());
+
+            return Mono.first(timedAttempt, hedgedAttempt);
+        });
+    }
+
+    private boolean isRetryAllowed() {
+        return retryBudget == null || retryBudget.isRetryAllowed();
+    }
+
+    private void recordSuccess() {
+        if (retryBudget != null) {
+            retryBudget.recordSuccess();
+        }
+    }
+
+    private void recordFailure() {
+        if (retryBudget != null) {
+            retryBudget.recordFailure();
+        }
+    }
+
     private boolean shouldRetry(HttpResponse response, int tryCount) {
         return tryCount < retryStrategy.getMaxRetries()
             && retryStrategy.shouldRetry(response);
@@ -154,6 +320,14 @@ public class RetryPolicy implements HttpPipelinePolicy {
         }
 
         // Use the response delay duration, the server returned it for a reason.
-        return Duration.of(Integer.parseInt(retryHeaderValue), this.retryAfterTimeUnit);
+        final Duration retryAfter = Duration.of(Integer.parseInt(retryHeaderValue), this.retryAfterTimeUnit);
+        if (clientWideRetryAfter) {
+            final long deadline = System.nanoTime() + retryAfter.toNanos();
+            retryAfterDeadlineNanos.accumulateAndGet(deadline, (current, updated) -> updated - current > 0
+                ? updated
+                : current);
+        }
+
+        return retryAfter;
     }
 }
@@ -0,0 +1,250 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import com.azure.core.util.UrlBuilder;
+import com.azure.core.util.serializer.SerializerAdapter;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A precompiled form of the URL portion of a Swagger interface method.
+ *
+ * The host and path templates are split once into their constant parts and index-based parameter slots, and the host
+ * is parsed into scheme, host, port and path up front when it has no substitutions. Building the URL for a call then
+ * only appends the constant parts and the escaped method arguments, without re-parsing the templates or going through
+ * {@link UrlBuilder}.
+ *
+ * When a call produces a URL that the compiled form cannot build identically to {@link UrlBuilder}, such as an
+ * absolute URL passed through a path parameter or a path that carries its own query string, {@link #buildUrl(Object[])}
+ * returns {@code null} and the caller should fall back to building the URL with {@link UrlBuilder}.
+ */
+final class RequestUrlTemplate {
+    private final SerializerAdapter serializer;
+    private final CompiledTemplate hostTemplate;
+    private final CompiledTemplate pathTemplate;
+    private final Substitution[] querySubstitutions;
+    private final boolean uniqueQueryNames;
+    private final BaseUrl constantBaseUrl;
+
+    /**
+     * Creates a RequestUrlTemplate.
+     *
+     * @param serializer the serializer used to convert non-String method arguments.
+     * @param rawHost the raw host value from the @Host annotation.
+     * @param hostSubstitutions the substitutions for the host placeholders.
+     * @param relativePath the raw path value from the HTTP method annotation.
+     * @param pathSubstitutions the substitutions for the path placeholders.
+     * @param querySubstitutions the substitutions for the query parameters.
+     */
+    RequestUrlTemplate(SerializerAdapter serializer, String rawHost, List<Substitution> hostSubstitutions,
+        String relativePath, List<Substitution> pathSubstitutions, List<Substitution> querySubstitutions) {
+        this.serializer = serializer;
+        this.hostTemplate = CompiledTemplate.compile(rawHost, hostSubstitutions);
+        this.pathTemplate = CompiledTemplate.compile(relativePath, pathSubstitutions);
+        this.querySubstitutions = querySubstitutions.toArray(new Substitution[0]);
+
+        Set<String> queryNames = new HashSet<>();
+        boolean unique = true;
+        for (Substitution substitution : querySubstitutions) {
+            unique &= queryNames.add(substitution.getUrlParameterName());
+        }
+        this.uniqueQueryNames = unique;
+
+        this.constantBaseUrl = hostTemplate.isConstant() ? BaseUrl.parse(rawHost) : null;
+    }
+
+    /**
+     * Builds the URL for a call with the provided method arguments.
+     *
+     * @param methodArguments the arguments passed to the proxy method.
+     * @return the request URL, or {@code null} if this call requires {@link UrlBuilder} to produce the URL.
+     * @throws MalformedURLException if the resulting URL is not valid.
+     */
+    URL buildUrl(Object[] methodArguments) throws MalformedURLException {
+        if (!uniqueQueryNames) {
+            return null;
+        }
+
+        final String path = pathTemplate.expand(serializer, methodArguments);
+        if (path != null && (path.indexOf('?') >= 0 || path.contains("://"))) {
+            return null;
+        }
+
+        final BaseUrl baseUrl = hostTemplate.isConstant()
+            ? constantBaseUrl
+            : BaseUrl.parse(hostTemplate.expand(serializer, methodArguments));
+        if (baseUrl == null) {
+            return null;
+        }
+
+        final StringBuilder result = new StringBuilder(baseUrl.prefix.length() + 64);
+        result.append(baseUrl.prefix);
+
+        // Concatenate the path segment in the host with the method's path, the same way RestProxy does when it uses
+        // UrlBuilder.
+        final String hostPath = baseUrl.path;
+        String finalPath = hostPath;
+        if (path != null && !path.isEmpty() && !path.equals("/")) {
+            finalPath = (hostPath == null || hostPath.equals("/")) ? path : hostPath + "/" + path;
+        }
+
+        if (finalPath != null) {
+            if (result.length() != 0 && !finalPath.startsWith("/")) {
+                result.append('/');
+            }
+            result.append(finalPath);
+        }
+
+        if (methodArguments != null) {
+            char separator = '?';
+            for (Substitution substitution : querySubstitutions) {
+                final int parameterIndex = substitution.getMethodParameterIndex();
+                if (0 <= parameterIndex && parameterIndex < methodArguments.length) {
+                    String parameterValue = SwaggerMethodParser.serialize(serializer, methodArguments[parameterIndex]);
+                    if (parameterValue != null) {
+                        if (substitution.shouldEncode()) {
+                            parameterValue = UrlEscapers.QUERY_ESCAPER.escape(parameterValue);
+                        }
+                        result.append(separator).append(substitution.getUrlParameterName()).append('=')
+                            .append(parameterValue);
+                        separator = '&';
+                    }
+                }
+            }
+        }
+
+        return new URL(result.toString());
+    }
+
+    /**
+     * The scheme, host and port of a host value along with its path segment, as {@link UrlBuilder} would parse them.
+     * Parsing returns {@code null} for hosts that carry a query string.
+     */
+    private static final class BaseUrl {
+        private final String prefix;
+        private final String path;
+
+        private BaseUrl(String prefix, String path) {
+            this.prefix = prefix;
+            this.path = path;
+        }
+
+        static BaseUrl parse(String substitutedHost) {
+            final String[] substitutedHostParts = substitutedHost.split("://");
+            final String scheme = substitutedHostParts.length == 0 ? null : substitutedHostParts[0];
+            final String host = substitutedHostParts.length < 2 ? substitutedHost : substitutedHostParts[1];
+
+            final UrlBuilder urlBuilder = new UrlBuilder().setScheme(scheme).setHost(host);
+            if (!urlBuilder.getQuery().isEmpty()) {
+                return null;
+            }
+
+            final String path = urlBuilder.getPath();
+            final String prefix = urlBuilder.setPath(null).toString();
+            return new BaseUrl(prefix, (path == null || path.isEmpty()) ? null : path);
+        }
+    }
+
+    /**
+     * A template string split into constant parts and method argument slots.
+     */
+    static final class CompiledTemplate {
+        private final String rawTemplate;
+        // literals.length == slots.length + 1, the template is literals[0] slots[0] literals[1] ... literals[n].
+        private final String[] literals;
+        private final Substitution[] slots;
+
+        private CompiledTemplate(String rawTemplate, String[] literals, Substitution[] slots) {
+            this.rawTemplate = rawTemplate;
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        /**
+         * Splits the template on the placeholders that have a matching substitution. When several substitutions share
+         * a placeholder name the first one wins, which matches the replacement order of the uncompiled path.
+         *
+         * @param rawTemplate the template containing "{name}" placeholders.
+         * @param substitutions the substitutions for the placeholders.
+         * @return the compiled template.
+         */
+        static CompiledTemplate compile(String rawTemplate, List<Substitution> substitutions) {
+            final Map<String, Substitution> byName = new HashMap<>();
+            for (Substitution substitution : substitutions) {
+                byName.putIfAbsent(substitution.getUrlParameterName(), substitution);
+            }
+
+            final List<String> literals = new ArrayList<>();
+            final List<Substitution> slots = new ArrayList<>();
+            int literalStart = 0;
+            int openBrace = rawTemplate.indexOf('{');
+            while (openBrace >= 0) {
+                final int closeBrace = rawTemplate.indexOf('}', openBrace + 1);
+                if (closeBrace < 0) {
+                    break;
+                }
+
+                // Placeholders can't contain '{', restart from the innermost one.
+                final int nestedBrace = rawTemplate.indexOf('{', openBrace + 1);
+                if (nestedBrace >= 0 && nestedBrace < closeBrace) {
+                    openBrace = nestedBrace;
+                    continue;
+                }
+
+                final Substitution substitution = byName.get(rawTemplate.substring(openBrace + 1, closeBrace));
+                if (substitution != null) {
+                    literals.add(rawTemplate.substring(literalStart, openBrace));
+                    slots.add(substitution);
+                    literalStart = closeBrace + 1;
+                }
+                openBrace = rawTemplate.indexOf('{', closeBrace + 1);
+            }
+            literals.add(rawTemplate.substring(literalStart));
+
+            return new CompiledTemplate(rawTemplate, literals.toArray(new String[0]),
+                slots.toArray(new Substitution[0]));
+        }
+
+        boolean isConstant() {
+            return slots.length == 0;
+        }
+
+        String expand(SerializerAdapter serializer, Object[] methodArguments) {
+            if (methodArguments == null || slots.length == 0) {
+                return rawTemplate;
+            }
+
+            final StringBuilder result = new StringBuilder(rawTemplate.length() + 16 * slots.length);
+            for (int i = 0; i < slots.length; i++) {
+                result.append(literals[i]);
+
+                final Substitution substitution = slots[i];
+                final int parameterIndex = substitution.getMethodParameterIndex();
+                if (0 <= parameterIndex && parameterIndex < methodArguments.length) {
+                    String value = SwaggerMethodParser.serialize(serializer, methodArguments[parameterIndex]);
+                    if (value != null && !value.isEmpty() && substitution.shouldEncode()) {
+                        value = UrlEscapers.PATH_ESCAPER.escape(value);
+                    }
+                    // if a parameter is null, we treat it as empty string.
+                    if (value != null) {
+                        result.append(value);
+                    }
+                } else {
+                    result.append('{').append(substitution.getUrlParameterName()).append('}');
+                }
+            }
+            result.append(literals[slots.length]);
+
+            return result.toString();
+        }
+    }
+}
@@ -41,6 +41,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -193,6 +194,34 @@ public final class RestProxy implements InvocationHandler {
      * @throws IOException thrown if the body contents cannot be serialized
      */
     private HttpRequest createHttpRequest(SwaggerMethodParser methodParser, Object[] args) throws IOException {
+        // Use the precompiled URL template when it can produce the URL for this call, otherwise fall back to parsing
+        // the substituted host and path with UrlBuilder.
+        URL url = methodParser.getUrlTemplate().buildUrl(args);
+        if (url == null) {
+            url = createUrl(methodParser, args);
+        }
+
+        final HttpRequest request = configRequest(new HttpRequest(methodParser.getHttpMethod(), url),
+            methodParser, args);
+
+        // Headers from Swagger method arguments always take precedence over inferred headers from body types
+        for (final HttpHeader header : methodParser.setHeaders(args)) {
+            request.setHeader(header.getName(), header.getValue());
+        }
+
+        return request;
+    }
+
+    /**
+     * Create the URL for the provided Swagger method using the provided arguments by substituting the host and path
+     * templates and parsing them with {@link UrlBuilder}.
+     *
+     * @param methodParser the Swagger method parser to use
+     * @param args the arguments to use to populate the method's annotation values
+     * @return the request URL
+     * @throws MalformedURLException thrown if the resulting URL is not valid
+     */
+    static URL createUrl(SwaggerMethodParser methodParser, Object[] args) throws MalformedURLException {
         UrlBuilder urlBuilder;
 
         // Sometimes people pass in a full URL for the value of their PathParam annotated argument.
@@ -227,16 +256,7 @@ public final class RestProxy implements InvocationHandler {
             urlBuilder.setQueryParameter(queryParameter.getName(), queryParameter.getEncodedValue());
         }
 
-        final URL url = urlBuilder.toUrl();
-        final HttpRequest request = configRequest(new HttpRequest(methodParser.getHttpMethod(), url),
-            methodParser, args);
-
-        // Headers from Swagger method arguments always take precedence over inferred headers from body types
-        for (final HttpHeader header : methodParser.setHeaders(args)) {
-            request.setHeader(header.getName(), header.getValue());
-        }
-
-        return request;
+        return urlBuilder.toUrl();
     }
 
     @SuppressWarnings("unchecked")
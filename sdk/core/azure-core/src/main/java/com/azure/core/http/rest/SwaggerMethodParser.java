@@ -68,6 +68,7 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
     private final Type returnType;
     private final Type returnValueWireType;
     private final UnexpectedResponseExceptionType[] unexpectedResponseExceptionTypes;
+    private final RequestUrlTemplate urlTemplate;
     private Map<Integer, UnexpectedExceptionInformation> exceptionMapping;
     private UnexpectedExceptionInformation defaultException;
 
@@ -194,6 +195,8 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         this.bodyContentMethodParameterIndex = bodyContentMethodParameterIndex;
         this.bodyContentType = bodyContentType;
         this.bodyJavaType = bodyJavaType;
+        this.urlTemplate = new RequestUrlTemplate(serializer, rawHost, hostSubstitutions, relativePath,
+            pathSubstitutions, querySubstitutions);
     }
 
     /**
@@ -262,6 +265,15 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         return applySubstitutions(relativePath, pathSubstitutions, methodArguments);
     }
 
+    /**
+     * Get the precompiled URL template for this Swagger method.
+     *
+     * @return the precompiled URL template for this Swagger method
+     */
+    RequestUrlTemplate getUrlTemplate() {
+        return urlTemplate;
+    }
+
     /**
      * Get the encoded query parameters that have been added to this value based on the provided method arguments.
      *
@@ -442,7 +454,7 @@ class SwaggerMethodParser implements HttpResponseDecodeData {
         return returnValueWireType;
     }
 
-    private static String serialize(SerializerAdapter serializer, Object value) {
+    static String serialize(SerializerAdapter serializer, Object value) {
         String result = null;
         if (value != null) {
             if (value instanceof String) {
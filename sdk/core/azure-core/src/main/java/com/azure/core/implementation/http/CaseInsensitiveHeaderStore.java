@@ -0,0 +1,211 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.HttpHeader;
+
+import java.util.Arrays;
+
+/**
+ * Stores headers by case-insensitive name, in insertion order.
+ *
+ * <p>Headers are kept in a flat array with a parallel array of ASCII case-insensitive hashes of their names. Small
+ * stores are searched linearly by hash, larger ones through an open-addressing index over the hashes, so lookups
+ * neither lowercase nor copy the name.</p>
+ *
+ * <p>This class isn't thread-safe, {@link com.azure.core.http.HttpHeaders} guards the store it owns.</p>
+ */
+public final class CaseInsensitiveHeaderStore {
+    // Stores at or below this size are searched linearly by hash, which beats hashing into an index.
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private HttpHeader[] headers;
+    private int[] hashes;
+    private int size;
+
+    // Open-addressing index, slot values are the position in headers plus one and zero marks an empty slot.
+    private int[] index;
+
+    /**
+     * Creates an empty store sized to hold the provided number of headers without resizing.
+     *
+     * @param initialCapacity the number of headers expected to be added.
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+     */
+    public CaseInsensitiveHeaderStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("'initialCapacity' cannot be negative.");
+        }
+
+        this.headers = new HttpHeader[Math.max(initialCapacity, 1)];
+        this.hashes = new int[this.headers.length];
+    }
+
+    /**
+     * Gets the number of headers in the store.
+     *
+     * @return the number of headers in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the header with the given name, replacing any header whose name matches it ignoring case.
+     *
+     * @param name the name
+     * @param value the value
+     */
+    public void put(String name, String value) {
+        final int hash = caseInsensitiveHash(name);
+        final int position = find(name, hash);
+        if (position >= 0) {
+            headers[position] = new HttpHeader(name, value);
+            return;
+        }
+
+        if (size == headers.length) {
+            headers = Arrays.copyOf(headers, size << 1);
+            hashes = Arrays.copyOf(hashes, size << 1);
+        }
+
+        headers[size] = new HttpHeader(name, value);
+        hashes[size] = hash;
+        size++;
+
+        if (index != null && size << 1 > index.length) {
+            rebuildIndex();
+        } else if (index != null) {
+            addToIndex(index, hash, size - 1);
+        } else if (size > LINEAR_SEARCH_THRESHOLD) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Gets the header whose name matches the provided name ignoring case.
+     *
+     * @param name the name of the header to find.
+     * @return the header if found, null otherwise.
+     */
+    public HttpHeader get(String name) {
+        final int position = find(name, caseInsensitiveHash(name));
+        return position < 0 ? null : headers[position];
+    }
+
+    /**
+     * Removes the header whose name matches the provided name ignoring case.
+     *
+     * @param name the name of the header to remove.
+     * @return the header if removed, null otherwise.
+     */
+    public HttpHeader remove(String name) {
+        final int position = find(name, caseInsensitiveHash(name));
+        return position < 0 ? null : removeAt(position);
+    }
+
+    /**
+     * Removes the provided header, if it hasn't been replaced or removed since it was read from the store.
+     *
+     * @param header the header to remove.
+     * @return whether the header was removed.
+     */
+    public boolean remove(HttpHeader header) {
+        final int position = find(header.getName(), caseInsensitiveHash(header.getName()));
+        if (position < 0 || headers[position] != header) {
+            return false;
+        }
+
+        removeAt(position);
+        return true;
+    }
+
+    /**
+     * Copies the headers of the store, in insertion order.
+     *
+     * @return a new array holding the headers of the store.
+     */
+    public HttpHeader[] toArray() {
+        return Arrays.copyOf(headers, size);
+    }
+
+    private HttpHeader removeAt(int position) {
+        final HttpHeader removed = headers[position];
+        final int moved = size - position - 1;
+        System.arraycopy(headers, position + 1, headers, position, moved);
+        System.arraycopy(hashes, position + 1, hashes, position, moved);
+        headers[--size] = null;
+
+        if (index != null) {
+            rebuildIndex();
+        }
+
+        return removed;
+    }
+
+    private int find(String name, int hash) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash && headers[i].getName().equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        final int mask = index.length - 1;
+        for (int slot = hash & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            final int position = index[slot] - 1;
+            if (hashes[position] == hash && headers[position].getName().equalsIgnoreCase(name)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void rebuildIndex() {
+        if (size <= LINEAR_SEARCH_THRESHOLD) {
+            index = null;
+            return;
+        }
+
+        // Keep the index at most half full so probe sequences stay short.
+        final int[] newIndex = new int[Integer.highestOneBit(size) << 2];
+        for (int i = 0; i < size; i++) {
+            addToIndex(newIndex, hashes[i], i);
+        }
+        index = newIndex;
+    }
+
+    private static void addToIndex(int[] index, int hash, int position) {
+        final int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    /*
+     * Hashes the name so that names which are equal ignoring case hash the same, without creating a lowercase copy.
+     * ASCII letters are folded directly, anything else goes through the same folding String.equalsIgnoreCase uses.
+     */
+    private static int caseInsensitiveHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            hash = 31 * hash + c;
+        }
+
+        // Spread the higher bits down as the index is masked to its low bits.
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.ConnectionPoolOptions;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the connections an {@link com.azure.core.http.HttpClient} implementation uses per host, for implementations
+ * whose own connection pool can't be bounded per host.
+ *
+ * <p>A request acquires a permit for its host before it's sent and releases it once it's done with the connection,
+ * requests that can't acquire a permit wait for one in FIFO order.</p>
+ */
+public final class ConnectionLimiter {
+    private static final Permit UNLIMITED_PERMIT = new Permit(null);
+    private static final Mono<Permit> UNLIMITED_PERMIT_MONO = Mono.just(UNLIMITED_PERMIT);
+
+    private final ClientLogger logger = new ClientLogger(ConnectionLimiter.class);
+
+    private final ConcurrentMap<String, HostPermits> hosts = new ConcurrentHashMap<>();
+    private final int maxConnectionsPerHost;
+    private final int maxPendingAcquires;
+    private final Duration pendingAcquireTimeout;
+
+    /**
+     * Creates a limiter from the provider neutral connection pool options.
+     *
+     * @param options The connection pool options, {@code null} doesn't limit connections.
+     */
+    public ConnectionLimiter(ConnectionPoolOptions options) {
+        this.maxConnectionsPerHost = (options == null || options.getMaxConnectionsPerHost() == null)
+            ? Integer.MAX_VALUE
+            : options.getMaxConnectionsPerHost();
+        this.maxPendingAcquires = (options == null || options.getMaxPendingAcquires() == null)
+            ? Integer.MAX_VALUE
+            : options.getMaxPendingAcquires();
+        this.pendingAcquireTimeout = (options == null) ? null : options.getPendingAcquireTimeout();
+    }
+
+    /**
+     * Acquires a permit to use a connection to a host.
+     *
+     * @param host The host of the request.
+     * @return A Mono that emits the permit once it's acquired, or an {@link IllegalStateException} if too many
+     * requests are waiting for a permit, or a {@link TimeoutException} if the permit wasn't acquired in time.
+     */
+    public Mono<Permit> acquire(String host) {
+        if (maxConnectionsPerHost == Integer.MAX_VALUE) {
+            return UNLIMITED_PERMIT_MONO;
+        }
+
+        Mono<Permit> acquire = Mono.create(sink -> acquire(getHostPermits(host), host, sink));
+        if (pendingAcquireTimeout != null) {
+            acquire = acquire.timeout(pendingAcquireTimeout, Mono.error(() -> logger.logThrowableAsError(
+                new TimeoutException(String.format("Acquiring a connection to '%s' didn't complete within %s.",
+                    host, pendingAcquireTimeout)))));
+        }
+
+        return acquire;
+    }
+
+    private void acquire(HostPermits permits, String host, MonoSink<Permit> sink) {
+        final Waiter waiter = new Waiter(sink);
+        sink.onCancel(() -> {
+            if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+                synchronized (permits) {
+                    permits.waiters.remove(waiter);
+                }
+            } else if (waiter.state.compareAndSet(Waiter.GRANTED, Waiter.CANCELLED)) {
+                // The permit was granted as the request was cancelled, it won't be delivered so hand it on.
+                permits.release();
+            }
+        });
+
+        final boolean rejected;
+        synchronized (permits) {
+            if (permits.inUse < maxConnectionsPerHost) {
+                if (!waiter.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                    return;
+                }
+                permits.inUse++;
+                rejected = false;
+            } else if (permits.waiters.size() >= maxPendingAcquires) {
+                if (!waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+                    return;
+                }
+                rejected = true;
+            } else {
+                // A waiter cancelled before it's queued is skipped when permits are released.
+                permits.waiters.add(waiter);
+                return;
+            }
+        }
+
+        if (rejected) {
+            sink.error(logger.logExceptionAsError(new IllegalStateException(String.format(
+                "Pending acquire queue of '%s' has reached its maximum size of %d.", host, maxPendingAcquires))));
+        } else {
+            sink.success(new Permit(permits));
+        }
+    }
+
+    private HostPermits getHostPermits(String host) {
+        final HostPermits permits = hosts.get(host);
+        return (permits != null) ? permits : hosts.computeIfAbsent(host, ignored -> new HostPermits());
+    }
+
+    /**
+     * A permit to use a connection to a host.
+     */
+    public static final class Permit {
+        private final HostPermits permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(HostPermits permits) {
+            this.permits = permits;
+        }
+
+        /**
+         * Releases the permit, handing it to the next waiting request. Releasing a permit more than once has no
+         * effect.
+         */
+        public void release() {
+            if (permits != null && released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private static final class HostPermits {
+        // Guarded by this.
+        private final Queue<Waiter> waiters = new ArrayDeque<>();
+        private int inUse;
+
+        private void release() {
+            while (true) {
+                final Waiter next;
+                synchronized (this) {
+                    next = waiters.poll();
+                    if (next == null) {
+                        inUse--;
+                        return;
+                    }
+                }
+
+                // A waiter that was cancelled concurrently doesn't take the permit, try the next one.
+                if (next.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                    next.sink.success(new Permit(this));
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.ConnectionPoolMetrics;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Tracks the connection pools of an {@link com.azure.core.http.HttpClient} implementation per host, from the events
+ * the implementation reports, to produce its {@link ConnectionPoolMetrics}.
+ *
+ * <p>Requests report when they start and finish waiting for a connection. Connections are reported, keyed by
+ * whatever object identifies them in the implementation, when a request acquires and releases them and when they're
+ * closed. A connection may be acquired by many requests at once when it's multiplexed.</p>
+ */
+public final class ConnectionPoolTracker {
+    private final ConcurrentMap<String, HostPool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, TrackedConnection> connections = new ConcurrentHashMap<>();
+    private final boolean idleConnectionsObservable;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param idleConnectionsObservable Whether released connections stay open until they're reported as closed. When
+     * {@code false} released connections are forgotten and idle connections are reported as -1.
+     */
+    public ConnectionPoolTracker(boolean idleConnectionsObservable) {
+        this.idleConnectionsObservable = idleConnectionsObservable;
+    }
+
+    /**
+     * Gets the key of the pool a URL is sent through.
+     *
+     * @param url The URL of a request.
+     * @return The host and port of the URL.
+     */
+    public static String getHost(URL url) {
+        final int port = (url.getPort() == -1) ? url.getDefaultPort() : url.getPort();
+        return url.getHost() + ":" + port;
+    }
+
+    /**
+     * Reports that a request started waiting for a connection.
+     *
+     * @param host The host of the request.
+     * @return The wait of the request, which must be completed once it ends.
+     */
+    public PendingAcquire beginAcquire(String host) {
+        final HostPool pool = getPool(host);
+        pool.pendingAcquires.incrementAndGet();
+        return new PendingAcquire(host, pool, System.nanoTime());
+    }
+
+    /**
+     * Reports that a request acquired a connection.
+     *
+     * @param host The host of the connection.
+     * @param connection The connection.
+     * @return {@code true} if the connection wasn't tracked yet, in which case it must be reported once it's closed.
+     */
+    public boolean connectionAcquired(String host, Object connection) {
+        boolean created = false;
+        TrackedConnection tracked = connections.get(connection);
+        if (tracked == null) {
+            final TrackedConnection newConnection = new TrackedConnection(getPool(host));
+            tracked = connections.putIfAbsent(connection, newConnection);
+            if (tracked == null) {
+                tracked = newConnection;
+                created = true;
+            }
+        }
+
+        synchronized (tracked) {
+            if (tracked.closed) {
+                return false;
+            }
+            if (tracked.uses == 0) {
+                if (!created) {
+                    tracked.pool.idleConnections.decrementAndGet();
+                }
+                tracked.pool.activeConnections.incrementAndGet();
+            }
+            tracked.uses++;
+        }
+
+        return created;
+    }
+
+    /**
+     * Reports that a request released a connection.
+     *
+     * @param connection The connection.
+     */
+    public void connectionReleased(Object connection) {
+        final TrackedConnection tracked = connections.get(connection);
+        if (tracked == null) {
+            return;
+        }
+
+        synchronized (tracked) {
+            if (tracked.closed || tracked.uses == 0) {
+                return;
+            }
+            if (--tracked.uses > 0) {
+                return;
+            }
+
+            tracked.pool.activeConnections.decrementAndGet();
+            if (idleConnectionsObservable) {
+                tracked.pool.idleConnections.incrementAndGet();
+            } else {
+                tracked.closed = true;
+                connections.remove(connection, tracked);
+            }
+        }
+    }
+
+    /**
+     * Reports that a connection was closed.
+     *
+     * @param connection The connection.
+     */
+    public void connectionClosed(Object connection) {
+        final TrackedConnection tracked = connections.get(connection);
+        if (tracked == null) {
+            return;
+        }
+
+        synchronized (tracked) {
+            if (tracked.closed) {
+                return;
+            }
+
+            tracked.closed = true;
+            if (tracked.uses > 0) {
+                tracked.pool.activeConnections.decrementAndGet();
+            } else {
+                tracked.pool.idleConnections.decrementAndGet();
+            }
+            connections.remove(connection, tracked);
+        }
+    }
+
+    /**
+     * Reports the connections that have been closed, for implementations that don't signal when they close a
+     * connection.
+     *
+     * @param isClosed Tests whether a connection is closed.
+     */
+    public void removeClosedConnections(Predicate<Object> isClosed) {
+        for (Object connection : connections.keySet()) {
+            if (isClosed.test(connection)) {
+                connectionClosed(connection);
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the tracked pools.
+     *
+     * @return A snapshot of each host's pool.
+     */
+    public List<ConnectionPoolMetrics> getMetrics() {
+        final List<ConnectionPoolMetrics> metrics = new ArrayList<>(pools.size());
+        for (Map.Entry<String, HostPool> entry : pools.entrySet()) {
+            final HostPool pool = entry.getValue();
+            metrics.add(new ConnectionPoolMetrics(entry.getKey(),
+                pool.activeConnections.get(),
+                idleConnectionsObservable ? pool.idleConnections.get() : -1,
+                pool.pendingAcquires.get(),
+                pool.acquireCount.sum(),
+                Duration.ofNanos(pool.acquireWaitNanos.sum())));
+        }
+
+        return metrics;
+    }
+
+    private HostPool getPool(String host) {
+        final HostPool pool = pools.get(host);
+        return (pool != null) ? pool : pools.computeIfAbsent(host, ignored -> new HostPool());
+    }
+
+    /**
+     * The wait of a request for a connection.
+     */
+    public static final class PendingAcquire {
+        private final String host;
+        private final HostPool pool;
+        private final long startNanos;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private PendingAcquire(String host, HostPool pool, long startNanos) {
+            this.host = host;
+            this.pool = pool;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Gets the host of the request.
+         *
+         * @return The host of the request.
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Reports that the request stopped waiting for a connection. Only the first completion is reported.
+         *
+         * @param acquired Whether the request acquired a connection, rather than failing or being cancelled.
+         */
+        public void complete(boolean acquired) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+
+            pool.pendingAcquires.decrementAndGet();
+            if (acquired) {
+                pool.acquireCount.increment();
+                pool.acquireWaitNanos.add(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private static final class HostPool {
+        private final AtomicInteger activeConnections = new AtomicInteger();
+        private final AtomicInteger idleConnections = new AtomicInteger();
+        private final AtomicInteger pendingAcquires = new AtomicInteger();
+        private final LongAdder acquireCount = new LongAdder();
+        private final LongAdder acquireWaitNanos = new LongAdder();
+    }
+
+    private static final class TrackedConnection {
+        private final HostPool pool;
+        // Guarded by this.
+        private int uses;
+        private boolean closed;
+
+        private TrackedConnection(HostPool pool) {
+            this.pool = pool;
+        }
+    }
+}
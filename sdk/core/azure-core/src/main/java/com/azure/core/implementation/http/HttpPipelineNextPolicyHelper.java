@@ -0,0 +1,44 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpRequest;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Gives the implementation access to forking an {@link HttpPipelineNextPolicy}, which isn't part of its public API.
+ */
+public final class HttpPipelineNextPolicyHelper {
+    private static volatile BiFunction<HttpPipelineNextPolicy, HttpRequest, HttpPipelineNextPolicy> forkAccessor;
+
+    private HttpPipelineNextPolicyHelper() {
+    }
+
+    /**
+     * Sets the accessor that forks a next policy. Called once, when {@link HttpPipelineNextPolicy} is initialized.
+     *
+     * @param accessor Forks a next policy with its own call context holding the given request.
+     */
+    public static void setForkAccessor(
+        BiFunction<HttpPipelineNextPolicy, HttpRequest, HttpPipelineNextPolicy> accessor) {
+        forkAccessor = Objects.requireNonNull(accessor, "'accessor' cannot be null.");
+    }
+
+    /**
+     * Creates a next policy that invokes the same remaining policies as {@code next}, with its own call context. The
+     * new context holds the provided request and the data of the context of {@code next}, so a policy can send another
+     * attempt of a request while an earlier attempt is still using the original context.
+     *
+     * @param next The next policy to fork.
+     * @param httpRequest The request for the new call context.
+     * @return A next policy with its own call context.
+     */
+    public static HttpPipelineNextPolicy fork(HttpPipelineNextPolicy next, HttpRequest httpRequest) {
+        // Any instance passed in has initialized its class, which sets the accessor.
+        return forkAccessor.apply(next, httpRequest);
+    }
+}
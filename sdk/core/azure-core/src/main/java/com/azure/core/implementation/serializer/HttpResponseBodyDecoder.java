@@ -16,6 +16,7 @@ import com.azure.core.util.Base64Url;
 import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.azure.core.util.serializer.SerializerEncoding;
 import reactor.core.publisher.Mono;
@@ -29,11 +30,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Decoder to decode body of HTTP response.
  */
 final class HttpResponseBodyDecoder {
+    private static final Pattern CHARSET_PATTERN = Pattern.compile("charset=([\\S]+)\\b", Pattern.CASE_INSENSITIVE);
+
     /**
      * Decodes body of a http response.
      *
@@ -78,12 +83,18 @@ final class HttpResponseBodyDecoder {
                     return Mono.empty();
                 }
 
+                final SerializerEncoding encoding = SerializerEncoding.fromHeaders(httpResponse.getHeaders());
+                if (body == null && canDecodeStreaming(httpResponse, serializer, encoding)) {
+                    return deserializeBodyStreaming(httpResponse, extractEntityTypeFromReturnType(decodeData),
+                        decodeData.getReturnValueWireType(), (JacksonAdapter) serializer);
+                }
+
                 Mono<String> bodyMono = body == null ? httpResponse.getBodyAsString() : Mono.just(body);
                 return bodyMono.flatMap(bodyString -> {
                     try {
                         final Object decodedSuccessEntity = deserializeBody(bodyString,
                             extractEntityTypeFromReturnType(decodeData), decodeData.getReturnValueWireType(),
-                            serializer, SerializerEncoding.fromHeaders(httpResponse.getHeaders()));
+                            serializer, encoding);
 
                         return Mono.justOrEmpty(decodedSuccessEntity);
                     } catch (MalformedValueException e) {
@@ -150,16 +161,89 @@ final class HttpResponseBodyDecoder {
      */
     private static Object deserializeBody(String value, Type resultType, Type wireType, SerializerAdapter serializer,
         SerializerEncoding encoding) throws IOException {
+        final Object wireResponse = serializer.deserialize(value, constructBodyType(resultType, wireType), encoding);
+
+        return wireResponse == null ? null : convertBody(wireResponse, resultType, wireType);
+    }
+
+    /**
+     * Deserialize the body of a JSON REST API response, parsing its bytes as they're received instead of first
+     * buffering the whole body into a String.
+     *
+     * @param httpResponse the response whose body is deserialized
+     * @param resultType the return type of the java proxy method
+     * @param wireType value of optional {@link ReturnValueWireType} annotation present in java proxy method indicating
+     * 'entity type' (wireType) of REST API wire response body
+     * @param serializer the Jackson adapter whose mapper parses the body
+     * @return publisher that emits the deserialized object, or no emission if the body is empty
+     */
+    private static Mono<Object> deserializeBodyStreaming(HttpResponse httpResponse, Type resultType, Type wireType,
+        JacksonAdapter serializer) {
+        return NonBlockingJsonDecoder.decode(httpResponse.getBody(), constructBodyType(resultType, wireType),
+            serializer.serializer())
+            .map(wireResponse -> convertBody(wireResponse, resultType, wireType))
+            .onErrorMap(MalformedValueException.class, e ->
+                new HttpResponseException("HTTP response has a malformed body.", httpResponse, e))
+            .onErrorMap(IOException.class, e -> new HttpResponseException("Deserialization Failed.", httpResponse, e));
+    }
+
+    /**
+     * Checks whether the response body can be parsed as it's received. This requires a UTF-8 JSON body and the
+     * Jackson adapter, any other body is read into a String first.
+     *
+     * @param httpResponse the response whose body is deserialized
+     * @param serializer the adapter used for decoding
+     * @param encoding the encoding of the response body
+     * @return true if the body can be parsed as it's received, false otherwise
+     */
+    private static boolean canDecodeStreaming(HttpResponse httpResponse, SerializerAdapter serializer,
+        SerializerEncoding encoding) {
+        if (encoding != SerializerEncoding.JSON || !(serializer instanceof JacksonAdapter)) {
+            return false;
+        }
+
+        final String contentType = httpResponse.getHeaderValue("Content-Type");
+        if (contentType == null) {
+            return true;
+        }
+
+        final Matcher charsetMatcher = CHARSET_PATTERN.matcher(contentType);
+        return !charsetMatcher.find() || "utf-8".equalsIgnoreCase(charsetMatcher.group(1));
+    }
+
+    /**
+     * Gets the type the response body is deserialized into before being converted to the {@param resultType}.
+     *
+     * @param resultType the return type of the java proxy method
+     * @param wireType value of optional {@link ReturnValueWireType} annotation
+     * @return the type to deserialize the response body into
+     */
+    private static Type constructBodyType(Type resultType, Type wireType) {
         if (wireType == null) {
-            return serializer.deserialize(value, resultType, encoding);
+            return resultType;
         } else if (TypeUtil.isTypeOrSubTypeOf(wireType, Page.class)) {
-            return deserializePage(value, resultType, wireType, serializer, encoding);
+            // If the type is the 'Page' interface [@ReturnValueWireType(Page.class)] we will use the 'ItemPage' class.
+            return (wireType == Page.class) ? TypeUtil.createParameterizedType(ItemPage.class, resultType) : wireType;
         } else {
-            final Type wireResponseType = constructWireResponseType(resultType, wireType);
-            final Object wireResponse = serializer.deserialize(value, wireResponseType, encoding);
+            return constructWireResponseType(resultType, wireType);
+        }
+    }
 
-            return convertToResultType(wireResponse, resultType, wireType);
+    /**
+     * Converts the deserialized response body to the {@param resultType} when a {@link ReturnValueWireType} other than
+     * {@link Page} is used.
+     *
+     * @param wireResponse the deserialized response body
+     * @param resultType the return type of the java proxy method
+     * @param wireType value of optional {@link ReturnValueWireType} annotation
+     * @return the converted response body
+     */
+    private static Object convertBody(Object wireResponse, Type resultType, Type wireType) {
+        if (wireType == null || TypeUtil.isTypeOrSubTypeOf(wireType, Page.class)) {
+            return wireResponse;
         }
+
+        return convertToResultType(wireResponse, resultType, wireType);
     }
 
     /**
@@ -206,28 +290,6 @@ final class HttpResponseBodyDecoder {
         return wireResponseType;
     }
 
-    /**
-     * Deserializes a response body as a Page&lt;T&gt; given that {@param wireType} is either: 1. A type that implements
-     * the interface 2. Is of {@link Page}
-     *
-     * @param value The string to deserialize
-     * @param resultType The type T, of the page contents.
-     * @param wireType The {@link Type} that either is, or implements {@link Page}
-     * @param serializer The serializer used to deserialize the value.
-     * @param encoding Encoding used to deserialize string
-     * @return An object representing an instance of {@param wireType}
-     * @throws IOException if the serializer is unable to deserialize the value.
-     */
-    private static Object deserializePage(String value, Type resultType, Type wireType, SerializerAdapter serializer,
-        SerializerEncoding encoding) throws IOException {
-        // If the type is the 'Page' interface [@ReturnValueWireType(Page.class)] we will use the 'ItemPage' class.
-        final Type wireResponseType = (wireType == Page.class)
-            ? TypeUtil.createParameterizedType(ItemPage.class, resultType)
-            : wireType;
-
-        return serializer.deserialize(value, wireResponseType, encoding);
-    }
-
     /**
      * Converts the object {@code wireResponse} that was deserialized using 'response body Type' (produced by {@code
      * constructWireResponseType(args)} method) to resultType.
@@ -0,0 +1,240 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer;
+
+import com.azure.core.util.CoreUtils;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * Parses a JSON document from a sequence of {@link ByteBuffer ByteBuffers} as they arrive.
+ *
+ * Each buffer is fed to Jackson's non-blocking parser and the parsed tokens are recorded in a {@link TokenBuffer}, so
+ * the body is never aggregated into a single byte array or decoded into a String. Parsing is asynchronous only:
+ * binding starts once the body completes, since Jackson's databind reads from a blocking parser and can't resume when
+ * the non-blocking parser runs out of input. The recorded tokens of the whole body are held until then, so memory use
+ * still grows with the body.
+ *
+ * The non-blocking parser only reads UTF-8. A body starting with a UTF-16 or UTF-32 byte order mark is buffered and
+ * decoded as a whole instead.
+ *
+ * Instances aren't thread-safe, buffers are expected to be fed serially as a {@code Flux} emits them.
+ */
+final class NonBlockingJsonDecoder {
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer tokens;
+
+    // Scratch space used to feed buffers that don't expose a backing array.
+    private byte[] copyBuffer;
+
+    // A trailing value separator held back until the first byte of the value that follows it arrives.
+    private byte[] heldBytes;
+    private int heldLength;
+    private boolean hasTokens;
+    private boolean started;
+
+    // Only used when the body isn't UTF-8.
+    private ByteArrayOutputStream nonUtf8Body;
+
+    /**
+     * Deserializes a JSON body, parsing each buffer as it's emitted.
+     *
+     * @param body the body to deserialize, expected to be UTF-8 encoded unless it starts with a byte order mark.
+     * @param type the type to deserialize the body into.
+     * @param mapper the mapper used to parse and bind the body.
+     * @return a {@link Mono} that emits the deserialized body, or completes empty if the body is empty.
+     */
+    static Mono<Object> decode(Flux<ByteBuffer> body, Type type, ObjectMapper mapper) {
+        return Mono.defer(() -> {
+            final NonBlockingJsonDecoder decoder;
+            try {
+                decoder = new NonBlockingJsonDecoder(mapper);
+            } catch (IOException ex) {
+                return Mono.error(ex);
+            }
+
+            return body
+                .handle((ByteBuffer buffer, SynchronousSink<Void> sink) -> {
+                    try {
+                        decoder.feed(buffer);
+                    } catch (IOException ex) {
+                        sink.error(ex);
+                    }
+                })
+                .then(Mono.fromCallable(() -> decoder.complete(mapper.getTypeFactory().constructType(type))))
+                .onErrorMap(JsonParseException.class, jpe -> new MalformedValueException(jpe.getMessage(), jpe));
+        });
+    }
+
+    private NonBlockingJsonDecoder(ObjectMapper mapper) throws IOException {
+        this.mapper = mapper;
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+    }
+
+    /**
+     * Feeds the remaining bytes of the buffer to the parser and records the tokens they complete. The buffer isn't
+     * referenced after this returns.
+     *
+     * @param buffer the next part of the body.
+     * @throws IOException if the bytes aren't valid JSON.
+     */
+    private void feed(ByteBuffer buffer) throws IOException {
+        final int length = buffer.remaining();
+        if (length == 0) {
+            return;
+        }
+
+        if (!started) {
+            started = true;
+            final byte first = buffer.get(buffer.position());
+            if (first == (byte) 0xFE || first == (byte) 0xFF || first == 0) {
+                nonUtf8Body = new ByteArrayOutputStream(Math.max(length, 256));
+            }
+        }
+
+        if (nonUtf8Body != null) {
+            append(nonUtf8Body, buffer, length);
+            return;
+        }
+
+        if (buffer.hasArray()) {
+            final int start = buffer.arrayOffset() + buffer.position();
+            feedBytes(buffer.array(), start, start + length);
+        } else {
+            if (copyBuffer == null || copyBuffer.length < length) {
+                copyBuffer = new byte[length];
+            }
+            buffer.duplicate().get(copyBuffer, 0, length);
+            feedBytes(copyBuffer, 0, length);
+        }
+    }
+
+    /**
+     * Signals the end of the body and deserializes the recorded tokens.
+     *
+     * @param type the type to deserialize the body into.
+     * @return the deserialized body, or null if the body was empty.
+     * @throws IOException if the body isn't valid JSON or can't be deserialized into the type.
+     */
+    private Object complete(JavaType type) throws IOException {
+        if (nonUtf8Body != null) {
+            final String body = CoreUtils.bomAwareToString(nonUtf8Body.toByteArray(), null);
+            return CoreUtils.isNullOrEmpty(body) ? null : mapper.readValue(body, type);
+        }
+
+        if (heldLength > 0) {
+            feedHeld();
+        }
+        feeder.endOfInput();
+        drain();
+        parser.close();
+
+        if (!hasTokens) {
+            return null;
+        }
+
+        try (JsonParser tokenParser = tokens.asParser(mapper)) {
+            return mapper.readValue(tokenParser, type);
+        }
+    }
+
+    /*
+     * Jackson's non-blocking parser accepts a '}' in place of a missing value when a fed chunk ends right after a ':'
+     * or ',' (and optional whitespace), so a chunk is never fed ending that way. The separator is held back and fed
+     * along with the first byte of the next value instead.
+     */
+    private void feedBytes(byte[] bytes, int start, int end) throws IOException {
+        if (heldLength > 0) {
+            int valueStart = start;
+            while (valueStart < end && isWhitespace(bytes[valueStart])) {
+                valueStart++;
+            }
+
+            if (valueStart == end) {
+                hold(bytes, start, end);
+                return;
+            }
+
+            hold(bytes, start, valueStart + 1);
+            feedHeld();
+            start = valueStart + 1;
+        }
+
+        int last = end - 1;
+        while (last >= start && isWhitespace(bytes[last])) {
+            last--;
+        }
+        final int feedEnd = (last >= start && (bytes[last] == ':' || bytes[last] == ',')) ? last : end;
+
+        if (feedEnd > start) {
+            feeder.feedInput(bytes, start, feedEnd);
+            drain();
+        }
+
+        if (feedEnd < end) {
+            hold(bytes, feedEnd, end);
+        }
+    }
+
+    private void hold(byte[] bytes, int start, int end) {
+        final int length = end - start;
+        if (heldBytes == null || heldBytes.length < heldLength + length) {
+            final byte[] grown = new byte[Math.max(16, 2 * (heldLength + length))];
+            if (heldLength > 0) {
+                System.arraycopy(heldBytes, 0, grown, 0, heldLength);
+            }
+            heldBytes = grown;
+        }
+
+        System.arraycopy(bytes, start, heldBytes, heldLength, length);
+        heldLength += length;
+    }
+
+    private void feedHeld() throws IOException {
+        final int length = heldLength;
+        heldLength = 0;
+        feeder.feedInput(heldBytes, 0, length);
+        drain();
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private void drain() throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+            hasTokens = true;
+            token = parser.nextToken();
+        }
+    }
+
+    private static void append(ByteArrayOutputStream stream, ByteBuffer buffer, int length) {
+        if (buffer.hasArray()) {
+            stream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            stream.write(bytes, 0, length);
+        }
+    }
+}
@@ -18,9 +18,19 @@ import java.util.Optional;
  * <p>
  * Each context object is immutable. The {@link #addData(Object, Object)} method creates a new
  * {@code Context} object that refers to its parent, forming a linked list.
+ * <p>
+ * To keep lookups cheap on long chains, every {@value #INDEX_INTERVAL}th {@code Context} in a chain also holds an
+ * immutable index of the key-value pairs added since the previous indexed {@code Context}, chained to that context's
+ * index. A lookup walks at most {@value #INDEX_INTERVAL} - 1 parents and then one index per
+ * {@value #INDEX_INTERVAL} contexts, and each pair is indexed once, so the indexes grow linearly with the chain.
  */
 @Immutable
 public class Context {
+    /*
+     * Number of contexts between indexed contexts in a chain. Chains shorter than this are only ever walked.
+     */
+    private static final int INDEX_INTERVAL = 8;
+
     private final ClientLogger logger = new ClientLogger(Context.class);
 
     // All fields must be immutable.
@@ -34,6 +44,12 @@ public class Context {
     private final Object key;
     private final Object value;
 
+    // Number of key-value pairs in the chain ending at this context.
+    private final int depth;
+
+    // Only present on every INDEX_INTERVAL-th context.
+    private final Index index;
+
     /**
      * Constructs a new {@link Context} object.
      *
@@ -49,12 +65,44 @@ public class Context {
         this.parent = null;
         this.key = Objects.requireNonNull(key, "'key' cannot be null.");
         this.value = value;
+        this.depth = 1;
+        this.index = null;
     }
 
     private Context(Context parent, Object key, Object value) {
         this.parent = parent;
         this.key = key;
         this.value = value;
+        this.depth = (parent == null ? 0 : parent.depth) + (key == null ? 0 : 1);
+        this.index = (key != null && depth % INDEX_INTERVAL == 0) ? createIndex() : null;
+    }
+
+    /*
+     * Creates the index for this context from the contexts added since the nearest indexed ancestor, chained to the
+     * index of that ancestor.
+     */
+    private Index createIndex() {
+        final Map<Object, Object> values = new HashMap<>((int) (INDEX_INTERVAL / 0.75f) + 1);
+        final Context indexed = copyUntilIndexed(values);
+        return new Index(values, indexed == null ? null : indexed.index);
+    }
+
+    /*
+     * Puts the key-value pairs of this context and its parents into the map, stopping at the first ancestor that has
+     * an index. Pairs already in the map win, as more recently added keys shadow older ones.
+     *
+     * Returns the indexed ancestor, or null if the root of the chain was reached.
+     */
+    private Context copyUntilIndexed(Map<Object, Object> values) {
+        for (Context c = this; c != null; c = c.parent) {
+            if (c != this && c.index != null) {
+                return c;
+            }
+            if (c.key != null) {
+                values.putIfAbsent(c.key, c.value);
+            }
+        }
+        return null;
     }
 
     /**
@@ -122,6 +170,14 @@ public class Context {
             throw logger.logExceptionAsError(new IllegalArgumentException("key cannot be null"));
         }
         for (Context c = this; c != null; c = c.parent) {
+            if (c.index != null) {
+                for (Index i = c.index; i != null; i = i.previous) {
+                    if (i.values.containsKey(key)) {
+                        return Optional.of(i.values.get(key));
+                    }
+                }
+                return Optional.empty();
+            }
             if (key.equals(c.key)) {
                 return Optional.of(c.value);
             }
@@ -139,14 +195,27 @@ public class Context {
      * @return A map containing all values of the context linked-list.
      */
     public Map<Object, Object> getValues() {
-        return getValuesHelper(new HashMap<>());
+        final Map<Object, Object> values = new HashMap<>();
+        final Context indexed = (index == null) ? copyUntilIndexed(values) : this;
+        for (Index i = (indexed == null) ? null : indexed.index; i != null; i = i.previous) {
+            for (Map.Entry<Object, Object> entry : i.values.entrySet()) {
+                values.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+        return values;
     }
 
-    private Map<Object, Object> getValuesHelper(Map<Object, Object> values) {
-        if (key != null) {
-            values.putIfAbsent(key, value);
-        }
+    /*
+     * The key-value pairs added in the INDEX_INTERVAL contexts ending at an indexed context, with the most recently
+     * added value of each key, chained to the index of the previous indexed context.
+     */
+    private static final class Index {
+        private final Map<Object, Object> values;
+        private final Index previous;
 
-        return (parent == null) ? values : parent.getValuesHelper(values);
+        private Index(Map<Object, Object> values, Index previous) {
+            this.values = values;
+            this.previous = previous;
+        }
     }
 }
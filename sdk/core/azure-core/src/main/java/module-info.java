@@ -38,8 +38,13 @@ module com.azure.core {
     opens com.azure.core.implementation.serializer to com.fasterxml.jackson.databind;
     opens com.azure.core.implementation.serializer.jsonwrapper to com.fasterxml.jackson.databind;
 
-    // Exports HttpProviders#getAllHttpClients API to azure-core-test module
-    exports com.azure.core.implementation.http to com.azure.core.test;
+    // Exports HttpProviders#getAllHttpClients API to azure-core-test module and ConnectionPoolTracker to the
+    // HttpClient implementations
+    exports com.azure.core.implementation.http to
+        com.azure.core.test,
+        com.azure.http.netty,
+        com.azure.core.http.okhttp,
+        com.azure.core.http.jdk.httpclient;
 
   // service provider interfaces
     uses com.azure.core.util.tracing.Tracer;
@@ -17,6 +17,7 @@ import reactor.test.StepVerifier;
 
 import java.net.URL;
 import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CredentialsTests {
 
@@ -82,4 +83,34 @@ public class CredentialsTests {
                 .expectErrorMessage("token credentials require a URL using the HTTPS protocol scheme")
                 .verify();
     }
+
+    @Test
+    public void sharedTokenCacheTest() throws Exception {
+        AtomicInteger tokenRequests = new AtomicInteger();
+        TokenCredential credentials = request -> Mono.fromCallable(() -> {
+            tokenRequests.incrementAndGet();
+            return new AccessToken("this_is_a_token", OffsetDateTime.MAX);
+        });
+        SimpleTokenCache sharedCache = new SimpleTokenCache(
+            () -> credentials.getToken(new TokenRequestContext().addScopes("scope./default")),
+            new TokenRefreshOptions());
+
+        HttpPipelinePolicy auditorPolicy =  (context, next) -> {
+            String headerValue = context.getHttpRequest().getHeaders().getValue("Authorization");
+            Assertions.assertEquals("Bearer this_is_a_token", headerValue);
+            return next.process();
+        };
+
+        for (int i = 0; i < 3; i++) {
+            final HttpPipeline pipeline = new HttpPipelineBuilder()
+                .httpClient(new NoOpHttpClient())
+                .policies(new BearerTokenAuthenticationPolicy(sharedCache), auditorPolicy)
+                .build();
+
+            pipeline.send(new HttpRequest(HttpMethod.GET, new URL("https://localhost"))).block();
+        }
+
+        Assertions.assertEquals(1, tokenRequests.get());
+        Assertions.assertEquals(2, sharedCache.getMetrics().getCacheHitCount());
+    }
 }
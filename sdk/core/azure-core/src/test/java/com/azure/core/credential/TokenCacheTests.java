@@ -7,10 +7,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -79,6 +83,95 @@ public class TokenCacheTests {
         Assertions.assertTrue(refreshes.get() <= 11);
     }
 
+    @Test
+    public void concurrentCallersShareRefresh() {
+        List<MonoProcessor<AccessToken>> refreshes = new ArrayList<>();
+        SimpleTokenCache cache = new SimpleTokenCache(() -> pendingRefresh(refreshes));
+
+        List<AccessToken> received = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            cache.getToken().subscribe(received::add);
+        }
+
+        Assertions.assertEquals(1, refreshes.size());
+        AccessToken token = new Token("1", 60000);
+        refreshes.get(0).onNext(token);
+
+        Assertions.assertEquals(5, received.size());
+        received.forEach(actual -> Assertions.assertSame(token, actual));
+        StepVerifier.create(cache.getToken()).expectNext(token).verifyComplete();
+
+        TokenCacheMetrics metrics = cache.getMetrics();
+        Assertions.assertEquals(1, metrics.getRefreshCount());
+        Assertions.assertEquals(5, metrics.getBlockedRequestCount());
+        Assertions.assertEquals(1, metrics.getCacheHitCount());
+    }
+
+    @Test
+    public void proactiveRefreshServesCachedToken() {
+        List<MonoProcessor<AccessToken>> refreshes = new ArrayList<>();
+        // The refresh offset is longer than the token lifetime, so a refresh is due as soon as a token is cached.
+        SimpleTokenCache cache = new SimpleTokenCache(() -> pendingRefresh(refreshes),
+            new TokenRefreshOptions().setRefreshOffset(Duration.ofMinutes(2)).setRefreshJitter(Duration.ZERO));
+
+        AccessToken first = new Token("1", 60000);
+        StepVerifier.create(cache.getToken())
+            .then(() -> refreshes.get(0).onNext(first))
+            .expectNext(first)
+            .verifyComplete();
+
+        // Callers keep getting the cached token while a single refresh runs in the background.
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(cache.getToken()).expectNext(first).verifyComplete();
+        }
+        Assertions.assertEquals(2, refreshes.size());
+
+        AccessToken second = new Token("2", 60000);
+        refreshes.get(1).onNext(second);
+        StepVerifier.create(cache.getToken()).expectNext(second).verifyComplete();
+
+        TokenCacheMetrics metrics = cache.getMetrics();
+        Assertions.assertEquals(2, metrics.getRefreshCount());
+        Assertions.assertEquals(1, metrics.getBlockedRequestCount());
+        Assertions.assertEquals(11, metrics.getCacheHitCount());
+    }
+
+    @Test
+    public void failedBackgroundRefreshKeepsCachedToken() {
+        List<MonoProcessor<AccessToken>> refreshes = new ArrayList<>();
+        SimpleTokenCache cache = new SimpleTokenCache(() -> pendingRefresh(refreshes),
+            new TokenRefreshOptions().setRefreshOffset(Duration.ofMinutes(2)));
+
+        AccessToken token = new Token("1", 60000);
+        StepVerifier.create(cache.getToken())
+            .then(() -> refreshes.get(0).onNext(token))
+            .expectNext(token)
+            .verifyComplete();
+
+        StepVerifier.create(cache.getToken()).expectNext(token).verifyComplete();
+        Assertions.assertEquals(2, refreshes.size());
+        refreshes.get(1).onError(new IllegalStateException("refresh failed"));
+
+        // The failed refresh isn't retried right away and the cached token is still valid.
+        StepVerifier.create(cache.getToken()).expectNext(token).verifyComplete();
+        Assertions.assertEquals(2, refreshes.size());
+        Assertions.assertEquals(1, cache.getMetrics().getFailedRefreshCount());
+    }
+
+    @Test
+    public void invalidRefreshOptions() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new TokenRefreshOptions().setRefreshOffset(Duration.ofSeconds(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new TokenRefreshOptions().setRefreshJitter(Duration.ofSeconds(-1)));
+    }
+
+    private static Mono<AccessToken> pendingRefresh(List<MonoProcessor<AccessToken>> refreshes) {
+        MonoProcessor<AccessToken> refresh = MonoProcessor.create();
+        refreshes.add(refresh);
+        return refresh;
+    }
+
     private Mono<AccessToken> remoteGetTokenAsync(long delayInMillis) {
         return Mono.delay(Duration.ofMillis(delayInMillis))
             .map(l -> new Token(Integer.toString(RANDOM.nextInt(100))));
@@ -5,7 +5,12 @@ package com.azure.core.http;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class HttpHeadersTests {
@@ -41,4 +46,104 @@ public class HttpHeadersTests {
 
         assertEquals("key1=value1, key2=value2, key3=value3", headers.toString());
     }
+
+    @Test
+    public void caseInsensitiveLookupKeepsLatestName() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.put("Content-Type", "application/json");
+        headers.put("content-type", "text/plain");
+
+        assertEquals(1, headers.getSize());
+        assertEquals("text/plain", headers.getValue("CONTENT-TYPE"));
+        assertEquals("content-type", headers.get("Content-Type").getName());
+    }
+
+    @Test
+    public void manyHeadersPreserveInsertionOrder() {
+        final HttpHeaders headers = new HttpHeaders(0);
+        for (int i = 0; i < 100; i++) {
+            headers.put("x-ms-meta-Key" + i, "value" + i);
+        }
+
+        assertEquals(100, headers.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value" + i, headers.getValue("X-MS-META-KEY" + i));
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals("value" + i, headers.remove("x-ms-meta-key" + i).getValue());
+        }
+
+        assertEquals(50, headers.getSize());
+        assertNull(headers.get("x-ms-meta-key0"));
+        assertEquals("x-ms-meta-Key1=value1, x-ms-meta-Key3=value3",
+            headers.stream().limit(2).map(header -> header.getName() + "=" + header.getValue())
+                .collect(Collectors.joining(", ")));
+        for (int i = 1; i < 100; i += 2) {
+            assertEquals("value" + i, headers.getValue("x-ms-meta-key" + i));
+        }
+    }
+
+    @Test
+    public void iteratorRemoveRemovesHeader() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.put("a", "1");
+        headers.put("b", "2");
+
+        final Iterator<HttpHeader> iterator = headers.iterator();
+        assertEquals("a", iterator.next().getName());
+        iterator.remove();
+
+        assertNull(headers.get("a"));
+        assertEquals("b", iterator.next().getName());
+        assertFalse(iterator.hasNext());
+        assertEquals(1, headers.getSize());
+    }
+
+    @Test
+    public void iteratorReadsSnapshot() {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.put("a", "1");
+
+        final Iterator<HttpHeader> iterator = headers.iterator();
+        headers.put("b", "2");
+
+        assertEquals("a", iterator.next().getName());
+        assertFalse(iterator.hasNext());
+        assertEquals(2, headers.getSize());
+    }
+
+    @Test
+    public void concurrentPutsAreAllKept() throws InterruptedException {
+        final HttpHeaders headers = new HttpHeaders();
+        final int threadCount = 4;
+        final int headersPerThread = 250;
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int offset = t * headersPerThread;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = offset; i < offset + headersPerThread; i++) {
+                    headers.put("x-ms-meta-key" + i, "value" + i);
+                }
+            });
+            threads[t].start();
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * headersPerThread, headers.getSize());
+        for (int i = 0; i < threadCount * headersPerThread; i++) {
+            assertEquals("value" + i, headers.getValue("X-MS-META-KEY" + i));
+        }
+    }
 }
@@ -3,9 +3,11 @@
 
 package com.azure.core.http.policy;
 
+import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpPipeline;
 import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.MockHttpResponse;
@@ -13,10 +15,17 @@ import com.azure.core.http.clients.NoOpHttpClient;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RetryPolicyTests {
 
@@ -122,5 +131,182 @@ public class RetryPolicyTests {
             new URL("http://localhost/"))).block();
     }
 
+    @Test
+    public void adaptiveErrorsAreRetriedOncePerAttempt() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    // A retryable response followed by errors, the errors of the retries mustn't be retried again.
+                    return sends.incrementAndGet() == 1
+                        ? Mono.just(new MockHttpResponse(request, 500))
+                        : Mono.error(new IOException("connection reset"));
+                }
+            })
+            .policies(new RetryPolicy(new FixedDelay(3, Duration.ZERO), null, null,
+                new AdaptiveRetryOptions().setRetryBudget(new RetryBudget(100, 0.1))))
+            .build();
+
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))))
+            .verifyErrorMessage("Max retries 3 times exceeded. Error Details: connection reset");
+        Assertions.assertEquals(4, sends.get());
+    }
+
+    @Test
+    public void retryBudgetBoundsRetries() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+        RetryBudget retryBudget = new RetryBudget(4, 0.5);
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return Mono.just(new MockHttpResponse(request, sends.incrementAndGet() <= 3 ? 500 : 200));
+                }
+            })
+            .policies(new RetryPolicy(new FixedDelay(3, Duration.ZERO), null, null,
+                new AdaptiveRetryOptions().setRetryBudget(retryBudget)))
+            .build();
+
+        // Each failure spends a token, retries stop once half of the four tokens are spent.
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        Assertions.assertEquals(500, response.getStatusCode());
+        Assertions.assertEquals(2, sends.get());
+
+        response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        Assertions.assertEquals(500, response.getStatusCode());
+        Assertions.assertEquals(3, sends.get());
+        Assertions.assertEquals(1, retryBudget.getAvailableTokens());
+
+        // Successes refill the budget.
+        pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        Assertions.assertEquals(2, retryBudget.getAvailableTokens());
+    }
+
+    @Test
+    public void clientWideRetryAfter() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+        CountDownLatch throttled = new CountDownLatch(1);
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (sends.incrementAndGet() == 1) {
+                        throttled.countDown();
+                        return Mono.just(new MockHttpResponse(request, 429,
+                            new HttpHeaders().put("Retry-After", "1")));
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new RetryPolicy(new FixedDelay(3, Duration.ZERO), "Retry-After", ChronoUnit.SECONDS,
+                new AdaptiveRetryOptions().setClientWideRetryAfter(true)))
+            .build();
+
+        pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/first"))).subscribe();
+        Assertions.assertTrue(throttled.await(10, TimeUnit.SECONDS));
+
+        // A different request sent through the same client waits for the retry after as well.
+        long start = System.nanoTime();
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/second")))
+            .block();
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 500);
+    }
+
+    @Test
+    public void slowGetIsHedged() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+        final int warmupRequests = 64;
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (sends.incrementAndGet() == warmupRequests + 1) {
+                        return Mono.delay(Duration.ofSeconds(30))
+                            .map(ignored -> new MockHttpResponse(request, 201));
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new RetryPolicy(new FixedDelay(3, Duration.ZERO), null, null,
+                new AdaptiveRetryOptions().setHedgingEnabled(true).setHedgingPercentile(99)))
+            .build();
+
+        for (int i = 0; i < warmupRequests; i++) {
+            pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        }
+        Assertions.assertEquals(warmupRequests, sends.get());
+
+        // The slow request is hedged and the hedged request's response is used.
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/")))
+            .block(Duration.ofSeconds(10));
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals(warmupRequests + 2, sends.get());
+
+        // Requests other than GET aren't hedged.
+        sends.set(warmupRequests);
+        StepVerifier.create(pipeline.send(new HttpRequest(HttpMethod.PUT, new URL("http://localhost/"))))
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(500))
+            .thenCancel()
+            .verify();
+        Assertions.assertEquals(warmupRequests + 1, sends.get());
+    }
 
+    @Test
+    public void hedgedRequestHasItsOwnCallContext() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+        final int warmupRequests = 64;
+        final List<HttpPipelineCallContext> contexts = new CopyOnWriteArrayList<>();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (sends.incrementAndGet() == warmupRequests + 1) {
+                        return Mono.delay(Duration.ofSeconds(30))
+                            .map(ignored -> new MockHttpResponse(request, 201));
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new RetryPolicy(new FixedDelay(3, Duration.ZERO), null, null,
+                new AdaptiveRetryOptions().setHedgingEnabled(true).setHedgingPercentile(99)),
+                (context, next) -> {
+                    contexts.add(context);
+                    context.getHttpRequest().setHeader("x-ms-attempt", String.valueOf(contexts.size()));
+                    return next.process();
+                })
+            .build();
+
+        for (int i = 0; i < warmupRequests; i++) {
+            pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        }
+
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/")))
+            .block(Duration.ofSeconds(10));
+        Assertions.assertEquals(200, response.getStatusCode());
+        Assertions.assertEquals(warmupRequests + 2, contexts.size());
+
+        // The slow attempt's request isn't replaced or modified by the hedged attempt.
+        final HttpPipelineCallContext slow = contexts.get(warmupRequests);
+        final HttpPipelineCallContext hedged = contexts.get(warmupRequests + 1);
+        Assertions.assertNotSame(slow, hedged);
+        Assertions.assertNotSame(slow.getHttpRequest(), hedged.getHttpRequest());
+        Assertions.assertEquals(String.valueOf(warmupRequests + 1),
+            slow.getHttpRequest().getHeaders().getValue("x-ms-attempt"));
+        Assertions.assertEquals(String.valueOf(warmupRequests + 2),
+            hedged.getHttpRequest().getHeaders().getValue("x-ms-attempt"));
+    }
+
+    @Test
+    public void invalidAdaptiveRetryOptions() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0, 0.1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RetryBudget(10, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveRetryOptions().setHedgingPercentile(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveRetryOptions().setHedgingPercentile(101));
+    }
 }
@@ -0,0 +1,86 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HostParam;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.QueryParam;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building request URLs through the precompiled {@link RequestUrlTemplate} with substituting the templates
+ * and parsing them with {@link com.azure.core.util.UrlBuilder}.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RequestUrlTemplateBenchMark {
+    interface BenchmarkService {
+        @Get("subscriptions/{subscriptionId}/resourceGroups/{resourceGroupName}/providers/{provider}/{name}")
+        void getResource(@PathParam("subscriptionId") String subscriptionId,
+            @PathParam("resourceGroupName") String resourceGroupName, @PathParam("provider") String provider,
+            @PathParam("name") String name, @QueryParam("api-version") String apiVersion);
+
+        @Get("{queueName}/messages")
+        void receiveMessages(@HostParam("url") String url, @PathParam("queueName") String queueName,
+            @QueryParam("numofmessages") Integer numberOfMessages, @QueryParam("timeout") Integer timeout);
+    }
+
+    private SwaggerMethodParser[] methodParsers;
+    private Object[][] arguments;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        methodParsers = new SwaggerMethodParser[] {
+            new SwaggerMethodParser(BenchmarkService.class.getDeclaredMethod("getResource", String.class,
+                String.class, String.class, String.class, String.class), "https://management.azure.com"),
+            new SwaggerMethodParser(BenchmarkService.class.getDeclaredMethod("receiveMessages", String.class,
+                String.class, Integer.class, Integer.class), "{url}")
+        };
+
+        arguments = new Object[][] {
+            {"00000000-0000-0000-0000-000000000000", "my resource group", "Microsoft.Storage/storageAccounts",
+                "account", "2019-06-01"},
+            {"https://account.queue.core.windows.net", "queue", 32, 30}
+        };
+    }
+
+    @Benchmark
+    public void compiledTemplate(Blackhole blackhole) throws MalformedURLException {
+        for (int i = 0; i < methodParsers.length; i++) {
+            blackhole.consume(methodParsers[i].getUrlTemplate().buildUrl(arguments[i]));
+        }
+    }
+
+    @Benchmark
+    public void urlBuilder(Blackhole blackhole) throws MalformedURLException {
+        for (int i = 0; i < methodParsers.length; i++) {
+            blackhole.consume(RestProxy.createUrl(methodParsers[i], arguments[i]));
+        }
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
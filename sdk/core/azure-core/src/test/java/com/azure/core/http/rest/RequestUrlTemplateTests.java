@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HostParam;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.QueryParam;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RequestUrlTemplateTests {
+    interface TemplateMethods {
+        @Get("test")
+        void constantPath();
+
+        @Get("/")
+        void rootPath();
+
+        @Get("subscriptions/{subscriptionId}/resourceGroups/{resourceGroupName}")
+        void pathSubstitutions(@PathParam("subscriptionId") String subscriptionId,
+            @PathParam("resourceGroupName") String resourceGroupName, @QueryParam("api-version") String apiVersion);
+
+        @Get("{container}/{blob}")
+        void repeatedAndEncodedPath(@PathParam("container") String container,
+            @PathParam(value = "blob", encoded = true) String blob, @QueryParam("comp") String comp,
+            @QueryParam(value = "sv", encoded = true) String sv);
+
+        @Get("{nextLink}")
+        void nextLink(@PathParam(value = "nextLink", encoded = true) String nextLink);
+
+        @Get("items")
+        void hostSubstitution(@HostParam("account") String account, @QueryParam("count") Integer count);
+
+        @Get("items")
+        void duplicateQueryNames(@QueryParam("name") String first, @QueryParam("name") String second);
+    }
+
+    @ParameterizedTest
+    @MethodSource("compiledUrlSupplier")
+    public void compiledUrlMatchesUrlBuilder(Method method, String rawHost, Object[] arguments, String expectedUrl)
+        throws MalformedURLException {
+        SwaggerMethodParser methodParser = new SwaggerMethodParser(method, rawHost);
+
+        URL compiledUrl = methodParser.getUrlTemplate().buildUrl(arguments);
+        assertNotNull(compiledUrl);
+        assertEquals(expectedUrl, compiledUrl.toString());
+        assertEquals(RestProxy.createUrl(methodParser, arguments).toString(), compiledUrl.toString());
+    }
+
+    private static Stream<Arguments> compiledUrlSupplier() throws NoSuchMethodException {
+        Class<TemplateMethods> clazz = TemplateMethods.class;
+        Method constantPath = clazz.getDeclaredMethod("constantPath");
+        Method rootPath = clazz.getDeclaredMethod("rootPath");
+        Method pathSubstitutions = clazz.getDeclaredMethod("pathSubstitutions", String.class, String.class,
+            String.class);
+        Method repeatedAndEncodedPath = clazz.getDeclaredMethod("repeatedAndEncodedPath", String.class,
+            String.class, String.class, String.class);
+        Method hostSubstitution = clazz.getDeclaredMethod("hostSubstitution", String.class, Integer.class);
+
+        return Stream.of(
+            Arguments.of(constantPath, "https://raw.host.com", null, "https://raw.host.com/test"),
+            Arguments.of(constantPath, "https://raw.host.com:8080/base", null, "https://raw.host.com:8080/base/test"),
+            Arguments.of(rootPath, "https://raw.host.com", null, "https://raw.host.com"),
+            Arguments.of(rootPath, "https://raw.host.com/base", null, "https://raw.host.com/base"),
+            Arguments.of(pathSubstitutions, "https://management.azure.com", new Object[] {"sub", "my rg", "2019-01-01"},
+                "https://management.azure.com/subscriptions/sub/resourceGroups/my%20rg?api-version=2019-01-01"),
+            Arguments.of(pathSubstitutions, "https://management.azure.com", new Object[] {"sub", null, null},
+                "https://management.azure.com/subscriptions/sub/resourceGroups/"),
+            Arguments.of(pathSubstitutions, "https://management.azure.com", new Object[] {"sub"},
+                "https://management.azure.com/subscriptions/sub/resourceGroups/{resourceGroupName}"),
+            Arguments.of(repeatedAndEncodedPath, "https://account.blob.core.windows.net",
+                new Object[] {"container", "dir/blob%20name", "a b", "x%20y"},
+                "https://account.blob.core.windows.net/container/dir/blob%20name?comp=a%20b&sv=x%20y"),
+            Arguments.of(hostSubstitution, "https://{account}.queue.core.windows.net", new Object[] {"account", 5},
+                "https://account.queue.core.windows.net/items?count=5")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("urlBuilderFallbackSupplier")
+    public void fallsBackToUrlBuilder(Method method, String rawHost, Object[] arguments)
+        throws MalformedURLException {
+        SwaggerMethodParser methodParser = new SwaggerMethodParser(method, rawHost);
+        assertNull(methodParser.getUrlTemplate().buildUrl(arguments));
+    }
+
+    private static Stream<Arguments> urlBuilderFallbackSupplier() throws NoSuchMethodException {
+        Class<TemplateMethods> clazz = TemplateMethods.class;
+        Method nextLink = clazz.getDeclaredMethod("nextLink", String.class);
+        Method duplicateQueryNames = clazz.getDeclaredMethod("duplicateQueryNames", String.class, String.class);
+
+        return Stream.of(
+            Arguments.of(nextLink, "https://raw.host.com", new Object[] {"https://other.host.com/page?marker=2"}),
+            Arguments.of(nextLink, "https://raw.host.com", new Object[] {"items?marker=2"}),
+            Arguments.of(duplicateQueryNames, "https://raw.host.com", new Object[] {"a", "b"})
+        );
+    }
+}
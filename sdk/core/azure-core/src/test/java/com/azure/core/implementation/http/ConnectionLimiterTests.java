@@ -0,0 +1,102 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.ConnectionPoolOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests {@link ConnectionLimiter}.
+ */
+public class ConnectionLimiterTests {
+    private static final String HOST = "localhost:443";
+
+    @Test
+    public void unlimitedWithoutMaxConnections() {
+        ConnectionLimiter limiter = new ConnectionLimiter(new ConnectionPoolOptions());
+
+        for (int i = 0; i < 100; i++) {
+            assertNotNull(limiter.acquire(HOST).block());
+        }
+    }
+
+    @Test
+    public void waitersAcquireReleasedPermitsInOrder() {
+        ConnectionLimiter limiter = new ConnectionLimiter(new ConnectionPoolOptions().setMaxConnectionsPerHost(1));
+
+        ConnectionLimiter.Permit first = limiter.acquire(HOST).block();
+        MonoProcessor<ConnectionLimiter.Permit> second = limiter.acquire(HOST).toProcessor();
+        MonoProcessor<ConnectionLimiter.Permit> third = limiter.acquire(HOST).toProcessor();
+        assertFalse(second.isTerminated());
+
+        first.release();
+        // Releasing twice doesn't hand out a second permit.
+        first.release();
+        assertTrue(second.isSuccess());
+        assertFalse(third.isTerminated());
+
+        second.peek().release();
+        assertTrue(third.isSuccess());
+    }
+
+    @Test
+    public void permitsAreLimitedPerHost() {
+        ConnectionLimiter limiter = new ConnectionLimiter(new ConnectionPoolOptions().setMaxConnectionsPerHost(1));
+
+        assertNotNull(limiter.acquire(HOST).block());
+        assertNotNull(limiter.acquire("localhost:80").block());
+    }
+
+    @Test
+    public void rejectsBeyondMaxPendingAcquires() {
+        ConnectionLimiter limiter = new ConnectionLimiter(new ConnectionPoolOptions()
+            .setMaxConnectionsPerHost(1)
+            .setMaxPendingAcquires(1));
+
+        limiter.acquire(HOST).block();
+        limiter.acquire(HOST).subscribe();
+
+        StepVerifier.create(limiter.acquire(HOST))
+            .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void cancelledWaiterDoesNotTakePermit() {
+        ConnectionLimiter limiter = new ConnectionLimiter(new ConnectionPoolOptions().setMaxConnectionsPerHost(1));
+
+        ConnectionLimiter.Permit first = limiter.acquire(HOST).block();
+        Disposable cancelled = limiter.acquire(HOST).subscribe();
+        MonoProcessor<ConnectionLimiter.Permit> waiting = limiter.acquire(HOST).toProcessor();
+
+        cancelled.dispose();
+        first.release();
+        assertTrue(waiting.isSuccess());
+    }
+
+    @Test
+    public void pendingAcquireTimesOut() {
+        ConnectionLimiter limiter = new ConnectionLimiter(new ConnectionPoolOptions()
+            .setMaxConnectionsPerHost(1)
+            .setPendingAcquireTimeout(Duration.ofMillis(50)));
+
+        ConnectionLimiter.Permit first = limiter.acquire(HOST).block();
+        StepVerifier.create(limiter.acquire(HOST))
+            .verifyError(TimeoutException.class);
+
+        // The timed out waiter gave up its place, so the next waiter gets the released permit.
+        MonoProcessor<ConnectionLimiter.Permit> waiting = limiter.acquire(HOST).toProcessor();
+        first.release();
+        assertTrue(waiting.isSuccess());
+    }
+}
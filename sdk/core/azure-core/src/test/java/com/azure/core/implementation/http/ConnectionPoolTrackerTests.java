@@ -0,0 +1,128 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.http;
+
+import com.azure.core.http.ConnectionPoolMetrics;
+import com.azure.core.http.ConnectionPoolOptions;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests {@link ConnectionPoolTracker} and {@link ConnectionPoolOptions}.
+ */
+public class ConnectionPoolTrackerTests {
+    private static final String HOST = "localhost:443";
+
+    @Test
+    public void hostIncludesDefaultPort() throws MalformedURLException {
+        assertEquals("localhost:443", ConnectionPoolTracker.getHost(new URL("https://localhost/path")));
+        assertEquals("localhost:80", ConnectionPoolTracker.getHost(new URL("http://localhost/path")));
+        assertEquals("localhost:8080", ConnectionPoolTracker.getHost(new URL("http://localhost:8080")));
+    }
+
+    @Test
+    public void tracksAcquireAndReleaseOfConnections() {
+        ConnectionPoolTracker tracker = new ConnectionPoolTracker(true);
+        Object first = new Object();
+        Object second = new Object();
+
+        ConnectionPoolTracker.PendingAcquire pendingAcquire = tracker.beginAcquire(HOST);
+        assertMetrics(tracker.getMetrics(), 0, 0, 1, 0);
+
+        pendingAcquire.complete(true);
+        assertTrue(tracker.connectionAcquired(HOST, first));
+        tracker.beginAcquire(HOST).complete(true);
+        assertTrue(tracker.connectionAcquired(HOST, second));
+        assertMetrics(tracker.getMetrics(), 2, 0, 0, 2);
+
+        tracker.connectionReleased(first);
+        assertMetrics(tracker.getMetrics(), 1, 1, 0, 2);
+
+        // Reusing an idle connection doesn't track it again.
+        assertFalse(tracker.connectionAcquired(HOST, first));
+        assertMetrics(tracker.getMetrics(), 2, 0, 0, 2);
+
+        tracker.connectionReleased(first);
+        tracker.connectionReleased(second);
+        assertMetrics(tracker.getMetrics(), 0, 2, 0, 2);
+
+        tracker.connectionClosed(first);
+        tracker.removeClosedConnections(connection -> connection == second);
+        assertMetrics(tracker.getMetrics(), 0, 0, 0, 2);
+    }
+
+    @Test
+    public void multiplexedConnectionIsActiveUntilEveryUseIsReleased() {
+        ConnectionPoolTracker tracker = new ConnectionPoolTracker(true);
+        Object connection = new Object();
+
+        tracker.connectionAcquired(HOST, connection);
+        tracker.connectionAcquired(HOST, connection);
+        tracker.connectionReleased(connection);
+        assertMetrics(tracker.getMetrics(), 1, 0, 0, 0);
+
+        tracker.connectionReleased(connection);
+        assertMetrics(tracker.getMetrics(), 0, 1, 0, 0);
+    }
+
+    @Test
+    public void releasedConnectionsAreForgottenWhenIdleConnectionsArentObservable() {
+        ConnectionPoolTracker tracker = new ConnectionPoolTracker(false);
+        Object connection = new Object();
+
+        tracker.connectionAcquired(HOST, connection);
+        assertMetrics(tracker.getMetrics(), 1, -1, 0, 0);
+
+        tracker.connectionReleased(connection);
+        assertMetrics(tracker.getMetrics(), 0, -1, 0, 0);
+        assertTrue(tracker.connectionAcquired(HOST, connection));
+    }
+
+    @Test
+    public void pendingAcquireIsCompletedOnce() {
+        ConnectionPoolTracker tracker = new ConnectionPoolTracker(true);
+
+        ConnectionPoolTracker.PendingAcquire pendingAcquire = tracker.beginAcquire(HOST);
+        pendingAcquire.complete(false);
+        pendingAcquire.complete(true);
+
+        assertMetrics(tracker.getMetrics(), 0, 0, 0, 0);
+        assertEquals(Duration.ZERO, tracker.getMetrics().get(0).getAverageAcquireWaitTime());
+    }
+
+    @Test
+    public void optionsRejectInvalidValues() {
+        ConnectionPoolOptions options = new ConnectionPoolOptions();
+
+        assertThrows(IllegalArgumentException.class, () -> options.setMaxConnectionsPerHost(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setMaxPendingAcquires(-1));
+        assertThrows(IllegalArgumentException.class, () -> options.setPendingAcquireTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> options.setMaxIdleTime(Duration.ofSeconds(-1)));
+
+        options.setMaxConnectionsPerHost(null).setMaxPendingAcquires(0);
+        assertNull(options.getMaxConnectionsPerHost());
+        assertEquals(0, options.getMaxPendingAcquires());
+    }
+
+    private static void assertMetrics(List<ConnectionPoolMetrics> metrics, int active, int idle, int pending,
+        long acquireCount) {
+        assertEquals(1, metrics.size());
+        ConnectionPoolMetrics pool = metrics.get(0);
+        assertEquals(HOST, pool.getHost());
+        assertEquals(active, pool.getActiveConnections());
+        assertEquals(idle, pool.getIdleConnections());
+        assertEquals(pending, pool.getPendingAcquires());
+        assertEquals(acquireCount, pool.getAcquireCount());
+    }
+}
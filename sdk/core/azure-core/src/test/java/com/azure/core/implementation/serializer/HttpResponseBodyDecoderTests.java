@@ -4,6 +4,7 @@
 package com.azure.core.implementation.serializer;
 
 import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
@@ -34,6 +35,7 @@ import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Arrays;
@@ -338,6 +340,46 @@ public class HttpResponseBodyDecoderTests {
             .verifyError(HttpResponseException.class);
     }
 
+    @Test
+    public void malformedStreamedBodyReturnsError() {
+        HttpResponse response = new MockHttpResponse(GET_REQUEST, 200, new HttpHeaders(),
+            "{\"malformed\": JSON}".getBytes(StandardCharsets.UTF_8));
+
+        HttpResponseDecodeData decodeData = mock(HttpResponseDecodeData.class);
+        when(decodeData.getReturnType()).thenReturn(Map.class);
+        when(decodeData.getReturnValueWireType()).thenReturn(null);
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), decodeData))
+            .verifyErrorSatisfies(error -> {
+                assertTrue(error instanceof HttpResponseException);
+                assertTrue(error.getCause() instanceof MalformedValueException);
+            });
+    }
+
+    @Test
+    public void nonUtf8CharsetIsNotStreamed() {
+        HttpHeaders headers = new HttpHeaders().put("Content-Type", "application/json; charset=UTF-16");
+        HttpResponse response = new MockHttpResponse(GET_REQUEST, 200, headers,
+            "\"hello\"".getBytes(StandardCharsets.UTF_16BE)) {
+            @Override
+            public Flux<ByteBuffer> getBody() {
+                return Flux.error(new IllegalStateException("Body should be decoded as a String."));
+            }
+
+            @Override
+            public Mono<String> getBodyAsString() {
+                return getBodyAsString(StandardCharsets.UTF_16BE);
+            }
+        };
+
+        HttpResponseDecodeData decodeData = mock(HttpResponseDecodeData.class);
+        when(decodeData.getReturnType()).thenReturn(String.class);
+
+        StepVerifier.create(HttpResponseBodyDecoder.decode(null, response, new JacksonAdapter(), decodeData))
+            .assertNext(actual -> assertEquals("hello", actual))
+            .verifyComplete();
+    }
+
     @Test
     public void ioExceptionReturnsError() throws IOException {
         HttpResponse response = new MockHttpResponse(GET_REQUEST, 200, "valid JSON string");
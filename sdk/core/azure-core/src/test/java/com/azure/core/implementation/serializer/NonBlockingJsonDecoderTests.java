@@ -0,0 +1,114 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer;
+
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NonBlockingJsonDecoderTests {
+    private static final ObjectMapper MAPPER = new JacksonAdapter().serializer();
+
+    @ParameterizedTest
+    @MethodSource("jsonBodySupplier")
+    public void decodeJsonBody(Flux<ByteBuffer> body) {
+        StepVerifier.create(NonBlockingJsonDecoder.decode(body, MapHolder.class, MAPPER))
+            .assertNext(value -> {
+                final MapHolder mapHolder = (MapHolder) value;
+                assertEquals(2, mapHolder.map().size());
+                assertEquals("\u00e9t\u00e9", mapHolder.map().get("summer"));
+                assertEquals("\u51ac", mapHolder.map().get("winter"));
+            })
+            .verifyComplete();
+    }
+
+    private static Stream<Arguments> jsonBodySupplier() {
+        final String json = "{\"map\":{\"summer\":\"\u00e9t\u00e9\",\"winter\":\"\u51ac\"}}";
+        final byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+
+        // Split the body into single bytes so that multi-byte characters span buffers.
+        final List<ByteBuffer> singleBytes = new ArrayList<>();
+        for (byte b : utf8) {
+            singleBytes.add(ByteBuffer.wrap(new byte[] {b}));
+        }
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length);
+        direct.put(utf8).flip();
+
+        final byte[] padded = new byte[utf8.length + 8];
+        System.arraycopy(utf8, 0, padded, 4, utf8.length);
+
+        final byte[] utf8Bom = new byte[utf8.length + 3];
+        utf8Bom[0] = (byte) 0xEF;
+        utf8Bom[1] = (byte) 0xBB;
+        utf8Bom[2] = (byte) 0xBF;
+        System.arraycopy(utf8, 0, utf8Bom, 3, utf8.length);
+
+        final byte[] utf16 = json.getBytes(StandardCharsets.UTF_16);
+
+        return Stream.of(
+            Arguments.of(Flux.just(ByteBuffer.wrap(utf8))),
+            Arguments.of(Flux.fromIterable(singleBytes)),
+            Arguments.of(Flux.just(direct)),
+            Arguments.of(Flux.just(ByteBuffer.wrap(padded, 4, utf8.length).slice())),
+            Arguments.of(Flux.just(ByteBuffer.wrap(utf8Bom, 0, 10), ByteBuffer.wrap(utf8Bom, 10, utf8Bom.length - 10))),
+            Arguments.of(Flux.just(ByteBuffer.wrap(utf16, 0, 7), ByteBuffer.wrap(utf16, 7, utf16.length - 7)))
+        );
+    }
+
+    @Test
+    public void decodeEmptyBody() {
+        StepVerifier.create(NonBlockingJsonDecoder.decode(Flux.empty(), MapHolder.class, MAPPER))
+            .verifyComplete();
+
+        StepVerifier.create(NonBlockingJsonDecoder.decode(Flux.just(ByteBuffer.allocate(0)), MapHolder.class, MAPPER))
+            .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @MethodSource("malformedBodySupplier")
+    public void decodeMalformedBody(Flux<ByteBuffer> body) {
+        StepVerifier.create(NonBlockingJsonDecoder.decode(body, MapHolder.class, MAPPER))
+            .verifyError(MalformedValueException.class);
+    }
+
+    private static Stream<Arguments> malformedBodySupplier() {
+        // Split the bodies at every position as the non-blocking parser state depends on where the buffers end.
+        final List<Arguments> arguments = new ArrayList<>();
+        for (String json : new String[] {"{\"map\":}", "{\"map\": \n}", "{\"map\":{\"a\":\"b\",}}", "{\"map\":{"}) {
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            for (int split = 1; split < bytes.length; split++) {
+                arguments.add(Arguments.of(Flux.just(ByteBuffer.wrap(bytes, 0, split),
+                    ByteBuffer.wrap(bytes, split, bytes.length - split))));
+            }
+        }
+
+        return arguments.stream();
+    }
+
+    private static class MapHolder {
+        @JsonInclude(content = JsonInclude.Include.ALWAYS)
+        private Map<String, String> map = new HashMap<>();
+
+        public Map<String, String> map() {
+            return map;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer;
+
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.FluxUtil;
+import com.azure.core.util.serializer.JacksonAdapter;
+import com.azure.core.util.serializer.SerializerEncoding;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserializing a chunked JSON body by collecting it into a String with parsing it as the chunks are
+ * received. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class StreamingDeserializationBenchMark {
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({"16", "1024", "16384"})
+    private int itemCount;
+
+    private final JacksonAdapter serializer = new JacksonAdapter();
+    private final Type type = new HashMap<String, List<Map<String, String>>>() { }.getClass().getGenericSuperclass();
+    private List<ByteBuffer> chunks;
+
+    @Setup
+    public void setup() throws IOException {
+        final List<Map<String, String>> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            final Map<String, String> item = new HashMap<>();
+            item.put("name", "item" + i);
+            item.put("etag", "0x8D7A7B2C4E5F6" + i);
+            item.put("contentType", "application/octet-stream");
+            items.add(item);
+        }
+
+        final Map<String, List<Map<String, String>>> page = new HashMap<>();
+        page.put("value", items);
+        final byte[] body = serializer.serialize(page, SerializerEncoding.JSON).getBytes(StandardCharsets.UTF_8);
+
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            final int length = Math.min(CHUNK_SIZE, body.length - offset);
+            final ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(body, offset, length).flip();
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public Object collectToString() {
+        return FluxUtil.collectBytesInByteBufferStream(body())
+            .map(bytes -> {
+                try {
+                    return serializer.deserialize(CoreUtils.bomAwareToString(bytes, null), type,
+                        SerializerEncoding.JSON);
+                } catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            })
+            .block();
+    }
+
+    @Benchmark
+    public Object streamed() {
+        return NonBlockingJsonDecoder.decode(body(), type, serializer.serializer()).block();
+    }
+
+    private Flux<ByteBuffer> body() {
+        return Flux.fromIterable(chunks).map(ByteBuffer::duplicate);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
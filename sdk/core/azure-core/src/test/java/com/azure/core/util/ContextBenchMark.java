@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Context#getData(Object)} and {@link Context#addData(Object, Object)} at different chain depths.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ContextBenchMark {
+    @Param({"1", "4", "10", "20", "40"})
+    private int depth;
+
+    private Context context;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        keys = new String[depth];
+        context = Context.NONE;
+        for (int i = 0; i < depth; i++) {
+            keys[i] = "key" + i;
+            context = context.addData(keys[i], i);
+        }
+    }
+
+    /**
+     * Looks up the oldest key in the chain, the worst case for walking parents.
+     */
+    @Benchmark
+    public void getDataOldestKey(Blackhole blackhole) {
+        blackhole.consume(context.getData(keys[0]));
+    }
+
+    /**
+     * Looks up a key that isn't in the chain, as policies do for optional context data.
+     */
+    @Benchmark
+    public void getDataMissingKey(Blackhole blackhole) {
+        blackhole.consume(context.getData("missing"));
+    }
+
+    /**
+     * Builds a chain of the benchmark depth from scratch.
+     */
+    @Benchmark
+    public void addData(Blackhole blackhole) {
+        Context chain = Context.NONE;
+        for (int i = 0; i < depth; i++) {
+            chain = chain.addData(keys[i], i);
+        }
+        blackhole.consume(chain);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -111,4 +111,51 @@ public class ContextTests {
             Arguments.of(contextWithMultipleSameKeys, Collections.singletonMap("key", "value2"))
         );
     }
+
+    @ParameterizedTest
+    @MethodSource("deepChainSupplier")
+    public void deepChainLookups(int depth) {
+        Context context = Context.NONE;
+        Map<Object, Object> expected = new HashMap<>();
+        for (int i = 0; i < depth; i++) {
+            // Every third key overwrites an earlier one to exercise shadowing across indexed contexts.
+            String key = (i % 3 == 0) ? "shared" + (i % 2) : "key" + i;
+            context = context.addData(key, "value" + i);
+            expected.put(key, "value" + i);
+        }
+
+        for (Map.Entry<Object, Object> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), context.getData(entry.getKey()).orElse(null));
+        }
+        assertFalse(context.getData("fakeKey").isPresent());
+        assertEquals(expected, context.getValues());
+    }
+
+    @Test
+    public void branchesOfIndexedChainDoNotShareKeys() {
+        Context trunk = Context.NONE;
+        for (int i = 0; i < 12; i++) {
+            trunk = trunk.addData("key" + i, "trunk" + i);
+        }
+
+        Context left = trunk;
+        Context right = trunk;
+        for (int i = 0; i < 12; i++) {
+            left = left.addData("left" + i, "left" + i);
+            right = right.addData("right" + i, "right" + i).addData("key" + i, "right" + i);
+        }
+
+        assertEquals("left11", left.getData("left11").orElse(null));
+        assertFalse(left.getData("right0").isPresent());
+        assertEquals("trunk0", left.getData("key0").orElse(null));
+        assertEquals("right0", right.getData("key0").orElse(null));
+        assertFalse(right.getData("left11").isPresent());
+        assertEquals("trunk0", trunk.getData("key0").orElse(null));
+        assertEquals(24, left.getValues().size());
+        assertEquals(24, right.getValues().size());
+    }
+
+    private static Stream<Integer> deepChainSupplier() {
+        return Stream.of(1, 7, 8, 9, 16, 17, 40);
+    }
 }
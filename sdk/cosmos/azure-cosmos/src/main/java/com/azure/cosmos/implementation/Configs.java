@@ -37,6 +37,7 @@ public class Configs {
     private static final String MAX_HTTP_CHUNK_SIZE_IN_BYTES = "COSMOS.MAX_HTTP_CHUNK_SIZE_IN_BYTES";
     private static final String MAX_HTTP_HEADER_SIZE_IN_BYTES = "COSMOS.MAX_HTTP_HEADER_SIZE_IN_BYTES";
     private static final String MAX_DIRECT_HTTPS_POOL_SIZE = "COSMOS.MAX_DIRECT_HTTP_CONNECTION_LIMIT";
+    private static final String QUERY_PLAN_CACHE_SIZE = "COSMOS.QUERY_PLAN_CACHE_SIZE";
 
     private static final int DEFAULT_UNAVAILABLE_LOCATIONS_EXPIRATION_TIME_IN_SECONDS = 5 * 60;
 
@@ -44,6 +45,7 @@ public class Configs {
     private static final int DEFAULT_MAX_HTTP_INITIAL_LINE_LENGTH = 4096; //4KB
     private static final int DEFAULT_MAX_HTTP_CHUNK_SIZE_IN_BYTES = 8192; //8KB
     private static final int DEFAULT_MAX_HTTP_REQUEST_HEADER_SIZE = 32 * 1024; //32 KB
+    private static final int DEFAULT_QUERY_PLAN_CACHE_SIZE = 1000;
 
     private static final int MAX_NUMBER_OF_READ_BARRIER_READ_RETRIES = 6;
     private static final int MAX_NUMBER_OF_PRIMARY_READ_RETRIES = 6;
@@ -150,6 +152,10 @@ public class Configs {
         return getJVMConfigAsInt(MAX_HTTP_BODY_LENGTH_IN_BYTES, DEFAULT_MAX_HTTP_BODY_LENGTH_IN_BYTES);
     }
 
+    public int getQueryPlanCacheSize() {
+        return getJVMConfigAsInt(QUERY_PLAN_CACHE_SIZE, DEFAULT_QUERY_PLAN_CACHE_SIZE);
+    }
+
     public int getUnavailableLocationsExpirationTimeInSeconds() {
         return getJVMConfigAsInt(UNAVAILABLE_LOCATIONS_EXPIRATION_TIME_IN_SECONDS, DEFAULT_UNAVAILABLE_LOCATIONS_EXPIRATION_TIME_IN_SECONDS);
     }
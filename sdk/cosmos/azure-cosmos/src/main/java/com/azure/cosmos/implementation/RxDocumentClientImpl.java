@@ -37,6 +37,7 @@ import com.azure.cosmos.implementation.query.DocumentQueryExecutionContextFactor
 import com.azure.cosmos.implementation.query.IDocumentQueryClient;
 import com.azure.cosmos.implementation.query.IDocumentQueryExecutionContext;
 import com.azure.cosmos.implementation.query.Paginator;
+import com.azure.cosmos.implementation.query.QueryPlanCache;
 import com.azure.cosmos.implementation.routing.CollectionRoutingMap;
 import com.azure.cosmos.implementation.routing.PartitionKeyAndResourceTokenPair;
 import com.azure.cosmos.implementation.routing.PartitionKeyInternal;
@@ -101,6 +102,7 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
     private RxStoreModel storeModel;
     private GlobalAddressResolver addressResolver;
     private RxPartitionKeyRangeCache partitionKeyRangeCache;
+    private final QueryPlanCache queryPlanCache;
     private Map<String, List<PartitionKeyAndResourceTokenPair>> resourceTokensMap;
 
     // RetryPolicy retries a request when it encounters session unavailable (see ClientRetryPolicy).
@@ -208,6 +210,7 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
 
         this.connectionSharingAcrossClientsEnabled = connectionSharingAcrossClientsEnabled;
         this.configs = configs;
+        this.queryPlanCache = new QueryPlanCache(configs.getQueryPlanCacheSize());
         this.masterKeyOrResourceToken = masterKeyOrResourceToken;
         this.serviceEndpoint = serviceEndpoint;
         this.cosmosKeyCredential = cosmosKeyCredential;
@@ -1666,6 +1669,11 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
                 return RxDocumentClientImpl.this.resetSessionTokenRetryPolicy;
             }
 
+            @Override
+            public QueryPlanCache getQueryPlanCache() {
+                return RxDocumentClientImpl.this.queryPlanCache;
+            }
+
             @Override
             public ConsistencyLevel getDefaultConsistencyLevelAsync() {
                 return RxDocumentClientImpl.this.gatewayConfigurationReader.getDefaultConsistencyLevel();
@@ -41,28 +41,25 @@ public class AggregateDocumentQueryExecutionContext<T extends Resource> implemen
     public AggregateDocumentQueryExecutionContext (IDocumentQueryExecutionComponent<T> component, Collection<AggregateOperator> aggregateOperators) {
 
         this.component = component;
-        AggregateOperator aggregateOperator = aggregateOperators.iterator().next();
+        this.aggregator = createAggregator(aggregateOperators.iterator().next());
+    }
 
+    static Aggregator createAggregator(AggregateOperator aggregateOperator) {
         switch (aggregateOperator) {
             case Average:
-                this.aggregator = new AverageAggregator();
-                break;
+                return new AverageAggregator();
             case Count:
-                this.aggregator = new CountAggregator();
-                break;
+                return new CountAggregator();
             case Max:
-                this.aggregator = new MaxAggregator();
-                break;
+                return new MaxAggregator();
             case Min:
-                this.aggregator = new MinAggregator();
-                break;
+                return new MinAggregator();
             case Sum:
-                this.aggregator = new SumAggregator();
-                break;
+                return new SumAggregator();
             default:
                 throw new IllegalStateException("Unexpected value: " + aggregateOperator.toString());
-            }
         }
+    }
 
     @SuppressWarnings("unchecked")
     @Override
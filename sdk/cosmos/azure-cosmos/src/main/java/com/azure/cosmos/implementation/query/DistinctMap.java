@@ -6,6 +6,7 @@ import com.azure.cosmos.implementation.Utils;
 import com.azure.cosmos.models.ModelBridgeInternal;
 import com.azure.cosmos.models.Resource;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
@@ -35,8 +36,11 @@ public abstract class DistinctMap {
 
     String getHash(Resource resource) throws JsonProcessingException,
                                                  NoSuchAlgorithmException {
-        final Object obj = OBJECT_MAPPER.treeToValue(ModelBridgeInternal.getPropertyBagFromJsonSerializable(resource)
-            , Object.class);
+        return getHash(ModelBridgeInternal.getPropertyBagFromJsonSerializable(resource));
+    }
+
+    static String getHash(JsonNode jsonNode) throws JsonProcessingException, NoSuchAlgorithmException {
+        final Object obj = OBJECT_MAPPER.treeToValue(jsonNode, Object.class);
         final String sortedJson =
             OBJECT_MAPPER.writeValueAsString(obj);
         MessageDigest md = MessageDigest.getInstance("SHA-1");
@@ -51,6 +51,23 @@ public class DocumentQueryExecutionContextFactory {
         return collectionCache.resolveCollectionAsync(null, request);
     }
 
+    private static Mono<PartitionedQueryExecutionInfo> getQueryPlanAsync(IDocumentQueryClient client,
+                                                                         SqlQuerySpec query,
+                                                                         String resourceLink,
+                                                                         DocumentCollection collection) {
+        QueryPlanCache queryPlanCache = client.getQueryPlanCache();
+        String collectionRid = collection != null ? collection.getResourceId() : null;
+
+        PartitionedQueryExecutionInfo cachedQueryPlan = queryPlanCache.get(resourceLink, collectionRid, query);
+        if (cachedQueryPlan != null) {
+            return Mono.just(cachedQueryPlan);
+        }
+
+        return QueryPlanRetriever
+                   .getQueryPlanThroughGatewayAsync(client, query, resourceLink)
+                   .doOnNext(queryPlan -> queryPlanCache.put(resourceLink, collectionRid, query, queryPlan));
+    }
+
     public static <T extends Resource> Flux<? extends IDocumentQueryExecutionContext<T>> createDocumentQueryExecutionContextAsync(
             IDocumentQueryClient client,
             ResourceType resourceTypeEnum,
@@ -82,12 +99,9 @@ public class DocumentQueryExecutionContextFactory {
             return Flux.just(queryExecutionContext);
         }
 
-        Mono<PartitionedQueryExecutionInfo> queryExecutionInfoMono =
-            QueryPlanRetriever
-                .getQueryPlanThroughGatewayAsync(client, query, resourceLink);
-
         return collectionObs.single().flatMap(collectionValueHolder ->
-                      queryExecutionInfoMono.flatMap(partitionedQueryExecutionInfo -> {
+                      getQueryPlanAsync(client, query, resourceLink, collectionValueHolder.v)
+                          .flatMap(partitionedQueryExecutionInfo -> {
                           QueryInfo queryInfo =
                               partitionedQueryExecutionInfo.getQueryInfo();
 
@@ -0,0 +1,138 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.cosmos.implementation.query;
+
+import com.azure.cosmos.BridgeInternal;
+import com.azure.cosmos.implementation.BadRequestException;
+import com.azure.cosmos.implementation.Document;
+import com.azure.cosmos.implementation.HttpConstants;
+import com.azure.cosmos.implementation.QueryMetrics;
+import com.azure.cosmos.implementation.query.aggregation.AggregateOperator;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.models.ModelBridgeInternal;
+import com.azure.cosmos.models.Resource;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Merges the partial groups that each partition returns for a GROUP BY query into the final groups.
+ *
+ * <p>
+ * The pages of the partitions are merged into a {@link GroupingTable} as they arrive, so only the groups are held in
+ * memory, not the rows. Once every partition is drained, the groups are returned in pages of the requested size.
+ * The number of groups is bounded by the maximum buffered item count of the query, and the query fails when it
+ * returns more groups than that.
+ * </p>
+ */
+public class GroupByDocumentQueryExecutionContext<T extends Resource> implements IDocumentQueryExecutionComponent<T> {
+    // The same bound the parallel query execution applies to the items it buffers by default.
+    static final int DEFAULT_MAX_GROUP_COUNT = 100_000;
+
+    private final IDocumentQueryExecutionComponent<T> component;
+    private final GroupingTable groupingTable;
+    private final ConcurrentMap<String, QueryMetrics> queryMetricsMap = new ConcurrentHashMap<>();
+    private double requestCharge;
+
+    private GroupByDocumentQueryExecutionContext(IDocumentQueryExecutionComponent<T> component,
+                                                 GroupingTable groupingTable) {
+        if (component == null) {
+            throw new IllegalArgumentException("documentQueryExecutionComponent cannot be null");
+        }
+
+        this.component = component;
+        this.groupingTable = groupingTable;
+    }
+
+    public static <T extends Resource> Flux<IDocumentQueryExecutionComponent<T>> createAsync(
+        Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createSourceComponentFunction,
+        QueryInfo queryInfo,
+        int maxBufferedItemCount,
+        String continuationToken) {
+
+        if (continuationToken != null) {
+            // The groups are only final once every partition is drained, so there is no state to resume from.
+            return Flux.error(new BadRequestException("Continuation tokens are not supported with GROUP BY queries"));
+        }
+
+        Map<String, AggregateOperator> aliasToAggregateType = queryInfo.getGroupByAliasToAggregateType();
+        List<String> orderedAliases = queryInfo.getGroupByAliases() != null
+            ? queryInfo.getGroupByAliases()
+            : new ArrayList<>(aliasToAggregateType.keySet());
+        Collection<AggregateOperator> aggregates = queryInfo.getAggregates();
+        AggregateOperator selectValueAggregateType = aggregates != null && !aggregates.isEmpty()
+            ? aggregates.iterator().next()
+            : null;
+        int maxGroupCount = maxBufferedItemCount > 0 ? maxBufferedItemCount : DEFAULT_MAX_GROUP_COUNT;
+
+        return createSourceComponentFunction
+            .apply(null)
+            .map(component -> new GroupByDocumentQueryExecutionContext<T>(component,
+                new GroupingTable(aliasToAggregateType, orderedAliases, queryInfo.hasSelectValue(),
+                    selectValueAggregateType, maxGroupCount)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Flux<FeedResponse<T>> drainAsync(int maxPageSize) {
+        return this.component.drainAsync(maxPageSize)
+            .concatMap(page -> {
+                this.requestCharge += page.getRequestCharge();
+                this.addQueryMetrics(page);
+
+                for (T resource : page.getResults()) {
+                    if (!this.groupingTable.add(ModelBridgeInternal.getPropertyBagFromJsonSerializable(resource))) {
+                        return Flux.error(new BadRequestException(String.format(
+                            "GROUP BY query returned more than %d groups. Increase the maximum buffered item count "
+                                + "with FeedOptions#setMaxBufferedItemCount to allow more.",
+                            this.groupingTable.getMaxGroupCount())));
+                    }
+                }
+
+                return Flux.empty();
+            })
+            .thenMany(Flux.defer(() -> {
+                List<Document> groups = this.groupingTable.drain();
+                List<FeedResponse<T>> pages = new ArrayList<>();
+                int pageSize = maxPageSize > 0 ? maxPageSize : Math.max(groups.size(), 1);
+
+                for (int start = 0; start == 0 || start < groups.size(); start += pageSize) {
+                    List<Document> results = groups.isEmpty()
+                        ? Collections.emptyList()
+                        : groups.subList(start, Math.min(start + pageSize, groups.size()));
+                    HashMap<String, String> headers = new HashMap<>();
+                    // The whole charge of the query is reported with the first page.
+                    headers.put(HttpConstants.HttpHeaders.REQUEST_CHARGE,
+                        Double.toString(start == 0 ? this.requestCharge : 0));
+
+                    FeedResponse<Document> page = start == 0 && !this.queryMetricsMap.isEmpty()
+                        ? BridgeInternal.createFeedResponseWithQueryMetrics(new ArrayList<>(results), headers,
+                            this.queryMetricsMap)
+                        : BridgeInternal.createFeedResponse(new ArrayList<>(results), headers);
+                    pages.add((FeedResponse<T>) page);
+                }
+
+                return Flux.fromIterable(pages);
+            }));
+    }
+
+    private void addQueryMetrics(FeedResponse<T> page) {
+        for (Map.Entry<String, QueryMetrics> entry : BridgeInternal.queryMetricsFromFeedResponse(page).entrySet()) {
+            QueryMetrics queryMetrics = this.queryMetricsMap.get(entry.getKey());
+            this.queryMetricsMap.put(entry.getKey(),
+                queryMetrics != null ? queryMetrics.add(entry.getValue()) : entry.getValue());
+        }
+    }
+
+    public IDocumentQueryExecutionComponent<T> getComponent() {
+        return this.component;
+    }
+}
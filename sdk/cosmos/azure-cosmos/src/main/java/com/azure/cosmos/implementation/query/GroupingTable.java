@@ -0,0 +1,265 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.cosmos.implementation.query;
+
+import com.azure.cosmos.implementation.Constants;
+import com.azure.cosmos.implementation.Document;
+import com.azure.cosmos.implementation.Undefined;
+import com.azure.cosmos.implementation.Utils;
+import com.azure.cosmos.implementation.query.aggregation.AggregateOperator;
+import com.azure.cosmos.implementation.query.aggregation.Aggregator;
+import com.azure.cosmos.models.ModelBridgeInternal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash aggregation table that merges the partial groups returned by each partition for a GROUP BY query.
+ *
+ * <p>
+ * For a GROUP BY query, each partition returns one row per group it holds, of the form
+ * <code>{"groupByItems": [...], "payload": {...}}</code>. The group by items identify the group, and the payload holds
+ * the partial value of each alias of the select list, or the value of a SELECT VALUE query. The partial values of
+ * aggregates, wrapped as <code>{"item": ...}</code>, are merged with the aggregator of each alias. The values of the
+ * other aliases are the same in every row of a group, and are taken from the first.
+ * </p>
+ *
+ * <p>
+ * Only the groups are kept, not the rows, and the number of groups is capped, so the table takes bounded memory.
+ * </p>
+ */
+final class GroupingTable {
+    private static final String GROUP_BY_ITEMS_PROPERTY = "groupByItems";
+    private static final String PAYLOAD_PROPERTY = "payload";
+
+    private final Map<String, AggregateOperator> aliasToAggregateType;
+    private final List<String> orderedAliases;
+    private final boolean hasSelectValue;
+    private final AggregateOperator selectValueAggregateType;
+    private final int maxGroupCount;
+
+    // Groups are kept in the order they are first seen, so results are returned in a stable order.
+    private final LinkedHashMap<String, Group> groups = new LinkedHashMap<>();
+
+    GroupingTable(Map<String, AggregateOperator> aliasToAggregateType,
+                  List<String> orderedAliases,
+                  boolean hasSelectValue,
+                  AggregateOperator selectValueAggregateType,
+                  int maxGroupCount) {
+        if (aliasToAggregateType == null) {
+            throw new IllegalArgumentException("aliasToAggregateType cannot be null");
+        }
+
+        if (orderedAliases == null) {
+            throw new IllegalArgumentException("orderedAliases cannot be null");
+        }
+
+        this.aliasToAggregateType = aliasToAggregateType;
+        this.orderedAliases = orderedAliases;
+        this.hasSelectValue = hasSelectValue;
+        this.selectValueAggregateType = selectValueAggregateType;
+        this.maxGroupCount = maxGroupCount;
+    }
+
+    /**
+     * Merges a row returned by a partition into its group.
+     *
+     * @param row the row, with the group by items and payload of a group.
+     * @return false if the row starts a new group and the table already holds the maximum number of groups, in which
+     * case the row is not added.
+     */
+    boolean add(ObjectNode row) {
+        JsonNode groupByItems = row.get(GROUP_BY_ITEMS_PROPERTY);
+        if (groupByItems == null) {
+            groupByItems = Utils.getSimpleObjectMapper().createArrayNode();
+        }
+
+        String groupKey;
+        try {
+            groupKey = DistinctMap.getHash(groupByItems);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash the group by items", e);
+        }
+
+        Group group = this.groups.get(groupKey);
+        if (group == null) {
+            if (this.groups.size() >= this.maxGroupCount) {
+                return false;
+            }
+
+            group = this.hasSelectValue ? new SelectValueGroup(this.selectValueAggregateType) : new SelectListGroup();
+            this.groups.put(groupKey, group);
+        }
+
+        group.add(row.get(PAYLOAD_PROPERTY));
+        return true;
+    }
+
+    int size() {
+        return this.groups.size();
+    }
+
+    int getMaxGroupCount() {
+        return this.maxGroupCount;
+    }
+
+    /**
+     * Removes all the groups from the table and returns their results.
+     *
+     * @return the result of each group.
+     */
+    List<Document> drain() {
+        List<Document> results = new ArrayList<>(this.groups.size());
+        for (Group group : this.groups.values()) {
+            results.add(group.getResult());
+        }
+
+        this.groups.clear();
+        return results;
+    }
+
+    private static GroupValue createGroupValue(AggregateOperator aggregateType) {
+        return aggregateType != null
+            ? new AggregateGroupValue(AggregateDocumentQueryExecutionContext.createAggregator(aggregateType))
+            : new ScalarGroupValue();
+    }
+
+    private interface Group {
+        void add(JsonNode payload);
+
+        Document getResult();
+    }
+
+    /**
+     * A group of a query with a select list, whose result has a property for each alias.
+     */
+    private final class SelectListGroup implements Group {
+        private final Map<String, GroupValue> aliasToValue = new LinkedHashMap<>();
+
+        private SelectListGroup() {
+            for (String alias : GroupingTable.this.orderedAliases) {
+                this.aliasToValue.put(alias, createGroupValue(GroupingTable.this.aliasToAggregateType.get(alias)));
+            }
+        }
+
+        @Override
+        public void add(JsonNode payload) {
+            if (payload == null || !payload.isObject()) {
+                return;
+            }
+
+            for (Map.Entry<String, GroupValue> aliasAndValue : this.aliasToValue.entrySet()) {
+                JsonNode value = payload.get(aliasAndValue.getKey());
+                if (value != null) {
+                    aliasAndValue.getValue().add(value);
+                }
+            }
+        }
+
+        @Override
+        public Document getResult() {
+            Document result = new Document();
+            for (Map.Entry<String, GroupValue> aliasAndValue : this.aliasToValue.entrySet()) {
+                Object value = aliasAndValue.getValue().getResult();
+                if (!Undefined.value().equals(value)) {
+                    ModelBridgeInternal.setProperty(result, aliasAndValue.getKey(), value);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * A group of a SELECT VALUE query, whose result is a single value.
+     */
+    private static final class SelectValueGroup implements Group {
+        private final GroupValue value;
+
+        private SelectValueGroup(AggregateOperator aggregateType) {
+            this.value = createGroupValue(aggregateType);
+        }
+
+        @Override
+        public void add(JsonNode payload) {
+            // The payload of an aggregate may come wrapped in a single element array.
+            if (payload != null && payload.isArray() && payload.size() == 1) {
+                payload = ((ArrayNode) payload).get(0);
+            }
+
+            if (payload != null) {
+                this.value.add(payload);
+            }
+        }
+
+        @Override
+        public Document getResult() {
+            Object result = this.value.getResult();
+            if (result instanceof ObjectNode) {
+                return new Document((ObjectNode) result);
+            }
+
+            // Values that are not objects are wrapped the same way as those returned by the gateway.
+            Document document = new Document();
+            if (!Undefined.value().equals(result)) {
+                ModelBridgeInternal.setProperty(document, Constants.Properties.VALUE, result);
+            }
+
+            return document;
+        }
+    }
+
+    private interface GroupValue {
+        void add(JsonNode value);
+
+        Object getResult();
+    }
+
+    /**
+     * The value of an aggregate, merged from the partial aggregates of the partitions.
+     */
+    private static final class AggregateGroupValue implements GroupValue {
+        private final Aggregator aggregator;
+
+        private AggregateGroupValue(Aggregator aggregator) {
+            this.aggregator = aggregator;
+        }
+
+        @Override
+        public void add(JsonNode value) {
+            Object item = value.isObject() ? new QueryItem((ObjectNode) value).getItem() : Undefined.value();
+            this.aggregator.aggregate(item);
+        }
+
+        @Override
+        public Object getResult() {
+            return this.aggregator.getResult();
+        }
+    }
+
+    /**
+     * A value that is not an aggregate, which is the same for every row of the group.
+     */
+    private static final class ScalarGroupValue implements GroupValue {
+        private JsonNode value;
+
+        @Override
+        public void add(JsonNode value) {
+            if (this.value == null) {
+                this.value = value;
+            }
+        }
+
+        @Override
+        public Object getResult() {
+            return this.value != null ? this.value : Undefined.value();
+        }
+    }
+}
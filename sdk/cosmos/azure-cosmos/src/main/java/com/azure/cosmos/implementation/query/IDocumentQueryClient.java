@@ -33,6 +33,13 @@ public interface IDocumentQueryClient {
      */
     IRetryPolicyFactory getResetSessionTokenRetryPolicy();
 
+    /**
+     * Gets the cache of the query plans fetched from the gateway.
+     *
+     * @return the query plan cache.
+     */
+    QueryPlanCache getQueryPlanCache();
+
     /**
      * TODO: this should be async returning observable
      * @return 
@@ -75,7 +75,13 @@ public class PipelinedDocumentQueryExecutionContext<T extends Resource> implemen
         }
 
         Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createAggregateComponentFunction;
-        if (queryInfo.hasAggregates()) {
+        if (queryInfo.hasGroupBy()) {
+            // The aggregates of a GROUP BY query are computed for each group.
+            createAggregateComponentFunction = (continuationToken) -> {
+                return GroupByDocumentQueryExecutionContext.createAsync(createBaseComponentFunction,
+                        queryInfo, feedOptions.getMaxBufferedItemCount(), continuationToken);
+            };
+        } else if (queryInfo.hasAggregates()) {
             createAggregateComponentFunction = (continuationToken) -> {
                 return AggregateDocumentQueryExecutionContext.createAsync(createBaseComponentFunction,
                         queryInfo.getAggregates(), continuationToken);
@@ -5,11 +5,15 @@ package com.azure.cosmos.implementation.query;
 
 import com.azure.cosmos.implementation.query.aggregation.AggregateOperator;
 import com.azure.cosmos.models.JsonSerializable;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.azure.cosmos.implementation.apachecommons.lang.StringUtils;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Used internally to encapsulates a query's information in the Azure Cosmos DB database service.
@@ -24,6 +28,9 @@ public final class QueryInfo extends JsonSerializable {
     private Integer offset;
     private Integer limit;
     private DistinctQueryType distinctQueryType;
+    private Collection<String> groupByExpressions;
+    private List<String> groupByAliases;
+    private Map<String, AggregateOperator> groupByAliasToAggregateType;
 
     public QueryInfo() { }
 
@@ -104,6 +111,54 @@ public final class QueryInfo extends JsonSerializable {
         return this.offset != null ? this.offset : (this.offset = super.getInt("offset"));
     }
 
+    public boolean hasGroupBy() {
+        Collection<String> groupByExpressions = this.getGroupByExpressions();
+        return groupByExpressions != null && groupByExpressions.size() > 0;
+    }
+
+    public Collection<String> getGroupByExpressions() {
+        return this.groupByExpressions != null
+                ? this.groupByExpressions
+                : (this.groupByExpressions = super.getCollection("groupByExpressions", String.class));
+    }
+
+    /**
+     * Gets the aliases of the select list of a GROUP BY query, in the order they are projected.
+     *
+     * @return the aliases of the select list.
+     */
+    public List<String> getGroupByAliases() {
+        return this.groupByAliases != null
+                ? this.groupByAliases
+                : (this.groupByAliases = super.getList("groupByAliases", String.class));
+    }
+
+    /**
+     * Gets the aggregate computed by each alias of the select list of a GROUP BY query, or null for the aliases that
+     * are not aggregates.
+     *
+     * @return the aggregate of each alias.
+     */
+    public Map<String, AggregateOperator> getGroupByAliasToAggregateType() {
+        if (this.groupByAliasToAggregateType == null) {
+            Map<String, AggregateOperator> groupByAliasToAggregateType = new HashMap<>();
+            Object aliasToAggregateType = super.get("groupByAliasToAggregateType");
+            if (aliasToAggregateType instanceof ObjectNode) {
+                Iterator<Map.Entry<String, JsonNode>> fields = ((ObjectNode) aliasToAggregateType).fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    groupByAliasToAggregateType.put(field.getKey(), field.getValue().isTextual()
+                        ? AggregateOperator.valueOf(field.getValue().asText())
+                        : null);
+                }
+            }
+
+            this.groupByAliasToAggregateType = groupByAliasToAggregateType;
+        }
+
+        return this.groupByAliasToAggregateType;
+    }
+
     public boolean hasDistinct() {
         return this.getDistinctQueryType() != DistinctQueryType.NONE;
     }
@@ -0,0 +1,251 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.cosmos.implementation.query;
+
+import com.azure.cosmos.implementation.routing.PartitionKeyInternalHelper;
+import com.azure.cosmos.implementation.routing.Range;
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the query plans fetched from the gateway, so that a query run repeatedly against a container does not need
+ * a gateway round-trip for its plan every time it runs.
+ *
+ * <p>
+ * Plans are keyed by the container link and the query text, with runs of whitespace outside string literals collapsed,
+ * and by the names of the query parameters. The parameter values are part of the key only when the plan may depend on
+ * them: a plan that targets every partition key range and has no TOP, OFFSET or LIMIT is valid for any values, since
+ * targeting every range is always correct.
+ * </p>
+ *
+ * <p>
+ * Each plan is stored with the resource id of the container it was fetched for, and is dropped when the container
+ * link resolves to a different resource id because the container was recreated. The plans are expressed in effective
+ * partition key ranges, so they stay valid when the container's partition key ranges split.
+ * </p>
+ *
+ * <p>
+ * The cache holds at most a fixed number of plans, evicting the least recently used. A size of zero disables it.
+ * </p>
+ */
+public final class QueryPlanCache {
+    private final static Logger logger = LoggerFactory.getLogger(QueryPlanCache.class);
+    private final static Range<String> FULL_RANGE = new Range<>(
+        PartitionKeyInternalHelper.MinimumInclusiveEffectivePartitionKey,
+        PartitionKeyInternalHelper.MaximumExclusiveEffectivePartitionKey,
+        true,
+        false);
+
+    private final int maxSize;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    // Guarded by this.
+    private final LinkedHashMap<String, Entry> entries;
+
+    public QueryPlanCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize");
+        }
+
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return this.size() > QueryPlanCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached plan of a query.
+     *
+     * @param collectionLink the link of the container the query runs against.
+     * @param collectionRid the resource id the container link currently resolves to.
+     * @param querySpec the query.
+     * @return the cached plan, or null if there is none.
+     */
+    public PartitionedQueryExecutionInfo get(String collectionLink, String collectionRid, SqlQuerySpec querySpec) {
+        if (this.maxSize == 0) {
+            return null;
+        }
+
+        PartitionedQueryExecutionInfo queryPlan = this.get(getKey(collectionLink, querySpec, false), collectionRid);
+        if (queryPlan == null && hasParameters(querySpec)) {
+            queryPlan = this.get(getKey(collectionLink, querySpec, true), collectionRid);
+        }
+
+        if (queryPlan != null) {
+            this.hitCount.incrementAndGet();
+        } else {
+            this.missCount.incrementAndGet();
+        }
+
+        return queryPlan;
+    }
+
+    /**
+     * Caches the plan of a query fetched from the gateway.
+     *
+     * @param collectionLink the link of the container the query runs against.
+     * @param collectionRid the resource id of the container the plan was fetched for.
+     * @param querySpec the query.
+     * @param queryPlan the plan of the query.
+     */
+    public void put(String collectionLink,
+                    String collectionRid,
+                    SqlQuerySpec querySpec,
+                    PartitionedQueryExecutionInfo queryPlan) {
+        if (this.maxSize == 0) {
+            return;
+        }
+
+        boolean dependsOnParameterValues = hasParameters(querySpec) && !isValidForAnyParameterValues(queryPlan);
+        String key = getKey(collectionLink, querySpec, dependsOnParameterValues);
+
+        synchronized (this) {
+            this.entries.put(key, new Entry(collectionRid, queryPlan));
+        }
+    }
+
+    /**
+     * Gets the number of lookups that found a cached plan.
+     *
+     * @return the number of lookups that found a cached plan.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that did not find a cached plan, and needed a gateway round-trip.
+     *
+     * @return the number of lookups that did not find a cached plan.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Gets the number of plans cached.
+     *
+     * @return the number of plans cached.
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPlanCache{" +
+                   "size=" + this.size() +
+                   ", maxSize=" + this.maxSize +
+                   ", hitCount=" + this.getHitCount() +
+                   ", missCount=" + this.getMissCount() +
+                   '}';
+    }
+
+    private synchronized PartitionedQueryExecutionInfo get(String key, String collectionRid) {
+        Entry entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (collectionRid != null && !collectionRid.equals(entry.collectionRid)) {
+            logger.debug("Dropping query plan cached for container [{}], now resolved to [{}]",
+                entry.collectionRid, collectionRid);
+            this.entries.remove(key);
+            return null;
+        }
+
+        return entry.queryPlan;
+    }
+
+    private static boolean isValidForAnyParameterValues(PartitionedQueryExecutionInfo queryPlan) {
+        QueryInfo queryInfo = queryPlan.getQueryInfo();
+        if (queryInfo == null || queryInfo.hasTop() || queryInfo.hasOffset() || queryInfo.hasLimit()) {
+            return false;
+        }
+
+        List<Range<String>> queryRanges = queryPlan.getQueryRanges();
+        return queryRanges != null && queryRanges.size() == 1 && FULL_RANGE.equals(queryRanges.get(0));
+    }
+
+    private static boolean hasParameters(SqlQuerySpec querySpec) {
+        List<SqlParameter> parameters = querySpec.getParameters();
+        return parameters != null && !parameters.isEmpty();
+    }
+
+    private static String getKey(String collectionLink, SqlQuerySpec querySpec, boolean includeParameterValues) {
+        StringBuilder key = new StringBuilder(collectionLink).append('\n');
+        normalizeQueryText(querySpec.getQueryText(), key);
+
+        if (hasParameters(querySpec)) {
+            for (SqlParameter parameter : querySpec.getParameters()) {
+                key.append('\n').append(parameter.getName());
+                if (includeParameterValues) {
+                    // The JSON of the parameter, including its value.
+                    key.append('\n').append(parameter.toString());
+                }
+            }
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Appends the query text with leading and trailing whitespace removed, and every run of whitespace outside a string
+     * literal replaced by a single space, so queries that differ only in formatting share a plan.
+     */
+    static void normalizeQueryText(String queryText, StringBuilder normalized) {
+        if (queryText == null) {
+            return;
+        }
+
+        int start = normalized.length();
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < queryText.length(); i++) {
+            char c = queryText.charAt(i);
+            if (quote != 0) {
+                normalized.append(c);
+                if (c == '\\' && i + 1 < queryText.length()) {
+                    normalized.append(queryText.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > start;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+
+                normalized.append(c);
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String collectionRid;
+        private final PartitionedQueryExecutionInfo queryPlan;
+
+        private Entry(String collectionRid, PartitionedQueryExecutionInfo queryPlan) {
+            this.collectionRid = collectionRid;
+            this.queryPlan = queryPlan;
+        }
+    }
+}
@@ -33,4 +33,10 @@ public class ConfigsTests {
         Configs config = new Configs();
         assertThat(config.getDirectHttpsMaxConnectionLimit()).isEqualTo(Runtime.getRuntime().availableProcessors() * 500);
     }
+
+    @Test(groups = { "unit" })
+    public void getQueryPlanCacheSize() {
+        Configs config = new Configs();
+        assertThat(config.getQueryPlanCacheSize()).isEqualTo(1000);
+    }
 }
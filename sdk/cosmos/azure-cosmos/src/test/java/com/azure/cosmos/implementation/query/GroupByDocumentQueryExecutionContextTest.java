@@ -0,0 +1,154 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.cosmos.implementation.query;
+
+import com.azure.cosmos.BridgeInternal;
+import com.azure.cosmos.implementation.BadRequestException;
+import com.azure.cosmos.implementation.Document;
+import com.azure.cosmos.implementation.HttpConstants;
+import com.azure.cosmos.models.FeedResponse;
+import com.azure.cosmos.models.ModelBridgeInternal;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Signal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupByDocumentQueryExecutionContextTest {
+    private static final String SELECT_LIST_QUERY_INFO = "{"
+        + "\"groupByExpressions\":[\"c.team\"],"
+        + "\"groupByAliases\":[\"team\",\"players\",\"points\",\"average\"],"
+        + "\"groupByAliasToAggregateType\":{\"team\":null,\"players\":\"Count\",\"points\":\"Sum\",\"average\":\"Average\"},"
+        + "\"aggregates\":[\"Count\",\"Sum\",\"Average\"],"
+        + "\"hasSelectValue\":false}";
+
+    @Test(groups = { "unit" })
+    public void mergeGroupsAcrossPartitions() {
+        List<FeedResponse<Document>> pages = Arrays.asList(
+            page(1.5,
+                selectListRow("a", 2, 10, "{\"sum\":10,\"count\":2}"),
+                selectListRow("b", 1, 4, "{\"sum\":4,\"count\":1}")),
+            page(2.5,
+                selectListRow("a", 1, 5, "{\"sum\":5,\"count\":1}")));
+
+        List<FeedResponse<Document>> results = drain(new QueryInfo(SELECT_LIST_QUERY_INFO), 0, pages, 10);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getRequestCharge()).isEqualTo(4.0);
+        List<Document> groups = results.get(0).getResults();
+        assertThat(groups).hasSize(2);
+        assertThat(groups.get(0).getString("team")).isEqualTo("a");
+        assertThat(ModelBridgeInternal.getIntFromJsonSerializable(groups.get(0), "players")).isEqualTo(3);
+        assertThat(ModelBridgeInternal.getIntFromJsonSerializable(groups.get(0), "points")).isEqualTo(15);
+        assertThat(ModelBridgeInternal.getDoubleFromJsonSerializable(groups.get(0), "average")).isEqualTo(5.0);
+        assertThat(groups.get(1).getString("team")).isEqualTo("b");
+        assertThat(ModelBridgeInternal.getIntFromJsonSerializable(groups.get(1), "players")).isEqualTo(1);
+        assertThat(ModelBridgeInternal.getDoubleFromJsonSerializable(groups.get(1), "average")).isEqualTo(4.0);
+    }
+
+    @Test(groups = { "unit" })
+    public void returnGroupsInPages() {
+        List<FeedResponse<Document>> pages = Collections.singletonList(page(3.0,
+            selectListRow("a", 1, 1, "{\"sum\":1,\"count\":1}"),
+            selectListRow("b", 1, 1, "{\"sum\":1,\"count\":1}"),
+            selectListRow("c", 1, 1, "{\"sum\":1,\"count\":1}")));
+
+        List<FeedResponse<Document>> results = drain(new QueryInfo(SELECT_LIST_QUERY_INFO), 0, pages, 2);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getResults()).hasSize(2);
+        assertThat(results.get(0).getRequestCharge()).isEqualTo(3.0);
+        assertThat(results.get(1).getResults()).hasSize(1);
+        assertThat(results.get(1).getRequestCharge()).isEqualTo(0.0);
+    }
+
+    @Test(groups = { "unit" })
+    public void mergeSelectValueGroups() {
+        QueryInfo queryInfo = new QueryInfo("{"
+            + "\"groupByExpressions\":[\"c.team\"],"
+            + "\"groupByAliases\":[],"
+            + "\"groupByAliasToAggregateType\":{},"
+            + "\"aggregates\":[\"Max\"],"
+            + "\"hasSelectValue\":true}");
+        List<FeedResponse<Document>> pages = Arrays.asList(
+            page(1.0, new Document("{\"groupByItems\":[{\"item\":\"a\"}],\"payload\":[{\"item\":3}]}")),
+            page(1.0, new Document("{\"groupByItems\":[{\"item\":\"a\"}],\"payload\":[{\"item\":7}]}")));
+
+        List<Document> groups = drain(queryInfo, 0, pages, 10).get(0).getResults();
+
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0).getInt("_value")).isEqualTo(7);
+    }
+
+    @Test(groups = { "unit" })
+    public void failWhenGroupCountExceedsMaxBufferedItemCount() {
+        List<FeedResponse<Document>> pages = Collections.singletonList(page(1.0,
+            selectListRow("a", 1, 1, "{\"sum\":1,\"count\":1}"),
+            selectListRow("b", 1, 1, "{\"sum\":1,\"count\":1}")));
+
+        Throwable error = drainError(new QueryInfo(SELECT_LIST_QUERY_INFO), 1, pages, null);
+
+        assertThat(error).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test(groups = { "unit" })
+    public void failWithContinuationToken() {
+        Throwable error = drainError(new QueryInfo(SELECT_LIST_QUERY_INFO), 0, Collections.emptyList(), "token");
+
+        assertThat(error).isInstanceOf(BadRequestException.class);
+    }
+
+    private static Document selectListRow(String team, int players, int points, String average) {
+        return new Document(String.format(
+            "{\"groupByItems\":[{\"item\":\"%s\"}],\"payload\":{\"team\":\"%s\",\"players\":{\"item\":%d},"
+                + "\"points\":{\"item\":%d},\"average\":{\"item\":%s}}}",
+            team, team, players, points, average));
+    }
+
+    private static FeedResponse<Document> page(double requestCharge, Document... rows) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpConstants.HttpHeaders.REQUEST_CHARGE, Double.toString(requestCharge));
+        return BridgeInternal.createFeedResponse(new ArrayList<>(Arrays.asList(rows)), headers);
+    }
+
+    private static Flux<FeedResponse<Document>> createAndDrain(QueryInfo queryInfo,
+                                                              int maxBufferedItemCount,
+                                                              List<FeedResponse<Document>> pages,
+                                                              String continuationToken,
+                                                              int maxPageSize) {
+        IDocumentQueryExecutionComponent<Document> source = pageSize -> Flux.fromIterable(pages);
+        return GroupByDocumentQueryExecutionContext.createAsync(token -> Flux.just(source), queryInfo,
+            maxBufferedItemCount, continuationToken)
+            .flatMap(component -> component.drainAsync(maxPageSize));
+    }
+
+    private static List<FeedResponse<Document>> drain(QueryInfo queryInfo,
+                                                      int maxBufferedItemCount,
+                                                      List<FeedResponse<Document>> pages,
+                                                      int maxPageSize) {
+        return createAndDrain(queryInfo, maxBufferedItemCount, pages, null, maxPageSize).collectList().block();
+    }
+
+    private static Throwable drainError(QueryInfo queryInfo,
+                                        int maxBufferedItemCount,
+                                        List<FeedResponse<Document>> pages,
+                                        String continuationToken) {
+        List<Signal<FeedResponse<Document>>> signals = createAndDrain(queryInfo, maxBufferedItemCount, pages,
+            continuationToken, 10)
+            .materialize()
+            .filter(Signal::isOnError)
+            .collect(Collectors.toList())
+            .block();
+        assertThat(signals).hasSize(1);
+        return signals.get(0).getThrowable();
+    }
+}
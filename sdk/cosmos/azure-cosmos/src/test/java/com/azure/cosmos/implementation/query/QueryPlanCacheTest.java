@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.cosmos.implementation.query;
+
+import com.azure.cosmos.implementation.routing.PartitionKeyInternalHelper;
+import com.azure.cosmos.implementation.routing.Range;
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryPlanCacheTest {
+    private static final String COLLECTION_LINK = "dbs/db/colls/coll";
+    private static final String COLLECTION_RID = "rid1";
+
+    @Test(groups = { "unit" })
+    public void getCachedQueryPlan() {
+        QueryPlanCache cache = new QueryPlanCache(10);
+        PartitionedQueryExecutionInfo queryPlan = fullRangeQueryPlan("{}");
+        cache.put(COLLECTION_LINK, COLLECTION_RID, new SqlQuerySpec("SELECT * FROM c"), queryPlan);
+
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, new SqlQuerySpec("SELECT  *\n FROM c "))).isSameAs(queryPlan);
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, new SqlQuerySpec("SELECT * FROM c WHERE c.id = 'a  b'"))).isNull();
+        assertThat(cache.get("dbs/db/colls/other", COLLECTION_RID, new SqlQuerySpec("SELECT * FROM c"))).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test(groups = { "unit" })
+    public void normalizeQueryTextKeepsStringLiterals() {
+        StringBuilder normalized = new StringBuilder();
+        QueryPlanCache.normalizeQueryText("  SELECT *\tFROM c WHERE c.name = 'a \\'  b'  AND c.x = \"y  z\" ", normalized);
+
+        assertThat(normalized.toString()).isEqualTo("SELECT * FROM c WHERE c.name = 'a \\'  b' AND c.x = \"y  z\"");
+    }
+
+    @Test(groups = { "unit" })
+    public void reuseFullRangeQueryPlanForAnyParameterValues() {
+        QueryPlanCache cache = new QueryPlanCache(10);
+        PartitionedQueryExecutionInfo queryPlan = fullRangeQueryPlan("{}");
+        cache.put(COLLECTION_LINK, COLLECTION_RID, parameterizedQuery("a"), queryPlan);
+
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, parameterizedQuery("b"))).isSameAs(queryPlan);
+    }
+
+    @Test(groups = { "unit" })
+    public void keyQueryPlanByParameterValuesWhenItDependsOnThem() {
+        QueryPlanCache cache = new QueryPlanCache(10);
+        PartitionedQueryExecutionInfo pointRangeQueryPlan = new PartitionedQueryExecutionInfo(new QueryInfo("{}"),
+            Collections.singletonList(Range.getPointRange("05C1D9CD673398")));
+        PartitionedQueryExecutionInfo topQueryPlan = fullRangeQueryPlan("{\"top\":5}");
+        cache.put(COLLECTION_LINK, COLLECTION_RID, parameterizedQuery("a"), pointRangeQueryPlan);
+        cache.put(COLLECTION_LINK, COLLECTION_RID, parameterizedTopQuery(5), topQueryPlan);
+
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, parameterizedQuery("a"))).isSameAs(pointRangeQueryPlan);
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, parameterizedQuery("b"))).isNull();
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, parameterizedTopQuery(5))).isSameAs(topQueryPlan);
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, parameterizedTopQuery(6))).isNull();
+    }
+
+    @Test(groups = { "unit" })
+    public void dropQueryPlanOfRecreatedCollection() {
+        QueryPlanCache cache = new QueryPlanCache(10);
+        cache.put(COLLECTION_LINK, COLLECTION_RID, new SqlQuerySpec("SELECT * FROM c"), fullRangeQueryPlan("{}"));
+
+        assertThat(cache.get(COLLECTION_LINK, "rid2", new SqlQuerySpec("SELECT * FROM c"))).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test(groups = { "unit" })
+    public void evictLeastRecentlyUsedQueryPlan() {
+        QueryPlanCache cache = new QueryPlanCache(2);
+        SqlQuerySpec query1 = new SqlQuerySpec("SELECT * FROM c WHERE c.id = '1'");
+        SqlQuerySpec query2 = new SqlQuerySpec("SELECT * FROM c WHERE c.id = '2'");
+        SqlQuerySpec query3 = new SqlQuerySpec("SELECT * FROM c WHERE c.id = '3'");
+        cache.put(COLLECTION_LINK, COLLECTION_RID, query1, fullRangeQueryPlan("{}"));
+        cache.put(COLLECTION_LINK, COLLECTION_RID, query2, fullRangeQueryPlan("{}"));
+        cache.get(COLLECTION_LINK, COLLECTION_RID, query1);
+        cache.put(COLLECTION_LINK, COLLECTION_RID, query3, fullRangeQueryPlan("{}"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, query1)).isNotNull();
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, query2)).isNull();
+    }
+
+    @Test(groups = { "unit" })
+    public void zeroSizeDisablesCache() {
+        QueryPlanCache cache = new QueryPlanCache(0);
+        cache.put(COLLECTION_LINK, COLLECTION_RID, new SqlQuerySpec("SELECT * FROM c"), fullRangeQueryPlan("{}"));
+
+        assertThat(cache.get(COLLECTION_LINK, COLLECTION_RID, new SqlQuerySpec("SELECT * FROM c"))).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    private static PartitionedQueryExecutionInfo fullRangeQueryPlan(String queryInfoJson) {
+        return new PartitionedQueryExecutionInfo(new QueryInfo(queryInfoJson), Collections.singletonList(
+            new Range<>(PartitionKeyInternalHelper.MinimumInclusiveEffectivePartitionKey,
+                PartitionKeyInternalHelper.MaximumExclusiveEffectivePartitionKey, true, false)));
+    }
+
+    private static SqlQuerySpec parameterizedQuery(String pk) {
+        return new SqlQuerySpec("SELECT * FROM c WHERE c.pk = @pk", new SqlParameter("@pk", pk));
+    }
+
+    private static SqlQuerySpec parameterizedTopQuery(int top) {
+        return new SqlQuerySpec("SELECT TOP @top * FROM c", new SqlParameter("@top", top));
+    }
+}
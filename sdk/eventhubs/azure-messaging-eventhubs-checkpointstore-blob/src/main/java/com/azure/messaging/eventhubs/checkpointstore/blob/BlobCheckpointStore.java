@@ -3,6 +3,7 @@
 
 package com.azure.messaging.eventhubs.checkpointstore.blob;
 
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.logging.ClientLogger;
@@ -20,14 +21,25 @@ import com.azure.storage.blob.models.ListBlobsOptions;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import reactor.core.Disposable;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -37,9 +49,30 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * for persisting partition ownership and checkpoint information. {@link EventProcessorClient EventProcessors} can use
  * this implementation to load balance and update checkpoints.
  *
+ * <p>
+ * By default, every checkpoint update is written to its blob. A store created with {@link
+ * CheckpointCoalescingOptions} coalesces the updates of each partition instead: only the latest checkpoint is kept,
+ * and it is written once the {@link CheckpointCoalescingOptions#setFlushInterval(Duration) flush interval} has elapsed
+ * or once the partition has had {@link CheckpointCoalescingOptions#setMaxUpdatesPerFlush(int) enough updates}. The
+ * pending checkpoint of a partition is also written before a claim that changes the owner of the partition, such as
+ * the claims an {@link EventProcessorClient} makes to give up its partitions when it is stopped, but not before the
+ * claims that renew the ownership of the current owner. All the pending checkpoints are written when the store is
+ * {@link #close() closed}. When a claim fails because another processor has claimed the partition, the pending
+ * checkpoint of the partition is dropped, as the new owner may have written newer checkpoints since; claims that fail
+ * for other reasons keep it. This lets a processor checkpoint after every event without a Storage Blobs write for each
+ * of them, at the cost of re-processing the events since the last write if the processor stops without giving up its
+ * partitions or loses ownership of a partition.
+ * </p>
+ *
+ * <p>
+ * The flush interval is timed on {@link Schedulers#parallel()} while any partition has a checkpoint pending or is owned
+ * through this store, and stops once there is none. {@link EventProcessorClient} doesn't close its checkpoint store;
+ * close the store once it is no longer used to write the checkpoints still pending.
+ * </p>
+ *
  * @see EventProcessorClient
  */
-public class BlobCheckpointStore implements CheckpointStore {
+public class BlobCheckpointStore implements CheckpointStore, Closeable {
 
     private static final String SEQUENCE_NUMBER = "sequencenumber";
     private static final String OFFSET = "offset";
@@ -55,6 +88,16 @@ public class BlobCheckpointStore implements CheckpointStore {
     private final BlobContainerAsyncClient blobContainerAsyncClient;
     private final ClientLogger logger = new ClientLogger(BlobCheckpointStore.class);
     private final Map<String, BlobAsyncClient> blobClients = new ConcurrentHashMap<>();
+    private final Map<String, PendingCheckpoint> pendingCheckpoints = new ConcurrentHashMap<>();
+    private final AtomicLong savedCheckpointWrites = new AtomicLong();
+    private final Map<String, String> claimedOwners = new ConcurrentHashMap<>();
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+    private final boolean coalesceCheckpoints;
+    private final int maxUpdatesPerFlush;
+    private final Duration flushInterval;
+    private final Scheduler scheduler;
+    private final Object flushTimerLock = new Object();
+    private Disposable flushTimer;
 
     /**
      * Creates an instance of BlobCheckpointStore.
@@ -63,7 +106,47 @@ public class BlobCheckpointStore implements CheckpointStore {
      * blobs in the storage container.
      */
     public BlobCheckpointStore(BlobContainerAsyncClient blobContainerAsyncClient) {
+        this(blobContainerAsyncClient, null, null);
+    }
+
+    /**
+     * Creates an instance of BlobCheckpointStore that coalesces the checkpoint updates of each partition and writes
+     * only the latest of them.
+     *
+     * @param blobContainerAsyncClient The {@link BlobContainerAsyncClient} this instance will use to read and update
+     * blobs in the storage container.
+     * @param coalescingOptions When to write the latest checkpoint of a partition.
+     * @throws NullPointerException if {@code coalescingOptions} or its flush interval is {@code null}.
+     * @throws IllegalArgumentException if the flush interval or the maximum number of updates per flush isn't
+     * positive.
+     */
+    public BlobCheckpointStore(BlobContainerAsyncClient blobContainerAsyncClient,
+        CheckpointCoalescingOptions coalescingOptions) {
+        this(blobContainerAsyncClient, Objects.requireNonNull(coalescingOptions, "'coalescingOptions' cannot be null."),
+            Schedulers.parallel());
+    }
+
+    BlobCheckpointStore(BlobContainerAsyncClient blobContainerAsyncClient,
+        CheckpointCoalescingOptions coalescingOptions, Scheduler scheduler) {
         this.blobContainerAsyncClient = blobContainerAsyncClient;
+        this.coalesceCheckpoints = coalescingOptions != null;
+        this.scheduler = scheduler;
+        if (coalescingOptions == null) {
+            this.maxUpdatesPerFlush = 1;
+            this.flushInterval = null;
+            return;
+        }
+
+        this.flushInterval = Objects.requireNonNull(coalescingOptions.getFlushInterval(),
+            "'flushInterval' cannot be null.");
+        if (flushInterval.isZero() || flushInterval.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'flushInterval' must be positive."));
+        } else if (coalescingOptions.getMaxUpdatesPerFlush() < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxUpdatesPerFlush' must be greater than 0."));
+        }
+
+        this.maxUpdatesPerFlush = coalescingOptions.getMaxUpdatesPerFlush();
     }
 
     /**
@@ -147,58 +230,59 @@ public class BlobCheckpointStore implements CheckpointStore {
     @Override
     public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
 
-        return Flux.fromIterable(requestedPartitionOwnerships).flatMap(partitionOwnership -> {
-            try {
-                String partitionId = partitionOwnership.getPartitionId();
-                String blobName = getBlobName(partitionOwnership.getFullyQualifiedNamespace(),
-                    partitionOwnership.getEventHubName(), partitionOwnership.getConsumerGroup(), partitionId,
-                    OWNERSHIP_PATH);
+        return Flux.fromIterable(requestedPartitionOwnerships).flatMap(partitionOwnership ->
+            flushBeforeClaim(partitionOwnership).thenMany(Flux.defer(() -> claim(partitionOwnership))));
+    }
 
-                if (!blobClients.containsKey(blobName)) {
-                    blobClients.put(blobName, blobContainerAsyncClient.getBlobAsyncClient(blobName));
-                }
+    private Flux<PartitionOwnership> claim(PartitionOwnership partitionOwnership) {
+        try {
+            String partitionId = partitionOwnership.getPartitionId();
+            String blobName = getBlobName(partitionOwnership.getFullyQualifiedNamespace(),
+                partitionOwnership.getEventHubName(), partitionOwnership.getConsumerGroup(), partitionId,
+                OWNERSHIP_PATH);
 
-                BlobAsyncClient blobAsyncClient = blobClients.get(blobName);
-
-                Map<String, String> metadata = new HashMap<>();
-                metadata.put(OWNER_ID, partitionOwnership.getOwnerId());
-
-                BlobRequestConditions blobRequestConditions = new BlobRequestConditions();
-                if (CoreUtils.isNullOrEmpty(partitionOwnership.getETag())) {
-                    // New blob should be created
-                    blobRequestConditions.setIfNoneMatch("*");
-                    return blobAsyncClient.getBlockBlobAsyncClient()
-                        .uploadWithResponse(Flux.just(UPLOAD_DATA), 0, null, metadata, null, null,
-                            blobRequestConditions)
-                        .flatMapMany(response -> updateOwnershipETag(response, partitionOwnership), error -> {
-                            logger.verbose(Messages.CLAIM_ERROR, partitionId, error.getMessage());
-                            return Mono.empty();
-                        }, Mono::empty);
-                } else {
-                    // update existing blob
-                    blobRequestConditions.setIfMatch(partitionOwnership.getETag());
-                    return blobAsyncClient.setMetadataWithResponse(metadata, blobRequestConditions)
-                        .flatMapMany(response -> updateOwnershipETag(response, partitionOwnership), error -> {
-                            logger.verbose(Messages.CLAIM_ERROR, partitionId, error);
-                            return Mono.empty();
-                        }, Mono::empty);
-                }
-            } catch (Exception ex) {
-                logger.warning(Messages.CLAIM_ERROR, partitionOwnership.getPartitionId(), ex);
-                return Mono.empty();
+            if (!blobClients.containsKey(blobName)) {
+                blobClients.put(blobName, blobContainerAsyncClient.getBlobAsyncClient(blobName));
             }
-        });
-    }
 
-    private Mono<PartitionOwnership> updateOwnershipETag(Response<?> response, PartitionOwnership ownership) {
-        return Mono.just(ownership.setETag(response.getHeaders().get(ETAG).getValue()));
+            BlobAsyncClient blobAsyncClient = blobClients.get(blobName);
+
+            Map<String, String> metadata = new HashMap<>();
+            metadata.put(OWNER_ID, partitionOwnership.getOwnerId());
+
+            BlobRequestConditions blobRequestConditions = new BlobRequestConditions();
+            if (CoreUtils.isNullOrEmpty(partitionOwnership.getETag())) {
+                // New blob should be created
+                blobRequestConditions.setIfNoneMatch("*");
+                return blobAsyncClient.getBlockBlobAsyncClient()
+                    .uploadWithResponse(Flux.just(UPLOAD_DATA), 0, null, metadata, null, null,
+                        blobRequestConditions)
+                    .flatMapMany(response -> onOwnershipClaimed(response, partitionOwnership), error -> {
+                        logger.verbose(Messages.CLAIM_ERROR, partitionId, error.getMessage());
+                        return onClaimFailed(partitionOwnership, error);
+                    }, Mono::empty);
+            } else {
+                // update existing blob
+                blobRequestConditions.setIfMatch(partitionOwnership.getETag());
+                return blobAsyncClient.setMetadataWithResponse(metadata, blobRequestConditions)
+                    .flatMapMany(response -> onOwnershipClaimed(response, partitionOwnership), error -> {
+                        logger.verbose(Messages.CLAIM_ERROR, partitionId, error);
+                        return onClaimFailed(partitionOwnership, error);
+                    }, Mono::empty);
+            }
+        } catch (Exception ex) {
+            logger.warning(Messages.CLAIM_ERROR, partitionOwnership.getPartitionId(), ex);
+            return Flux.empty();
+        }
     }
 
     /**
-     * Updates the checkpoint in Storage Blobs for a partition.
+     * Updates the checkpoint in Storage Blobs for a partition. If this store coalesces checkpoint updates, the
+     * checkpoint replaces the pending checkpoint of its partition and is written later.
      *
      * @param checkpoint Checkpoint information containing sequence number and offset to be stored for this partition.
-     * @return The new ETag on successful update.
+     * @return A {@link Mono} that completes once the checkpoint is written, or once it is pending if this store
+     * coalesces checkpoint updates.
      */
     @Override
     public Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
@@ -211,6 +295,78 @@ public class BlobCheckpointStore implements CheckpointStore {
         String partitionId = checkpoint.getPartitionId();
         String blobName = getBlobName(checkpoint.getFullyQualifiedNamespace(), checkpoint.getEventHubName(),
             checkpoint.getConsumerGroup(), partitionId, CHECKPOINT_PATH);
+
+        if (!coalesceCheckpoints || isClosed.get()) {
+            return writeCheckpoint(blobName, checkpoint);
+        }
+
+        return Mono.fromRunnable(() -> {
+            while (true) {
+                final PendingCheckpoint pending = pendingCheckpoints.computeIfAbsent(blobName, PendingCheckpoint::new);
+                final boolean shouldWrite;
+                synchronized (pending) {
+                    if (pending.isRemoved) {
+                        // The partition was given up or lost concurrently, its entry is added again.
+                        continue;
+                    }
+
+                    pending.checkpoint = checkpoint;
+                    pending.updates++;
+                    shouldWrite = pending.updates >= maxUpdatesPerFlush;
+                }
+
+                startFlushTimer();
+                if (shouldWrite) {
+                    writePendingCheckpoint(pending);
+                }
+                return;
+            }
+        });
+    }
+
+    /**
+     * Writes the pending checkpoints of all partitions, without waiting for the flush interval. Does nothing if this
+     * store doesn't coalesce checkpoint updates.
+     *
+     * @return A {@link Mono} that completes once the checkpoints pending when it was subscribed to are written.
+     */
+    public Mono<Void> flushCheckpoints() {
+        return Flux.fromIterable(pendingCheckpoints.values())
+            .flatMap(this::flush)
+            .then();
+    }
+
+    /**
+     * Gets the number of checkpoint updates that were not written to Storage Blobs because a later update of the same
+     * partition replaced them before they were written.
+     *
+     * @return The number of checkpoint writes saved by coalescing checkpoint updates.
+     */
+    public long getSavedCheckpointWriteCount() {
+        return savedCheckpointWrites.get();
+    }
+
+    /**
+     * Stops the periodic flush and writes the pending checkpoints of all partitions. Checkpoints updated afterwards are
+     * written immediately.
+     */
+    @Override
+    public void close() {
+        if (!coalesceCheckpoints || isClosed.getAndSet(true)) {
+            return;
+        }
+
+        synchronized (flushTimerLock) {
+            if (flushTimer != null) {
+                flushTimer.dispose();
+                flushTimer = null;
+            }
+        }
+
+        flushCheckpoints().block();
+    }
+
+    private Mono<Void> writeCheckpoint(String blobName, Checkpoint checkpoint) {
         if (!blobClients.containsKey(blobName)) {
             blobClients.put(blobName, blobContainerAsyncClient.getBlobAsyncClient(blobName));
         }
@@ -234,6 +390,210 @@ public class BlobCheckpointStore implements CheckpointStore {
         });
     }
 
+    /*
+     * Starts timing the flush interval, unless it is already timed or the store is closed.
+     */
+    private void startFlushTimer() {
+        synchronized (flushTimerLock) {
+            if (flushTimer == null && !isClosed.get()) {
+                flushTimer = scheduler.schedulePeriodically(this::writePendingCheckpoints, flushInterval.toMillis(),
+                    flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /*
+     * Writes the pending checkpoint of every partition whose previous write has completed. Stops timing the flush
+     * interval once no partition has an entry, it is started again by the next checkpoint update.
+     */
+    private void writePendingCheckpoints() {
+        synchronized (flushTimerLock) {
+            if (pendingCheckpoints.isEmpty() && flushTimer != null) {
+                flushTimer.dispose();
+                flushTimer = null;
+                return;
+            }
+        }
+
+        pendingCheckpoints.values().forEach(this::writePendingCheckpoint);
+    }
+
+    /*
+     * Writes the pending checkpoint of a partition, unless its previous write is still in progress. Only one write per
+     * partition is in progress at a time, so that an older checkpoint can't overwrite a newer one.
+     */
+    private void writePendingCheckpoint(PendingCheckpoint pending) {
+        final Checkpoint checkpoint;
+        final int updates;
+        synchronized (pending) {
+            if (pending.isWriting || pending.checkpoint == null) {
+                return;
+            }
+
+            checkpoint = pending.checkpoint;
+            updates = pending.updates;
+            pending.isWriting = true;
+            pending.checkpoint = null;
+            pending.updates = 0;
+        }
+
+        writeCheckpoint(pending.blobName, checkpoint).subscribe(
+            unused -> {
+            },
+            error -> onCheckpointWritten(pending, checkpoint, updates, error),
+            () -> onCheckpointWritten(pending, checkpoint, updates, null));
+    }
+
+    private void onCheckpointWritten(PendingCheckpoint pending, Checkpoint checkpoint, int updates, Throwable error) {
+        final List<MonoSink<Void>> completedFlushes;
+        final boolean writeAgain;
+        synchronized (pending) {
+            pending.isWriting = false;
+            if (error == null) {
+                savedCheckpointWrites.addAndGet(updates - 1);
+            } else if (pending.checkpoint == null) {
+                // Nothing replaced the checkpoint while it was being written, so it is written again on the next flush.
+                pending.checkpoint = checkpoint;
+                pending.updates = updates;
+            } else {
+                pending.updates += updates;
+            }
+
+            writeAgain = error == null && pending.checkpoint != null
+                && (!pending.flushes.isEmpty() || pending.updates >= maxUpdatesPerFlush);
+            if (writeAgain) {
+                completedFlushes = Collections.emptyList();
+            } else {
+                completedFlushes = new ArrayList<>(pending.flushes);
+                pending.flushes.clear();
+            }
+        }
+
+        if (error != null) {
+            logger.warning(Messages.CHECKPOINT_WRITE_ERROR, pending.blobName, error.getMessage());
+            completedFlushes.forEach(sink -> sink.error(error));
+        } else {
+            completedFlushes.forEach(MonoSink::success);
+        }
+
+        if (writeAgain) {
+            writePendingCheckpoint(pending);
+        }
+    }
+
+    /*
+     * Writes the pending checkpoint of a partition, and completes once it and any write in progress have completed.
+     */
+    private Mono<Void> flush(PendingCheckpoint pending) {
+        return Mono.create(sink -> {
+            synchronized (pending) {
+                if (!pending.isWriting && pending.checkpoint == null) {
+                    sink.success();
+                    return;
+                }
+
+                pending.flushes.add(sink);
+            }
+
+            writePendingCheckpoint(pending);
+        });
+    }
+
+    /*
+     * Writes the pending checkpoint of a partition before a claim that changes its owner, while the current owner
+     * still owns it, so that the next owner of the partition starts from it. Claims that renew the ownership of the
+     * owner that last claimed the partition through this store don't wait for a write.
+     */
+    private Mono<Void> flushBeforeClaim(PartitionOwnership ownership) {
+        final String checkpointBlobName = getCheckpointBlobName(ownership);
+        final PendingCheckpoint pending = pendingCheckpoints.get(checkpointBlobName);
+        if (pending == null || isOwnershipRenewal(checkpointBlobName, ownership)) {
+            return Mono.empty();
+        }
+
+        // A failed write is logged when it completes, and doesn't fail the claim.
+        return flush(pending).onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<PartitionOwnership> onOwnershipClaimed(Response<?> response, PartitionOwnership ownership) {
+        if (coalesceCheckpoints) {
+            final String checkpointBlobName = getCheckpointBlobName(ownership);
+            final String previousOwner = claimedOwners.put(checkpointBlobName, ownership.getOwnerId());
+            if (!Objects.equals(previousOwner, ownership.getOwnerId())) {
+                // The owner changed, so the checkpoint pending for the previous owner, if any, was written before the
+                // claim and its entry is no longer needed.
+                removePendingCheckpointIfIdle(checkpointBlobName);
+            }
+        }
+
+        return Mono.just(ownership.setETag(response.getHeaders().get(ETAG).getValue()));
+    }
+
+    /*
+     * Drops the pending checkpoint of a partition whose ownership was claimed by another processor. Writing it would
+     * overwrite the newer checkpoints of the partition's new owner. A claim that failed for another reason, such as a
+     * timeout or a server error, doesn't mean ownership was lost, so the pending checkpoint is kept.
+     */
+    private Mono<PartitionOwnership> onClaimFailed(PartitionOwnership ownership, Throwable error) {
+        if (!coalesceCheckpoints || !isOwnershipConflict(error)) {
+            return Mono.empty();
+        }
+
+        final String checkpointBlobName = getCheckpointBlobName(ownership);
+        claimedOwners.remove(checkpointBlobName);
+        final PendingCheckpoint pending = pendingCheckpoints.get(checkpointBlobName);
+        if (pending != null) {
+            synchronized (pending) {
+                pending.checkpoint = null;
+                pending.updates = 0;
+            }
+
+            removePendingCheckpointIfIdle(checkpointBlobName);
+        }
+
+        return Mono.empty();
+    }
+
+    private boolean isOwnershipRenewal(String checkpointBlobName, PartitionOwnership ownership) {
+        return Objects.equals(claimedOwners.get(checkpointBlobName), ownership.getOwnerId());
+    }
+
+    /*
+     * Removes the entry of a partition that has no checkpoint pending or being written, so that the entries of the
+     * partitions this store no longer writes checkpoints for don't accumulate.
+     */
+    private void removePendingCheckpointIfIdle(String checkpointBlobName) {
+        final PendingCheckpoint pending = pendingCheckpoints.get(checkpointBlobName);
+        if (pending == null) {
+            return;
+        }
+
+        synchronized (pending) {
+            if (!pending.isWriting && pending.checkpoint == null && pending.flushes.isEmpty()) {
+                pending.isRemoved = true;
+                pendingCheckpoints.remove(checkpointBlobName, pending);
+            }
+        }
+    }
+
+    /*
+     * Whether the claim failed because the ownership record was changed or created by another processor since it was
+     * read, which the service reports with a 412 (precondition failed) or 409 (conflict) status.
+     */
+    private static boolean isOwnershipConflict(Throwable error) {
+        if (!(error instanceof HttpResponseException) || ((HttpResponseException) error).getResponse() == null) {
+            return false;
+        }
+
+        final int statusCode = ((HttpResponseException) error).getResponse().getStatusCode();
+        return statusCode == 412 || statusCode == 409;
+    }
+
+    private String getCheckpointBlobName(PartitionOwnership ownership) {
+        return getBlobName(ownership.getFullyQualifiedNamespace(), ownership.getEventHubName(),
+            ownership.getConsumerGroup(), ownership.getPartitionId(), CHECKPOINT_PATH);
+    }
+
     private String getBlobPrefix(String fullyQualifiedNamespace, String eventHubName, String consumerGroupName,
         String typeSuffix) {
         return fullyQualifiedNamespace + BLOB_PATH_SEPARATOR + eventHubName + BLOB_PATH_SEPARATOR + consumerGroupName
@@ -283,4 +643,19 @@ public class BlobCheckpointStore implements CheckpointStore {
         return Mono.empty();
     }
 
+    /*
+     * The latest checkpoint of a partition that hasn't been written yet.
+     */
+    private static final class PendingCheckpoint {
+        private final String blobName;
+        private final List<MonoSink<Void>> flushes = new ArrayList<>();
+        private Checkpoint checkpoint;
+        private int updates;
+        private boolean isWriting;
+        private boolean isRemoved;
+
+        private PendingCheckpoint(String blobName) {
+            this.blobName = blobName;
+        }
+    }
 }
@@ -0,0 +1,68 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.checkpointstore.blob;
+
+import com.azure.core.annotation.Fluent;
+
+import java.time.Duration;
+
+/**
+ * Options for a {@link BlobCheckpointStore} that coalesces checkpoint updates. Only the latest checkpoint of each
+ * partition is kept, and it is written to Storage Blobs once the flush interval has elapsed or once the partition has
+ * had the maximum number of updates since its last write, whichever comes first.
+ *
+ * @see BlobCheckpointStore#BlobCheckpointStore(com.azure.storage.blob.BlobContainerAsyncClient,
+ *     CheckpointCoalescingOptions)
+ */
+@Fluent
+public class CheckpointCoalescingOptions {
+    static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(5);
+    static final int DEFAULT_MAX_UPDATES_PER_FLUSH = 100;
+
+    private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private int maxUpdatesPerFlush = DEFAULT_MAX_UPDATES_PER_FLUSH;
+
+    /**
+     * Gets the interval at which pending checkpoints are written.
+     *
+     * @return The interval at which pending checkpoints are written.
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Sets the interval at which pending checkpoints are written. Defaults to 5 seconds.
+     *
+     * @param flushInterval The interval at which pending checkpoints are written. Must be positive.
+     * @return The updated {@link CheckpointCoalescingOptions} object.
+     */
+    public CheckpointCoalescingOptions setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+        return this;
+    }
+
+    /**
+     * Gets the number of checkpoint updates to a partition after which its latest checkpoint is written without
+     * waiting for the flush interval.
+     *
+     * @return The number of checkpoint updates to a partition that triggers a write.
+     */
+    public int getMaxUpdatesPerFlush() {
+        return maxUpdatesPerFlush;
+    }
+
+    /**
+     * Sets the number of checkpoint updates to a partition after which its latest checkpoint is written without
+     * waiting for the flush interval. Defaults to 100.
+     *
+     * @param maxUpdatesPerFlush The number of checkpoint updates to a partition that triggers a write. Must be
+     *     positive.
+     * @return The updated {@link CheckpointCoalescingOptions} object.
+     */
+    public CheckpointCoalescingOptions setMaxUpdatesPerFlush(int maxUpdatesPerFlush) {
+        this.maxUpdatesPerFlush = maxUpdatesPerFlush;
+        return this;
+    }
+}
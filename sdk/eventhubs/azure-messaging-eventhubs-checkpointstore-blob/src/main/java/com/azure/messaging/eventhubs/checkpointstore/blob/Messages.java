@@ -19,6 +19,7 @@ public enum Messages {
     public static final String FOUND_BLOB_FOR_PARTITION = getMessage("FOUND_BLOB_FOR_PARTITION");
     public static final String BLOB_OWNER_INFO = getMessage("BLOB_OWNER_INFO");
     public static final String CHECKPOINT_INFO = getMessage("CHECKPOINT_INFO");
+    public static final String CHECKPOINT_WRITE_ERROR = getMessage("CHECKPOINT_WRITE_ERROR");
 
     /**
      * @param key the key of the message to retrieve
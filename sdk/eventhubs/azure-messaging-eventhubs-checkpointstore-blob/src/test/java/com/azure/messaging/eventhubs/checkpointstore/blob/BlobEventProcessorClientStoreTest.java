@@ -5,6 +5,7 @@ package com.azure.messaging.eventhubs.checkpointstore.blob;
 
 import com.azure.core.exception.ResourceModifiedException;
 import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpResponse;
 import com.azure.core.http.rest.PagedFlux;
 import com.azure.core.http.rest.ResponseBase;
 import com.azure.core.http.rest.PagedResponseBase;
@@ -21,14 +22,17 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
 
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -40,6 +44,11 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -291,6 +300,241 @@ public class BlobEventProcessorClientStoreTest {
         StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(po))).verifyComplete();
     }
 
+    @Test
+    public void testCoalescedCheckpointsWrittenOnFlushInterval() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(blobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any())).thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions().setFlushInterval(Duration.ofSeconds(5)), scheduler);
+
+        for (long sequenceNumber = 1; sequenceNumber <= 3; sequenceNumber++) {
+            StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", sequenceNumber)))
+                .verifyComplete();
+        }
+        verify(blobAsyncClient, never()).setMetadata(anyMap());
+
+        scheduler.advanceTimeBy(Duration.ofSeconds(5));
+
+        verify(blobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(3L));
+        assertEquals(2, blobCheckpointStore.getSavedCheckpointWriteCount());
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCoalescedCheckpointsWrittenAfterMaxUpdates() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(blobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any())).thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions().setMaxUpdatesPerFlush(2), scheduler);
+
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 1L))).verifyComplete();
+        verify(blobAsyncClient, never()).setMetadata(anyMap());
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 2L))).verifyComplete();
+
+        verify(blobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(2L));
+        assertEquals(1, blobCheckpointStore.getSavedCheckpointWriteCount());
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCoalescedCheckpointRetriedAfterFailedWrite() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(blobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any()))
+            .thenReturn(Mono.error(new SocketTimeoutException()), Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions(), scheduler);
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 1L))).verifyComplete();
+
+        StepVerifier.create(blobCheckpointStore.flushCheckpoints())
+            .expectError(SocketTimeoutException.class).verify();
+        StepVerifier.create(blobCheckpointStore.flushCheckpoints()).verifyComplete();
+
+        verify(blobAsyncClient, times(2)).setMetadata(getCheckpointMetadata(1L));
+        StepVerifier.create(blobCheckpointStore.flushCheckpoints()).verifyComplete();
+        verify(blobAsyncClient, times(2)).setMetadata(anyMap());
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCoalescedCheckpointWrittenBeforeClaim() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        BlobAsyncClient checkpointBlobAsyncClient = mock(BlobAsyncClient.class);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/ownership/0")).thenReturn(blobAsyncClient);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0"))
+            .thenReturn(checkpointBlobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.error(new ResourceModifiedException("Etag did not match", null)));
+        when(checkpointBlobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(checkpointBlobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any()))
+            .thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions(), scheduler);
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 7L))).verifyComplete();
+
+        PartitionOwnership po = createPartitionOwnership("ns", "eh", "cg", "0", "owner1");
+        po.setETag("1");
+        StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(po))).verifyComplete();
+
+        InOrder inOrder = inOrder(checkpointBlobAsyncClient, blobAsyncClient);
+        inOrder.verify(checkpointBlobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(7L));
+        inOrder.verify(blobAsyncClient, times(1))
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCoalescedCheckpointDroppedWhenOwnershipLost() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        BlobAsyncClient checkpointBlobAsyncClient = mock(BlobAsyncClient.class);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/ownership/0")).thenReturn(blobAsyncClient);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0"))
+            .thenReturn(checkpointBlobAsyncClient);
+        when(checkpointBlobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(checkpointBlobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any()))
+            .thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions(), scheduler);
+
+        // The checkpoint is updated while the claim, which another processor wins, is in progress.
+        ResourceModifiedException conflict = createOwnershipConflict();
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 8L)).then(Mono.error(conflict)));
+
+        PartitionOwnership po = createPartitionOwnership("ns", "eh", "cg", "0", "owner1");
+        po.setETag("1");
+        StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(po))).verifyComplete();
+        StepVerifier.create(blobCheckpointStore.flushCheckpoints()).verifyComplete();
+
+        verify(checkpointBlobAsyncClient, never()).setMetadata(anyMap());
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCoalescedCheckpointKeptWhenClaimFailsWithoutConflict() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        BlobAsyncClient checkpointBlobAsyncClient = mock(BlobAsyncClient.class);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/ownership/0")).thenReturn(blobAsyncClient);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0"))
+            .thenReturn(checkpointBlobAsyncClient);
+        when(checkpointBlobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(checkpointBlobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any()))
+            .thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions(), scheduler);
+
+        // The checkpoint is updated while the claim, which times out, is in progress.
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 8L))
+                .then(Mono.error(new SocketTimeoutException())));
+
+        PartitionOwnership po = createPartitionOwnership("ns", "eh", "cg", "0", "owner1");
+        po.setETag("1");
+        StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(po))).verifyComplete();
+        StepVerifier.create(blobCheckpointStore.flushCheckpoints()).verifyComplete();
+
+        verify(checkpointBlobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(8L));
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCoalescedCheckpointNotWrittenBeforeRenewal() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        BlobAsyncClient checkpointBlobAsyncClient = mock(BlobAsyncClient.class);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.put("eTag", "2");
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/ownership/0")).thenReturn(blobAsyncClient);
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0"))
+            .thenReturn(checkpointBlobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.just(new ResponseBase<>(null, 200, httpHeaders, null, null)));
+        when(checkpointBlobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(checkpointBlobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any()))
+            .thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions(), scheduler);
+
+        PartitionOwnership po = createPartitionOwnership("ns", "eh", "cg", "0", "owner1");
+        po.setETag("1");
+        StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(po))).expectNextCount(1)
+            .verifyComplete();
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 9L))).verifyComplete();
+
+        // Renewing the ownership doesn't write the pending checkpoint.
+        StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(po))).expectNextCount(1)
+            .verifyComplete();
+        verify(checkpointBlobAsyncClient, never()).setMetadata(anyMap());
+
+        // Giving up the ownership does, and the partition no longer has a pending checkpoint afterwards.
+        PartitionOwnership relinquished = createPartitionOwnership("ns", "eh", "cg", "0", "");
+        relinquished.setETag("2");
+        StepVerifier.create(blobCheckpointStore.claimOwnership(Arrays.asList(relinquished))).expectNextCount(1)
+            .verifyComplete();
+        verify(checkpointBlobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(9L));
+        StepVerifier.create(blobCheckpointStore.flushCheckpoints()).verifyComplete();
+        verify(checkpointBlobAsyncClient, times(1)).setMetadata(anyMap());
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testCloseWritesCoalescedCheckpoints() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        when(blobContainerAsyncClient.getBlobAsyncClient("ns/eh/cg/checkpoint/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.exists()).thenReturn(Mono.just(true));
+        when(blobAsyncClient.setMetadata(ArgumentMatchers.<Map<String, String>>any())).thenReturn(Mono.empty());
+        BlobCheckpointStore blobCheckpointStore = new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions(), scheduler);
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 4L))).verifyComplete();
+
+        blobCheckpointStore.close();
+        verify(blobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(4L));
+
+        // Checkpoints updated after closing are written immediately.
+        StepVerifier.create(blobCheckpointStore.updateCheckpoint(createCheckpoint("0", 5L))).verifyComplete();
+        verify(blobAsyncClient, times(1)).setMetadata(getCheckpointMetadata(5L));
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testInvalidCoalescingOptions() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions().setFlushInterval(Duration.ZERO)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BlobCheckpointStore(blobContainerAsyncClient,
+            new CheckpointCoalescingOptions().setMaxUpdatesPerFlush(0)));
+    }
+
+    private static ResourceModifiedException createOwnershipConflict() {
+        HttpResponse response = mock(HttpResponse.class);
+        when(response.getStatusCode()).thenReturn(412);
+        return new ResourceModifiedException("Etag did not match", response);
+    }
+
+    private Checkpoint createCheckpoint(String partitionId, Long sequenceNumber) {
+        return new Checkpoint()
+            .setFullyQualifiedNamespace("ns")
+            .setEventHubName("eh")
+            .setConsumerGroup("cg")
+            .setPartitionId(partitionId)
+            .setSequenceNumber(sequenceNumber)
+            .setOffset(sequenceNumber * 100);
+    }
+
+    private Map<String, String> getCheckpointMetadata(Long sequenceNumber) {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("sequencenumber", String.valueOf(sequenceNumber));
+        metadata.put("offset", String.valueOf(sequenceNumber * 100));
+        return metadata;
+    }
+
     private PartitionOwnership createPartitionOwnership(String fullyQualifiedNamespace, String eventHubName,
         String consumerGroupName,
         String partitionId, String ownerId) {
@@ -7,6 +7,7 @@ import com.azure.core.util.Context;
 
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -16,6 +17,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import static com.azure.core.amqp.AmqpMessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME;
 import static com.azure.core.amqp.AmqpMessageConstant.OFFSET_ANNOTATION_NAME;
@@ -42,6 +45,13 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * types) and Data section is not supported.
  * </p>
  *
+ * <p>
+ * A received {@link EventData} shares its body with the received AMQP message, and only copies the message's
+ * properties into the maps returned by {@link #getProperties()} and {@link #getSystemProperties()} when they are first
+ * accessed. Reading the body with {@link #getBodyAsByteBuffer()} and the offset, sequence number, enqueued time or
+ * partition key doesn't copy anything.
+ * </p>
+ *
  * @see EventDataBatch
  * @see EventHubProducerClient
  * @see EventHubProducerAsyncClient
@@ -52,9 +62,9 @@ public class EventData {
      */
     static final Set<String> RESERVED_SYSTEM_PROPERTIES;
 
-    private final Map<String, Object> properties;
     private final byte[] body;
     private final SystemProperties systemProperties;
+    private Map<String, Object> properties;
     private Context context;
 
     static {
@@ -110,10 +120,24 @@ public class EventData {
      * @throws NullPointerException if {@code body}, {@code systemProperties}, or {@code context} is {@code null}.
      */
     EventData(byte[] body, SystemProperties systemProperties, Context context) {
+        this(body, null, systemProperties, context);
+    }
+
+    /**
+     * Creates a received event with the given {@code body}, application properties, system properties and context.
+     *
+     * @param body The data to set for this event. It is not copied.
+     * @param properties The application properties of this event. The map is used as is, rather than copied. If
+     *     {@code null}, an empty map is created when the properties are first accessed.
+     * @param systemProperties System properties set by message broker for this event.
+     * @param context A specified key-value pair of type {@link Context}.
+     * @throws NullPointerException if {@code body}, {@code systemProperties}, or {@code context} is {@code null}.
+     */
+    EventData(byte[] body, Map<String, Object> properties, SystemProperties systemProperties, Context context) {
         this.body = Objects.requireNonNull(body, "'body' cannot be null.");
         this.context = Objects.requireNonNull(context, "'context' cannot be null.");
         this.systemProperties =  Objects.requireNonNull(systemProperties, "'systemProperties' cannot be null.");
-        this.properties = new HashMap<>();
+        this.properties = properties;
     }
 
     /**
@@ -129,6 +153,10 @@ public class EventData {
      * @return Application properties associated with this {@link EventData}.
      */
     public Map<String, Object> getProperties() {
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
+
         return properties;
     }
 
@@ -158,6 +186,16 @@ public class EventData {
         return Arrays.copyOf(body, body.length);
     }
 
+    /**
+     * Gets a read-only view of the payload/data wrapped by EventData. Unlike {@link #getBody()}, the data is not
+     * copied.
+     *
+     * @return A read-only {@link ByteBuffer} representing the data.
+     */
+    public ByteBuffer getBodyAsByteBuffer() {
+        return ByteBuffer.wrap(body).asReadOnlyBuffer();
+    }
+
     /**
      * Returns event data as UTF-8 decoded string.
      *
@@ -263,17 +301,19 @@ public class EventData {
     }
 
     /**
-     * A collection of properties populated by Azure Event Hubs service.
+     * A collection of properties populated by Azure Event Hubs service. The offset, partition key, enqueued time and
+     * sequence number are kept as fields. The other properties of a received event are only copied into a map when
+     * the collection is first accessed.
      */
-    static class SystemProperties extends HashMap<String, Object> {
-        private static final long serialVersionUID = -2827050124966993723L;
+    static class SystemProperties extends AbstractMap<String, Object> {
         private final Long offset;
         private final String partitionKey;
         private final Instant enqueuedTime;
         private final Long sequenceNumber;
+        private Supplier<Map<String, Object>> propertiesSupplier;
+        private Map<String, Object> properties;
 
         SystemProperties() {
-            super();
             offset = null;
             partitionKey = null;
             enqueuedTime = null;
@@ -281,7 +321,7 @@ public class EventData {
         }
 
         SystemProperties(final Map<String, Object> map) {
-            super(map);
+            this.properties = new HashMap<>(map);
             this.partitionKey = removeSystemProperty(PARTITION_KEY_ANNOTATION_NAME.getValue());
 
             final String offset = removeSystemProperty(OFFSET_ANNOTATION_NAME.getValue());
@@ -306,6 +346,87 @@ public class EventData {
             this.sequenceNumber = sequenceNumber;
         }
 
+        /**
+         * Creates the system properties of a received event.
+         *
+         * @param offset The offset within the Event Hubs stream.
+         * @param partitionKey The partition key, or {@code null} if there is none.
+         * @param enqueuedTime The time the event was enqueued in the Event Hub.
+         * @param sequenceNumber The sequence number in the event stream.
+         * @param propertiesSupplier Supplies the other system properties, without the ones above, the first time the
+         *     collection is accessed. The supplied map is used as is.
+         * @throws NullPointerException if {@code offset}, {@code enqueuedTime}, {@code sequenceNumber} or {@code
+         *     propertiesSupplier} is {@code null}.
+         */
+        SystemProperties(Long offset, String partitionKey, Instant enqueuedTime, Long sequenceNumber,
+            Supplier<Map<String, Object>> propertiesSupplier) {
+            this.offset = Objects.requireNonNull(offset, "'offset' cannot be null.");
+            this.partitionKey = partitionKey;
+            this.enqueuedTime = Objects.requireNonNull(enqueuedTime, "'enqueuedTime' cannot be null.");
+            this.sequenceNumber = Objects.requireNonNull(sequenceNumber, "'sequenceNumber' cannot be null.");
+            this.propertiesSupplier = Objects.requireNonNull(propertiesSupplier,
+                "'propertiesSupplier' cannot be null.");
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return getOrCreateProperties().entrySet();
+        }
+
+        @Override
+        public int size() {
+            return hasProperties() ? getOrCreateProperties().size() : 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasProperties() || getOrCreateProperties().isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return hasProperties() && getOrCreateProperties().containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return hasProperties() ? getOrCreateProperties().get(key) : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return getOrCreateProperties().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return hasProperties() ? getOrCreateProperties().remove(key) : null;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Object> action) {
+            if (hasProperties()) {
+                getOrCreateProperties().forEach(action);
+            }
+        }
+
+        /*
+         * Whether there may be properties to read. False for the system properties of an event that wasn't received
+         * and hasn't had any added, so that reading them doesn't create a map.
+         */
+        private boolean hasProperties() {
+            return properties != null || propertiesSupplier != null;
+        }
+
+        private Map<String, Object> getOrCreateProperties() {
+            if (properties == null) {
+                properties = propertiesSupplier != null ? propertiesSupplier.get() : new HashMap<>();
+                propertiesSupplier = null;
+            }
+
+            return properties;
+        }
+
         /**
          * Gets the offset within the Event Hubs stream.
          *
@@ -348,8 +469,8 @@ public class EventData {
 
         @SuppressWarnings("unchecked")
         private <T> T removeSystemProperty(final String key) {
-            if (this.containsKey(key)) {
-                return (T) (this.remove(key));
+            if (properties.containsKey(key)) {
+                return (T) (properties.remove(key));
             }
 
             return null;
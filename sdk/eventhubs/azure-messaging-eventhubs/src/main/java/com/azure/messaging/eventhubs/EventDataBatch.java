@@ -7,6 +7,7 @@ import com.azure.core.amqp.AmqpMessageConstant;
 import com.azure.core.amqp.exception.AmqpErrorCondition;
 import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.implementation.AmqpConstants;
+import com.azure.core.amqp.implementation.BatchMessageEncoder;
 import com.azure.core.amqp.implementation.ErrorContextProvider;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.util.Context;
@@ -18,15 +19,16 @@ import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
 import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.codec.DroppingWritableBuffer;
 import org.apache.qpid.proton.message.Message;
 import reactor.core.publisher.Signal;
 
 import java.nio.BufferOverflowException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
 import java.util.Optional;
 
 import static com.azure.core.util.tracing.Tracer.AZ_TRACING_NAMESPACE_KEY;
@@ -40,21 +42,28 @@ import static com.azure.messaging.eventhubs.implementation.ClientConstants.AZ_NA
  * A class for aggregating {@link EventData} into a single, size-limited, batch. It is treated as a single message when
  * sent to the Azure Event Hubs service.
  *
+ * <p>Each event is encoded once, when it is added to the batch, and the encoded batch is what is sent.</p>
+ *
  * @see EventHubProducerClient#createBatch()
  * @see EventHubProducerAsyncClient#createBatch()
  * @see EventHubClientBuilder See EventHubClientBuilder for examples of building an asynchronous or synchronous
  *     producer.
  */
 public final class EventDataBatch {
+    private static final int INITIAL_ENCODED_BATCH_SIZE = 4 * 1024;
+
     private final ClientLogger logger = new ClientLogger(EventDataBatch.class);
     private final Object lock = new Object();
     private final int maxMessageSize;
     private final String partitionKey;
     private final ErrorContextProvider contextProvider;
     private final List<EventData> events;
-    private final byte[] eventBytes;
     private final String partitionId;
+    private final int reservedSize;
     private int sizeInBytes;
+    // Guarded by lock. The header of the batch message followed by a Data section per event, grown as events are added.
+    private byte[] encodedBatch;
+    private int encodedSize;
     private final TracerProvider tracerProvider;
     private final String entityPath;
     private final String hostname;
@@ -66,8 +75,9 @@ public final class EventDataBatch {
         this.partitionId = partitionId;
         this.contextProvider = contextProvider;
         this.events = new LinkedList<>();
-        this.sizeInBytes = (maxMessageSize / 65536) * 1024; // reserve 1KB for every 64KB
-        this.eventBytes = new byte[maxMessageSize];
+        this.reservedSize = (maxMessageSize / 65536) * 1024; // reserve 1KB for every 64KB
+        this.sizeInBytes = reservedSize;
+        this.encodedBatch = new byte[Math.min(INITIAL_ENCODED_BATCH_SIZE, maxMessageSize)];
         this.tracerProvider = tracerProvider;
         this.entityPath = entityPath;
         this.hostname = hostname;
@@ -114,26 +124,31 @@ public final class EventDataBatch {
             throw logger.logExceptionAsWarning(new IllegalArgumentException("eventData cannot be null"));
         }
         EventData event = tracerProvider.isEnabled() ? traceMessageSpan(eventData) : eventData;
-
-        final int size;
-        try {
-            size = getSize(event, events.isEmpty());
-        } catch (BufferOverflowException exception) {
-            throw logger.logExceptionAsWarning(new AmqpException(false, AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
-                String.format(Locale.US, "Size of the payload exceeded maximum message size: %s kb",
-                    maxMessageSize / 1024),
-                contextProvider.getErrorContext()));
-        }
+        final Message amqpMessage = createAmqpMessage(event, partitionKey);
 
         synchronized (lock) {
-            if (this.sizeInBytes + size > this.maxMessageSize) {
+            final int size = encode(amqpMessage, events.isEmpty());
+            if (size < 0) {
+                if (!events.isEmpty() || fitsMaxMessageSize(amqpMessage)) {
+                    return false;
+                }
+
+                throw logger.logExceptionAsWarning(new AmqpException(false,
+                    AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
+                    String.format(Locale.US, "Size of the payload exceeded maximum message size: %s kb",
+                        maxMessageSize / 1024),
+                    contextProvider.getErrorContext()));
+            }
+
+            if (reservedSize + size > maxMessageSize) {
                 return false;
             }
 
-            this.sizeInBytes += size;
+            this.encodedSize = size;
+            this.sizeInBytes = reservedSize + size;
+            this.events.add(event);
         }
 
-        this.events.add(event);
         return true;
     }
 
@@ -178,23 +193,52 @@ public final class EventDataBatch {
         return partitionId;
     }
 
-    private int getSize(final EventData eventData, final boolean isFirst) {
-        Objects.requireNonNull(eventData, "'eventData' cannot be null.");
+    /*
+     * Gets the encoded batch message, the header of the batch followed by a Data section per event. The bytes and
+     * their size are read together, so they describe the same events. Adding events to the batch afterwards doesn't
+     * modify the bytes of the events already added.
+     */
+    EncodedBatch getEncodedBatch() {
+        synchronized (lock) {
+            return new EncodedBatch(encodedBatch, encodedSize);
+        }
+    }
 
-        final Message amqpMessage = createAmqpMessage(eventData, partitionKey);
-        int eventSize = amqpMessage.encode(this.eventBytes, 0, maxMessageSize); // actual encoded bytes size
-        eventSize += 16; // data section overhead
+    /*
+     * Gets whether the message, on its own, fits the maximum message size. Only used once the message doesn't fit an
+     * empty batch, to tell an event that is too large to ever be sent from one that is too large for a batch. The
+     * message is encoded into a buffer that only counts the bytes written, so nothing is allocated to measure it.
+     */
+    private boolean fitsMaxMessageSize(Message amqpMessage) {
+        final DroppingWritableBuffer sizeCounter = new DroppingWritableBuffer();
+        amqpMessage.encode(sizeCounter);
+        return sizeCounter.position() <= maxMessageSize;
+    }
 
-        if (isFirst) {
-            amqpMessage.setBody(null);
-            amqpMessage.setApplicationProperties(null);
-            amqpMessage.setProperties(null);
-            amqpMessage.setDeliveryAnnotations(null);
+    /*
+     * Appends the message to the encoded batch, after the header of the batch if it is the first message, growing the
+     * encoded batch up to the maximum message size. Returns the size of the encoded batch with the message, which is
+     * only part of the batch once encodedSize is updated, or -1 if it exceeds the maximum message size.
+     */
+    private int encode(Message amqpMessage, boolean isFirst) {
+        while (true) {
+            try {
+                int offset = isFirst
+                    ? BatchMessageEncoder.encodeHeader(amqpMessage, encodedBatch, 0, encodedBatch.length)
+                    : encodedSize;
+                offset += BatchMessageEncoder.encodeDataSection(amqpMessage, encodedBatch, offset,
+                    encodedBatch.length - offset);
+                return offset;
+            } catch (BufferOverflowException exception) {
+                if (encodedBatch.length >= maxMessageSize) {
+                    return -1;
+                }
 
-            eventSize += amqpMessage.encode(this.eventBytes, 0, maxMessageSize);
+                // A batch being sent holds on to the previous array, which is left as it is.
+                encodedBatch = Arrays.copyOf(encodedBatch, (int) Math.min((long) encodedBatch.length * 2,
+                    maxMessageSize));
+            }
         }
-
-        return eventSize;
     }
 
     /*
@@ -283,4 +327,35 @@ public final class EventDataBatch {
 
         return message;
     }
+
+    /**
+     * The encoded batch message as of the last event added to the batch.
+     */
+    static final class EncodedBatch {
+        private final byte[] bytes;
+        private final int size;
+
+        private EncodedBatch(byte[] bytes, int size) {
+            this.bytes = bytes;
+            this.size = size;
+        }
+
+        /**
+         * Gets the buffer that holds the encoded batch message. It may be larger than the message.
+         *
+         * @return The buffer holding the encoded message.
+         */
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Gets the size of the encoded batch message.
+         *
+         * @return The number of bytes of the buffer that hold the message.
+         */
+        int getSize() {
+            return size;
+        }
+    }
 }
@@ -0,0 +1,477 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.exception.AmqpException;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.CreateBatchOptions;
+import com.azure.messaging.eventhubs.models.SendBatchFailedContext;
+import com.azure.messaging.eventhubs.models.SendBatchSucceededContext;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.azure.messaging.eventhubs.implementation.ClientConstants.MAX_MESSAGE_LENGTH_BYTES;
+
+/**
+ * Buffers the events enqueued for a partition and sends them in batches.
+ *
+ * <p>A batch is sent once the buffered events are about the size of a batch, once {@code maxWaitTime} has elapsed
+ * since the oldest buffered event was enqueued, or when the buffer is flushed. Up to {@code maxConcurrentSends}
+ * batches are sent at a time; events are sent in the order they were enqueued, but batches sent concurrently may be
+ * stored out of order. Once {@code maxBufferedEvents} events are buffered or being sent, enqueuing an event waits until
+ * a batch has been sent.</p>
+ */
+class EventHubBufferedPartitionProducer {
+    private final ClientLogger logger = new ClientLogger(EventHubBufferedPartitionProducer.class);
+    private final Object lock = new Object();
+    private final EventHubProducerAsyncClient producer;
+    private final String partitionId;
+    private final CreateBatchOptions batchOptions;
+    private final int maxBufferedEvents;
+    private final int maxConcurrentSends;
+    private final Duration maxWaitTime;
+    private final Scheduler scheduler;
+    private final Consumer<SendBatchSucceededContext> onSendBatchSucceeded;
+    private final Consumer<SendBatchFailedContext> onSendBatchFailed;
+
+    // Guarded by lock. Each buffered event is given the next sequence number; the events of the pending queue have
+    // consecutive sequence numbers starting at pendingSequence, and the batches being sent are tracked by the sequence
+    // number of their first event.
+    private final Deque<EventData> pending = new ArrayDeque<>();
+    private final Deque<BlockedEnqueue> blockedEnqueues = new ArrayDeque<>();
+    private final TreeSet<Long> sendingSequences = new TreeSet<>();
+    private final List<Flush> flushes = new ArrayList<>();
+    private int sendCount;
+    private long nextSequence;
+    private long pendingSequence;
+    private long pendingSize;
+    private int maxBatchSize = MAX_MESSAGE_LENGTH_BYTES;
+    private int bufferedCount;
+    private boolean maxWaitTimeElapsed;
+    private Disposable maxWaitTimer;
+    private boolean isClosed;
+
+    /**
+     * Creates a producer that buffers the events enqueued for a partition.
+     *
+     * @param producer The producer that sends the batches.
+     * @param partitionId The identifier of the partition.
+     * @param maxBufferedEvents The maximum number of events buffered or being sent.
+     * @param maxConcurrentSends The maximum number of batches sent at a time.
+     * @param maxWaitTime The maximum time an event is buffered before it is sent.
+     * @param scheduler The scheduler that sends the events whose maximum wait time elapsed.
+     * @param onSendBatchSucceeded Called with each batch sent.
+     * @param onSendBatchFailed Called with each batch that could not be sent.
+     */
+    EventHubBufferedPartitionProducer(EventHubProducerAsyncClient producer, String partitionId, int maxBufferedEvents,
+        int maxConcurrentSends, Duration maxWaitTime, Scheduler scheduler,
+        Consumer<SendBatchSucceededContext> onSendBatchSucceeded, Consumer<SendBatchFailedContext> onSendBatchFailed) {
+        if (maxBufferedEvents <= 0) {
+            throw new IllegalArgumentException("'maxBufferedEvents' must be greater than 0.");
+        }
+        if (maxConcurrentSends <= 0) {
+            throw new IllegalArgumentException("'maxConcurrentSends' must be greater than 0.");
+        }
+
+        this.producer = Objects.requireNonNull(producer, "'producer' cannot be null.");
+        this.partitionId = Objects.requireNonNull(partitionId, "'partitionId' cannot be null.");
+        this.maxBufferedEvents = maxBufferedEvents;
+        this.maxConcurrentSends = maxConcurrentSends;
+        this.maxWaitTime = Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        this.onSendBatchSucceeded = Objects.requireNonNull(onSendBatchSucceeded,
+            "'onSendBatchSucceeded' cannot be null.");
+        this.onSendBatchFailed = Objects.requireNonNull(onSendBatchFailed, "'onSendBatchFailed' cannot be null.");
+        this.batchOptions = new CreateBatchOptions().setPartitionId(partitionId);
+    }
+
+    /**
+     * Buffers an event.
+     *
+     * @param event The event to buffer.
+     * @return A {@link Mono} that completes once the event is buffered, which waits while the buffer is full.
+     */
+    Mono<Void> enqueue(EventData event) {
+        return Mono.create(sink -> {
+            synchronized (lock) {
+                if (isClosed) {
+                    sink.error(logger.logExceptionAsError(new IllegalStateException(
+                        "Cannot enqueue an event after the producer is closed.")));
+                    return;
+                }
+
+                if (bufferedCount >= maxBufferedEvents) {
+                    final BlockedEnqueue blockedEnqueue = new BlockedEnqueue(event, sink);
+                    blockedEnqueues.add(blockedEnqueue);
+                    sink.onCancel(() -> {
+                        synchronized (lock) {
+                            blockedEnqueues.remove(blockedEnqueue);
+                        }
+                    });
+                    return;
+                }
+
+                buffer(event);
+            }
+
+            sink.success();
+            sendReadyBatches();
+        });
+    }
+
+    /**
+     * Sends the events buffered so far without waiting for their batch to fill up.
+     *
+     * @return A {@link Mono} that completes once the events buffered when it was subscribed to have been sent, or
+     *     reported as failed.
+     */
+    Mono<Void> flush() {
+        return Mono.<Void>create(sink -> {
+            synchronized (lock) {
+                if (getOldestUnsentSequence() >= nextSequence) {
+                    sink.success();
+                    return;
+                }
+
+                flushes.add(new Flush(nextSequence, sink));
+            }
+
+            sendReadyBatches();
+        });
+    }
+
+    /**
+     * Gets the number of events buffered or being sent.
+     *
+     * @return The number of events buffered or being sent.
+     */
+    int getBufferedEventCount() {
+        synchronized (lock) {
+            return bufferedCount;
+        }
+    }
+
+    /**
+     * Stops buffering events. The enqueues waiting for the buffer to have room fail; the events already buffered are
+     * still sent once their batch is ready, or when the buffer is flushed.
+     */
+    void close() {
+        final List<BlockedEnqueue> rejected;
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            rejected = new ArrayList<>(blockedEnqueues);
+            blockedEnqueues.clear();
+        }
+
+        rejected.forEach(blockedEnqueue -> blockedEnqueue.sink.error(logger.logExceptionAsError(
+            new IllegalStateException("The producer was closed before the event could be enqueued."))));
+    }
+
+    /*
+     * Adds the event to the pending queue, starting the maximum wait time if it is the only event. Must be called
+     * holding the lock.
+     */
+    private void buffer(EventData event) {
+        pending.add(event);
+        nextSequence++;
+        bufferedCount++;
+        pendingSize += getApproximateSize(event);
+
+        if (pending.size() == 1 && maxWaitTimer == null && !maxWaitTimeElapsed) {
+            maxWaitTimer = scheduler.schedule(this::onMaxWaitTimeElapsed, maxWaitTime.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void onMaxWaitTimeElapsed() {
+        synchronized (lock) {
+            maxWaitTimer = null;
+            maxWaitTimeElapsed = !pending.isEmpty();
+        }
+
+        sendReadyBatches();
+    }
+
+    /*
+     * Starts sending batches while there are send slots available and the pending events are ready to be sent. Each
+     * send slot takes the events of its batch from the pending queue before the batch is created, so concurrent slots
+     * never fill their batches from the same events.
+     */
+    private void sendReadyBatches() {
+        while (true) {
+            final long firstSequence;
+            final List<EventData> events;
+            synchronized (lock) {
+                final boolean isReady = maxWaitTimeElapsed || !flushes.isEmpty() || pendingSize >= maxBatchSize;
+                if (pending.isEmpty() || !isReady || sendCount >= maxConcurrentSends) {
+                    return;
+                }
+
+                sendCount++;
+                firstSequence = pendingSequence;
+                events = takePending(countPendingForBatch());
+            }
+
+            send(firstSequence, events, 0);
+        }
+    }
+
+    /*
+     * Sends the events of a send slot, starting at the given offset, in a new batch.
+     */
+    private void send(long firstSequence, List<EventData> events, int offset) {
+        producer.createBatch(batchOptions).subscribe(batch -> fillAndSend(batch, firstSequence, events, offset),
+            error -> {
+                final List<EventData> unsent = new ArrayList<>(events.subList(offset, events.size()));
+                logger.warning("partitionId[{}]: Could not create a batch for {} events.", partitionId, unsent.size(),
+                    error);
+                notifyFailed(unsent, error);
+                onSendCompleted(firstSequence, events.size());
+            });
+    }
+
+    /*
+     * Adds the events of a send slot to the batch, starting at the given offset, and sends it. The events that don't
+     * fit go back to the head of the pending queue if no other send slot has taken events since, and are otherwise
+     * sent by this send slot in a batch of their own once this one is sent.
+     */
+    private void fillAndSend(EventDataBatch batch, long firstSequence, List<EventData> events, int offset) {
+        final List<EventData> rejected = new ArrayList<>();
+        final List<AmqpException> rejectedErrors = new ArrayList<>();
+        int end = offset;
+        while (end < events.size()) {
+            final EventData event = events.get(end);
+            try {
+                if (!batch.tryAdd(event)) {
+                    break;
+                }
+            } catch (AmqpException error) {
+                // The event is too large to be sent, even on its own. It is reported as failed with the batch.
+                rejected.add(event);
+                rejectedErrors.add(error);
+            }
+
+            end++;
+        }
+
+        int count = events.size();
+        boolean hasRemainder = false;
+        synchronized (lock) {
+            maxBatchSize = batch.getMaxSizeInBytes();
+            if (end < events.size()) {
+                if (pendingSequence == firstSequence + events.size()) {
+                    returnPending(events.subList(end, events.size()));
+                    count = end;
+                } else {
+                    hasRemainder = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < rejected.size(); i++) {
+            notifyFailed(Collections.singletonList(rejected.get(i)), rejectedErrors.get(i));
+        }
+
+        final int sendCompletedCount = count;
+        final int remainderOffset = hasRemainder ? end : -1;
+        final Runnable onBatchCompleted = () -> {
+            if (remainderOffset >= 0) {
+                send(firstSequence, events, remainderOffset);
+            } else {
+                onSendCompleted(firstSequence, sendCompletedCount);
+            }
+        };
+
+        if (batch.getCount() == 0) {
+            onBatchCompleted.run();
+            return;
+        }
+
+        final List<EventData> sent = new ArrayList<>(batch.getEvents());
+        producer.send(batch).subscribe(
+            unused -> {
+            },
+            error -> {
+                logger.warning("partitionId[{}]: Could not send batch of {} events.", partitionId, sent.size(),
+                    error);
+                notifyFailed(sent, error);
+                onBatchCompleted.run();
+            },
+            () -> {
+                notifySucceeded(sent);
+                onBatchCompleted.run();
+            });
+    }
+
+    /*
+     * Counts the events at the head of the pending queue whose approximate size fits a batch, at least one. Must be
+     * called holding the lock.
+     */
+    private int countPendingForBatch() {
+        long size = 0;
+        int count = 0;
+        for (EventData event : pending) {
+            size += getApproximateSize(event);
+            if (count > 0 && size > maxBatchSize) {
+                break;
+            }
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /*
+     * Takes events from the head of the pending queue, tracking them as a batch being sent. Must be called holding the
+     * lock.
+     */
+    private List<EventData> takePending(int count) {
+        final List<EventData> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final EventData event = pending.poll();
+            pendingSize -= getApproximateSize(event);
+            events.add(event);
+        }
+
+        if (count > 0) {
+            sendingSequences.add(pendingSequence);
+            pendingSequence += count;
+        }
+
+        if (pending.isEmpty()) {
+            maxWaitTimeElapsed = false;
+            if (maxWaitTimer != null) {
+                maxWaitTimer.dispose();
+                maxWaitTimer = null;
+            }
+        }
+
+        return events;
+    }
+
+    /*
+     * Puts events taken by the last send slot that didn't fit its batch back at the head of the pending queue, to be
+     * sent before the events enqueued after them. Must be called holding the lock.
+     */
+    private void returnPending(List<EventData> events) {
+        final boolean wasEmpty = pending.isEmpty();
+        for (int i = events.size() - 1; i >= 0; i--) {
+            final EventData event = events.get(i);
+            pending.addFirst(event);
+            pendingSize += getApproximateSize(event);
+        }
+
+        pendingSequence -= events.size();
+        if (wasEmpty && maxWaitTimer == null && !maxWaitTimeElapsed) {
+            maxWaitTimer = scheduler.schedule(this::onMaxWaitTimeElapsed, maxWaitTime.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /*
+     * Releases the send slot and room in the buffer of a batch, admitting the enqueues waiting for room and completing
+     * the flushes whose events have all been sent.
+     */
+    private void onSendCompleted(long firstSequence, int count) {
+        final List<MonoSink<Void>> admitted = new ArrayList<>();
+        final List<MonoSink<Void>> flushed = new ArrayList<>();
+        synchronized (lock) {
+            sendCount--;
+            if (count > 0) {
+                sendingSequences.remove(firstSequence);
+                bufferedCount -= count;
+            }
+
+            while (bufferedCount < maxBufferedEvents && !blockedEnqueues.isEmpty()) {
+                final BlockedEnqueue blockedEnqueue = blockedEnqueues.poll();
+                buffer(blockedEnqueue.event);
+                admitted.add(blockedEnqueue.sink);
+            }
+
+            final long oldestUnsentSequence = getOldestUnsentSequence();
+            final Iterator<Flush> iterator = flushes.iterator();
+            while (iterator.hasNext()) {
+                final Flush flush = iterator.next();
+                if (flush.sequence <= oldestUnsentSequence) {
+                    flushed.add(flush.sink);
+                    iterator.remove();
+                }
+            }
+        }
+
+        admitted.forEach(MonoSink::success);
+        flushed.forEach(MonoSink::success);
+        sendReadyBatches();
+    }
+
+    /*
+     * Gets the sequence number of the oldest event that is pending or being sent, or the next sequence number if there
+     * is none. Must be called holding the lock.
+     */
+    private long getOldestUnsentSequence() {
+        final long oldestPending = pending.isEmpty() ? nextSequence : pendingSequence;
+        return sendingSequences.isEmpty() ? oldestPending : Math.min(oldestPending, sendingSequences.first());
+    }
+
+    private void notifySucceeded(List<EventData> events) {
+        try {
+            onSendBatchSucceeded.accept(new SendBatchSucceededContext(events, partitionId));
+        } catch (RuntimeException e) {
+            logger.warning("partitionId[{}]: Error occurred in the send batch succeeded handler.", partitionId, e);
+        }
+    }
+
+    private void notifyFailed(List<EventData> events, Throwable error) {
+        try {
+            onSendBatchFailed.accept(new SendBatchFailedContext(events, partitionId, error));
+        } catch (RuntimeException e) {
+            logger.warning("partitionId[{}]: Error occurred in the send batch failed handler.", partitionId, e);
+        }
+    }
+
+    /*
+     * The size of an event's body, used to tell when the pending events are about the size of a batch. The batch they
+     * are added to checks their actual size.
+     */
+    private static int getApproximateSize(EventData event) {
+        return event.getBody() == null ? 0 : event.getBody().length;
+    }
+
+    private static final class BlockedEnqueue {
+        private final EventData event;
+        private final MonoSink<Void> sink;
+
+        private BlockedEnqueue(EventData event, MonoSink<Void> sink) {
+            this.event = event;
+            this.sink = sink;
+        }
+    }
+
+    private static final class Flush {
+        private final long sequence;
+        private final MonoSink<Void> sink;
+
+        private Flush(long sequence, MonoSink<Void> sink) {
+            this.sequence = sequence;
+            this.sink = sink;
+        }
+    }
+}
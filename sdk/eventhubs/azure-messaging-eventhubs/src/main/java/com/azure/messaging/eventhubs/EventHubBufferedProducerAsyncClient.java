@@ -0,0 +1,265 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.AmqpRetryOptions;
+import com.azure.core.annotation.ServiceClient;
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.SendBatchFailedContext;
+import com.azure.messaging.eventhubs.models.SendBatchSucceededContext;
+import com.azure.messaging.eventhubs.models.SendOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static com.azure.core.util.FluxUtil.monoError;
+
+/**
+ * An <b>asynchronous</b> producer that buffers the events enqueued to it and sends them to an Event Hub in batches,
+ * so that callers can publish events one at a time without creating batches themselves.
+ *
+ * <p>
+ * Events are assigned a partition when they are enqueued:
+ * <ul>
+ * <li>Events enqueued with {@link SendOptions#setPartitionId(String) a partition id} are sent to that partition.</li>
+ * <li>Events enqueued with {@link SendOptions#setPartitionKey(String) a partition key} are sent to the partition the
+ * key hashes to. The hash is computed by the client so that events with the same key are always sent to the same
+ * partition, while the number of partitions doesn't change. The key itself isn't sent with the events.</li>
+ * <li>Other events are distributed across the partitions round-robin.</li>
+ * </ul>
+ *
+ * <p>
+ * Each partition has a buffer of its own. A batch is sent once a partition has buffered about as many events as a batch
+ * can hold, once the oldest buffered event has waited {@link
+ * EventHubBufferedProducerClientBuilder#maxWaitTime(Duration) the maximum wait time}, or when the producer is {@link
+ * #flush() flushed}. Partitions are sent to concurrently, with up to {@link
+ * EventHubBufferedProducerClientBuilder#maxConcurrentSendsPerPartition(int) a maximum number of batches} in flight per
+ * partition. Once a partition has {@link
+ * EventHubBufferedProducerClientBuilder#maxEventBufferLengthPerPartition(int) the maximum number of events} buffered or
+ * being sent, enqueuing an event to it waits until a batch has been sent.
+ * </p>
+ *
+ * <p>
+ * The outcome of each batch is reported to the {@link
+ * EventHubBufferedProducerClientBuilder#onSendBatchSucceeded(Consumer) succeeded} or {@link
+ * EventHubBufferedProducerClientBuilder#onSendBatchFailed(Consumer) failed} handler. Events in a failed batch are not
+ * sent again.
+ * </p>
+ *
+ * @see EventHubBufferedProducerClientBuilder#buildAsyncClient()
+ * @see EventHubBufferedProducerClient To synchronously enqueue events, see EventHubBufferedProducerClient.
+ */
+@ServiceClient(builder = EventHubBufferedProducerClientBuilder.class, isAsync = true)
+public final class EventHubBufferedProducerAsyncClient implements Closeable {
+    private static final SendOptions DEFAULT_SEND_OPTIONS = new SendOptions();
+
+    private final ClientLogger logger = new ClientLogger(EventHubBufferedProducerAsyncClient.class);
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+    private final Map<String, EventHubBufferedPartitionProducer> partitionProducers = new ConcurrentHashMap<>();
+    private final PartitionResolver partitionResolver = new PartitionResolver();
+    private final EventHubProducerAsyncClient producer;
+    private final int maxEventBufferLengthPerPartition;
+    private final int maxConcurrentSendsPerPartition;
+    private final Duration maxWaitTime;
+    private final Duration closeTimeout;
+    private final Scheduler scheduler;
+    private final Consumer<SendBatchSucceededContext> onSendBatchSucceeded;
+    private final Consumer<SendBatchFailedContext> onSendBatchFailed;
+    private final AtomicReference<String[]> partitionIds = new AtomicReference<>();
+
+    /**
+     * Creates a new instance of {@link EventHubBufferedProducerAsyncClient} that buffers events and sends them with
+     * the given producer.
+     */
+    EventHubBufferedProducerAsyncClient(EventHubProducerAsyncClient producer, int maxEventBufferLengthPerPartition,
+        int maxConcurrentSendsPerPartition, Duration maxWaitTime, Duration closeTimeout, Scheduler scheduler,
+        Consumer<SendBatchSucceededContext> onSendBatchSucceeded, Consumer<SendBatchFailedContext> onSendBatchFailed) {
+        this.producer = Objects.requireNonNull(producer, "'producer' cannot be null.");
+        this.maxEventBufferLengthPerPartition = maxEventBufferLengthPerPartition;
+        this.maxConcurrentSendsPerPartition = maxConcurrentSendsPerPartition;
+        this.maxWaitTime = Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null.");
+        this.closeTimeout = Objects.requireNonNull(closeTimeout, "'closeTimeout' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        this.onSendBatchSucceeded = Objects.requireNonNull(onSendBatchSucceeded,
+            "'onSendBatchSucceeded' cannot be null.");
+        this.onSendBatchFailed = Objects.requireNonNull(onSendBatchFailed, "'onSendBatchFailed' cannot be null.");
+    }
+
+    /**
+     * Gets the fully qualified Event Hubs namespace that the connection is associated with. This is likely similar to
+     * {@code {yournamespace}.servicebus.windows.net}.
+     *
+     * @return The fully qualified Event Hubs namespace that the connection is associated with.
+     */
+    public String getFullyQualifiedNamespace() {
+        return producer.getFullyQualifiedNamespace();
+    }
+
+    /**
+     * Gets the Event Hub name this client interacts with.
+     *
+     * @return The Event Hub name this client interacts with.
+     */
+    public String getEventHubName() {
+        return producer.getEventHubName();
+    }
+
+    /**
+     * Gets the number of events that are buffered or being sent, across all partitions.
+     *
+     * @return The number of events that are buffered or being sent.
+     */
+    public int getBufferedEventCount() {
+        return partitionProducers.values().stream()
+            .mapToInt(EventHubBufferedPartitionProducer::getBufferedEventCount)
+            .sum();
+    }
+
+    /**
+     * Enqueues an event to be sent to a partition assigned round-robin.
+     *
+     * @param event Event to enqueue.
+     * @return A {@link Mono} that completes once the event is buffered, which waits while the buffer of its partition
+     *     is full.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     * @throws IllegalStateException if the producer is closed.
+     */
+    public Mono<Void> enqueueEvent(EventData event) {
+        return enqueueEvent(event, DEFAULT_SEND_OPTIONS);
+    }
+
+    /**
+     * Enqueues an event to be sent to the partition given by its send options.
+     *
+     * @param event Event to enqueue.
+     * @param options The partition id or partition key to send the event to.
+     * @return A {@link Mono} that completes once the event is buffered, which waits while the buffer of its partition
+     *     is full.
+     * @throws NullPointerException if {@code event} or {@code options} is {@code null}.
+     * @throws IllegalArgumentException if both a partition id and a partition key are set, or if the partition id
+     *     isn't a partition of the Event Hub.
+     * @throws IllegalStateException if the producer is closed.
+     */
+    public Mono<Void> enqueueEvent(EventData event, SendOptions options) {
+        if (event == null) {
+            return monoError(logger, new NullPointerException("'event' cannot be null."));
+        } else if (options == null) {
+            return monoError(logger, new NullPointerException("'options' cannot be null."));
+        }
+
+        final String partitionId = options.getPartitionId();
+        final String partitionKey = options.getPartitionKey();
+        if (!CoreUtils.isNullOrEmpty(partitionId) && !CoreUtils.isNullOrEmpty(partitionKey)) {
+            return monoError(logger, new IllegalArgumentException(String.format(Locale.US,
+                "SendOptions.getPartitionKey() and SendOptions.getPartitionId() are both set. Only one or the"
+                    + " other can be used. partitionKey: '%s'. partitionId: '%s'",
+                partitionKey, partitionId)));
+        }
+
+        return getPartitionIds().flatMap(ids -> {
+            if (isClosed.get()) {
+                return monoError(logger,
+                    new IllegalStateException("Cannot enqueue an event after the producer is closed."));
+            }
+
+            final String assignedPartitionId;
+            if (!CoreUtils.isNullOrEmpty(partitionId)) {
+                if (!Arrays.asList(ids).contains(partitionId)) {
+                    return monoError(logger, new IllegalArgumentException(String.format(Locale.US,
+                        "Partition '%s' is not a partition of Event Hub '%s'.", partitionId, getEventHubName())));
+                }
+
+                assignedPartitionId = partitionId;
+            } else if (!CoreUtils.isNullOrEmpty(partitionKey)) {
+                assignedPartitionId = partitionResolver.assignForPartitionKey(partitionKey, ids);
+            } else {
+                assignedPartitionId = partitionResolver.assignRoundRobin(ids);
+            }
+
+            final EventHubBufferedPartitionProducer partitionProducer =
+                partitionProducers.computeIfAbsent(assignedPartitionId, this::createPartitionProducer);
+            if (isClosed.get()) {
+                // close() may have gone through the partition producers before this one was added, so it's closed
+                // here and rejects the event.
+                partitionProducer.close();
+            }
+
+            return partitionProducer.enqueue(event);
+        });
+    }
+
+    /**
+     * Sends the events buffered so far, on every partition, without waiting for their batches to fill up.
+     *
+     * @return A {@link Mono} that completes once the events buffered when it was subscribed to have been sent, or
+     *     reported as failed.
+     */
+    public Mono<Void> flush() {
+        return Flux.fromIterable(partitionProducers.values())
+            .flatMap(EventHubBufferedPartitionProducer::flush)
+            .then();
+    }
+
+    /**
+     * Stops accepting events, sends the events that are buffered, then disposes of the underlying producer. Enqueues
+     * waiting for a buffer to have room fail. Waits for the buffered events to be sent for at most the try timeout of
+     * the {@link EventHubBufferedProducerClientBuilder#retry(AmqpRetryOptions) retry options}; the events that
+     * haven't been sent by then are reported as failed once the underlying producer is disposed.
+     */
+    @Override
+    public void close() {
+        if (isClosed.getAndSet(true)) {
+            return;
+        }
+
+        partitionProducers.values().forEach(EventHubBufferedPartitionProducer::close);
+        try {
+            flush().block(closeTimeout);
+        } catch (IllegalStateException error) {
+            logger.warning("Buffered events were not sent within {}, disposing of the producer.", closeTimeout,
+                error);
+        } finally {
+            producer.close();
+        }
+    }
+
+    /*
+     * Gets the partitions of the Event Hub, which are retrieved once. Retrieving them is retried on the next enqueue
+     * if it failed.
+     */
+    private Mono<String[]> getPartitionIds() {
+        return Mono.defer(() -> {
+            final String[] ids = partitionIds.get();
+            if (ids != null) {
+                return Mono.just(ids);
+            }
+
+            return producer.getPartitionIds()
+                .collectList()
+                .map(list -> {
+                    final String[] retrieved = list.toArray(new String[0]);
+                    partitionIds.compareAndSet(null, retrieved);
+                    return partitionIds.get();
+                });
+        });
+    }
+
+    private EventHubBufferedPartitionProducer createPartitionProducer(String partitionId) {
+        logger.info("partitionId[{}]: Creating buffer for partition.", partitionId);
+        return new EventHubBufferedPartitionProducer(producer, partitionId, maxEventBufferLengthPerPartition,
+            maxConcurrentSendsPerPartition, maxWaitTime, scheduler, onSendBatchSucceeded, onSendBatchFailed);
+    }
+}
@@ -0,0 +1,106 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.annotation.ServiceClient;
+import com.azure.messaging.eventhubs.models.SendOptions;
+
+import java.io.Closeable;
+import java.util.Objects;
+
+/**
+ * A <b>synchronous</b> producer that buffers the events enqueued to it and sends them to an Event Hub in batches. See
+ * {@link EventHubBufferedProducerAsyncClient} for how events are assigned partitions, batched and sent.
+ *
+ * <p>Enqueuing an event returns once the event is buffered, which blocks while the buffer of its partition is full.</p>
+ *
+ * @see EventHubBufferedProducerClientBuilder#buildClient()
+ * @see EventHubBufferedProducerAsyncClient To asynchronously enqueue events, see
+ *     EventHubBufferedProducerAsyncClient.
+ */
+@ServiceClient(builder = EventHubBufferedProducerClientBuilder.class)
+public final class EventHubBufferedProducerClient implements Closeable {
+    private final EventHubBufferedProducerAsyncClient client;
+
+    /**
+     * Creates a new instance of {@link EventHubBufferedProducerClient} that enqueues events to the given asynchronous
+     * client.
+     *
+     * @throws NullPointerException if {@code client} is null.
+     */
+    EventHubBufferedProducerClient(EventHubBufferedProducerAsyncClient client) {
+        this.client = Objects.requireNonNull(client, "'client' cannot be null.");
+    }
+
+    /**
+     * Gets the fully qualified Event Hubs namespace that the connection is associated with. This is likely similar to
+     * {@code {yournamespace}.servicebus.windows.net}.
+     *
+     * @return The fully qualified Event Hubs namespace that the connection is associated with.
+     */
+    public String getFullyQualifiedNamespace() {
+        return client.getFullyQualifiedNamespace();
+    }
+
+    /**
+     * Gets the Event Hub name this client interacts with.
+     *
+     * @return The Event Hub name this client interacts with.
+     */
+    public String getEventHubName() {
+        return client.getEventHubName();
+    }
+
+    /**
+     * Gets the number of events that are buffered or being sent, across all partitions.
+     *
+     * @return The number of events that are buffered or being sent.
+     */
+    public int getBufferedEventCount() {
+        return client.getBufferedEventCount();
+    }
+
+    /**
+     * Enqueues an event to be sent to a partition assigned round-robin, blocking while the buffer of its partition is
+     * full.
+     *
+     * @param event Event to enqueue.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     * @throws IllegalStateException if the producer is closed.
+     */
+    public void enqueueEvent(EventData event) {
+        client.enqueueEvent(event).block();
+    }
+
+    /**
+     * Enqueues an event to be sent to the partition given by its send options, blocking while the buffer of its
+     * partition is full.
+     *
+     * @param event Event to enqueue.
+     * @param options The partition id or partition key to send the event to.
+     * @throws NullPointerException if {@code event} or {@code options} is {@code null}.
+     * @throws IllegalArgumentException if both a partition id and a partition key are set, or if the partition id
+     *     isn't a partition of the Event Hub.
+     * @throws IllegalStateException if the producer is closed.
+     */
+    public void enqueueEvent(EventData event, SendOptions options) {
+        client.enqueueEvent(event, options).block();
+    }
+
+    /**
+     * Sends the events buffered so far, on every partition, and blocks until they have been sent or reported as
+     * failed.
+     */
+    public void flush() {
+        client.flush().block();
+    }
+
+    /**
+     * Stops accepting events, sends the events that are buffered, then disposes of the underlying producer.
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+}
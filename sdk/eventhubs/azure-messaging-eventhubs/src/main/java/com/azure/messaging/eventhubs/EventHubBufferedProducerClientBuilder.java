@@ -0,0 +1,313 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.AmqpRetryOptions;
+import com.azure.core.amqp.AmqpTransportType;
+import com.azure.core.amqp.ProxyOptions;
+import com.azure.core.annotation.ServiceClientBuilder;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.exception.AzureException;
+import com.azure.core.util.Configuration;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import com.azure.messaging.eventhubs.models.SendBatchFailedContext;
+import com.azure.messaging.eventhubs.models.SendBatchSucceededContext;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This class provides a fluent builder API to help aid the configuration and instantiation of the {@link
+ * EventHubBufferedProducerAsyncClient} and {@link EventHubBufferedProducerClient}. Calling {@link #buildAsyncClient()}
+ * or {@link #buildClient()} constructs a new instance of the respective client.
+ *
+ * <p>
+ * To create an instance of a buffered producer, the <b>following fields are required</b>:
+ *
+ * <ul>
+ * <li>{@link #onSendBatchFailed(Consumer) onSendBatchFailed} - A callback that handles the batches of events that
+ * could not be sent.</li>
+ * <li>Credentials -
+ *  <strong>Credentials are required</strong> to perform operations against Azure Event Hubs. They can be set by using
+ *  one of the following methods:
+ *  <ul>
+ *  <li>{@link #connectionString(String)} with a connection string to a specific Event Hub.
+ *  </li>
+ *  <li>{@link #connectionString(String, String)} with an Event Hub <i>namespace</i> connection string and the Event Hub
+ *  name.</li>
+ *  <li>{@link #credential(String, String, TokenCredential)} with the fully qualified namespace, Event Hub name, and a
+ *  set of credentials authorized to use the Event Hub.
+ *  </li>
+ *  </ul>
+ *  </li>
+ * </ul>
+ *
+ * @see EventHubBufferedProducerAsyncClient
+ * @see EventHubBufferedProducerClient
+ */
+@ServiceClientBuilder(serviceClients = {EventHubBufferedProducerAsyncClient.class,
+    EventHubBufferedProducerClient.class})
+public class EventHubBufferedProducerClientBuilder {
+    static final int DEFAULT_MAX_EVENT_BUFFER_LENGTH_PER_PARTITION = 1500;
+    static final int DEFAULT_MAX_CONCURRENT_SENDS_PER_PARTITION = 1;
+    static final Duration DEFAULT_MAX_WAIT_TIME = Duration.ofSeconds(1);
+
+    private final ClientLogger logger = new ClientLogger(EventHubBufferedProducerClientBuilder.class);
+
+    private final EventHubClientBuilder eventHubClientBuilder;
+    private int maxEventBufferLengthPerPartition = DEFAULT_MAX_EVENT_BUFFER_LENGTH_PER_PARTITION;
+    private int maxConcurrentSendsPerPartition = DEFAULT_MAX_CONCURRENT_SENDS_PER_PARTITION;
+    private Duration maxWaitTime = DEFAULT_MAX_WAIT_TIME;
+    private AmqpRetryOptions retryOptions;
+    private Consumer<SendBatchSucceededContext> onSendBatchSucceeded = context -> { };
+    private Consumer<SendBatchFailedContext> onSendBatchFailed;
+
+    /**
+     * Creates a new instance of {@link EventHubBufferedProducerClientBuilder}.
+     */
+    public EventHubBufferedProducerClientBuilder() {
+        eventHubClientBuilder = new EventHubClientBuilder();
+    }
+
+    /**
+     * Sets the credential information given a connection string to the Event Hub instance.
+     *
+     * <p>
+     * If the connection string is copied from the Event Hubs namespace, it will likely not contain the name to the
+     * desired Event Hub, which is needed. In this case, the name can be added manually by adding {@literal
+     * "EntityPath=EVENT_HUB_NAME"} to the end of the connection string. For example, "EntityPath=telemetry-hub".
+     * </p>
+     *
+     * <p>
+     * If you have defined a shared access policy directly on the Event Hub itself, then copying the connection string
+     * from that Event Hub will result in a connection string that contains the name.
+     * </p>
+     *
+     * @param connectionString The connection string to use for connecting to the Event Hub instance. It is expected
+     * that the Event Hub name and the shared access key properties are contained in this connection string.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws NullPointerException if {@code connectionString} is {@code null}.
+     * @throws IllegalArgumentException if {@code connectionString} is empty. Or, the {@code connectionString} does not
+     * contain the "EntityPath" key, which is the name of the Event Hub instance.
+     * @throws AzureException If the shared access signature token credential could not be created using the connection
+     * string.
+     */
+    public EventHubBufferedProducerClientBuilder connectionString(String connectionString) {
+        eventHubClientBuilder.connectionString(connectionString);
+        return this;
+    }
+
+    /**
+     * Sets the credential information given a connection string to the Event Hubs namespace and name to a specific
+     * Event Hub instance.
+     *
+     * @param connectionString The connection string to use for connecting to the Event Hubs namespace; it is expected
+     * that the shared access key properties are contained in this connection string, but not the Event Hub name.
+     * @param eventHubName The name of the Event Hub to connect the client to.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws NullPointerException if {@code connectionString} or {@code eventHubName} is null.
+     * @throws IllegalArgumentException if {@code connectionString} or {@code eventHubName} is an empty string. Or, if
+     * the {@code connectionString} contains the Event Hub name.
+     * @throws AzureException If the shared access signature token credential could not be created using the connection
+     * string.
+     */
+    public EventHubBufferedProducerClientBuilder connectionString(String connectionString, String eventHubName) {
+        eventHubClientBuilder.connectionString(connectionString, eventHubName);
+        return this;
+    }
+
+    /**
+     * Sets the configuration store that is used during construction of the service client.
+     *
+     * If not specified, the default configuration store is used to configure the {@link
+     * EventHubBufferedProducerAsyncClient}. Use {@link Configuration#NONE} to bypass using configuration settings
+     * during construction.
+     *
+     * @param configuration The configuration store used to configure the {@link EventHubBufferedProducerAsyncClient}.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     */
+    public EventHubBufferedProducerClientBuilder configuration(Configuration configuration) {
+        eventHubClientBuilder.configuration(configuration);
+        return this;
+    }
+
+    /**
+     * Sets the credential information for which Event Hub instance to connect to, and how to authorize against it.
+     *
+     * @param fullyQualifiedNamespace The fully qualified name for the Event Hubs namespace. This is likely to be
+     * similar to <strong>{@literal "{your-namespace}.servicebus.windows.net}"</strong>.
+     * @param eventHubName The name of the Event Hub to connect the client to.
+     * @param credential The token credential to use for authorization. Access controls may be specified by the Event
+     * Hubs namespace or the requested Event Hub, depending on Azure configuration.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws IllegalArgumentException if {@code fullyQualifiedNamespace} or {@code eventHubName} is an empty string.
+     * @throws NullPointerException if {@code fullyQualifiedNamespace}, {@code eventHubName}, {@code credentials} is
+     * null.
+     */
+    public EventHubBufferedProducerClientBuilder credential(String fullyQualifiedNamespace, String eventHubName,
+        TokenCredential credential) {
+        eventHubClientBuilder.credential(fullyQualifiedNamespace, eventHubName, credential);
+        return this;
+    }
+
+    /**
+     * Sets the proxy configuration to use for {@link EventHubBufferedProducerAsyncClient}. When a proxy is configured,
+     * {@link AmqpTransportType#AMQP_WEB_SOCKETS} must be used for the transport type.
+     *
+     * @param proxyOptions The proxy options to use.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     */
+    public EventHubBufferedProducerClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        eventHubClientBuilder.proxyOptions(proxyOptions);
+        return this;
+    }
+
+    /**
+     * Sets the transport type by which all the communication with Azure Event Hubs occurs. Default value is {@link
+     * AmqpTransportType#AMQP}.
+     *
+     * @param transport The transport type to use.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     */
+    public EventHubBufferedProducerClientBuilder transportType(AmqpTransportType transport) {
+        eventHubClientBuilder.transportType(transport);
+        return this;
+    }
+
+    /**
+     * Sets the retry policy for {@link EventHubBufferedProducerAsyncClient}. If not specified, the default retry
+     * options are used.
+     *
+     * @param retryOptions The retry policy to use.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     */
+    public EventHubBufferedProducerClientBuilder retry(AmqpRetryOptions retryOptions) {
+        eventHubClientBuilder.retry(retryOptions);
+        this.retryOptions = retryOptions;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of events that are buffered or being sent for each partition. Once a partition has
+     * this many events, enqueuing an event to it waits until a batch has been sent. The default is {@value
+     * #DEFAULT_MAX_EVENT_BUFFER_LENGTH_PER_PARTITION}.
+     *
+     * @param maxEventBufferLengthPerPartition The maximum number of events buffered or being sent per partition.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws IllegalArgumentException if {@code maxEventBufferLengthPerPartition} is not positive.
+     */
+    public EventHubBufferedProducerClientBuilder maxEventBufferLengthPerPartition(
+        int maxEventBufferLengthPerPartition) {
+        if (maxEventBufferLengthPerPartition <= 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxEventBufferLengthPerPartition' must be greater than 0."));
+        }
+
+        this.maxEventBufferLengthPerPartition = maxEventBufferLengthPerPartition;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of batches sent to each partition at a time. Batches sent to a partition at the same
+     * time may be stored out of order; the default of {@value #DEFAULT_MAX_CONCURRENT_SENDS_PER_PARTITION} keeps the
+     * events of a partition in the order they were enqueued.
+     *
+     * @param maxConcurrentSendsPerPartition The maximum number of batches sent to a partition at a time.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws IllegalArgumentException if {@code maxConcurrentSendsPerPartition} is not positive.
+     */
+    public EventHubBufferedProducerClientBuilder maxConcurrentSendsPerPartition(int maxConcurrentSendsPerPartition) {
+        if (maxConcurrentSendsPerPartition <= 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxConcurrentSendsPerPartition' must be greater than 0."));
+        }
+
+        this.maxConcurrentSendsPerPartition = maxConcurrentSendsPerPartition;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time an event is buffered before it is sent when its batch doesn't fill up. The default is one
+     * second.
+     *
+     * @param maxWaitTime The maximum time an event is buffered before it is sent.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws NullPointerException if {@code maxWaitTime} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxWaitTime} is not positive.
+     */
+    public EventHubBufferedProducerClientBuilder maxWaitTime(Duration maxWaitTime) {
+        Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null");
+        if (maxWaitTime.isZero() || maxWaitTime.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxWaitTime' must be positive."));
+        }
+
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * The function that is called with each batch of events that was sent.
+     *
+     * @param onSendBatchSucceeded The callback that's called when a batch of events is sent.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws NullPointerException if {@code onSendBatchSucceeded} is {@code null}.
+     */
+    public EventHubBufferedProducerClientBuilder onSendBatchSucceeded(
+        Consumer<SendBatchSucceededContext> onSendBatchSucceeded) {
+        this.onSendBatchSucceeded = Objects.requireNonNull(onSendBatchSucceeded,
+            "'onSendBatchSucceeded' cannot be null");
+        return this;
+    }
+
+    /**
+     * The function that is called with each batch of events that could not be sent, once the retries of the send
+     * are exhausted. The events are not sent again.
+     *
+     * @param onSendBatchFailed The callback that's called when a batch of events could not be sent.
+     * @return The updated {@link EventHubBufferedProducerClientBuilder} object.
+     * @throws NullPointerException if {@code onSendBatchFailed} is {@code null}.
+     */
+    public EventHubBufferedProducerClientBuilder onSendBatchFailed(Consumer<SendBatchFailedContext> onSendBatchFailed) {
+        this.onSendBatchFailed = Objects.requireNonNull(onSendBatchFailed, "'onSendBatchFailed' cannot be null");
+        return this;
+    }
+
+    /**
+     * Creates a new {@link EventHubBufferedProducerAsyncClient} configured with the options set in this builder. Each
+     * call to this method returns a new instance with a connection of its own.
+     *
+     * @return A new instance of {@link EventHubBufferedProducerAsyncClient}.
+     * @throws NullPointerException if {@code onSendBatchFailed} is {@code null}.
+     * @throws IllegalArgumentException if the credentials have not been set using either {@link
+     * #connectionString(String)} or {@link #credential(String, String, TokenCredential)}. Or, if a proxy is specified
+     * but the transport type is not {@link AmqpTransportType#AMQP_WEB_SOCKETS web sockets}.
+     */
+    public EventHubBufferedProducerAsyncClient buildAsyncClient() {
+        Objects.requireNonNull(onSendBatchFailed, "'onSendBatchFailed' cannot be null");
+
+        final Duration closeTimeout = retryOptions != null
+            ? retryOptions.getTryTimeout()
+            : ClientConstants.OPERATION_TIMEOUT;
+        return new EventHubBufferedProducerAsyncClient(eventHubClientBuilder.buildAsyncProducerClient(),
+            maxEventBufferLengthPerPartition, maxConcurrentSendsPerPartition, maxWaitTime, closeTimeout,
+            Schedulers.parallel(), onSendBatchSucceeded, onSendBatchFailed);
+    }
+
+    /**
+     * Creates a new {@link EventHubBufferedProducerClient} configured with the options set in this builder. Each call
+     * to this method returns a new instance with a connection of its own.
+     *
+     * @return A new instance of {@link EventHubBufferedProducerClient}.
+     * @throws NullPointerException if {@code onSendBatchFailed} is {@code null}.
+     * @throws IllegalArgumentException if the credentials have not been set using either {@link
+     * #connectionString(String)} or {@link #credential(String, String, TokenCredential)}. Or, if a proxy is specified
+     * but the transport type is not {@link AmqpTransportType#AMQP_WEB_SOCKETS web sockets}.
+     */
+    public EventHubBufferedProducerClient buildClient() {
+        return new EventHubBufferedProducerClient(buildAsyncClient());
+    }
+}
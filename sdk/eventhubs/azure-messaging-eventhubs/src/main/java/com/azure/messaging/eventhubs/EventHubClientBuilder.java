@@ -26,6 +26,7 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.tracing.Tracer;
 import com.azure.messaging.eventhubs.implementation.ClientConstants;
 import com.azure.messaging.eventhubs.implementation.EventHubAmqpConnection;
+import com.azure.messaging.eventhubs.implementation.EventHubConnectionPool;
 import com.azure.messaging.eventhubs.implementation.EventHubConnectionProcessor;
 import com.azure.messaging.eventhubs.implementation.EventHubReactorAmqpConnection;
 import com.azure.messaging.eventhubs.implementation.EventHubSharedKeyCredential;
@@ -41,7 +42,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class provides a fluent builder API to aid the instantiation of {@link EventHubProducerAsyncClient}, {@link
@@ -82,7 +82,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p><strong>Creating producers and consumers that share the same connection</strong></p>
  * <p>By default, a dedicated connection is created for each producer and consumer created from the builder. If users
- * wish to use the same underlying connection, they can toggle {@link #shareConnection() shareConnection()}.</p>
+ * wish to use the same underlying connection, they can toggle {@link #shareConnection() shareConnection()}. To spread
+ * many producers and consumers over a few connections, set {@link #connectionPoolSize(int) connectionPoolSize(int)}.
+ * </p>
  *
  * {@codesnippet com.azure.messaging.eventhubs.eventhubclientbuilder.instantiation}
  *
@@ -133,13 +135,10 @@ public class EventHubClientBuilder {
     private String fullyQualifiedNamespace;
     private String eventHubName;
     private String consumerGroup;
-    private EventHubConnectionProcessor eventHubConnectionProcessor;
+    private EventHubConnectionPool connectionPool;
+    private int connectionPoolSize;
     private int prefetchCount;
-
-    /**
-     * Keeps track of the open clients that were created from this builder when there is a shared connection.
-     */
-    private final AtomicInteger openClients = new AtomicInteger();
+    private long maxPrefetchBytesPerPartition;
 
     /**
      * Creates a new instance with the default transport {@link AmqpTransportType#AMQP} and a non-shared connection. A
@@ -251,6 +250,31 @@ public class EventHubClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the maximum number of connections shared by the producers and consumers that are built from this instance.
+     * Connections are opened as clients are built, up to {@code connectionPoolSize}. After that, each client uses the
+     * connection with the least load, which is the larger of the number of links open on it and the number of clients
+     * using it. A connection is closed once all the clients using it are closed. By default, a new connection is
+     * created for each producer or consumer, unless {@link #shareConnection()} is set, which shares a single
+     * connection.
+     *
+     * <p>The number of clients and links on each connection of the pool is not exposed by the clients. It is logged at
+     * the informational level each time a client acquires or releases a connection.</p>
+     *
+     * @param connectionPoolSize The maximum number of connections shared by clients built from this instance.
+     * @return The updated {@link EventHubClientBuilder} object.
+     * @throws IllegalArgumentException if {@code connectionPoolSize} is less than 1.
+     */
+    public EventHubClientBuilder connectionPoolSize(int connectionPoolSize) {
+        if (connectionPoolSize < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'connectionPoolSize' must be at least 1."));
+        }
+
+        this.connectionPoolSize = connectionPoolSize;
+        return this;
+    }
+
     /**
      * Sets the credential information for which Event Hub instance to connect to, and how to authorize against it.
      *
@@ -361,6 +385,30 @@ public class EventHubClientBuilder {
         return this;
     }
 
+    /**
+     * Sizes the events the consumer receives and queues locally by bytes rather than by count. The consumer keeps the
+     * events queued for each partition, and those it has asked the service for, within {@code
+     * maxPrefetchBytesPerPartition}, based on the average size of the events received. It also lowers the number of
+     * events it queues to what is processed in about a second, so that a slow consumer doesn't queue more events than
+     * it needs. The {@link #prefetchCount(int) prefetch count} is the most events it queues for a partition.
+     *
+     * <p>By default, or if set to 0, events are queued by count.</p>
+     *
+     * @param maxPrefetchBytesPerPartition The most bytes of events to queue locally for each partition.
+     *
+     * @return The updated {@link EventHubClientBuilder} object.
+     * @throws IllegalArgumentException if {@code maxPrefetchBytesPerPartition} is less than 0.
+     */
+    public EventHubClientBuilder maxPrefetchBytesPerPartition(long maxPrefetchBytesPerPartition) {
+        if (maxPrefetchBytesPerPartition < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(String.format(Locale.US,
+                "MaxPrefetchBytesPerPartition, '%s' cannot be less than 0", maxPrefetchBytesPerPartition)));
+        }
+
+        this.maxPrefetchBytesPerPartition = maxPrefetchBytesPerPartition;
+        return this;
+    }
+
     /**
      * Package-private method that sets the scheduler for the created Event Hub client.
      *
@@ -467,26 +515,31 @@ public class EventHubClientBuilder {
 
         final MessageSerializer messageSerializer = new EventHubMessageSerializer();
 
+        final int poolSize = connectionPoolSize > 0 ? connectionPoolSize : (isSharedConnection.get() ? 1 : 0);
         final EventHubConnectionProcessor processor;
-        if (isSharedConnection.get()) {
+        final Runnable onClientClose;
+        if (poolSize > 0) {
+            final EventHubConnectionPool.PooledConnection connection;
             synchronized (connectionLock) {
-                if (eventHubConnectionProcessor == null) {
-                    eventHubConnectionProcessor = buildConnectionProcessor(messageSerializer);
+                if (connectionPool == null) {
+                    connectionPool = new EventHubConnectionPool(poolSize,
+                        () -> buildConnectionProcessor(messageSerializer));
                 }
-            }
 
-            processor = eventHubConnectionProcessor;
+                connection = connectionPool.acquire();
+            }
 
-            final int numberOfOpenClients = openClients.incrementAndGet();
-            logger.info("# of open clients with shared connection: {}", numberOfOpenClients);
+            processor = connection.getConnectionProcessor();
+            onClientClose = connection::release;
         } else {
             processor = buildConnectionProcessor(messageSerializer);
+            onClientClose = () -> { };
         }
 
         final TracerProvider tracerProvider = new TracerProvider(ServiceLoader.load(Tracer.class));
 
-        return new EventHubAsyncClient(processor, tracerProvider, messageSerializer, scheduler,
-            isSharedConnection.get(), this::onClientClose);
+        return new EventHubAsyncClient(processor, tracerProvider, messageSerializer, scheduler, poolSize > 0,
+            onClientClose, maxPrefetchBytesPerPartition);
     }
 
     /**
@@ -519,29 +572,6 @@ public class EventHubClientBuilder {
         return new EventHubClient(client, retryOptions);
     }
 
-    void onClientClose() {
-        synchronized (connectionLock) {
-            final int numberOfOpenClients = openClients.decrementAndGet();
-            logger.info("Closing a dependent client. # of open clients: {}", numberOfOpenClients);
-
-            if (numberOfOpenClients > 0) {
-                return;
-            }
-
-            if (numberOfOpenClients < 0) {
-                logger.warning("There should not be less than 0 clients. actual: {}", numberOfOpenClients);
-            }
-
-            logger.info("No more open clients, closing shared connection.");
-            if (eventHubConnectionProcessor != null) {
-                eventHubConnectionProcessor.dispose();
-                eventHubConnectionProcessor = null;
-            } else {
-                logger.warning("Shared EventHubConnectionProcessor was already disposed.");
-            }
-        }
-    }
-
     private EventHubConnectionProcessor buildConnectionProcessor(MessageSerializer messageSerializer) {
         final ConnectionOptions connectionOptions = getConnectionOptions();
         final TokenManagerProvider tokenManagerProvider = new AzureTokenManagerProvider(
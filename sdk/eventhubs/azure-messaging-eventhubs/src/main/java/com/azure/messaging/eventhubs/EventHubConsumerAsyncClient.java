@@ -72,6 +72,7 @@ public class EventHubConsumerAsyncClient implements Closeable {
     private final MessageSerializer messageSerializer;
     private final String consumerGroup;
     private final int prefetchCount;
+    private final long maxPrefetchBytesPerPartition;
     private final Scheduler scheduler;
     private final boolean isSharedConnection;
     private final Runnable onClientClosed;
@@ -85,12 +86,21 @@ public class EventHubConsumerAsyncClient implements Closeable {
     EventHubConsumerAsyncClient(String fullyQualifiedNamespace, String eventHubName,
         EventHubConnectionProcessor connectionProcessor, MessageSerializer messageSerializer, String consumerGroup,
         int prefetchCount, Scheduler scheduler, boolean isSharedConnection, Runnable onClientClosed) {
+        this(fullyQualifiedNamespace, eventHubName, connectionProcessor, messageSerializer, consumerGroup,
+            prefetchCount, 0, scheduler, isSharedConnection, onClientClosed);
+    }
+
+    EventHubConsumerAsyncClient(String fullyQualifiedNamespace, String eventHubName,
+        EventHubConnectionProcessor connectionProcessor, MessageSerializer messageSerializer, String consumerGroup,
+        int prefetchCount, long maxPrefetchBytesPerPartition, Scheduler scheduler, boolean isSharedConnection,
+        Runnable onClientClosed) {
         this.fullyQualifiedNamespace = fullyQualifiedNamespace;
         this.eventHubName = eventHubName;
         this.connectionProcessor = connectionProcessor;
         this.messageSerializer = messageSerializer;
         this.consumerGroup = consumerGroup;
         this.prefetchCount = prefetchCount;
+        this.maxPrefetchBytesPerPartition = maxPrefetchBytesPerPartition;
         this.scheduler = scheduler;
         this.isSharedConnection = isSharedConnection;
         this.onClientClosed = onClientClosed;
@@ -166,6 +176,38 @@ public class EventHubConsumerAsyncClient implements Closeable {
             .flatMap(node -> node.getPartitionProperties(partitionId));
     }
 
+    /**
+     * Gets the number of events received from a partition that are buffered by this consumer and have not been
+     * emitted yet.
+     *
+     * @param partitionId Identifier of the partition.
+     *
+     * @return The number of events buffered for the partition. 0 if the partition is not being read.
+     */
+    public int getBufferedEventCount(String partitionId) {
+        return openPartitionConsumers.values().stream()
+            .filter(consumer -> consumer.getPartitionId().equals(partitionId))
+            .mapToInt(EventHubPartitionAsyncConsumer::getBufferedEventCount)
+            .sum();
+    }
+
+    /**
+     * Gets the estimated size of the events received from a partition that are buffered by this consumer and have not
+     * been emitted yet. The size of an event is estimated from the length of its body. Sizes are only estimated when
+     * {@link EventHubClientBuilder#maxPrefetchBytesPerPartition(long)} is set.
+     *
+     * @param partitionId Identifier of the partition.
+     *
+     * @return The estimated bytes of events buffered for the partition. 0 if the partition is not being read, or if
+     *     the events buffered are not limited by bytes.
+     */
+    public long getBufferedBytes(String partitionId) {
+        return openPartitionConsumers.values().stream()
+            .filter(consumer -> consumer.getPartitionId().equals(partitionId))
+            .mapToLong(EventHubPartitionAsyncConsumer::getBufferedBytes)
+            .sum();
+    }
+
     /**
      * Consumes events from a single partition starting at {@code startingPosition}.
      *
@@ -361,7 +403,8 @@ public class EventHubConsumerAsyncClient implements Closeable {
 
         final AmqpRetryPolicy retryPolicy = RetryUtil.getRetryPolicy(connectionProcessor.getRetryOptions());
         final AmqpReceiveLinkProcessor linkMessageProcessor = receiveLinkMono.subscribeWith(
-            new AmqpReceiveLinkProcessor(prefetchCount, retryPolicy, connectionProcessor));
+            new AmqpReceiveLinkProcessor(prefetchCount, maxPrefetchBytesPerPartition, retryPolicy,
+                connectionProcessor));
 
         return new EventHubPartitionAsyncConsumer(linkMessageProcessor, messageSerializer, getFullyQualifiedNamespace(),
             getEventHubName(), consumerGroup, partitionId, initialPosition,
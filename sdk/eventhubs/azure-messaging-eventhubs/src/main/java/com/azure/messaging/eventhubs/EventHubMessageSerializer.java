@@ -22,13 +22,20 @@ import org.apache.qpid.proton.amqp.messaging.Section;
 import org.apache.qpid.proton.message.Message;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.azure.core.amqp.AmqpMessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME;
+import static com.azure.core.amqp.AmqpMessageConstant.OFFSET_ANNOTATION_NAME;
+import static com.azure.core.amqp.AmqpMessageConstant.PARTITION_KEY_ANNOTATION_NAME;
+import static com.azure.core.amqp.AmqpMessageConstant.SEQUENCE_NUMBER_ANNOTATION_NAME;
+
 import static com.azure.messaging.eventhubs.implementation.ManagementChannel.MANAGEMENT_RESULT_LAST_ENQUEUED_OFFSET;
 import static com.azure.messaging.eventhubs.implementation.ManagementChannel.MANAGEMENT_RESULT_LAST_ENQUEUED_SEQUENCE_NUMBER;
 import static com.azure.messaging.eventhubs.implementation.ManagementChannel.MANAGEMENT_RESULT_LAST_ENQUEUED_TIME_UTC;
@@ -45,6 +52,12 @@ class EventHubMessageSerializer implements MessageSerializer {
     private static final Symbol LAST_ENQUEUED_TIME_UTC = Symbol.getSymbol(MANAGEMENT_RESULT_LAST_ENQUEUED_TIME_UTC);
     private static final Symbol RETRIEVAL_TIME_UTC =
         Symbol.getSymbol(MANAGEMENT_RESULT_RUNTIME_INFO_RETRIEVAL_TIME_UTC);
+    private static final Symbol OFFSET_ANNOTATION = Symbol.getSymbol(OFFSET_ANNOTATION_NAME.getValue());
+    private static final Symbol ENQUEUED_TIME_UTC_ANNOTATION =
+        Symbol.getSymbol(ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue());
+    private static final Symbol SEQUENCE_NUMBER_ANNOTATION =
+        Symbol.getSymbol(SEQUENCE_NUMBER_ANNOTATION_NAME.getValue());
+    private static final Symbol PARTITION_KEY_ANNOTATION = Symbol.getSymbol(PARTITION_KEY_ANNOTATION_NAME.getValue());
 
     /**
      * Gets the serialized size of the AMQP message.
@@ -190,12 +203,70 @@ class EventHubMessageSerializer implements MessageSerializer {
             retrievalTime);
     }
 
+    /**
+     * Deserializes a received message into an {@link EventData} without copying the body or the application
+     * properties. The offset, sequence number, enqueued time and partition key are read from the message annotations,
+     * and the other annotations and AMQP properties are only copied into the system properties when they are accessed.
+     * Clearing the message only releases its body section, so the system properties can still be read from it.
+     */
     private EventData deserializeEventData(Message message) {
         final Map<Symbol, Object> messageAnnotations = message.getMessageAnnotations().getValue();
+
+        final String offset = (String) messageAnnotations.get(OFFSET_ANNOTATION);
+        if (offset == null) {
+            throw logger.logExceptionAsError(new IllegalStateException(String.format(Locale.US,
+                "offset: %s should always be in map.", OFFSET_ANNOTATION_NAME.getValue())));
+        }
+
+        final Date enqueuedTime = (Date) messageAnnotations.get(ENQUEUED_TIME_UTC_ANNOTATION);
+        if (enqueuedTime == null) {
+            throw logger.logExceptionAsError(new IllegalStateException(String.format(Locale.US,
+                "enqueuedTime: %s should always be in map.", ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue())));
+        }
+
+        final Long sequenceNumber = (Long) messageAnnotations.get(SEQUENCE_NUMBER_ANNOTATION);
+        if (sequenceNumber == null) {
+            throw logger.logExceptionAsError(new IllegalStateException(String.format(Locale.US,
+                "sequenceNumber: %s should always be in map.", SEQUENCE_NUMBER_ANNOTATION_NAME.getValue())));
+        }
+
+        final String partitionKey = (String) messageAnnotations.get(PARTITION_KEY_ANNOTATION);
+        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(Long.valueOf(offset),
+            partitionKey, enqueuedTime.toInstant(), sequenceNumber,
+            () -> toSystemProperties(message));
+
+        final Section bodySection = message.getBody();
+        final byte[] body;
+        if (bodySection instanceof Data) {
+            body = toByteArray(((Data) bodySection).getValue());
+        } else {
+            logger.warning(String.format(Messages.MESSAGE_NOT_OF_TYPE,
+                bodySection != null ? bodySection.getType() : "null"));
+
+            body = new byte[0];
+        }
+
+        final Map<String, Object> properties = message.getApplicationProperties() == null
+            ? null
+            : message.getApplicationProperties().getValue();
+
+        message.clear();
+        return new EventData(body, properties, systemProperties, Context.NONE);
+    }
+
+    /*
+     * Copies the message annotations, other than the ones EventData keeps as fields, and the AMQP properties into the
+     * system properties of a received event.
+     */
+    private static Map<String, Object> toSystemProperties(Message message) {
         final HashMap<String, Object> receiveProperties = new HashMap<>();
 
-        for (Map.Entry<Symbol, Object> annotation : messageAnnotations.entrySet()) {
-            receiveProperties.put(annotation.getKey().toString(), annotation.getValue());
+        for (Map.Entry<Symbol, Object> annotation : message.getMessageAnnotations().getValue().entrySet()) {
+            final Symbol key = annotation.getKey();
+            if (key != OFFSET_ANNOTATION && key != ENQUEUED_TIME_UTC_ANNOTATION && key != SEQUENCE_NUMBER_ANNOTATION
+                && key != PARTITION_KEY_ANNOTATION) {
+                receiveProperties.put(key.toString(), annotation.getValue());
+            }
         }
 
         if (message.getProperties() != null) {
@@ -214,28 +285,19 @@ class EventHubMessageSerializer implements MessageSerializer {
             addMapEntry(receiveProperties, AmqpMessageConstant.REPLY_TO_GROUP_ID, message.getReplyToGroupId());
         }
 
-        final Section bodySection = message.getBody();
-        byte[] body;
-        if (bodySection instanceof Data) {
-            Data bodyData = (Data) bodySection;
-            body = bodyData.getValue().getArray();
-        } else {
-            logger.warning(String.format(Messages.MESSAGE_NOT_OF_TYPE,
-                bodySection != null ? bodySection.getType() : "null"));
+        return receiveProperties;
+    }
 
-            body = new byte[0];
+    /*
+     * Gets the bytes of a binary, without copying them unless the binary is a slice of a larger array.
+     */
+    private static byte[] toByteArray(Binary binary) {
+        final byte[] array = binary.getArray();
+        if (binary.getArrayOffset() == 0 && binary.getLength() == array.length) {
+            return array;
         }
 
-        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(receiveProperties);
-        final EventData eventData = new EventData(body, systemProperties, Context.NONE);
-        final Map<String, Object> properties = message.getApplicationProperties() == null
-            ? new HashMap<>()
-            : message.getApplicationProperties().getValue();
-
-        properties.forEach((key, value) -> eventData.getProperties().put(key, value));
-
-        message.clear();
-        return eventData;
+        return Arrays.copyOfRange(array, binary.getArrayOffset(), binary.getArrayOffset() + binary.getLength());
     }
 
     private EventHubProperties toEventHubProperties(Map<?, ?> amqpBody) {
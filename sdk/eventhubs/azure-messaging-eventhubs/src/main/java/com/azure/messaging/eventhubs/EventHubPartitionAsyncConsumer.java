@@ -15,6 +15,7 @@ import org.apache.qpid.proton.message.Message;
 import reactor.core.publisher.EmitterProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
 
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -39,6 +40,7 @@ class EventHubPartitionAsyncConsumer implements AutoCloseable {
     private final Scheduler scheduler;
     private final EmitterProcessor<PartitionEvent> emitterProcessor;
     private final EventPosition initialPosition;
+    private final int downstreamPrefetch;
 
     private volatile Long currentOffset;
 
@@ -68,6 +70,11 @@ class EventHubPartitionAsyncConsumer implements AutoCloseable {
                 : EventPosition.fromOffset(offset);
         });
 
+        // The link processor only counts events towards a byte budget until it emits them, so with a budget, events are
+        // taken from it one at a time rather than queued here as well.
+        final boolean hasByteBudget = amqpReceiveLinkProcessor.getMaxBufferedBytes() > 0;
+        this.downstreamPrefetch = hasByteBudget ? 1 : Queues.SMALL_BUFFER_SIZE;
+
         this.emitterProcessor = amqpReceiveLinkProcessor
             .map(message -> onMessageReceived(message))
             .doOnNext(event -> {
@@ -82,7 +89,7 @@ class EventHubPartitionAsyncConsumer implements AutoCloseable {
                         event.getData().getBodyAsString());
                 }
             })
-            .subscribeWith(EmitterProcessor.create(amqpReceiveLinkProcessor.getPrefetch(), false));
+            .subscribeWith(EmitterProcessor.create(hasByteBudget ? 1 : amqpReceiveLinkProcessor.getPrefetch(), false));
     }
 
     /**
@@ -102,7 +109,35 @@ class EventHubPartitionAsyncConsumer implements AutoCloseable {
      * @return A stream of events received from the partition.
      */
     Flux<PartitionEvent> receive() {
-        return emitterProcessor.publishOn(this.scheduler);
+        return emitterProcessor.publishOn(this.scheduler, downstreamPrefetch);
+    }
+
+    /**
+     * Gets the identifier of the partition this consumer receives from.
+     *
+     * @return The identifier of the partition.
+     */
+    String getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Gets the number of events received from the partition that are buffered and have not been emitted yet.
+     *
+     * @return The number of events buffered.
+     */
+    int getBufferedEventCount() {
+        return amqpReceiveLinkProcessor.getBufferedMessageCount();
+    }
+
+    /**
+     * Gets the estimated size of the events received from the partition that are buffered and have not been emitted
+     * yet.
+     *
+     * @return The estimated bytes of events buffered. 0 if the events buffered are not limited by bytes.
+     */
+    long getBufferedBytes() {
+        return amqpReceiveLinkProcessor.getBufferedBytes();
     }
 
     /**
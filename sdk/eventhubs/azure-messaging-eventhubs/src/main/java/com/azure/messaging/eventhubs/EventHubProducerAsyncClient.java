@@ -396,19 +396,23 @@ public class EventHubProducerAsyncClient implements Closeable {
             : null;
 
         Context sharedContext = null;
-        final List<Message> messages = new ArrayList<>();
-
-        for (int i = 0; i < batch.getEvents().size(); i++) {
-            final EventData event = batch.getEvents().get(i);
-            if (isTracingEnabled) {
+        if (isTracingEnabled) {
+            for (int i = 0; i < batch.getEvents().size(); i++) {
+                final EventData event = batch.getEvents().get(i);
                 parentContext.set(event.getContext());
                 if (i == 0) {
                     sharedContext = tracerProvider.getSharedSpanBuilder(parentContext.get());
                 }
                 tracerProvider.addSpanLinks(sharedContext.addData(SPAN_CONTEXT_KEY, event.getContext()));
             }
-            final Message message = messageSerializer.serialize(event);
+        }
 
+        // A single event is sent as a message of its own. Otherwise, the batch was encoded as its events were added,
+        // and the events added to it from now on aren't part of this send.
+        final Message message;
+        final EventDataBatch.EncodedBatch encodedBatch;
+        if (batch.getCount() == 1) {
+            message = messageSerializer.serialize(batch.getEvents().get(0));
             if (!CoreUtils.isNullOrEmpty(partitionKey)) {
                 final MessageAnnotations messageAnnotations = message.getMessageAnnotations() == null
                     ? new MessageAnnotations(new HashMap<>())
@@ -416,7 +420,10 @@ public class EventHubProducerAsyncClient implements Closeable {
                 messageAnnotations.getValue().put(AmqpConstants.PARTITION_KEY, partitionKey);
                 message.setMessageAnnotations(messageAnnotations);
             }
-            messages.add(message);
+            encodedBatch = null;
+        } else {
+            message = null;
+            encodedBatch = batch.getEncodedBatch();
         }
 
         if (isTracingEnabled) {
@@ -432,9 +439,10 @@ public class EventHubProducerAsyncClient implements Closeable {
 
         return withRetry(getSendLink(batch.getPartitionId())
             .flatMap(link ->
-                messages.size() == 1
-                    ? link.send(messages.get(0))
-                    : link.send(messages)), retryOptions.getTryTimeout(), retryPolicy)
+                message != null
+                    ? link.send(message)
+                    : link.sendEncodedBatch(encodedBatch.getBytes(), encodedBatch.getSize())),
+                retryOptions.getTryTimeout(), retryPolicy)
             .publishOn(scheduler)
             .doOnEach(signal -> {
                 if (isTracingEnabled) {
@@ -9,12 +9,16 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.eventhubs.implementation.PartitionProcessor;
 import com.azure.messaging.eventhubs.models.ErrorContext;
 import com.azure.messaging.eventhubs.models.EventPosition;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
@@ -39,7 +43,7 @@ import java.util.stream.Collectors;
 @ServiceClient(builder = EventProcessorClientBuilder.class)
 public class EventProcessorClient {
 
-    private static final long INTERVAL_IN_SECONDS = 10; // run the load balancer every 10 seconds
+    static final long INTERVAL_IN_SECONDS = 10; // run the load balancer every 10 seconds
     private static final long BASE_JITTER_IN_SECONDS = 2; // the initial delay jitter before starting the processor
     private final ClientLogger logger = new ClientLogger(EventProcessorClient.class);
 
@@ -54,6 +58,8 @@ public class EventProcessorClient {
     private final String fullyQualifiedNamespace;
     private final String eventHubName;
     private final String consumerGroup;
+    private final LoadBalancingStrategy loadBalancingStrategy;
+    private final Duration loadBalancingInterval;
 
     /**
      * Package-private constructor. Use {@link EventHubClientBuilder} to create an instance.
@@ -67,15 +73,17 @@ public class EventProcessorClient {
      * @param tracerProvider The tracer implementation.
      * @param processError Error handler for any errors that occur outside the context of a partition.
      * @param initialPartitionEventPosition Map of initial event positions for partition ids.
+     * @param options The settings of event processing and load balancing.
      */
     EventProcessorClient(EventHubClientBuilder eventHubClientBuilder, String consumerGroup,
         Supplier<PartitionProcessor> partitionProcessorFactory, CheckpointStore checkpointStore,
         boolean trackLastEnqueuedEventProperties, TracerProvider tracerProvider, Consumer<ErrorContext> processError,
-        Map<String, EventPosition> initialPartitionEventPosition) {
+        Map<String, EventPosition> initialPartitionEventPosition, EventProcessorClientOptions options) {
 
         Objects.requireNonNull(eventHubClientBuilder, "eventHubClientBuilder cannot be null.");
         Objects.requireNonNull(consumerGroup, "consumerGroup cannot be null.");
         Objects.requireNonNull(partitionProcessorFactory, "partitionProcessorFactory cannot be null.");
+        Objects.requireNonNull(options, "options cannot be null.");
 
         EventHubAsyncClient eventHubAsyncClient = eventHubClientBuilder.buildAsyncClient();
 
@@ -84,14 +92,18 @@ public class EventProcessorClient {
         this.fullyQualifiedNamespace = eventHubAsyncClient.getFullyQualifiedNamespace().toLowerCase(Locale.ROOT);
         this.eventHubName = eventHubAsyncClient.getEventHubName().toLowerCase(Locale.ROOT);
         this.consumerGroup = consumerGroup.toLowerCase(Locale.ROOT);
+        this.loadBalancingStrategy = options.getLoadBalancingStrategy();
+        this.loadBalancingInterval = options.getLoadBalancingInterval();
 
         logger.info("The instance ID for this event processors is {}", this.identifier);
         this.partitionPumpManager = new PartitionPumpManager(checkpointStore, partitionProcessorFactory,
-            eventHubClientBuilder, trackLastEnqueuedEventProperties, tracerProvider, initialPartitionEventPosition);
+            eventHubClientBuilder, trackLastEnqueuedEventProperties, tracerProvider, initialPartitionEventPosition,
+            options);
         this.partitionBasedLoadBalancer =
             new PartitionBasedLoadBalancer(this.checkpointStore, eventHubAsyncClient,
                 this.fullyQualifiedNamespace, this.eventHubName, this.consumerGroup, this.identifier,
-                TimeUnit.MINUTES.toSeconds(1), this.partitionPumpManager, processError);
+                TimeUnit.MINUTES.toSeconds(1), this.partitionPumpManager, processError, options, new Random(),
+                Clock.systemUTC());
 
     }
 
@@ -129,8 +141,14 @@ public class EventProcessorClient {
         Double jitterInMillis =
             ThreadLocalRandom.current().nextDouble() * TimeUnit.SECONDS.toMillis(BASE_JITTER_IN_SECONDS);
 
-        runner.set(scheduler.get().scheduleWithFixedDelay(partitionBasedLoadBalancer::loadBalance,
-            jitterInMillis.longValue(), TimeUnit.SECONDS.toMillis(INTERVAL_IN_SECONDS), TimeUnit.MILLISECONDS));
+        if (loadBalancingStrategy == LoadBalancingStrategy.BALANCED) {
+            runner.set(scheduler.get().scheduleWithFixedDelay(
+                () -> partitionBasedLoadBalancer.loadBalance().subscribe(), jitterInMillis.longValue(),
+                loadBalancingInterval.toMillis(), TimeUnit.MILLISECONDS));
+        } else {
+            runner.set(scheduler.get().schedule(this::runLoadBalancer, jitterInMillis.longValue(),
+                TimeUnit.MILLISECONDS));
+        }
     }
 
     /**
@@ -163,6 +181,53 @@ public class EventProcessorClient {
         return isRunning.get();
     }
 
+    /**
+     * Gets the number of events received from a partition owned by this event processor that are buffered and have
+     * not been processed yet.
+     *
+     * @param partitionId Identifier of the partition.
+     * @return The number of events buffered for the partition. 0 if this event processor doesn't own the partition.
+     */
+    public int getBufferedEventCount(String partitionId) {
+        final EventHubConsumerAsyncClient consumer = partitionPumpManager.getPartitionPumps().get(partitionId);
+        return consumer == null ? 0 : consumer.getBufferedEventCount(partitionId);
+    }
+
+    /**
+     * Gets the estimated size of the events received from a partition owned by this event processor that are buffered
+     * and have not been processed yet. Sizes are only estimated when {@link
+     * EventProcessorClientBuilder#maxPrefetchBytesPerPartition(long)} is set.
+     *
+     * @param partitionId Identifier of the partition.
+     * @return The estimated bytes of events buffered for the partition. 0 if this event processor doesn't own the
+     *     partition, or if the events buffered are not limited by bytes.
+     */
+    public long getBufferedBytes(String partitionId) {
+        final EventHubConsumerAsyncClient consumer = partitionPumpManager.getPartitionPumps().get(partitionId);
+        return consumer == null ? 0 : consumer.getBufferedBytes(partitionId);
+    }
+
+    /*
+     * Runs a load balancing cycle of the greedy strategy, then schedules the next one once it completes, after the
+     * delay the load balancer asks for based on its outcome. The next cycle runs on the scheduler of the run that
+     * started this one, which is shut down if the processor is stopped in the meantime.
+     */
+    private void runLoadBalancer() {
+        final ScheduledExecutorService executor = scheduler.get();
+        partitionBasedLoadBalancer.loadBalance()
+            .doFinally(signal -> {
+                if (isRunning.get()) {
+                    try {
+                        runner.set(executor.schedule(this::runLoadBalancer,
+                            partitionBasedLoadBalancer.getNextLoadBalancingDelay().toMillis(), TimeUnit.MILLISECONDS));
+                    } catch (RejectedExecutionException e) {
+                        logger.verbose("Event processor stopped before the next load balancing cycle was scheduled.");
+                    }
+                }
+            })
+            .subscribe();
+    }
+
     private void stopProcessing() {
         partitionPumpManager.stopAllPartitionPumps();
 
@@ -15,15 +15,19 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.tracing.Tracer;
 import com.azure.messaging.eventhubs.implementation.PartitionProcessor;
 import com.azure.messaging.eventhubs.models.CloseContext;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
 import com.azure.messaging.eventhubs.models.EventContext;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.ErrorContext;
 import com.azure.messaging.eventhubs.models.InitializationContext;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -39,7 +43,8 @@ import java.util.function.Supplier;
  * <li>{@link CheckpointStore} - An implementation of CheckpointStore that stores checkpoint and
  * partition ownership information to enable load balancing and checkpointing processed events.</li>
  * <li>{@link #processEvent(Consumer) processEvent} - A callback that processes events received from the Event Hub
- * .</li>
+ * . Or, {@link #processEventBatch(Consumer, int, Duration) processEventBatch} - A callback that processes batches of
+ * events received from the Event Hub.</li>
  * <li>{@link #processError(Consumer) processError} - A callback that handles errors that may occur while running the
  * EventProcessorClient.</li>
  * <li>Credentials -
@@ -73,11 +78,18 @@ public class EventProcessorClientBuilder {
     private String consumerGroup;
     private CheckpointStore checkpointStore;
     private Consumer<EventContext> processEvent;
+    private Consumer<EventBatchContext> processEventBatch;
+    private int maxBatchSize;
+    private Duration maxWaitTime;
+    private int maxConcurrentEventsPerPartition = 1;
+    private Function<EventData, String> orderingKeySelector = EventData::getPartitionKey;
     private Consumer<ErrorContext> processError;
     private Consumer<InitializationContext> processPartitionInitialization;
     private Consumer<CloseContext> processPartitionClose;
     private boolean trackLastEnqueuedEventProperties;
     private Map<String, EventPosition> initialPartitionEventPosition = new HashMap<>();
+    private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.BALANCED;
+    private Duration loadBalancingUpdateInterval = Duration.ofSeconds(EventProcessorClient.INTERVAL_IN_SECONDS);
 
     /**
      * Creates a new instance of {@link EventProcessorClientBuilder}.
@@ -201,6 +213,34 @@ public class EventProcessorClientBuilder {
         return this;
     }
 
+    /**
+     * Sizes the events queued locally for each partition by bytes rather than by count. See {@link
+     * EventHubClientBuilder#maxPrefetchBytesPerPartition(long)}. By default, or if set to 0, events are queued by
+     * count.
+     *
+     * @param maxPrefetchBytesPerPartition The most bytes of events to queue locally for each partition.
+     * @return The updated {@link EventProcessorClientBuilder} object.
+     * @throws IllegalArgumentException if {@code maxPrefetchBytesPerPartition} is less than 0.
+     */
+    public EventProcessorClientBuilder maxPrefetchBytesPerPartition(long maxPrefetchBytesPerPartition) {
+        eventHubClientBuilder.maxPrefetchBytesPerPartition(maxPrefetchBytesPerPartition);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of connections the partitions processed by the {@link EventProcessorClient} are
+     * received over. See {@link EventHubClientBuilder#connectionPoolSize(int)}. By default, each partition is received
+     * over its own connection.
+     *
+     * @param connectionPoolSize The maximum number of connections partitions are received over.
+     * @return The updated {@link EventProcessorClientBuilder} object.
+     * @throws IllegalArgumentException if {@code connectionPoolSize} is less than 1.
+     */
+    public EventProcessorClientBuilder connectionPoolSize(int connectionPoolSize) {
+        eventHubClientBuilder.connectionPoolSize(connectionPoolSize);
+        return this;
+    }
+
     /**
      * Sets the consumer group name from which the {@link EventProcessorClient} should consume events.
      *
@@ -244,6 +284,85 @@ public class EventProcessorClientBuilder {
         return this;
     }
 
+    /**
+     * The function that is called for each batch of events received by this {@link EventProcessorClient}, as an
+     * alternative to {@link #processEvent(Consumer)}. The input contains the partition context and up to {@code
+     * maxBatchSize} events from that partition, in the order they were received.
+     *
+     * <p>A batch is delivered once {@code maxBatchSize} events have been received, or once {@code maxWaitTime} has
+     * elapsed since the first event of the batch was received, whichever comes first. Batches of a partition are
+     * delivered one at a time and events aren't received faster than they are processed. Updating the checkpoint of a
+     * batch updates it to its last event.</p>
+     *
+     * @param processEventBatch The callback that's called when a batch of events is received by this {@link
+     * EventProcessorClient}.
+     * @param maxBatchSize The maximum number of events in a batch.
+     * @param maxWaitTime The maximum time to wait for a batch to fill up before it is delivered.
+     * @return The updated {@link EventProcessorClientBuilder} instance.
+     * @throws NullPointerException if {@code processEventBatch} or {@code maxWaitTime} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code maxWaitTime} is not positive.
+     */
+    public EventProcessorClientBuilder processEventBatch(Consumer<EventBatchContext> processEventBatch,
+        int maxBatchSize, Duration maxWaitTime) {
+        Objects.requireNonNull(processEventBatch, "'processEventBatch' cannot be null");
+        Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null");
+        if (maxBatchSize <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxBatchSize' must be greater than 0."));
+        }
+        if (maxWaitTime.isZero() || maxWaitTime.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxWaitTime' must be positive."));
+        }
+
+        this.processEventBatch = processEventBatch;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of events of each partition that are passed to {@link #processEvent(Consumer)
+     * processEvent} at a time. Events with the same partition key are processed one at a time, in the order they were
+     * received. Events without a partition key are not ordered relative to each other. Defaults to 1, which processes
+     * the events of a partition one at a time, in order.
+     *
+     * @param maxConcurrentEventsPerPartition The maximum number of events of a partition processed at a time.
+     * @return The updated {@link EventProcessorClientBuilder} instance.
+     * @throws IllegalArgumentException if {@code maxConcurrentEventsPerPartition} is not positive.
+     * @see #maxConcurrentEventsPerPartition(int, Function)
+     */
+    public EventProcessorClientBuilder maxConcurrentEventsPerPartition(int maxConcurrentEventsPerPartition) {
+        return maxConcurrentEventsPerPartition(maxConcurrentEventsPerPartition, EventData::getPartitionKey);
+    }
+
+    /**
+     * Sets the maximum number of events of each partition that are passed to {@link #processEvent(Consumer)
+     * processEvent} at a time. Events with the same ordering key are processed one at a time, in the order they were
+     * received. Events whose ordering key is {@code null} are not ordered relative to each other.
+     *
+     * <p>Events are processed on a bounded pool of threads shared by all partitions, and no more than {@code
+     * maxConcurrentEventsPerPartition} events of a partition are received until some have been processed. Updating
+     * the checkpoint of an event only takes effect once it and every event of the partition received before it have
+     * been processed; the checkpoint is written in the background then, and errors writing it are logged.</p>
+     *
+     * @param maxConcurrentEventsPerPartition The maximum number of events of a partition processed at a time.
+     * @param orderingKeySelector Gets the ordering key of an event.
+     * @return The updated {@link EventProcessorClientBuilder} instance.
+     * @throws NullPointerException if {@code orderingKeySelector} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxConcurrentEventsPerPartition} is not positive.
+     */
+    public EventProcessorClientBuilder maxConcurrentEventsPerPartition(int maxConcurrentEventsPerPartition,
+        Function<EventData, String> orderingKeySelector) {
+        Objects.requireNonNull(orderingKeySelector, "'orderingKeySelector' cannot be null");
+        if (maxConcurrentEventsPerPartition <= 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxConcurrentEventsPerPartition' must be greater than 0."));
+        }
+
+        this.maxConcurrentEventsPerPartition = maxConcurrentEventsPerPartition;
+        this.orderingKeySelector = orderingKeySelector;
+        return this;
+    }
+
     /**
      * The function that is called when an error occurs while processing events. The input contains the partition
      * information where the error happened.
@@ -318,6 +437,44 @@ public class EventProcessorClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the strategy the event processor uses to claim partitions when balancing them among the active event
+     * processors. Defaults to {@link LoadBalancingStrategy#BALANCED}.
+     *
+     * @param loadBalancingStrategy The strategy used to claim partitions.
+     * @return The updated {@link EventProcessorClientBuilder} instance.
+     * @throws NullPointerException if {@code loadBalancingStrategy} is {@code null}.
+     */
+    public EventProcessorClientBuilder loadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+        this.loadBalancingStrategy = Objects.requireNonNull(loadBalancingStrategy,
+            "'loadBalancingStrategy' cannot be null.");
+        return this;
+    }
+
+    /**
+     * Sets the time between load balancing cycles, in which the event processor renews the ownership of its partitions
+     * and claims more if the load isn't balanced. Defaults to 10 seconds. With {@link LoadBalancingStrategy#GREEDY},
+     * cycles run more often while the load is unbalanced and less often while it stays balanced.
+     *
+     * @param loadBalancingUpdateInterval The time between load balancing cycles. It must be less than the 1 minute
+     *     after which the ownership of a partition that isn't renewed expires.
+     * @return The updated {@link EventProcessorClientBuilder} instance.
+     * @throws NullPointerException if {@code loadBalancingUpdateInterval} is {@code null}.
+     * @throws IllegalArgumentException if {@code loadBalancingUpdateInterval} isn't positive, or isn't less than 1
+     *     minute.
+     */
+    public EventProcessorClientBuilder loadBalancingUpdateInterval(Duration loadBalancingUpdateInterval) {
+        Objects.requireNonNull(loadBalancingUpdateInterval, "'loadBalancingUpdateInterval' cannot be null.");
+        if (loadBalancingUpdateInterval.isZero() || loadBalancingUpdateInterval.isNegative()
+            || loadBalancingUpdateInterval.compareTo(Duration.ofMinutes(1)) >= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'loadBalancingUpdateInterval' must be positive and less than 1 minute."));
+        }
+
+        this.loadBalancingUpdateInterval = loadBalancingUpdateInterval;
+        return this;
+    }
+
     /**
      * This will create a new {@link EventProcessorClient} configured with the options set in this builder. Each call to
      * this method will return a new instance of {@link EventProcessorClient}.
@@ -328,14 +485,27 @@ public class EventProcessorClientBuilder {
      * </p>
      *
      * @return A new instance of {@link EventProcessorClient}.
-     * @throws NullPointerException if {@code processEvent} or {@code processError} or {@code checkpointStore} or
-     * {@code consumerGroup} is {@code null}.
+     * @throws NullPointerException if {@code processError} or {@code checkpointStore} or {@code consumerGroup} is
+     * {@code null}. Or, if neither {@code processEvent} nor {@code processEventBatch} is set.
+     * @throws IllegalStateException if both {@code processEvent} and {@code processEventBatch} are set. Or, if {@code
+     * processEventBatch} is set with more than 1 {@code maxConcurrentEventsPerPartition}.
      * @throws IllegalArgumentException if the credentials have not been set using either {@link
      * #connectionString(String)} or {@link #credential(String, String, TokenCredential)}. Or, if a proxy is specified
      * but the transport type is not {@link AmqpTransportType#AMQP_WEB_SOCKETS web sockets}.
      */
     public EventProcessorClient buildEventProcessorClient() {
-        Objects.requireNonNull(processEvent, "'processEvent' cannot be null");
+        if (processEvent == null && processEventBatch == null) {
+            throw logger.logExceptionAsError(
+                new NullPointerException("Either 'processEvent' or 'processEventBatch' must be set."));
+        }
+        if (processEvent != null && processEventBatch != null) {
+            throw logger.logExceptionAsError(
+                new IllegalStateException("Only one of 'processEvent' or 'processEventBatch' can be set."));
+        }
+        if (processEventBatch != null && maxConcurrentEventsPerPartition > 1) {
+            throw logger.logExceptionAsError(new IllegalStateException(
+                "'maxConcurrentEventsPerPartition' can only be set with 'processEvent'."));
+        }
         Objects.requireNonNull(processError, "'processError' cannot be null");
         Objects.requireNonNull(checkpointStore, "'checkpointStore' cannot be null");
         Objects.requireNonNull(consumerGroup, "'consumerGroup' cannot be null");
@@ -343,7 +513,10 @@ public class EventProcessorClientBuilder {
         final TracerProvider tracerProvider = new TracerProvider(ServiceLoader.load(Tracer.class));
         return new EventProcessorClient(eventHubClientBuilder, this.consumerGroup,
             getPartitionProcessorSupplier(), checkpointStore, trackLastEnqueuedEventProperties, tracerProvider,
-            processError, initialPartitionEventPosition);
+            processError, initialPartitionEventPosition, new EventProcessorClientOptions()
+                .setBatch(processEventBatch != null ? maxBatchSize : 0, maxWaitTime)
+                .setConcurrency(maxConcurrentEventsPerPartition, orderingKeySelector)
+                .setLoadBalancing(loadBalancingStrategy, loadBalancingUpdateInterval));
     }
 
     private Supplier<PartitionProcessor> getPartitionProcessorSupplier() {
@@ -353,6 +526,11 @@ public class EventProcessorClientBuilder {
                 processEvent.accept(eventContext);
             }
 
+            @Override
+            public void processEventBatch(EventBatchContext eventBatchContext) {
+                processEventBatch.accept(eventBatchContext);
+            }
+
             @Override
             public void initialize(InitializationContext initializationContext) {
                 if (processPartitionInitialization != null) {
@@ -0,0 +1,133 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.implementation.PartitionProcessor;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
+import com.azure.messaging.eventhubs.models.EventContext;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The settings of an {@link EventProcessorClient} that control how the events of a partition are processed and how
+ * partitions are balanced, shared by the {@link PartitionPumpManager} and {@link PartitionBasedLoadBalancer} of the
+ * client. Each setting defaults to the behavior of a client that doesn't set it.
+ */
+final class EventProcessorClientOptions {
+    private int maxBatchSize;
+    private Duration maxWaitTime;
+    private int maxConcurrentEventsPerPartition = 1;
+    private Function<EventData, String> orderingKeySelector = EventData::getPartitionKey;
+    private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.BALANCED;
+    private Duration loadBalancingInterval = Duration.ofSeconds(EventProcessorClient.INTERVAL_IN_SECONDS);
+
+    /**
+     * Gets the maximum number of events passed to {@link PartitionProcessor#processEventBatch(EventBatchContext)} at a
+     * time.
+     *
+     * @return The maximum number of events in a batch, or 0 if events are passed one at a time to {@link
+     * PartitionProcessor#processEvent(EventContext)}.
+     */
+    int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Gets the maximum time to wait for a batch to fill up before it is processed.
+     *
+     * @return The maximum time to wait for a batch, or {@code null} if events aren't processed in batches.
+     */
+    Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * Sets the events of each partition to be processed in batches.
+     *
+     * @param maxBatchSize The maximum number of events in a batch, or 0 to process events one at a time.
+     * @param maxWaitTime The maximum time to wait for a batch to fill up before it is processed. Only used if {@code
+     * maxBatchSize} is greater than 0.
+     * @return The updated {@link EventProcessorClientOptions} object.
+     */
+    EventProcessorClientOptions setBatch(int maxBatchSize, Duration maxWaitTime) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of events of a partition passed to {@link PartitionProcessor#processEvent(EventContext)}
+     * at a time. Only used if events aren't processed in batches.
+     *
+     * @return The maximum number of events of a partition processed at a time.
+     */
+    int getMaxConcurrentEventsPerPartition() {
+        return maxConcurrentEventsPerPartition;
+    }
+
+    /**
+     * Gets the key of the events of a partition that must be processed in order. Only used if more than one event of
+     * a partition is processed at a time.
+     *
+     * @return The function that gets the ordering key of an event, which is {@code null} for events that don't need
+     * to be processed in order.
+     */
+    Function<EventData, String> getOrderingKeySelector() {
+        return orderingKeySelector;
+    }
+
+    /**
+     * Sets the number of events of a partition processed at a time, and which of them must be processed in order.
+     *
+     * @param maxConcurrentEventsPerPartition The maximum number of events of a partition processed at a time.
+     * @param orderingKeySelector Gets the key of the events that must be processed in order, which is {@code null} for
+     * events that don't need to be.
+     * @return The updated {@link EventProcessorClientOptions} object.
+     * @throws NullPointerException if {@code orderingKeySelector} is {@code null}.
+     */
+    EventProcessorClientOptions setConcurrency(int maxConcurrentEventsPerPartition,
+        Function<EventData, String> orderingKeySelector) {
+        this.maxConcurrentEventsPerPartition = maxConcurrentEventsPerPartition;
+        this.orderingKeySelector = Objects.requireNonNull(orderingKeySelector, "orderingKeySelector cannot be null.");
+        return this;
+    }
+
+    /**
+     * Gets the strategy used to claim partitions.
+     *
+     * @return The load balancing strategy.
+     */
+    LoadBalancingStrategy getLoadBalancingStrategy() {
+        return loadBalancingStrategy;
+    }
+
+    /**
+     * Gets the delay between load balancing cycles, which the greedy strategy adapts.
+     *
+     * @return The delay between load balancing cycles.
+     */
+    Duration getLoadBalancingInterval() {
+        return loadBalancingInterval;
+    }
+
+    /**
+     * Sets how partitions are balanced between the event processors of the consumer group.
+     *
+     * @param loadBalancingStrategy The strategy used to claim partitions.
+     * @param loadBalancingInterval The delay between load balancing cycles.
+     * @return The updated {@link EventProcessorClientOptions} object.
+     * @throws NullPointerException if {@code loadBalancingStrategy} or {@code loadBalancingInterval} is {@code null}.
+     */
+    EventProcessorClientOptions setLoadBalancing(LoadBalancingStrategy loadBalancingStrategy,
+        Duration loadBalancingInterval) {
+        this.loadBalancingStrategy = Objects.requireNonNull(loadBalancingStrategy,
+            "loadBalancingStrategy cannot be null.");
+        this.loadBalancingInterval = Objects.requireNonNull(loadBalancingInterval,
+            "loadBalancingInterval cannot be null.");
+        return this;
+    }
+}
@@ -0,0 +1,267 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.models.PartitionEvent;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Subscriber that processes up to {@code maxConcurrency} events received from a partition at a time, on threads of the
+ * given scheduler, while processing events with the same ordering key one at a time in the order they were received.
+ * Events without an ordering key are not ordered relative to each other.
+ *
+ * <p>No more than {@code maxConcurrency} events are requested from upstream until some have been processed, so
+ * receiving slows down with processing as it does when events are processed one at a time. Events are recorded in the
+ * {@link WatermarkCheckpointStore} when they are dispatched and once they have been processed, so that checkpoints
+ * are only written once the events before them have been processed.</p>
+ *
+ * <p>Once processing an event fails, the events waiting behind others are discarded and no more events are
+ * dispatched. The error, or the completion of upstream, is handled once the events being processed are done.</p>
+ */
+class KeyOrderedPartitionEventSubscriber extends BaseSubscriber<PartitionEvent> {
+    private final Object lock = new Object();
+    private final int maxConcurrency;
+    private final Function<EventData, String> orderingKeySelector;
+    private final Scheduler scheduler;
+    private final WatermarkCheckpointStore checkpointStore;
+    private final Consumer<PartitionEvent> processEvent;
+    private final Consumer<Throwable> processError;
+    private final Runnable processComplete;
+
+    // Guarded by lock. An ordering key is in the map while one of its events is being processed, and maps to the
+    // events with that key waiting for it.
+    private final Map<String, ArrayDeque<PartitionEvent>> waitingEvents = new HashMap<>();
+    private int inFlightCount;
+    private boolean isDone;
+    private Throwable error;
+    private boolean terminated;
+
+    /**
+     * Creates a subscriber that processes events concurrently, in order for each ordering key.
+     *
+     * @param maxConcurrency The maximum number of events processed at a time.
+     * @param orderingKeySelector Gets the ordering key of an event, or {@code null} if it doesn't need to be ordered.
+     * @param scheduler The scheduler that processes events.
+     * @param checkpointStore The store that tracks which events have been processed, to write checkpoints in order.
+     * @param processEvent Processes an event.
+     * @param processError Handles an error from upstream or from processing an event, once the events being processed
+     *     are done.
+     * @param processComplete Handles the completion of upstream, once the events received have been processed.
+     */
+    KeyOrderedPartitionEventSubscriber(int maxConcurrency, Function<EventData, String> orderingKeySelector,
+        Scheduler scheduler, WatermarkCheckpointStore checkpointStore, Consumer<PartitionEvent> processEvent,
+        Consumer<Throwable> processError, Runnable processComplete) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("'maxConcurrency' must be greater than 0.");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.orderingKeySelector = Objects.requireNonNull(orderingKeySelector,
+            "'orderingKeySelector' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        this.checkpointStore = Objects.requireNonNull(checkpointStore, "'checkpointStore' cannot be null.");
+        this.processEvent = Objects.requireNonNull(processEvent, "'processEvent' cannot be null.");
+        this.processError = Objects.requireNonNull(processError, "'processError' cannot be null.");
+        this.processComplete = Objects.requireNonNull(processComplete, "'processComplete' cannot be null.");
+    }
+
+    /**
+     * Requests as many events as can be processed at a time.
+     *
+     * @param subscription Subscription for upstream.
+     */
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+        subscription.request(maxConcurrency);
+    }
+
+    /**
+     * Processes the event, or queues it behind the event with the same ordering key being processed.
+     *
+     * @param partitionEvent Event to process.
+     */
+    @Override
+    protected void hookOnNext(PartitionEvent partitionEvent) {
+        final String orderingKey;
+        try {
+            orderingKey = orderingKeySelector.apply(partitionEvent.getData());
+        } catch (Throwable throwable) {
+            onProcessingError(throwable);
+            return;
+        }
+
+        synchronized (lock) {
+            if (isDone) {
+                return;
+            }
+
+            checkpointStore.onDispatched(partitionEvent.getData().getSequenceNumber());
+            inFlightCount++;
+            if (orderingKey != null) {
+                final ArrayDeque<PartitionEvent> waiting = waitingEvents.get(orderingKey);
+                if (waiting != null) {
+                    waiting.addLast(partitionEvent);
+                    return;
+                }
+
+                waitingEvents.put(orderingKey, new ArrayDeque<>());
+            }
+        }
+
+        scheduler.schedule(() -> process(orderingKey, partitionEvent));
+    }
+
+    /**
+     * Processes the events received so far, then the error.
+     *
+     * @param throwable Error from upstream.
+     */
+    @Override
+    protected void hookOnError(Throwable throwable) {
+        synchronized (lock) {
+            if (isDone) {
+                return;
+            }
+
+            isDone = true;
+            error = throwable;
+        }
+
+        terminateIfIdle();
+    }
+
+    /**
+     * Processes the events received so far, then the completion.
+     */
+    @Override
+    protected void hookOnComplete() {
+        synchronized (lock) {
+            if (isDone) {
+                return;
+            }
+
+            isDone = true;
+        }
+
+        terminateIfIdle();
+    }
+
+    /**
+     * Discards the events waiting to be processed.
+     */
+    @Override
+    protected void hookOnCancel() {
+        synchronized (lock) {
+            isDone = true;
+            terminated = true;
+            discardWaitingEvents();
+        }
+    }
+
+    /*
+     * Processes an event, then the events with the same ordering key that were queued while it was processed.
+     */
+    private void process(String orderingKey, PartitionEvent first) {
+        PartitionEvent partitionEvent = first;
+        while (partitionEvent != null) {
+            try {
+                processEvent.accept(partitionEvent);
+            } catch (Throwable throwable) {
+                synchronized (lock) {
+                    inFlightCount--;
+                }
+
+                onProcessingError(throwable);
+                return;
+            }
+
+            checkpointStore.onProcessed(partitionEvent.getData().getSequenceNumber());
+
+            final boolean isRequesting;
+            synchronized (lock) {
+                inFlightCount--;
+                isRequesting = !isDone;
+
+                final ArrayDeque<PartitionEvent> waiting = orderingKey != null ? waitingEvents.get(orderingKey) : null;
+                partitionEvent = waiting != null ? waiting.pollFirst() : null;
+                if (partitionEvent == null && waiting != null) {
+                    waitingEvents.remove(orderingKey);
+                }
+            }
+
+            if (isRequesting) {
+                request(1);
+            }
+        }
+
+        terminateIfIdle();
+    }
+
+    private void onProcessingError(Throwable throwable) {
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+
+            if (isDone) {
+                // An error from upstream or another event is already waiting for the events being processed.
+                if (error == null) {
+                    error = throwable;
+                }
+            } else {
+                isDone = true;
+                error = throwable;
+            }
+
+            discardWaitingEvents();
+        }
+
+        upstream().cancel();
+        terminateIfIdle();
+    }
+
+    /*
+     * Discards the events queued behind others. Must be called holding the lock.
+     */
+    private void discardWaitingEvents() {
+        for (ArrayDeque<PartitionEvent> waiting : waitingEvents.values()) {
+            inFlightCount -= waiting.size();
+            waiting.clear();
+        }
+    }
+
+    private void terminateIfIdle() {
+        final Throwable terminalError;
+        synchronized (lock) {
+            if (terminated || !isDone || inFlightCount > 0) {
+                return;
+            }
+
+            terminated = true;
+            terminalError = error;
+        }
+
+        if (terminalError == null) {
+            processComplete.run();
+            return;
+        }
+
+        try {
+            processError.accept(terminalError);
+        } catch (RuntimeException e) {
+            // The error handler rethrows errors from processing, there is no one left to rethrow them to.
+            Operators.onErrorDropped(e, currentContext());
+        }
+    }
+}
@@ -6,6 +6,7 @@ package com.azure.messaging.eventhubs;
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.eventhubs.models.ErrorContext;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
 import com.azure.messaging.eventhubs.models.PartitionContext;
 import com.azure.messaging.eventhubs.models.PartitionOwnership;
 import reactor.core.Exceptions;
@@ -13,13 +14,17 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -38,10 +43,18 @@ import static java.util.stream.Collectors.toList;
  * EventProcessor is active. If a partition ownership entry has not be updated for a specified duration of time, the
  * owner of that partition is considered inactive and the partition is available for other EventProcessors to own.
  * </p>
+ * <p>
+ * With the {@link LoadBalancingStrategy#GREEDY greedy} strategy, the load balancer claims all the partitions it needs
+ * in a single cycle, and keeps the ownership records between cycles. While the load is balanced, a cycle only renews
+ * the ownership of the partitions this EventProcessor owns, using the ETags of the kept records. A renewal fails if
+ * another EventProcessor modified the record, which makes the next cycle read all the records again. The records are
+ * also read again once they are older than half the inactive time limit, so that partitions of inactive owners are
+ * found. The delay before the next cycle is a quarter of the load balancing interval while the load is unbalanced.
+ * While it stays balanced, the delay doubles after each cycle, up to four times the interval.
+ * </p>
  */
 final class PartitionBasedLoadBalancer {
 
-    private static final Random RANDOM = new Random();
     private final ClientLogger logger = new ClientLogger(PartitionBasedLoadBalancer.class);
 
     private final String eventHubName;
@@ -54,6 +67,18 @@ final class PartitionBasedLoadBalancer {
     private final String fullyQualifiedNamespace;
     private final Consumer<ErrorContext> processError;
     private final PartitionContext partitionAgnosticContext;
+    private final LoadBalancingStrategy loadBalancingStrategy;
+    private final Duration loadBalancingInterval;
+    private final Duration maxLoadBalancingInterval;
+    private final Random random;
+    private final Clock clock;
+
+    // State kept between cycles by the greedy strategy.
+    private final Map<String, PartitionOwnership> ownershipCache = new ConcurrentHashMap<>();
+    private volatile long lastOwnershipRefreshTime;
+    private volatile boolean isOwnershipRefreshRequired = true;
+    private volatile int balancedCycles;
+    private volatile Duration nextLoadBalancingDelay;
 
     /**
      * Creates an instance of PartitionBasedLoadBalancer for the given Event Hub name and consumer group.
@@ -68,12 +93,16 @@ final class PartitionBasedLoadBalancer {
      * @param partitionPumpManager The partition pump manager that keeps track of all EventHubConsumers and partitions
      * that this {@link EventProcessorClient} is processing.
      * @param processError The callback that will be called when an error occurs while running the load balancer.
+     * @param options The settings that control how partitions are balanced.
+     * @param random The source of the random choices of partitions to claim.
+     * @param clock The clock used to tell whether ownership records are inactive, and kept records are outdated.
      */
     PartitionBasedLoadBalancer(final CheckpointStore checkpointStore,
         final EventHubAsyncClient eventHubAsyncClient, final String fullyQualifiedNamespace,
         final String eventHubName, final String consumerGroupName, final String ownerId,
         final long inactiveTimeLimitInSeconds, final PartitionPumpManager partitionPumpManager,
-        final Consumer<ErrorContext> processError) {
+        final Consumer<ErrorContext> processError, final EventProcessorClientOptions options, final Random random,
+        final Clock clock) {
         this.checkpointStore = checkpointStore;
         this.eventHubAsyncClient = eventHubAsyncClient;
         this.fullyQualifiedNamespace = fullyQualifiedNamespace;
@@ -85,6 +114,30 @@ final class PartitionBasedLoadBalancer {
         this.processError = processError;
         this.partitionAgnosticContext = new PartitionContext(fullyQualifiedNamespace, eventHubName,
             consumerGroupName, "NONE");
+        this.loadBalancingStrategy = options.getLoadBalancingStrategy();
+        this.loadBalancingInterval = options.getLoadBalancingInterval();
+        this.random = random;
+        this.clock = clock;
+        this.nextLoadBalancingDelay = loadBalancingInterval;
+
+        // Ownership has to be renewed at least a few times before it is considered inactive.
+        final Duration maxRenewalInterval = Duration.ofSeconds(inactiveTimeLimitInSeconds).dividedBy(3);
+        final Duration maxBackOffInterval = loadBalancingInterval.multipliedBy(4);
+        this.maxLoadBalancingInterval = maxBackOffInterval.compareTo(maxRenewalInterval) < 0
+            ? maxBackOffInterval
+            : maxRenewalInterval;
+    }
+
+    /**
+     * Gets the delay before the next load balancing cycle should run. It is the load balancing interval with the
+     * {@link LoadBalancingStrategy#BALANCED balanced} strategy. With the {@link LoadBalancingStrategy#GREEDY greedy}
+     * strategy, it is a quarter of the interval after a cycle found the load unbalanced, and doubles after each cycle
+     * that found it balanced, up to four times the interval or a third of the inactive time limit.
+     *
+     * @return The delay before the next load balancing cycle.
+     */
+    Duration getNextLoadBalancingDelay() {
+        return nextLoadBalancingDelay;
     }
 
     /**
@@ -98,8 +151,32 @@ final class PartitionBasedLoadBalancer {
      * </p>
      * When a new partition is claimed, this method is also responsible for starting a partition pump that creates an
      * {@link EventHubConsumerAsyncClient} for processing events from that partition.
+     * <p>
+     * Errors are passed to the error callback of the {@link EventProcessorClient} rather than emitted, so the returned
+     * {@link Mono} completes once the cycle, including its ownership claims, is done and {@link
+     * #getNextLoadBalancingDelay()} reflects its outcome.
+     * </p>
+     *
+     * @return A {@link Mono} that runs a load balancing cycle when subscribed to, and completes when it is done.
+     */
+    Mono<Void> loadBalance() {
+        return Mono.defer(() -> {
+            if (loadBalancingStrategy == LoadBalancingStrategy.GREEDY && !isOwnershipRefreshRequired
+                && clock.millis() - lastOwnershipRefreshTime
+                < TimeUnit.SECONDS.toMillis(inactiveTimeLimitInSeconds) / 2) {
+                logger.info("Load was balanced in the last cycle, renewing ownership of owned partitions");
+                return renewOwnership(new HashMap<>(ownershipCache));
+            }
+
+            return listAndBalance();
+        });
+    }
+
+    /*
+     * Reads the ownership records and the partitions of the Event Hub, and balances the load based on them.
      */
-    void loadBalance() {
+    private Mono<Void> listAndBalance() {
+
         /*
          * Retrieve current partition ownership details from the datastore.
          */
@@ -122,15 +199,16 @@ final class PartitionBasedLoadBalancer {
             })
             .collectList();
 
-        Mono.zip(partitionOwnershipMono, partitionsMono)
+        return Mono.zip(partitionOwnershipMono, partitionsMono)
             .flatMap(this::loadBalance)
+            .doOnSuccess(ignored -> logger.info("Load balancing completed successfully"))
             // if there was an error, log warning
-            .subscribe(ignored -> { },
-                ex -> {
-                    logger.warning(Messages.LOAD_BALANCING_FAILED, ex.getMessage(), ex);
-                    ErrorContext errorContext = new ErrorContext(partitionAgnosticContext, ex);
-                    processError.accept(errorContext);
-                }, () -> logger.info("Load balancing completed successfully"));
+            .onErrorResume(ex -> {
+                logger.warning(Messages.LOAD_BALANCING_FAILED, ex.getMessage(), ex);
+                ErrorContext errorContext = new ErrorContext(partitionAgnosticContext, ex);
+                processError.accept(errorContext);
+                return Mono.empty();
+            });
     }
 
     /*
@@ -138,7 +216,7 @@ final class PartitionBasedLoadBalancer {
      * current Event Processor should take on the responsibility of processing more partitions.
      */
     private Mono<Void> loadBalance(final Tuple2<Map<String, PartitionOwnership>, List<String>> tuple) {
-        return Mono.fromRunnable(() -> {
+        return Mono.defer(() -> {
             logger.info("Starting load balancer for {}", this.ownerId);
             Map<String, PartitionOwnership> partitionOwnershipMap = tuple.getT1();
 
@@ -168,6 +246,12 @@ final class PartitionBasedLoadBalancer {
                 partitionOwnershipMap);
             logger.info("Number of active ownership records {}", activePartitionOwnershipMap.size());
 
+            if (loadBalancingStrategy == LoadBalancingStrategy.GREEDY) {
+                ownershipCache.clear();
+                ownershipCache.putAll(partitionOwnershipMap);
+                lastOwnershipRefreshTime = clock.millis();
+            }
+
             /*
              * Create a map of owner id and a list of partitions it owns
              */
@@ -180,15 +264,15 @@ final class PartitionBasedLoadBalancer {
             ownerPartitionMap.putIfAbsent(this.ownerId, new ArrayList<>());
             logger.verbose("Current partition distribution {}", format(ownerPartitionMap));
 
-            if (CoreUtils.isNullOrEmpty(activePartitionOwnershipMap)) {
+            if (CoreUtils.isNullOrEmpty(activePartitionOwnershipMap)
+                && loadBalancingStrategy == LoadBalancingStrategy.BALANCED) {
                 /*
                  * If the active partition ownership map is empty, this is the first time an event processor is
                  * running or all Event Processors are down for this Event Hub, consumer group combination. All
                  * partitions in this Event Hub are available to claim. Choose a random partition to claim ownership.
                  */
-                claimOwnership(partitionOwnershipMap, ownerPartitionMap,
-                    partitionIds.get(RANDOM.nextInt(numberOfPartitions)));
-                return;
+                return claimOwnership(partitionOwnershipMap,
+                    Collections.singletonList(partitionIds.get(random.nextInt(numberOfPartitions))));
             }
 
             /*
@@ -216,26 +300,16 @@ final class PartitionBasedLoadBalancer {
                 // If the partitions are evenly distributed among all active event processors, no change required.
                 logger.info("Load is balanced with this event processor owning {} partitions",
                     ownerPartitionMap.get(ownerId).size());
-                // renew ownership of already owned partitions
-                checkpointStore.claimOwnership(partitionPumpManager.getPartitionPumps().keySet()
-                    .stream()
-                    .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
-                    .collect(Collectors.toList()))
-                    .subscribe();
-                return;
+                isOwnershipRefreshRequired = false;
+                return renewOwnership(partitionOwnershipMap);
             }
 
             if (!shouldOwnMorePartitions(minPartitionsPerEventProcessor, ownerPartitionMap)) {
                 // This event processor already has enough partitions and shouldn't own more.
                 logger.info("This event processor owns {} partitions and shouldn't own more",
                     ownerPartitionMap.get(ownerId).size());
-                // renew ownership of already owned partitions
-                checkpointStore.claimOwnership(partitionPumpManager.getPartitionPumps().keySet()
-                    .stream()
-                    .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
-                    .collect(Collectors.toList()))
-                    .subscribe();
-                return;
+                onLoadUnbalanced();
+                return renewOwnership(partitionOwnershipMap);
             }
 
             // If we have reached this stage, this event processor has to claim/steal ownership of at least 1
@@ -254,6 +328,15 @@ final class PartitionBasedLoadBalancer {
              * Find a partition to steal from another event processor. Pick the event processor that has owns the
              * highest number of partitions.
              */
+            if (loadBalancingStrategy == LoadBalancingStrategy.GREEDY) {
+                List<String> unclaimedPartitionIds = partitionIds.stream()
+                    .filter(partitionId -> !activePartitionOwnershipMap.containsKey(partitionId))
+                    .collect(Collectors.toList());
+                onLoadUnbalanced();
+                return claimOwnership(partitionOwnershipMap, findPartitionsToClaim(minPartitionsPerEventProcessor,
+                    unclaimedPartitionIds, ownerPartitionMap));
+            }
+
             String partitionToClaim = partitionIds.parallelStream()
                 .filter(partitionId -> !activePartitionOwnershipMap.containsKey(partitionId))
                 .findAny()
@@ -262,10 +345,109 @@ final class PartitionBasedLoadBalancer {
                     return findPartitionToSteal(ownerPartitionMap);
                 });
 
-            claimOwnership(partitionOwnershipMap, ownerPartitionMap, partitionToClaim);
+            return claimOwnership(partitionOwnershipMap, Collections.singletonList(partitionToClaim));
         });
     }
 
+    /*
+     * Finds the partitions the greedy strategy claims in one cycle: enough for this event processor to own the
+     * minimum number of partitions, or one more if it already owns the minimum. Unclaimed partitions are taken first.
+     * The others are stolen one at a time from the event processor that owns the most partitions, as long as it owns
+     * at least two more than this event processor would, so that stealing doesn't unbalance the load the other way.
+     */
+    private List<String> findPartitionsToClaim(final int minPartitionsPerEventProcessor,
+        final List<String> unclaimedPartitionIds, final Map<String, List<PartitionOwnership>> ownerPartitionMap) {
+        int numberOfPartitionsOwned = ownerPartitionMap.get(this.ownerId).size();
+        int numberOfPartitionsToClaim = Math.max(minPartitionsPerEventProcessor - numberOfPartitionsOwned, 1);
+
+        List<String> shuffledUnclaimedPartitionIds = new ArrayList<>(unclaimedPartitionIds);
+        Collections.shuffle(shuffledUnclaimedPartitionIds, random);
+        List<String> partitionsToClaim = new ArrayList<>(shuffledUnclaimedPartitionIds.subList(0,
+            Math.min(numberOfPartitionsToClaim, shuffledUnclaimedPartitionIds.size())));
+
+        Map<String, List<PartitionOwnership>> otherOwnerPartitionMap = new HashMap<>();
+        ownerPartitionMap.forEach((owner, ownerships) -> {
+            if (!owner.equals(this.ownerId)) {
+                otherOwnerPartitionMap.put(owner, new ArrayList<>(ownerships));
+            }
+        });
+
+        while (partitionsToClaim.size() < numberOfPartitionsToClaim && !otherOwnerPartitionMap.isEmpty()) {
+            List<PartitionOwnership> mostOwnedPartitions = otherOwnerPartitionMap.values()
+                .stream()
+                .max(Comparator.comparingInt(List::size))
+                .get();
+            if (mostOwnedPartitions.size() < numberOfPartitionsOwned + partitionsToClaim.size() + 2) {
+                break;
+            }
+
+            PartitionOwnership stolen = mostOwnedPartitions.remove(random.nextInt(mostOwnedPartitions.size()));
+            logger.info("Stealing partition {} from owner id {}", stolen.getPartitionId(), stolen.getOwnerId());
+            partitionsToClaim.add(stolen.getPartitionId());
+        }
+
+        return partitionsToClaim;
+    }
+
+    /*
+     * Renews the ownership of the partitions this event processor owns. The balanced strategy doesn't wait for the
+     * renewal. With the greedy strategy, the cycle completes once the renewal is done, and a renewal that fails means
+     * the ownership records have changed, so they are read again on the next cycle.
+     */
+    private Mono<Void> renewOwnership(final Map<String, PartitionOwnership> partitionOwnershipMap) {
+        List<PartitionOwnership> renewalRequests = partitionPumpManager.getPartitionPumps().keySet()
+            .stream()
+            .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
+            .collect(Collectors.toList());
+
+        if (loadBalancingStrategy == LoadBalancingStrategy.BALANCED) {
+            checkpointStore.claimOwnership(renewalRequests).subscribe();
+            return Mono.empty();
+        }
+
+        return checkpointStore.claimOwnership(renewalRequests)
+            .timeout(Duration.ofMinutes(1))
+            .collectList()
+            .doOnNext(renewedOwnerships -> {
+                updateOwnershipCache(renewedOwnerships);
+                if (renewedOwnerships.size() < renewalRequests.size()) {
+                    logger.info("Renewed ownership of {} of {} partitions, reading ownership records on the next cycle",
+                        renewedOwnerships.size(), renewalRequests.size());
+                    onLoadUnbalanced();
+                } else if (!isOwnershipRefreshRequired) {
+                    onLoadBalanced();
+                }
+            })
+            .then()
+            .onErrorResume(ex -> {
+                logger.warning("Failed to renew ownership of owned partitions - {}", ex.getMessage(), ex);
+                onLoadUnbalanced();
+                return Mono.empty();
+            });
+    }
+
+    private void updateOwnershipCache(final List<PartitionOwnership> claimedOwnerships) {
+        if (loadBalancingStrategy == LoadBalancingStrategy.GREEDY) {
+            claimedOwnerships.forEach(ownership -> ownershipCache.put(ownership.getPartitionId(), ownership));
+        }
+    }
+
+    private void onLoadBalanced() {
+        if (loadBalancingStrategy == LoadBalancingStrategy.GREEDY) {
+            balancedCycles = Math.min(balancedCycles + 1, 30);
+            Duration delay = loadBalancingInterval.multipliedBy(1L << Math.min(balancedCycles - 1, 2));
+            nextLoadBalancingDelay = delay.compareTo(maxLoadBalancingInterval) < 0 ? delay : maxLoadBalancingInterval;
+        }
+    }
+
+    private void onLoadUnbalanced() {
+        if (loadBalancingStrategy == LoadBalancingStrategy.GREEDY) {
+            isOwnershipRefreshRequired = true;
+            balancedCycles = 0;
+            nextLoadBalancingDelay = loadBalancingInterval.dividedBy(4);
+        }
+    }
+
     private String format(Map<String, List<PartitionOwnership>> ownerPartitionMap) {
         return ownerPartitionMap.entrySet()
             .stream()
@@ -307,7 +489,7 @@ final class PartitionBasedLoadBalancer {
         int numberOfPartitions = ownerWithMaxPartitions.getValue().size();
         logger.info("Owner id {} owns {} partitions, stealing a partition from it", ownerWithMaxPartitions.getKey(),
             numberOfPartitions);
-        return ownerWithMaxPartitions.getValue().get(RANDOM.nextInt(numberOfPartitions)).getPartitionId();
+        return ownerWithMaxPartitions.getValue().get(random.nextInt(numberOfPartitions)).getPartitionId();
     }
 
     /*
@@ -364,50 +546,50 @@ final class PartitionBasedLoadBalancer {
             .entrySet()
             .stream()
             .filter(entry -> {
-                return (System.currentTimeMillis() - entry.getValue().getLastModifiedTime() < TimeUnit.SECONDS
+                return (clock.millis() - entry.getValue().getLastModifiedTime() < TimeUnit.SECONDS
                     .toMillis(inactiveTimeLimitInSeconds))
                     && !CoreUtils.isNullOrEmpty(entry.getValue().getOwnerId());
             }).collect(Collectors.toMap(Entry::getKey, Entry::getValue));
     }
 
-    private void claimOwnership(final Map<String, PartitionOwnership> partitionOwnershipMap, Map<String,
-        List<PartitionOwnership>> ownerPartitionsMap, final String partitionIdToClaim) {
-        logger.info("Attempting to claim ownership of partition {}", partitionIdToClaim);
-        PartitionOwnership ownershipRequest = createPartitionOwnershipRequest(partitionOwnershipMap,
-            partitionIdToClaim);
-
-        List<PartitionOwnership> partitionsToClaim = new ArrayList<>();
-        partitionsToClaim.add(ownershipRequest);
+    private Mono<Void> claimOwnership(final Map<String, PartitionOwnership> partitionOwnershipMap,
+        final List<String> partitionIdsToClaim) {
+        logger.info("Attempting to claim ownership of partitions {}", partitionIdsToClaim);
+        List<PartitionOwnership> partitionsToClaim = partitionIdsToClaim.stream()
+            .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
+            .collect(Collectors.toList());
         partitionsToClaim.addAll(partitionPumpManager.getPartitionPumps()
             .keySet()
             .stream()
+            .filter(partitionId -> !partitionIdsToClaim.contains(partitionId))
             .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
             .collect(Collectors.toList()));
 
-        checkpointStore
+        return checkpointStore
             .claimOwnership(partitionsToClaim)
             .timeout(Duration.ofMinutes(1)) // TODO: configurable
             .doOnNext(partitionOwnership -> logger.info("Successfully claimed ownership of partition {}",
                 partitionOwnership.getPartitionId()))
             .doOnError(ex -> logger
-                .warning(Messages.FAILED_TO_CLAIM_OWNERSHIP, ownershipRequest.getPartitionId(),
-                    ex.getMessage(), ex))
+                .warning(Messages.FAILED_TO_CLAIM_OWNERSHIP, partitionIdsToClaim, ex.getMessage(), ex))
             .collectList()
+            .doOnNext(this::updateOwnershipCache)
             .zipWhen(ownershipList -> checkpointStore.listCheckpoints(fullyQualifiedNamespace, eventHubName,
                 consumerGroupName)
                 .collectMap(checkpoint -> checkpoint.getPartitionId(), Function.identity()))
-            .subscribe(ownedPartitionCheckpointsTuple -> {
+            .doOnNext(ownedPartitionCheckpointsTuple -> {
                 ownedPartitionCheckpointsTuple.getT1()
                     .stream()
                     .forEach(po -> partitionPumpManager.startPartitionPump(po,
                         ownedPartitionCheckpointsTuple.getT2().get(po.getPartitionId())));
-            },
-                ex -> {
-                    logger.warning("Error while listing checkpoints", ex);
-                    ErrorContext errorContext = new ErrorContext(partitionAgnosticContext, ex);
-                    processError.accept(errorContext);
-                    throw logger.logExceptionAsError(new IllegalStateException("Error while listing checkpoints", ex));
-                });
+            })
+            .then()
+            .onErrorResume(ex -> {
+                logger.warning("Error while listing checkpoints", ex);
+                ErrorContext errorContext = new ErrorContext(partitionAgnosticContext, ex);
+                processError.accept(errorContext);
+                return Mono.empty();
+            });
     }
 
     private PartitionOwnership createPartitionOwnershipRequest(
@@ -0,0 +1,263 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.models.PartitionEvent;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Subscriber that groups the events received from a partition into batches and processes each batch once it holds
+ * {@code maxBatchSize} events, or once {@code maxWaitTime} has elapsed since its first event was received.
+ *
+ * <p>Batches are processed one at a time, in the order their events were received, outside of the lock that guards
+ * the batch being filled. A batch is processed by the thread that made it ready: the thread that received its last
+ * event or, when the maximum wait time elapses, a thread of the given scheduler. If a batch is already being processed,
+ * that thread doesn't wait; the batch is processed right after by the thread already processing. No more than
+ * {@code maxBatchSize} events are requested from upstream until a batch has been processed, so receiving slows down
+ * with processing as it does when events are processed one at a time.</p>
+ */
+class PartitionEventBatchSubscriber extends BaseSubscriber<PartitionEvent> {
+    private final Object lock = new Object();
+    // Number of times the batches were asked to be processed, the batches are only processed while it is above 0.
+    private final AtomicInteger wip = new AtomicInteger();
+    private final int maxBatchSize;
+    private final Duration maxWaitTime;
+    private final Scheduler scheduler;
+    private final Consumer<List<PartitionEvent>> processBatch;
+    private final Consumer<Throwable> processError;
+    private final Runnable processComplete;
+
+    // Guarded by lock.
+    private List<PartitionEvent> batch;
+    private long batchId;
+    private Disposable maxWaitTimer;
+    private boolean maxWaitTimeElapsed;
+    private boolean done;
+    private Throwable error;
+    private boolean terminated;
+
+    /**
+     * Creates a subscriber that processes events in batches.
+     *
+     * @param maxBatchSize The maximum number of events in a batch.
+     * @param maxWaitTime The maximum time to wait for a batch to fill up after its first event is received.
+     * @param scheduler The scheduler that processes batches whose maximum wait time elapsed.
+     * @param processBatch Processes a batch of events, in the order they were received.
+     * @param processError Handles an error from upstream or from processing a batch, after which no more batches are
+     *     processed.
+     * @param processComplete Handles the completion of upstream, once the last batch has been processed.
+     */
+    PartitionEventBatchSubscriber(int maxBatchSize, Duration maxWaitTime, Scheduler scheduler,
+        Consumer<List<PartitionEvent>> processBatch, Consumer<Throwable> processError, Runnable processComplete) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("'maxBatchSize' must be greater than 0.");
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitTime = Objects.requireNonNull(maxWaitTime, "'maxWaitTime' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        this.processBatch = Objects.requireNonNull(processBatch, "'processBatch' cannot be null.");
+        this.processError = Objects.requireNonNull(processError, "'processError' cannot be null.");
+        this.processComplete = Objects.requireNonNull(processComplete, "'processComplete' cannot be null.");
+        this.batch = new ArrayList<>(maxBatchSize);
+    }
+
+    /**
+     * Requests the events of the first batch.
+     *
+     * @param subscription Subscription for upstream.
+     */
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+        subscription.request(maxBatchSize);
+    }
+
+    /**
+     * Adds the event to the current batch, processing the batch if it is full.
+     *
+     * @param partitionEvent Event to add.
+     */
+    @Override
+    protected void hookOnNext(PartitionEvent partitionEvent) {
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+
+            batch.add(partitionEvent);
+            if (batch.size() == 1) {
+                final long id = batchId;
+                maxWaitTimer = scheduler.schedule(() -> onMaxWaitTimeElapsed(id), maxWaitTime.toNanos(),
+                    TimeUnit.NANOSECONDS);
+            }
+        }
+
+        drain();
+    }
+
+    /**
+     * Processes the events received so far, then the error.
+     *
+     * @param throwable Error from upstream.
+     */
+    @Override
+    protected void hookOnError(Throwable throwable) {
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+
+            error = throwable;
+            done = true;
+        }
+
+        drain();
+    }
+
+    /**
+     * Processes the events received so far, then the completion.
+     */
+    @Override
+    protected void hookOnComplete() {
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+
+            done = true;
+        }
+
+        drain();
+    }
+
+    /**
+     * Discards the events received but not processed yet.
+     */
+    @Override
+    protected void hookOnCancel() {
+        synchronized (lock) {
+            terminated = true;
+            batch.clear();
+            disposeMaxWaitTimer();
+        }
+    }
+
+    private void onMaxWaitTimeElapsed(long id) {
+        synchronized (lock) {
+            // The batch the timer was started for may already have been taken because it filled up.
+            if (terminated || id != batchId || batch.isEmpty()) {
+                return;
+            }
+
+            maxWaitTimeElapsed = true;
+        }
+
+        drain();
+    }
+
+    /*
+     * Processes the batches that are ready, unless another thread is already processing them, in which case that
+     * thread processes them once it is done with its current batch.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            processReadyBatches();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void processReadyBatches() {
+        while (true) {
+            final List<PartitionEvent> events;
+            final Throwable upstreamError;
+            synchronized (lock) {
+                if (terminated) {
+                    return;
+                }
+
+                if (batch.size() >= maxBatchSize || (!batch.isEmpty() && (maxWaitTimeElapsed || done))) {
+                    events = takeBatch();
+                    upstreamError = null;
+                } else if (batch.isEmpty() && done) {
+                    terminated = true;
+                    events = null;
+                    upstreamError = error;
+                } else {
+                    return;
+                }
+            }
+
+            if (events == null) {
+                if (upstreamError != null) {
+                    handleError(upstreamError);
+                } else {
+                    processComplete.run();
+                }
+                return;
+            }
+
+            // The callback runs without holding the lock, so events keep being added to the next batch meanwhile.
+            try {
+                processBatch.accept(events);
+            } catch (Throwable throwable) {
+                synchronized (lock) {
+                    terminated = true;
+                    batch.clear();
+                    disposeMaxWaitTimer();
+                }
+
+                cancel();
+                handleError(throwable);
+                return;
+            }
+
+            request(events.size());
+        }
+    }
+
+    /*
+     * Takes the current batch and starts the next one. Must be called holding the lock.
+     */
+    private List<PartitionEvent> takeBatch() {
+        disposeMaxWaitTimer();
+        final List<PartitionEvent> events = batch;
+        batch = new ArrayList<>(maxBatchSize);
+        batchId++;
+        maxWaitTimeElapsed = false;
+        return events;
+    }
+
+    private void disposeMaxWaitTimer() {
+        if (maxWaitTimer != null) {
+            maxWaitTimer.dispose();
+            maxWaitTimer = null;
+        }
+    }
+
+    private void handleError(Throwable throwable) {
+        try {
+            processError.accept(throwable);
+        } catch (RuntimeException e) {
+            // The error handler rethrows errors from processing, there is no one left to rethrow them to.
+            Operators.onErrorDropped(e, currentContext());
+        }
+    }
+}
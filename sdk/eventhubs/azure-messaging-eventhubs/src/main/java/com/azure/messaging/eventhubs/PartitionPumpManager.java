@@ -13,6 +13,7 @@ import com.azure.messaging.eventhubs.models.Checkpoint;
 import com.azure.messaging.eventhubs.models.CloseContext;
 import com.azure.messaging.eventhubs.models.CloseReason;
 import com.azure.messaging.eventhubs.models.ErrorContext;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
 import com.azure.messaging.eventhubs.models.EventContext;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.InitializationContext;
@@ -20,14 +21,20 @@ import com.azure.messaging.eventhubs.models.PartitionContext;
 import com.azure.messaging.eventhubs.models.PartitionEvent;
 import com.azure.messaging.eventhubs.models.PartitionOwnership;
 import com.azure.messaging.eventhubs.models.ReceiveOptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.azure.core.util.tracing.Tracer.AZ_TRACING_NAMESPACE_KEY;
@@ -59,6 +66,10 @@ class PartitionPumpManager {
     private final TracerProvider tracerProvider;
     private final boolean trackLastEnqueuedEventProperties;
     private final Map<String, EventPosition> initialPartitionEventPosition;
+    private final int maxBatchSize;
+    private final Duration maxWaitTime;
+    private final int maxConcurrentEventsPerPartition;
+    private final Function<EventData, String> orderingKeySelector;
 
     /**
      * Creates an instance of partition pump manager.
@@ -72,17 +83,22 @@ class PartitionPumpManager {
      * will also include the last enqueued event properties for it's respective partitions.
      * @param tracerProvider The tracer implementation.
      * @param initialPartitionEventPosition Map of initial event positions for partition ids.
+     * @param options The settings that control how the events of a partition are processed.
      */
     PartitionPumpManager(CheckpointStore checkpointStore,
         Supplier<PartitionProcessor> partitionProcessorFactory, EventHubClientBuilder eventHubClientBuilder,
         boolean trackLastEnqueuedEventProperties, TracerProvider tracerProvider,
-        Map<String, EventPosition> initialPartitionEventPosition) {
+        Map<String, EventPosition> initialPartitionEventPosition, EventProcessorClientOptions options) {
         this.checkpointStore = checkpointStore;
         this.partitionProcessorFactory = partitionProcessorFactory;
         this.eventHubClientBuilder = eventHubClientBuilder;
         this.trackLastEnqueuedEventProperties = trackLastEnqueuedEventProperties;
         this.tracerProvider = tracerProvider;
         this.initialPartitionEventPosition = initialPartitionEventPosition;
+        this.maxBatchSize = options.getMaxBatchSize();
+        this.maxWaitTime = options.getMaxWaitTime();
+        this.maxConcurrentEventsPerPartition = options.getMaxConcurrentEventsPerPartition();
+        this.orderingKeySelector = options.getOrderingKeySelector();
     }
 
     /**
@@ -146,17 +162,34 @@ class PartitionPumpManager {
                 .createConsumer(claimedOwnership.getConsumerGroup(), EventHubClientBuilder.DEFAULT_PREFETCH_COUNT);
 
             partitionPumps.put(claimedOwnership.getPartitionId(), eventHubConsumer);
-            eventHubConsumer
-                .receiveFromPartition(claimedOwnership.getPartitionId(), startFromEventPosition, receiveOptions)
-                .subscribe(partitionEvent -> processEvent(partitionContext, partitionProcessor, eventHubConsumer,
-                    partitionEvent),
+            Flux<PartitionEvent> partitionEvents = eventHubConsumer
+                .receiveFromPartition(claimedOwnership.getPartitionId(), startFromEventPosition, receiveOptions);
+            Runnable onComplete = () -> {
+                partitionProcessor.close(new CloseContext(partitionContext, CloseReason.EVENT_PROCESSOR_SHUTDOWN));
+                cleanup(claimedOwnership, eventHubConsumer);
+            };
+
+            if (maxBatchSize > 0) {
+                partitionEvents.subscribe(new PartitionEventBatchSubscriber(maxBatchSize, maxWaitTime,
+                    Schedulers.elastic(),
+                    batch -> processEventBatch(partitionContext, partitionProcessor, eventHubConsumer, batch),
+                    ex -> handleError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext),
+                    onComplete));
+            } else if (maxConcurrentEventsPerPartition > 1) {
+                WatermarkCheckpointStore watermarkCheckpointStore = new WatermarkCheckpointStore(checkpointStore);
+                partitionEvents.subscribe(new KeyOrderedPartitionEventSubscriber(maxConcurrentEventsPerPartition,
+                    orderingKeySelector, Schedulers.boundedElastic(), watermarkCheckpointStore,
+                    partitionEvent -> processEvent(partitionContext, partitionProcessor, eventHubConsumer,
+                        partitionEvent, watermarkCheckpointStore),
+                    ex -> handleError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext),
+                    onComplete));
+            } else {
+                partitionEvents.subscribe(partitionEvent -> processEvent(partitionContext, partitionProcessor,
+                    eventHubConsumer, partitionEvent, checkpointStore),
                     /* EventHubConsumer receive() returned an error */
                     ex -> handleError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext),
-                    () -> {
-                        partitionProcessor.close(new CloseContext(partitionContext,
-                            CloseReason.EVENT_PROCESSOR_SHUTDOWN));
-                        cleanup(claimedOwnership, eventHubConsumer);
-                    });
+                    onComplete);
+            }
         } catch (Exception ex) {
             if (partitionPumps.containsKey(claimedOwnership.getPartitionId())) {
                 cleanup(claimedOwnership, partitionPumps.get(claimedOwnership.getPartitionId()));
@@ -170,7 +203,7 @@ class PartitionPumpManager {
     }
 
     private void processEvent(PartitionContext partitionContext, PartitionProcessor partitionProcessor,
-        EventHubConsumerAsyncClient eventHubConsumer, PartitionEvent partitionEvent) {
+        EventHubConsumerAsyncClient eventHubConsumer, PartitionEvent partitionEvent, CheckpointStore checkpointStore) {
         EventData eventData = partitionEvent.getData();
         Context processSpanContext = startProcessTracingSpan(eventData, eventHubConsumer.getEventHubName(),
             eventHubConsumer.getFullyQualifiedNamespace());
@@ -189,6 +222,42 @@ class PartitionPumpManager {
         }
     }
 
+    private void processEventBatch(PartitionContext partitionContext, PartitionProcessor partitionProcessor,
+        EventHubConsumerAsyncClient eventHubConsumer, List<PartitionEvent> partitionEvents) {
+        List<EventData> events = new ArrayList<>(partitionEvents.size());
+        for (PartitionEvent partitionEvent : partitionEvents) {
+            events.add(partitionEvent.getData());
+        }
+
+        // A single process span covers the batch, parented by the first event sent with a diagnostic id.
+        Context processSpanContext = Context.NONE;
+        for (EventData eventData : events) {
+            processSpanContext = startProcessTracingSpan(eventData, eventHubConsumer.getEventHubName(),
+                eventHubConsumer.getFullyQualifiedNamespace());
+            if (processSpanContext != Context.NONE) {
+                break;
+            }
+        }
+        if (processSpanContext.getData(SPAN_CONTEXT_KEY).isPresent()) {
+            for (EventData eventData : events) {
+                eventData.addContext(SPAN_CONTEXT_KEY, processSpanContext);
+            }
+        }
+
+        // The last enqueued event properties of the last event are the most recent.
+        PartitionEvent lastPartitionEvent = partitionEvents.get(partitionEvents.size() - 1);
+        try {
+            partitionProcessor.processEventBatch(new EventBatchContext(partitionContext, events, checkpointStore,
+                lastPartitionEvent.getLastEnqueuedEventProperties()));
+            endProcessTracingSpan(processSpanContext, Signal.complete());
+        } catch (Throwable throwable) {
+            /* user code for event processing threw an exception - log and bubble up */
+            endProcessTracingSpan(processSpanContext, Signal.error(throwable));
+            throw logger.logExceptionAsError(new PartitionProcessorException("Error in event processing callback",
+                throwable));
+        }
+    }
+
     Map<String, EventHubConsumerAsyncClient> getPartitionPumps() {
         return this.partitionPumps;
     }
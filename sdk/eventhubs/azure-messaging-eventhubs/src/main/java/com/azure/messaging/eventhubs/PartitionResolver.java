@@ -0,0 +1,138 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns events to partitions on the client, either round-robin or by hashing their partition key.
+ *
+ * <p>Partition keys are hashed with Jenkins' lookup3 hash of their UTF-8 bytes, so an event with a given partition
+ * key is always assigned the same partition as long as the number of partitions of the Event Hub doesn't change.</p>
+ */
+class PartitionResolver {
+    private final AtomicInteger roundRobinIndex = new AtomicInteger();
+
+    /**
+     * Assigns the next partition, cycling through the partitions.
+     *
+     * @param partitionIds The identifiers of the partitions of the Event Hub.
+     * @return The identifier of the partition assigned.
+     */
+    String assignRoundRobin(String[] partitionIds) {
+        final int index = roundRobinIndex.getAndIncrement() & Integer.MAX_VALUE;
+        return partitionIds[index % partitionIds.length];
+    }
+
+    /**
+     * Assigns the partition of a partition key.
+     *
+     * @param partitionKey The partition key.
+     * @param partitionIds The identifiers of the partitions of the Event Hub.
+     * @return The identifier of the partition assigned.
+     */
+    String assignForPartitionKey(String partitionKey, String[] partitionIds) {
+        final short hash = generateHashCode(partitionKey);
+        return partitionIds[Math.abs(hash % partitionIds.length)];
+    }
+
+    /**
+     * Generates the hash code of a partition key, folding both values of lookup3's hashlittle2 into 16 bits.
+     *
+     * @param partitionKey The partition key.
+     * @return The hash code of the partition key.
+     */
+    static short generateHashCode(String partitionKey) {
+        final byte[] bytes = partitionKey.getBytes(StandardCharsets.UTF_8);
+        final int[] hashes = computeHash(bytes, 0, 0);
+        return (short) (hashes[0] ^ hashes[1]);
+    }
+
+    /**
+     * Computes Jenkins' lookup3 hashlittle2 of the data.
+     *
+     * @param data The data to hash.
+     * @param seed1 The primary seed.
+     * @param seed2 The secondary seed.
+     * @return The primary hash followed by the secondary hash.
+     */
+    static int[] computeHash(byte[] data, int seed1, int seed2) {
+        int a = 0xdeadbeef + data.length + seed1;
+        int b = a;
+        int c = a + seed2;
+
+        int index = 0;
+        int size = data.length;
+        while (size > 12) {
+            a += readInt(data, index);
+            b += readInt(data, index + 4);
+            c += readInt(data, index + 8);
+
+            a -= c;
+            a ^= Integer.rotateLeft(c, 4);
+            c += b;
+            b -= a;
+            b ^= Integer.rotateLeft(a, 6);
+            a += c;
+            c -= b;
+            c ^= Integer.rotateLeft(b, 8);
+            b += a;
+            a -= c;
+            a ^= Integer.rotateLeft(c, 16);
+            c += b;
+            b -= a;
+            b ^= Integer.rotateLeft(a, 19);
+            a += c;
+            c -= b;
+            c ^= Integer.rotateLeft(b, 4);
+            b += a;
+
+            index += 12;
+            size -= 12;
+        }
+
+        if (size == 0) {
+            return new int[]{c, b};
+        }
+
+        // The remaining 1 to 12 bytes, read little-endian into c, b and a.
+        c += readPartialInt(data, index + 8, size - 8);
+        b += readPartialInt(data, index + 4, size - 4);
+        a += readPartialInt(data, index, size);
+
+        c ^= b;
+        c -= Integer.rotateLeft(b, 14);
+        a ^= c;
+        a -= Integer.rotateLeft(c, 11);
+        b ^= a;
+        b -= Integer.rotateLeft(a, 25);
+        c ^= b;
+        c -= Integer.rotateLeft(b, 16);
+        a ^= c;
+        a -= Integer.rotateLeft(c, 4);
+        b ^= a;
+        b -= Integer.rotateLeft(a, 14);
+        c ^= b;
+        c -= Integer.rotateLeft(b, 24);
+
+        return new int[]{c, b};
+    }
+
+    private static int readInt(byte[] data, int index) {
+        return readPartialInt(data, index, 4);
+    }
+
+    /*
+     * Reads up to four bytes little-endian, or nothing if count isn't positive.
+     */
+    private static int readPartialInt(byte[] data, int index, int count) {
+        int value = 0;
+        for (int i = Math.min(count, 4) - 1; i >= 0; i--) {
+            value = (value << 8) | (data[index + i] & 0xff);
+        }
+
+        return value;
+    }
+}
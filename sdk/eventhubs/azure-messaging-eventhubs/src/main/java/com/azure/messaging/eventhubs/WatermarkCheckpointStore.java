@@ -0,0 +1,163 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Checkpoint store for a partition whose events are processed concurrently, which only writes a checkpoint once every
+ * event up to it has been processed.
+ *
+ * <p>Events are recorded in the order they are received when they are dispatched, and again once they have been
+ * processed, in any order. The low watermark is the last event received such that it and all the events received
+ * before it have been processed. A checkpoint requested for an event past the low watermark is held until the low
+ * watermark reaches it, then written to the underlying store. Only the latest checkpoint requested is held and only
+ * one is written at a time, so checkpoints are written in order.</p>
+ */
+class WatermarkCheckpointStore implements CheckpointStore {
+    private final ClientLogger logger = new ClientLogger(WatermarkCheckpointStore.class);
+    private final Object lock = new Object();
+    private final CheckpointStore checkpointStore;
+
+    // Guarded by lock.
+    private final ArrayDeque<Long> dispatched = new ArrayDeque<>();
+    private final Set<Long> processedOutOfOrder = new HashSet<>();
+    private Long lowWatermark;
+    private Checkpoint pendingCheckpoint;
+    private boolean isWriting;
+
+    /**
+     * Creates a checkpoint store that writes the checkpoints of a partition to {@code checkpointStore} once the events
+     * before them have been processed.
+     *
+     * @param checkpointStore The store checkpoints are written to.
+     */
+    WatermarkCheckpointStore(CheckpointStore checkpointStore) {
+        this.checkpointStore = Objects.requireNonNull(checkpointStore, "'checkpointStore' cannot be null.");
+    }
+
+    @Override
+    public Flux<PartitionOwnership> listOwnership(String fullyQualifiedNamespace, String eventHubName,
+        String consumerGroup) {
+        return checkpointStore.listOwnership(fullyQualifiedNamespace, eventHubName, consumerGroup);
+    }
+
+    @Override
+    public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+        return checkpointStore.claimOwnership(requestedPartitionOwnerships);
+    }
+
+    @Override
+    public Flux<Checkpoint> listCheckpoints(String fullyQualifiedNamespace, String eventHubName,
+        String consumerGroup) {
+        return checkpointStore.listCheckpoints(fullyQualifiedNamespace, eventHubName, consumerGroup);
+    }
+
+    /**
+     * Requests a checkpoint, which is written once the low watermark reaches its sequence number. The returned
+     * {@link Mono} completes once the checkpoint is recorded, without waiting for it to be written, because the events
+     * it waits for may be processed by the caller. Errors writing it are logged.
+     *
+     * @param checkpoint The checkpoint to write.
+     * @return A {@link Mono} that completes once the checkpoint is recorded.
+     */
+    @Override
+    public Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
+        Objects.requireNonNull(checkpoint, "'checkpoint' cannot be null.");
+        Objects.requireNonNull(checkpoint.getSequenceNumber(), "'checkpoint.getSequenceNumber()' cannot be null.");
+
+        return Mono.fromRunnable(() -> {
+            synchronized (lock) {
+                if (pendingCheckpoint == null
+                    || pendingCheckpoint.getSequenceNumber() < checkpoint.getSequenceNumber()) {
+                    pendingCheckpoint = checkpoint;
+                }
+            }
+
+            writePendingCheckpoint();
+        });
+    }
+
+    /**
+     * Records that an event was received and is about to be processed. Events must be dispatched in the order they
+     * were received.
+     *
+     * @param sequenceNumber The sequence number of the event.
+     */
+    void onDispatched(long sequenceNumber) {
+        synchronized (lock) {
+            dispatched.addLast(sequenceNumber);
+        }
+    }
+
+    /**
+     * Records that an event was processed, advancing the low watermark if every event dispatched before it has been
+     * processed, and writes the checkpoint held if the low watermark reached it.
+     *
+     * @param sequenceNumber The sequence number of the event.
+     */
+    void onProcessed(long sequenceNumber) {
+        synchronized (lock) {
+            processedOutOfOrder.add(sequenceNumber);
+            while (!dispatched.isEmpty() && processedOutOfOrder.remove(dispatched.peekFirst())) {
+                lowWatermark = dispatched.pollFirst();
+            }
+        }
+
+        writePendingCheckpoint();
+    }
+
+    /**
+     * Gets the sequence number of the last event such that it and every event dispatched before it have been
+     * processed.
+     *
+     * @return The low watermark, or {@code null} if the first event dispatched has not been processed yet.
+     */
+    Long getLowWatermark() {
+        synchronized (lock) {
+            return lowWatermark;
+        }
+    }
+
+    private void writePendingCheckpoint() {
+        final Checkpoint checkpoint;
+        synchronized (lock) {
+            if (isWriting || pendingCheckpoint == null || lowWatermark == null
+                || pendingCheckpoint.getSequenceNumber() > lowWatermark) {
+                return;
+            }
+
+            checkpoint = pendingCheckpoint;
+            pendingCheckpoint = null;
+            isWriting = true;
+        }
+
+        checkpointStore.updateCheckpoint(checkpoint).subscribe(ignored -> { },
+            error -> {
+                logger.warning("Failed to update checkpoint of partition {} to sequence number {}.",
+                    checkpoint.getPartitionId(), checkpoint.getSequenceNumber(), error);
+                onWritten();
+            },
+            this::onWritten);
+    }
+
+    private void onWritten() {
+        synchronized (lock) {
+            isWriting = false;
+        }
+
+        // Checkpoints requested while this one was written are written next.
+        writePendingCheckpoint();
+    }
+}
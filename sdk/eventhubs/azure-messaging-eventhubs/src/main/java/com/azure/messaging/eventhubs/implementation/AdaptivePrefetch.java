@@ -0,0 +1,163 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.amqp.messaging.Section;
+import org.apache.qpid.proton.message.Message;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Calculates how many messages a receive link should have outstanding, as credits on the link or buffered locally,
+ * so that the messages stay within a byte budget. The number of messages allowed by the budget is based on the
+ * average size of the messages received so far, and is lowered further to what the consumer processes in {@link
+ * #TARGET_BUFFER_DURATION}, so that a slow consumer doesn't buffer more than it needs.
+ *
+ * <p>The processing rate is only measured while messages are waiting for the consumer, from one delivery to the next.
+ * While the consumer waits for messages instead, the time between deliveries is how fast messages arrive, which is
+ * limited by the credits themselves, so the rate of the last busy period is kept.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+final class AdaptivePrefetch {
+    /**
+     * Estimated heap used by a decoded message besides its body: its properties, annotations and proton objects.
+     */
+    static final int MESSAGE_OVERHEAD_IN_BYTES = 512;
+
+    /**
+     * Time the messages outstanding should last the consumer at the rate it processes them.
+     */
+    static final Duration TARGET_BUFFER_DURATION = Duration.ofSeconds(1);
+
+    private static final long RATE_WINDOW_IN_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    private final long maxBufferedBytes;
+    private final int maxCredits;
+    private final LongSupplier nanoTime;
+
+    // Until a message is received, assume messages are as large as they can be.
+    private double averageMessageSize = ClientConstants.MAX_MESSAGE_LENGTH_BYTES;
+    private boolean hasMessageSize;
+    private double processingRatePerSecond = -1;
+    private long busySinceNanos = -1;
+    private long windowBusyNanos;
+    private long windowProcessedCount;
+
+    /**
+     * Creates an instance that keeps messages within {@code maxBufferedBytes}, with at most {@code maxCredits}
+     * messages outstanding.
+     *
+     * @param maxBufferedBytes Maximum bytes of messages outstanding.
+     * @param maxCredits Maximum number of messages outstanding.
+     */
+    AdaptivePrefetch(long maxBufferedBytes, int maxCredits) {
+        this(maxBufferedBytes, maxCredits, System::nanoTime);
+    }
+
+    AdaptivePrefetch(long maxBufferedBytes, int maxCredits, LongSupplier nanoTime) {
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.maxCredits = maxCredits;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Records the size of a message received from the link.
+     *
+     * @param sizeInBytes Estimated size of the message.
+     */
+    void onMessageReceived(long sizeInBytes) {
+        if (hasMessageSize) {
+            averageMessageSize += SMOOTHING_FACTOR * (sizeInBytes - averageMessageSize);
+        } else {
+            averageMessageSize = sizeInBytes;
+            hasMessageSize = true;
+        }
+    }
+
+    /**
+     * Records that a message was delivered to the consumer. If other messages were waiting when the previous one was
+     * delivered, the time since then is how long the consumer took to process it.
+     *
+     * @param hasWaitingMessages Whether other messages are waiting for the consumer after this one.
+     */
+    void onMessageDelivered(boolean hasWaitingMessages) {
+        final long now = nanoTime.getAsLong();
+        if (busySinceNanos >= 0) {
+            windowBusyNanos += now - busySinceNanos;
+            windowProcessedCount++;
+        }
+
+        busySinceNanos = hasWaitingMessages ? now : -1;
+        if (windowBusyNanos < RATE_WINDOW_IN_NANOS) {
+            return;
+        }
+
+        final double rate = windowProcessedCount * (double) Duration.ofSeconds(1).toNanos() / windowBusyNanos;
+        processingRatePerSecond = processingRatePerSecond < 0
+            ? rate
+            : processingRatePerSecond + SMOOTHING_FACTOR * (rate - processingRatePerSecond);
+        windowBusyNanos = 0;
+        windowProcessedCount = 0;
+    }
+
+    /**
+     * Gets the number of messages that should be outstanding, as credits on the link or buffered locally.
+     *
+     * @return The number of messages that should be outstanding. Always at least 1.
+     */
+    int getTargetCredits() {
+        long target = Math.min(maxCredits, (long) (maxBufferedBytes / averageMessageSize));
+
+        if (processingRatePerSecond >= 0) {
+            final double perTargetDuration = processingRatePerSecond * TARGET_BUFFER_DURATION.toNanos()
+                / Duration.ofSeconds(1).toNanos();
+            target = Math.min(target, (long) Math.ceil(perTargetDuration));
+        }
+
+        return (int) Math.max(target, 1);
+    }
+
+    /**
+     * Gets the number of credits to add to a link.
+     *
+     * @param outstandingCredits Credits on the link that have not been used yet.
+     * @param bufferedMessages Messages received that have not been drained to the consumer.
+     * @return The number of credits to add. 0 if the link and buffer already have enough.
+     */
+    int getCreditsToAdd(int outstandingCredits, int bufferedMessages) {
+        return Math.max(getTargetCredits() - outstandingCredits - bufferedMessages, 0);
+    }
+
+    /**
+     * Estimates the size of a message on the heap: the length of its body plus {@link #MESSAGE_OVERHEAD_IN_BYTES}.
+     *
+     * @param message Message to estimate.
+     * @return The estimated size of the message in bytes.
+     */
+    static long getSizeInBytes(Message message) {
+        long size = MESSAGE_OVERHEAD_IN_BYTES;
+        final Section body = message.getBody();
+        if (body instanceof Data) {
+            final Binary binary = ((Data) body).getValue();
+            size += binary != null ? binary.getLength() : 0;
+        } else if (body instanceof AmqpValue) {
+            final Object value = ((AmqpValue) body).getValue();
+            if (value instanceof Binary) {
+                size += ((Binary) value).getLength();
+            } else if (value instanceof byte[]) {
+                size += ((byte[]) value).length;
+            } else if (value instanceof String) {
+                size += ((String) value).length();
+            }
+        }
+
+        return size;
+    }
+}
@@ -23,12 +23,18 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Processes AMQP receive links into a stream of AMQP messages.
+ *
+ * <p>By default, the link is given {@code prefetch} credits and then as many credits as the downstream subscriber has
+ * requested. With a byte budget, credits are instead sized by {@link AdaptivePrefetch} so that the messages outstanding
+ * on the link and buffered by the processor stay within the budget. Messages are counted as buffered from the time
+ * they are received until they are emitted downstream, and their sizes are only estimated with a byte budget.</p>
  */
 public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Message> implements Subscription {
     private final ClientLogger logger = new ClientLogger(AmqpReceiveLinkProcessor.class);
@@ -38,11 +44,17 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
     private final Deque<Message> messageQueue = new ConcurrentLinkedDeque<>();
     private final AtomicBoolean hasFirstLink = new AtomicBoolean();
     private final AtomicBoolean linkCreditsAdded = new AtomicBoolean();
+    private final AtomicInteger bufferedMessageCount = new AtomicInteger();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final Object creditLock = new Object();
+    private final AdaptivePrefetch adaptivePrefetch;
+    private int outstandingCredits;
 
     private final AtomicReference<CoreSubscriber<? super Message>> downstream = new AtomicReference<>();
     private final AtomicInteger wip = new AtomicInteger();
 
     private final int prefetch;
+    private final long maxBufferedBytes;
     private final AmqpRetryPolicy retryPolicy;
     private final Disposable parentConnection;
 
@@ -73,6 +85,23 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
      * @throws IllegalArgumentException if {@code prefetch} is less than 0.
      */
     public AmqpReceiveLinkProcessor(int prefetch, AmqpRetryPolicy retryPolicy, Disposable parentConnection) {
+        this(prefetch, 0, retryPolicy, parentConnection);
+    }
+
+    /**
+     * Creates an instance of {@link AmqpReceiveLinkProcessor} that sizes the credits on the link by a byte budget.
+     *
+     * @param prefetch The maximum number of messages to have outstanding on the link and buffered.
+     * @param maxBufferedBytes The maximum bytes of messages to have outstanding on the link and buffered. If 0, the
+     *     credits on the link are not sized by bytes.
+     * @param retryPolicy Retry policy to apply when fetching a new AMQP channel.
+     * @param parentConnection Represents the parent connection.
+     *
+     * @throws NullPointerException if {@code retryPolicy} is null.
+     * @throws IllegalArgumentException if {@code prefetch} or {@code maxBufferedBytes} is less than 0.
+     */
+    public AmqpReceiveLinkProcessor(int prefetch, long maxBufferedBytes, AmqpRetryPolicy retryPolicy,
+        Disposable parentConnection) {
         this.retryPolicy = Objects.requireNonNull(retryPolicy, "'retryPolicy' cannot be null.");
         this.parentConnection = Objects.requireNonNull(parentConnection, "'parentConnection' cannot be null.");
 
@@ -80,7 +109,42 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
             throw logger.logExceptionAsError(new IllegalArgumentException("'prefetch' cannot be less than 0."));
         }
 
+        if (maxBufferedBytes < 0) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxBufferedBytes' cannot be less than 0."));
+        }
+
         this.prefetch = prefetch;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.adaptivePrefetch = maxBufferedBytes > 0 ? new AdaptivePrefetch(maxBufferedBytes, prefetch) : null;
+    }
+
+    /**
+     * Gets the maximum bytes of messages to have outstanding on the link and buffered.
+     *
+     * @return The maximum bytes of messages to have outstanding on the link and buffered. 0 if the credits on the link
+     *     are not sized by bytes.
+     */
+    public long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * Gets the number of messages received from the link that have not been emitted downstream yet.
+     *
+     * @return The number of messages buffered.
+     */
+    public int getBufferedMessageCount() {
+        return bufferedMessageCount.get();
+    }
+
+    /**
+     * Gets the estimated size of the messages received from the link that have not been emitted downstream yet.
+     *
+     * @return The estimated bytes of messages buffered. 0 if the credits on the link are not sized by bytes.
+     */
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
     }
 
     /**
@@ -153,13 +217,30 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
 
             currentLink = next;
 
-            // The first time, add the prefetch to the link as credits.
-            if (!hasFirstLink.getAndSet(true)) {
+            if (adaptivePrefetch != null) {
+                // Credits are not carried over from the previous link, so each link gets its own.
+                final int credits;
+                synchronized (creditLock) {
+                    credits = adaptivePrefetch.getCreditsToAdd(0, bufferedMessageCount.get());
+                    outstandingCredits = credits;
+                }
+
+                hasFirstLink.set(true);
                 linkCreditsAdded.set(true);
-                next.addCredits(prefetch);
-            }
+                if (credits > 0) {
+                    next.addCredits(credits);
+                }
 
-            next.setEmptyCreditListener(() -> getCreditsToAdd());
+                next.setEmptyCreditListener(() -> getAdaptiveCreditsToAdd());
+            } else {
+                // The first time, add the prefetch to the link as credits.
+                if (!hasFirstLink.getAndSet(true)) {
+                    linkCreditsAdded.set(true);
+                    next.addCredits(prefetch);
+                }
+
+                next.setEmptyCreditListener(() -> getCreditsToAdd());
+            }
 
             currentLinkSubscriptions = Disposables.composite(
                 next.getEndpointStates().subscribe(
@@ -192,7 +273,7 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
                         }
                     }),
                 next.receive().subscribe(message -> {
-                    messageQueue.add(message);
+                    onMessageReceived(message);
                     drain();
                 }));
         }
@@ -330,7 +411,9 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
         Operators.addCap(REQUESTED, this, request);
 
         final AmqpReceiveLink link = currentLink;
-        if (link != null && !linkCreditsAdded.getAndSet(true)) {
+        if (adaptivePrefetch != null) {
+            addAdaptiveCredits(link);
+        } else if (link != null && !linkCreditsAdded.getAndSet(true)) {
             int credits = getCreditsToAdd();
             logger.info("Link credits not yet added. Adding: {}", credits);
             link.addCredits(credits);
@@ -394,6 +477,7 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
         }
 
         Operators.onDiscardQueueWithClear(messageQueue, currentContext(), null);
+        clearBufferedCounts();
     }
 
     private void drain() {
@@ -417,6 +501,13 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
             return;
         }
 
+        // Messages received once cancelled are never emitted, even when nothing is requested.
+        if (isCancelled) {
+            Operators.onDiscardQueueWithClear(messageQueue, subscriber.currentContext(), null);
+            clearBufferedCounts();
+            return;
+        }
+
         long numberRequested = requested;
         boolean isEmpty = messageQueue.isEmpty();
         while (numberRequested != 0L && !isEmpty) {
@@ -435,9 +526,12 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
                     break;
                 }
 
+                onMessageEmitted(message);
+
                 if (isCancelled) {
                     Operators.onDiscard(message, subscriber.currentContext());
                     Operators.onDiscardQueueWithClear(messageQueue, subscriber.currentContext(), null);
+                    clearBufferedCounts();
                     return;
                 }
 
@@ -457,6 +551,10 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
                 numberRequested = REQUESTED.addAndGet(this, -numberEmitted);
             }
         }
+
+        if (adaptivePrefetch != null) {
+            addAdaptiveCredits(currentLink);
+        }
     }
 
     private boolean checkAndSetTerminated() {
@@ -477,6 +575,7 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
         }
 
         messageQueue.clear();
+        clearBufferedCounts();
         return true;
     }
 
@@ -494,4 +593,88 @@ public class AmqpReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLink, Mes
         // If there is no back pressure, always add 1. Otherwise, add whatever is requested.
         return r == Long.MAX_VALUE ? 1 : Long.valueOf(r).intValue();
     }
+
+    private void onMessageReceived(Message message) {
+        if (adaptivePrefetch != null) {
+            final long size = AdaptivePrefetch.getSizeInBytes(message);
+            synchronized (creditLock) {
+                adaptivePrefetch.onMessageReceived(size);
+                if (outstandingCredits > 0) {
+                    outstandingCredits--;
+                }
+            }
+
+            bufferedBytes.addAndGet(size);
+        }
+
+        bufferedMessageCount.incrementAndGet();
+        messageQueue.add(message);
+    }
+
+    /**
+     * Stops counting a message polled from the queue to be emitted downstream. With a byte budget, the time between
+     * emissions while other messages are waiting is how fast the subscriber takes messages.
+     */
+    private void onMessageEmitted(Message message) {
+        if (adaptivePrefetch == null) {
+            bufferedMessageCount.decrementAndGet();
+            return;
+        }
+
+        final long size = AdaptivePrefetch.getSizeInBytes(message);
+        synchronized (creditLock) {
+            bufferedBytes.addAndGet(-size);
+            adaptivePrefetch.onMessageDelivered(bufferedMessageCount.decrementAndGet() > 0);
+        }
+    }
+
+    private void clearBufferedCounts() {
+        synchronized (creditLock) {
+            bufferedMessageCount.set(0);
+            bufferedBytes.set(0);
+        }
+    }
+
+    /**
+     * Gets the credits to add when the link has run out of them. Invoked by the link before it emits the message that
+     * used its last credit, so that message is counted as outstanding.
+     */
+    private int getAdaptiveCreditsToAdd() {
+        if (downstream.get() == null) {
+            logger.info("Not adding credits. No downstream subscribers.");
+            return 0;
+        }
+
+        synchronized (creditLock) {
+            final int credits = adaptivePrefetch.getCreditsToAdd(1, bufferedMessageCount.get());
+            outstandingCredits = credits + 1;
+            return credits;
+        }
+    }
+
+    /**
+     * Tops up the credits on the link once at least half of the target credits can be added, so that credits are not
+     * added one message at a time.
+     */
+    private void addAdaptiveCredits(AmqpReceiveLink link) {
+        if (link == null || downstream.get() == null || isTerminated()) {
+            return;
+        }
+
+        final int credits;
+        synchronized (creditLock) {
+            final int target = adaptivePrefetch.getTargetCredits();
+            final int toAdd = adaptivePrefetch.getCreditsToAdd(outstandingCredits, bufferedMessageCount.get());
+            if (toAdd == 0 || toAdd < (target + 1) / 2) {
+                return;
+            }
+
+            outstandingCredits += toAdd;
+            credits = toAdd;
+        }
+
+        logger.verbose("linkName[{}] Adding credits: {}. Buffered messages: {}, bytes: {}.", link.getLinkName(),
+            credits, bufferedMessageCount.get(), bufferedBytes.get());
+        link.addCredits(credits);
+    }
 }
@@ -0,0 +1,41 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Gives the implementation access to the checkpoint store of an {@link EventBatchContext}, which isn't part of its
+ * public API.
+ */
+public final class EventBatchContextHelper {
+    private static volatile Function<EventBatchContext, CheckpointStore> checkpointStoreAccessor;
+
+    private EventBatchContextHelper() {
+    }
+
+    /**
+     * Sets the accessor of the checkpoint store. Called once, when {@link EventBatchContext} is initialized.
+     *
+     * @param accessor Gets the checkpoint store of a context.
+     */
+    public static void setCheckpointStoreAccessor(Function<EventBatchContext, CheckpointStore> accessor) {
+        checkpointStoreAccessor = Objects.requireNonNull(accessor, "'accessor' cannot be null.");
+    }
+
+    /**
+     * Gets the checkpoint store used to update the checkpoints of the events of a batch.
+     *
+     * @param eventBatchContext The context of the batch.
+     * @return The checkpoint store of the context.
+     */
+    static CheckpointStore getCheckpointStore(EventBatchContext eventBatchContext) {
+        // Any instance passed in has initialized its class, which sets the accessor.
+        return checkpointStoreAccessor.apply(eventBatchContext);
+    }
+}
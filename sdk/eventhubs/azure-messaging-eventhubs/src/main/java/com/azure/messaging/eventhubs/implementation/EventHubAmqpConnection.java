@@ -45,4 +45,11 @@ public interface EventHubAmqpConnection extends AmqpConnection {
      */
     Mono<AmqpReceiveLink> createReceiveLink(String linkName, String entityPath, EventPosition eventPosition,
         ReceiveOptions options);
+
+    /**
+     * Gets the number of send and receive links open on this connection.
+     *
+     * @return The number of send and receive links open on this connection.
+     */
+    int getOpenLinkCount();
 }
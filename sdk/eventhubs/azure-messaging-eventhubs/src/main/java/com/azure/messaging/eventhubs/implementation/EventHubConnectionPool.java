@@ -0,0 +1,222 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A pool of up to {@code maxConnections} connections to an Event Hub, shared by the clients that acquire them.
+ *
+ * <p>Connections are opened when clients acquire them, until the pool holds {@code maxConnections} of them. After
+ * that, a client is given the connection with the least load, which is the larger of the number of links open on it
+ * and the number of clients holding it. Clients created together count before their links are opened. Each connection
+ * is reference-counted, and is closed once every client that acquired it has released it.</p>
+ */
+public class EventHubConnectionPool implements Disposable {
+    private final ClientLogger logger = new ClientLogger(EventHubConnectionPool.class);
+    private final Object lock = new Object();
+    private final int maxConnections;
+    private final Supplier<EventHubConnectionProcessor> connectionSupplier;
+
+    // Guarded by lock.
+    private final List<PooledConnection> connections = new ArrayList<>();
+    private boolean isDisposed;
+
+    /**
+     * Creates a pool that opens connections from {@code connectionSupplier} as clients need them.
+     *
+     * @param maxConnections The maximum number of connections open at a time.
+     * @param connectionSupplier Creates a connection.
+     * @throws IllegalArgumentException if {@code maxConnections} is less than 1.
+     * @throws NullPointerException if {@code connectionSupplier} is null.
+     */
+    public EventHubConnectionPool(int maxConnections, Supplier<EventHubConnectionProcessor> connectionSupplier) {
+        if (maxConnections < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxConnections' must be at least 1."));
+        }
+
+        this.maxConnections = maxConnections;
+        this.connectionSupplier = Objects.requireNonNull(connectionSupplier, "'connectionSupplier' cannot be null.");
+    }
+
+    /**
+     * Acquires a connection for a client, which must {@link PooledConnection#release() release} it once it closes.
+     *
+     * @return The connection for the client.
+     * @throws IllegalStateException if the pool is disposed.
+     */
+    public PooledConnection acquire() {
+        final PooledConnection connection;
+        synchronized (lock) {
+            if (isDisposed) {
+                throw logger.logExceptionAsError(new IllegalStateException("Cannot acquire from a disposed pool."));
+            }
+
+            connection = getOrCreateLeastLoaded();
+            connection.clientCount++;
+        }
+
+        logger.info("Acquired a pooled connection. {}", this);
+        return connection;
+    }
+
+    /**
+     * Gets the connections open in the pool. The pool is internal to the builder that created it, so this is not
+     * reachable by applications, which see the same details logged when connections are acquired and released.
+     *
+     * @return The connections open in the pool.
+     */
+    public List<PooledConnection> getConnections() {
+        synchronized (lock) {
+            return Collections.unmodifiableList(new ArrayList<>(connections));
+        }
+    }
+
+    /**
+     * Closes all the connections in the pool, whether clients hold them or not.
+     */
+    @Override
+    public void dispose() {
+        final List<PooledConnection> disposed;
+        synchronized (lock) {
+            if (isDisposed) {
+                return;
+            }
+
+            isDisposed = true;
+            disposed = new ArrayList<>(connections);
+            connections.clear();
+        }
+
+        disposed.forEach(connection -> connection.getConnectionProcessor().dispose());
+    }
+
+    @Override
+    public boolean isDisposed() {
+        synchronized (lock) {
+            return isDisposed;
+        }
+    }
+
+    /**
+     * Describes the clients and open links of each connection in the pool.
+     *
+     * @return The clients and open links of each connection in the pool.
+     */
+    @Override
+    public String toString() {
+        return getConnections().stream()
+            .map(connection -> String.format(Locale.US, "[clients: %d, links: %d]", connection.getClientCount(),
+                connection.getOpenLinkCount()))
+            .collect(Collectors.joining(", ", "Connections: ", ""));
+    }
+
+    /*
+     * Must be called holding the lock.
+     */
+    private PooledConnection getOrCreateLeastLoaded() {
+        PooledConnection leastLoaded = null;
+        int leastLoad = Integer.MAX_VALUE;
+        for (PooledConnection connection : connections) {
+            final int load = connection.getLoad();
+            if (load < leastLoad) {
+                leastLoaded = connection;
+                leastLoad = load;
+            }
+        }
+
+        if (leastLoaded != null && (leastLoad == 0 || connections.size() >= maxConnections)) {
+            return leastLoaded;
+        }
+
+        final PooledConnection connection = new PooledConnection(connectionSupplier.get());
+        connections.add(connection);
+        return connection;
+    }
+
+    private void release(PooledConnection connection) {
+        final boolean isClosing;
+        synchronized (lock) {
+            if (connection.clientCount == 0) {
+                logger.warning("A pooled connection was released more times than it was acquired.");
+                return;
+            }
+
+            connection.clientCount--;
+            isClosing = connection.clientCount == 0 && connections.remove(connection);
+        }
+
+        if (isClosing) {
+            logger.info("No more clients hold the pooled connection, closing it.");
+            connection.getConnectionProcessor().dispose();
+        }
+
+        logger.info("Released a pooled connection. {}", this);
+    }
+
+    /**
+     * A connection in the pool, and the number of clients holding it.
+     */
+    public final class PooledConnection {
+        private final EventHubConnectionProcessor connectionProcessor;
+
+        // Guarded by the pool's lock.
+        private int clientCount;
+
+        private PooledConnection(EventHubConnectionProcessor connectionProcessor) {
+            this.connectionProcessor = Objects.requireNonNull(connectionProcessor,
+                "'connectionProcessor' cannot be null.");
+        }
+
+        /**
+         * Gets the connection, which is recreated if it closes while clients hold it.
+         *
+         * @return The connection.
+         */
+        public EventHubConnectionProcessor getConnectionProcessor() {
+            return connectionProcessor;
+        }
+
+        /**
+         * Gets the number of clients holding the connection.
+         *
+         * @return The number of clients holding the connection.
+         */
+        public int getClientCount() {
+            synchronized (lock) {
+                return clientCount;
+            }
+        }
+
+        /**
+         * Gets the number of send and receive links open on the connection.
+         *
+         * @return The number of send and receive links open on the connection.
+         */
+        public int getOpenLinkCount() {
+            return connectionProcessor.getOpenLinkCount();
+        }
+
+        /**
+         * Releases the connection for a client that closed. The connection closes once every client holding it has
+         * released it.
+         */
+        public void release() {
+            EventHubConnectionPool.this.release(this);
+        }
+
+        private int getLoad() {
+            return Math.max(clientCount, getOpenLinkCount());
+        }
+    }
+}
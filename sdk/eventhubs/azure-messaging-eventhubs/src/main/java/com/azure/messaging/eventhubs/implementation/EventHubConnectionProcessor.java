@@ -19,6 +19,8 @@ public class EventHubConnectionProcessor extends AmqpChannelProcessor<EventHubAm
     private final String eventHubName;
     private final AmqpRetryOptions retryOptions;
 
+    private volatile EventHubAmqpConnection currentConnection;
+
     public EventHubConnectionProcessor(String fullyQualifiedNamespace, String eventHubName,
         AmqpRetryOptions retryOptions) {
         super(fullyQualifiedNamespace, eventHubName, channel -> channel.getEndpointStates(),
@@ -30,6 +32,27 @@ public class EventHubConnectionProcessor extends AmqpChannelProcessor<EventHubAm
         this.retryOptions = Objects.requireNonNull(retryOptions, "'retryOptions' cannot be null.");
     }
 
+    /**
+     * Publishes the connection and keeps it to report its open links.
+     *
+     * @param connection The connection created.
+     */
+    @Override
+    public void onNext(EventHubAmqpConnection connection) {
+        super.onNext(connection);
+        currentConnection = connection;
+    }
+
+    /**
+     * Gets the number of send and receive links open on the current connection.
+     *
+     * @return The number of send and receive links open on the current connection, or 0 if there is none.
+     */
+    public int getOpenLinkCount() {
+        final EventHubAmqpConnection connection = currentConnection;
+        return connection == null || connection.isDisposed() || isDisposed() ? 0 : connection.getOpenLinkCount();
+    }
+
     /**
      * Gets the fully qualified namespace for the connection.
      *
@@ -3,6 +3,8 @@
 
 package com.azure.messaging.eventhubs.implementation;
 
+import com.azure.core.amqp.AmqpEndpointState;
+import com.azure.core.amqp.AmqpLink;
 import com.azure.core.amqp.AmqpRetryOptions;
 import com.azure.core.amqp.AmqpRetryPolicy;
 import com.azure.core.amqp.AmqpSession;
@@ -27,6 +29,10 @@ import org.apache.qpid.proton.engine.Session;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A proton-j AMQP connection to an Azure Event Hub instance. Adds additional support for management operations.
  */
@@ -45,6 +51,7 @@ public class EventHubReactorAmqpConnection extends ReactorConnection implements
     private final MessageSerializer messageSerializer;
     private final Scheduler scheduler;
     private final String eventHubName;
+    private final Set<AmqpLink> openLinks = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     private volatile ManagementChannel managementChannel;
 
@@ -103,7 +110,7 @@ public class EventHubReactorAmqpConnection extends ReactorConnection implements
 
             return session.createProducer(linkName, entityPath, retryOptions.getTryTimeout(), retryPolicy)
                 .cast(AmqpSendLink.class);
-        });
+        }).doOnNext(this::trackLink);
     }
 
     /**
@@ -126,7 +133,17 @@ public class EventHubReactorAmqpConnection extends ReactorConnection implements
 
                 return session.createConsumer(linkName, entityPath, retryOptions.getTryTimeout(), retryPolicy,
                     eventPosition, options);
-            });
+            }).doOnNext(this::trackLink);
+    }
+
+    /**
+     * Gets the number of send and receive links open on this connection.
+     *
+     * @return The number of send and receive links open on this connection.
+     */
+    @Override
+    public int getOpenLinkCount() {
+        return openLinks.size();
     }
 
     @Override
@@ -142,6 +159,7 @@ public class EventHubReactorAmqpConnection extends ReactorConnection implements
         }
 
         super.dispose();
+        openLinks.clear();
     }
 
     @Override
@@ -150,6 +168,21 @@ public class EventHubReactorAmqpConnection extends ReactorConnection implements
             getClaimsBasedSecurityNode(), tokenManagerProvider, retryOptions.getTryTimeout(), messageSerializer);
     }
 
+    /*
+     * Counts a link as open until it closes. The same link is returned again for a link name that is already open.
+     */
+    private void trackLink(AmqpLink link) {
+        if (!openLinks.add(link)) {
+            return;
+        }
+
+        link.getEndpointStates().subscribe(state -> {
+            if (state == AmqpEndpointState.CLOSED) {
+                openLinks.remove(link);
+            }
+        }, error -> openLinks.remove(link), () -> openLinks.remove(link));
+    }
+
     private synchronized ManagementChannel getOrCreateManagementChannel() {
         if (managementChannel == null) {
             managementChannel = new ManagementChannel(
@@ -4,10 +4,13 @@
 package com.azure.messaging.eventhubs.implementation;
 
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.EventData;
 import com.azure.messaging.eventhubs.EventProcessorClient;
 import com.azure.messaging.eventhubs.models.CloseContext;
 import com.azure.messaging.eventhubs.models.CloseReason;
 import com.azure.messaging.eventhubs.models.ErrorContext;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
 import com.azure.messaging.eventhubs.models.EventContext;
 import com.azure.messaging.eventhubs.models.InitializationContext;
 
@@ -16,6 +19,8 @@ import com.azure.messaging.eventhubs.models.InitializationContext;
  * EventProcessorClient} should extend from this class and implement {@link #processEvent(EventContext)} for
  * processing events. Additionally, users can override:
  * <ul>
+ *     <li>{@link #processEventBatch(EventBatchContext)} - This method is called instead of {@link
+ *     #processEvent(EventContext)} when events are processed in batches.</li>
  *     <li>{@link #initialize(InitializationContext)} - This method is called before at the beginning of processing a
  *     partition.</li>
  *     <li>{@link #processError(ErrorContext)} - This method is called if there is an error while
@@ -51,6 +56,21 @@ public abstract class PartitionProcessor {
      */
     public abstract void processEvent(EventContext eventContext);
 
+    /**
+     * This method is called with a batch of events received for this partition when the {@link EventProcessorClient}
+     * is configured to process events in batches. Processing of these events can happen asynchronously. By default,
+     * the events are passed to {@link #processEvent(EventContext)} one at a time, in the order they were received.
+     *
+     * @param eventBatchContext The partition information and the next batch of events from this partition.
+     */
+    public void processEventBatch(EventBatchContext eventBatchContext) {
+        final CheckpointStore checkpointStore = EventBatchContextHelper.getCheckpointStore(eventBatchContext);
+        for (EventData eventData : eventBatchContext.getEvents()) {
+            processEvent(new EventContext(eventBatchContext.getPartitionContext(), eventData, checkpointStore,
+                eventBatchContext.getLastEnqueuedEventProperties()));
+        }
+    }
+
     /**
      * This method is called when an error occurs while receiving events from Event Hub. An error also marks the end of
      * event data stream.
@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventProcessorClientBuilder;
+import com.azure.messaging.eventhubs.implementation.EventBatchContextHelper;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import reactor.core.publisher.Mono;
+
+/**
+ * A class that contains a batch of {@link EventData} and the partition information the events belong to. This is
+ * given to the {@link EventProcessorClientBuilder#processEventBatch(Consumer, int, Duration) processEventBatch}
+ * handler each time a batch of events is received from the Event Hub. This class also includes methods to update
+ * checkpoint in {@link CheckpointStore} and retrieve the last enqueued event information.
+ */
+public class EventBatchContext {
+    static {
+        EventBatchContextHelper.setCheckpointStoreAccessor(context -> context.checkpointStore);
+    }
+
+    private final PartitionContext partitionContext;
+    private final List<EventData> events;
+    private final CheckpointStore checkpointStore;
+    private final LastEnqueuedEventProperties lastEnqueuedEventProperties;
+
+    /**
+     * Creates an instance of {@link EventBatchContext}.
+     *
+     * @param partitionContext The partition information associated with the received events.
+     * @param events The batch of events received from Event Hub, in the order they were received.
+     * @param checkpointStore The checkpoint store that is used for updating checkpoints.
+     * @param lastEnqueuedEventProperties The properties of the last enqueued event in this partition. If {@link
+     * EventProcessorClientBuilder#trackLastEnqueuedEventProperties(boolean)} is set to {@code false}, this will be
+     * {@code null}.
+     * @throws NullPointerException If {@code partitionContext}, {@code events} or {@code checkpointStore} is null.
+     */
+    public EventBatchContext(PartitionContext partitionContext, List<EventData> events,
+        CheckpointStore checkpointStore, LastEnqueuedEventProperties lastEnqueuedEventProperties) {
+        this.partitionContext = Objects.requireNonNull(partitionContext, "'partitionContext' cannot be null.");
+        this.events = Collections.unmodifiableList(Objects.requireNonNull(events, "'events' cannot be null."));
+        this.checkpointStore = Objects.requireNonNull(checkpointStore, "'checkpointStore' cannot be null.");
+        this.lastEnqueuedEventProperties = lastEnqueuedEventProperties;
+    }
+
+    /**
+     * Returns the partition information associated with the received events.
+     *
+     * @return The partition information of the received events.
+     */
+    public PartitionContext getPartitionContext() {
+        return partitionContext;
+    }
+
+    /**
+     * Returns the batch of events received from Event Hub, in the order they were received.
+     *
+     * @return An unmodifiable list of the events received from Event Hub.
+     */
+    public List<EventData> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the properties of the last enqueued event in this partition, as of the last event in the batch. If
+     * {@link EventProcessorClientBuilder#trackLastEnqueuedEventProperties(boolean)} is set to {@code false}, this
+     * method will return {@code null}.
+     *
+     * @return The properties of the last enqueued event in this partition. If
+     * {@link EventProcessorClientBuilder#trackLastEnqueuedEventProperties(boolean)} is set to {@code false}, this
+     * method will return {@code null}.
+     */
+    public LastEnqueuedEventProperties getLastEnqueuedEventProperties() {
+        return lastEnqueuedEventProperties;
+    }
+
+    /**
+     * Updates the checkpoint asynchronously for this partition using the last event in this batch. This will serve as
+     * the last known successfully processed event in this partition if the update is successful.
+     *
+     * @return a representation of deferred execution of this call.
+     */
+    public Mono<Void> updateCheckpointAsync() {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+
+        EventData lastEvent = events.get(events.size() - 1);
+        Checkpoint checkpoint = new Checkpoint()
+            .setFullyQualifiedNamespace(partitionContext.getFullyQualifiedNamespace())
+            .setEventHubName(partitionContext.getEventHubName())
+            .setConsumerGroup(partitionContext.getConsumerGroup())
+            .setPartitionId(partitionContext.getPartitionId())
+            .setSequenceNumber(lastEvent.getSequenceNumber())
+            .setOffset(lastEvent.getOffset());
+        return this.checkpointStore.updateCheckpoint(checkpoint);
+    }
+
+    /**
+     * Updates the checkpoint synchronously for this partition using the last event in this batch. This will serve as
+     * the last known successfully processed event in this partition if the update is successful.
+     */
+    public void updateCheckpoint() {
+        this.updateCheckpointAsync().block();
+    }
+}
@@ -0,0 +1,33 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.messaging.eventhubs.EventProcessorClient;
+import com.azure.messaging.eventhubs.EventProcessorClientBuilder;
+
+import java.time.Duration;
+
+/**
+ * Enumeration of the strategies an {@link EventProcessorClient} can use to balance the partitions of an Event Hub
+ * among the active event processors.
+ *
+ * @see EventProcessorClientBuilder#loadBalancingStrategy(LoadBalancingStrategy)
+ */
+public enum LoadBalancingStrategy {
+    /**
+     * The event processor claims at most one partition every {@link
+     * EventProcessorClientBuilder#loadBalancingUpdateInterval(Duration) load balancing interval}, and reads all the
+     * partition ownership records on every cycle. The load converges gradually, one partition per cycle.
+     */
+    BALANCED,
+
+    /**
+     * The event processor claims as many partitions as it needs to own its fair share in a single cycle, taking
+     * unclaimed partitions first and then partitions of the processors that own the most. Once the load is balanced,
+     * it keeps the ownership records it read and only renews the ownership of its partitions, until a renewal fails
+     * because another processor claimed a partition or the records are due to be read again. Cycles run more often
+     * while the load is unbalanced, and less often while it stays balanced.
+     */
+    GREEDY,
+}
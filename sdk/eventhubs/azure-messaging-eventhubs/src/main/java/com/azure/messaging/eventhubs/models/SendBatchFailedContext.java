@@ -0,0 +1,64 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventHubBufferedProducerAsyncClient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class contains information about a batch of events that an {@link EventHubBufferedProducerAsyncClient} failed
+ * to send. The events are not retried once they are reported as failed.
+ */
+@Immutable
+public class SendBatchFailedContext {
+    private final List<EventData> events;
+    private final String partitionId;
+    private final Throwable throwable;
+
+    /**
+     * Creates a new instance of SendBatchFailedContext.
+     *
+     * @param events The events that could not be sent.
+     * @param partitionId The identifier of the partition the events were sent to.
+     * @param throwable The {@link Throwable error} that occurred.
+     * @throws NullPointerException if {@code events}, {@code partitionId} or {@code throwable} is {@code null}.
+     */
+    public SendBatchFailedContext(List<EventData> events, String partitionId, Throwable throwable) {
+        this.events = Collections.unmodifiableList(Objects.requireNonNull(events, "'events' cannot be null"));
+        this.partitionId = Objects.requireNonNull(partitionId, "'partitionId' cannot be null");
+        this.throwable = Objects.requireNonNull(throwable, "'throwable' cannot be null");
+    }
+
+    /**
+     * Returns the events that could not be sent, in the order they were enqueued.
+     *
+     * @return The events that could not be sent.
+     */
+    public List<EventData> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the identifier of the partition the events were sent to.
+     *
+     * @return The identifier of the partition the events were sent to.
+     */
+    public String getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Returns the error that occurred while sending the events.
+     *
+     * @return The error that occurred while sending the events.
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+}
@@ -0,0 +1,52 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventHubBufferedProducerAsyncClient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class contains information about a batch of events that was sent by an {@link
+ * EventHubBufferedProducerAsyncClient}.
+ */
+@Immutable
+public class SendBatchSucceededContext {
+    private final List<EventData> events;
+    private final String partitionId;
+
+    /**
+     * Creates a new instance of SendBatchSucceededContext.
+     *
+     * @param events The events that were sent.
+     * @param partitionId The identifier of the partition the events were sent to.
+     * @throws NullPointerException if {@code events} or {@code partitionId} is {@code null}.
+     */
+    public SendBatchSucceededContext(List<EventData> events, String partitionId) {
+        this.events = Collections.unmodifiableList(Objects.requireNonNull(events, "'events' cannot be null"));
+        this.partitionId = Objects.requireNonNull(partitionId, "'partitionId' cannot be null");
+    }
+
+    /**
+     * Returns the events that were sent, in the order they were enqueued.
+     *
+     * @return The events that were sent.
+     */
+    public List<EventData> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the identifier of the partition the events were sent to.
+     *
+     * @return The identifier of the partition the events were sent to.
+     */
+    public String getPartitionId() {
+        return partitionId;
+    }
+}
@@ -9,6 +9,9 @@ import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.implementation.ErrorContextProvider;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.message.Message;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -90,4 +94,36 @@ public class EventDataBatchTest {
         Assertions.assertEquals(partitionId, batch.getPartitionId());
         Assertions.assertEquals(0, batch.getEvents().size());
     }
+
+    /**
+     * Verify that the events are encoded as they are added, and that the encoded batch grows past its initial size
+     * until the batch is full.
+     */
+    @Test
+    public void encodesEventsAsTheyAreAdded() {
+        // Arrange
+        final EventDataBatch batch = new EventDataBatch(16 * 1024, null, PARTITION_KEY, null,
+            new TracerProvider(Collections.emptyList()), null, null);
+
+        // Act
+        int added = 0;
+        final byte[] body = new byte[1000];
+        while (batch.tryAdd(new EventData(body.clone()))) {
+            body[0]++;
+            added++;
+        }
+
+        // Assert
+        Assertions.assertTrue(added > 4);
+        Assertions.assertEquals(added, batch.getCount());
+        final EventDataBatch.EncodedBatch encodedBatch = batch.getEncodedBatch();
+        Assertions.assertTrue(encodedBatch.getSize() <= batch.getMaxSizeInBytes());
+
+        final List<Message> messages = TestUtils.decodeBatch(encodedBatch.getBytes(), encodedBatch.getSize());
+        Assertions.assertEquals(added, messages.size());
+        for (int i = 0; i < added; i++) {
+            Assertions.assertEquals(new Binary(batch.getEvents().get(i).getBody()),
+                ((Data) messages.get(i).getBody()).getValue());
+        }
+    }
 }
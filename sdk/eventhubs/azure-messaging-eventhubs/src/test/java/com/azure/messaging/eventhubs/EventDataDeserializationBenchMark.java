@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.messaging.eventhubs;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.message.Message;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the receive path of an event: decoding the AMQP message received from the link and deserializing it to
+ * {@link EventData}, then reading it the way a typical consumer does, against reading every property. Run with
+ * {@code -prof gc} to compare the bytes allocated per event.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EventDataDeserializationBenchMark {
+    @Param({"128", "1024", "16384"})
+    private int bodySize;
+
+    private final EventHubMessageSerializer serializer = new EventHubMessageSerializer();
+    private byte[] encoded;
+    private int encodedSize;
+
+    @Setup
+    public void setup() {
+        final Message message = TestUtils.getMessage(new byte[bodySize], "message-tracking-id");
+        encoded = new byte[bodySize + 4096];
+        encodedSize = message.encode(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Reads the body and the offset of a received event, which only decodes the well-known system properties.
+     */
+    @Benchmark
+    public void receiveAndReadBody(Blackhole blackhole) {
+        final EventData eventData = receive();
+        blackhole.consume(eventData.getBodyAsByteBuffer());
+        blackhole.consume(eventData.getOffset());
+    }
+
+    /**
+     * Reads the body and every property of a received event, which copies them as deserialization used to do for
+     * every event.
+     */
+    @Benchmark
+    public void receiveAndReadAllProperties(Blackhole blackhole) {
+        final EventData eventData = receive();
+        blackhole.consume(eventData.getBody());
+        blackhole.consume(eventData.getOffset());
+        eventData.getSystemProperties().forEach((key, value) -> blackhole.consume(value));
+        eventData.getProperties().forEach((key, value) -> blackhole.consume(value));
+    }
+
+    private EventData receive() {
+        final Message message = Proton.message();
+        message.decode(encoded, 0, encodedSize);
+        return serializer.deserialize(message, EventData.class);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -85,6 +85,24 @@ public class EventDataTest {
         Assertions.assertEquals(PAYLOAD, new String(eventData.getBody(), UTF_8));
     }
 
+    /**
+     * Verify that the body can be read as a read-only buffer, and that an event that was not received has no system
+     * properties.
+     */
+    @Test
+    public void canReadBodyAsByteBuffer() {
+        // Act
+        final EventData eventData = new EventData(PAYLOAD_BYTES);
+
+        // Assert
+        final ByteBuffer body = eventData.getBodyAsByteBuffer();
+        Assertions.assertTrue(body.isReadOnly());
+        Assertions.assertEquals(PAYLOAD, UTF_8.decode(body).toString());
+        Assertions.assertTrue(eventData.getSystemProperties().isEmpty());
+        Assertions.assertNull(eventData.getSystemProperties().get(OFFSET_ANNOTATION_NAME.getValue()));
+        Assertions.assertNull(eventData.getOffset());
+    }
+
     /**
      * Creates an event with the sequence number set.
      */
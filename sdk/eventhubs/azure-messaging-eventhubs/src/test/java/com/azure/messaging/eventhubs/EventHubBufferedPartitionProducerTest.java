@@ -0,0 +1,336 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.exception.AmqpErrorCondition;
+import com.azure.core.amqp.exception.AmqpErrorContext;
+import com.azure.core.amqp.exception.AmqpException;
+import com.azure.core.amqp.implementation.TracerProvider;
+import com.azure.messaging.eventhubs.models.CreateBatchOptions;
+import com.azure.messaging.eventhubs.models.SendBatchFailedContext;
+import com.azure.messaging.eventhubs.models.SendBatchSucceededContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EventHubBufferedPartitionProducer}.
+ */
+public class EventHubBufferedPartitionProducerTest {
+    private static final String PARTITION_ID = "1";
+    private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(1);
+    private static final int MAX_BATCH_SIZE = 256 * 1024;
+
+    private final List<SendBatchSucceededContext> succeeded = new ArrayList<>();
+    private final List<SendBatchFailedContext> failed = new ArrayList<>();
+    private final List<MonoProcessor<Void>> sends = new ArrayList<>();
+    private VirtualTimeScheduler scheduler;
+
+    @Mock
+    private EventHubProducerAsyncClient producer;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+        scheduler = VirtualTimeScheduler.create();
+
+        when(producer.createBatch(any(CreateBatchOptions.class))).thenAnswer(invocation -> Mono.just(createBatch()));
+        when(producer.send(any(EventDataBatch.class))).thenReturn(Mono.empty());
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Verifies that buffered events are sent once the maximum wait time has elapsed since the oldest of them was
+     * enqueued.
+     */
+    @Test
+    public void sendsAfterMaxWaitTime() {
+        // Arrange
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 1);
+        final EventData event1 = new EventData("1");
+        final EventData event2 = new EventData("2");
+
+        // Act
+        StepVerifier.create(partitionProducer.enqueue(event1)).verifyComplete();
+        scheduler.advanceTimeBy(MAX_WAIT_TIME.minusMillis(500));
+        StepVerifier.create(partitionProducer.enqueue(event2)).verifyComplete();
+
+        // Assert
+        verify(producer, never()).send(any(EventDataBatch.class));
+        assertEquals(2, partitionProducer.getBufferedEventCount());
+
+        scheduler.advanceTimeBy(Duration.ofMillis(500));
+
+        verify(producer, times(1)).send(any(EventDataBatch.class));
+        assertEquals(1, succeeded.size());
+        assertEquals(Arrays.asList(event1, event2), succeeded.get(0).getEvents());
+        assertEquals(PARTITION_ID, succeeded.get(0).getPartitionId());
+        assertEquals(0, partitionProducer.getBufferedEventCount());
+    }
+
+    /**
+     * Verifies that a batch is sent as soon as the buffered events are about the size of a batch, and that the events
+     * that don't fit stay buffered.
+     */
+    @Test
+    public void sendsWhenBatchIsFull() {
+        // Arrange
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 1);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(partitionProducer.enqueue(new EventData(new byte[100 * 1024]))).verifyComplete();
+        }
+
+        // Assert
+        verify(producer, times(1)).send(any(EventDataBatch.class));
+        assertEquals(1, succeeded.size());
+        assertEquals(2, succeeded.get(0).getEvents().size());
+        assertEquals(1, partitionProducer.getBufferedEventCount());
+
+        scheduler.advanceTimeBy(MAX_WAIT_TIME);
+        assertEquals(2, succeeded.size());
+        assertEquals(1, succeeded.get(1).getEvents().size());
+    }
+
+    /**
+     * Verifies that no more batches than allowed are sent at a time, and that a flush completes once the events
+     * buffered before it have been sent.
+     */
+    @Test
+    public void boundsConcurrentSends() {
+        // Arrange
+        when(producer.send(any(EventDataBatch.class))).thenAnswer(invocation -> {
+            final MonoProcessor<Void> send = MonoProcessor.create();
+            sends.add(send);
+            return send;
+        });
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 1);
+
+        StepVerifier.create(partitionProducer.enqueue(new EventData("1"))).verifyComplete();
+        final MonoProcessor<Void> firstFlush = partitionProducer.flush().toProcessor();
+        StepVerifier.create(partitionProducer.enqueue(new EventData("2"))).verifyComplete();
+
+        // Act
+        final MonoProcessor<Void> secondFlush = partitionProducer.flush().toProcessor();
+
+        // Assert
+        assertEquals(1, sends.size());
+        assertFalse(firstFlush.isTerminated());
+
+        sends.get(0).onComplete();
+        assertTrue(firstFlush.isSuccess());
+        assertEquals(2, sends.size());
+        assertFalse(secondFlush.isTerminated());
+
+        sends.get(1).onComplete();
+        assertTrue(secondFlush.isSuccess());
+        assertEquals(2, succeeded.size());
+    }
+
+    /**
+     * Verifies that a send slot takes its events before its batch is created, so a flush of a few events creates a
+     * single batch even though more batches may be sent at a time.
+     */
+    @Test
+    public void flushCreatesOneBatchForFewEvents() {
+        // Arrange
+        final List<MonoProcessor<EventDataBatch>> createBatches = new ArrayList<>();
+        when(producer.createBatch(any(CreateBatchOptions.class))).thenAnswer(invocation -> {
+            final MonoProcessor<EventDataBatch> createBatch = MonoProcessor.create();
+            createBatches.add(createBatch);
+            return createBatch;
+        });
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 3);
+        StepVerifier.create(partitionProducer.enqueue(new EventData("1"))).verifyComplete();
+        StepVerifier.create(partitionProducer.enqueue(new EventData("2"))).verifyComplete();
+
+        // Act
+        final MonoProcessor<Void> flush = partitionProducer.flush().toProcessor();
+
+        // Assert
+        assertEquals(1, createBatches.size());
+        createBatches.get(0).onNext(createBatch());
+        assertTrue(flush.isSuccess());
+        assertEquals(1, succeeded.size());
+        assertEquals(2, succeeded.get(0).getEvents().size());
+    }
+
+    /**
+     * Verifies that the events of a send slot that don't fit its batch are sent, in order, in the next batch.
+     */
+    @Test
+    public void sendsEventsThatDidNotFitInNextBatch() {
+        // Arrange
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 1);
+        final EventData event1 = new EventData(new byte[MAX_BATCH_SIZE / 2]);
+        final EventData event2 = new EventData(new byte[MAX_BATCH_SIZE / 2]);
+        StepVerifier.create(partitionProducer.enqueue(event1)).verifyComplete();
+        StepVerifier.create(partitionProducer.enqueue(event2)).verifyComplete();
+
+        // Act
+        StepVerifier.create(partitionProducer.flush()).verifyComplete();
+
+        // Assert
+        assertEquals(2, succeeded.size());
+        assertEquals(Collections.singletonList(event1), succeeded.get(0).getEvents());
+        assertEquals(Collections.singletonList(event2), succeeded.get(1).getEvents());
+        assertEquals(0, partitionProducer.getBufferedEventCount());
+    }
+
+    /**
+     * Verifies that the events of a send slot that don't fit its batch are sent by the same slot once other slots have
+     * taken the events after them.
+     */
+    @Test
+    public void sendsEventsThatDidNotFitWhenLaterEventsAreTaken() {
+        // Arrange
+        final List<MonoProcessor<EventDataBatch>> createBatches = new ArrayList<>();
+        when(producer.createBatch(any(CreateBatchOptions.class))).thenAnswer(invocation -> {
+            final MonoProcessor<EventDataBatch> createBatch = MonoProcessor.create();
+            createBatches.add(createBatch);
+            return createBatch;
+        });
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 2);
+        final EventData event1 = new EventData(new byte[MAX_BATCH_SIZE / 2]);
+        final EventData event2 = new EventData(new byte[MAX_BATCH_SIZE / 2]);
+        final EventData event3 = new EventData("3");
+        StepVerifier.create(partitionProducer.enqueue(event1)).verifyComplete();
+        StepVerifier.create(partitionProducer.enqueue(event2)).verifyComplete();
+        StepVerifier.create(partitionProducer.enqueue(event3)).verifyComplete();
+
+        // Act
+        final MonoProcessor<Void> flush = partitionProducer.flush().toProcessor();
+        assertEquals(2, createBatches.size());
+        createBatches.get(1).onNext(createBatch());
+        createBatches.get(0).onNext(createBatch());
+        assertEquals(3, createBatches.size());
+        assertFalse(flush.isTerminated());
+        createBatches.get(2).onNext(createBatch());
+
+        // Assert
+        assertTrue(flush.isSuccess());
+        assertEquals(3, succeeded.size());
+        assertEquals(Collections.singletonList(event3), succeeded.get(0).getEvents());
+        assertEquals(Collections.singletonList(event1), succeeded.get(1).getEvents());
+        assertEquals(Collections.singletonList(event2), succeeded.get(2).getEvents());
+        assertEquals(0, partitionProducer.getBufferedEventCount());
+    }
+
+    /**
+     * Verifies that enqueuing an event waits while the buffer is full, until a batch has been sent.
+     */
+    @Test
+    public void enqueueWaitsWhileBufferIsFull() {
+        // Arrange
+        when(producer.send(any(EventDataBatch.class))).thenAnswer(invocation -> {
+            final MonoProcessor<Void> send = MonoProcessor.create();
+            sends.add(send);
+            return send;
+        });
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(2, 1);
+        StepVerifier.create(partitionProducer.enqueue(new EventData("1"))).verifyComplete();
+        StepVerifier.create(partitionProducer.enqueue(new EventData("2"))).verifyComplete();
+        scheduler.advanceTimeBy(MAX_WAIT_TIME);
+
+        // Act
+        final MonoProcessor<Void> enqueue = partitionProducer.enqueue(new EventData("3")).toProcessor();
+
+        // Assert
+        assertEquals(1, sends.size());
+        assertFalse(enqueue.isTerminated());
+        assertEquals(2, partitionProducer.getBufferedEventCount());
+
+        sends.get(0).onComplete();
+        assertTrue(enqueue.isSuccess());
+        assertEquals(1, partitionProducer.getBufferedEventCount());
+    }
+
+    /**
+     * Verifies that a batch that could not be sent, and an event too large to be sent, are reported as failed.
+     */
+    @Test
+    public void reportsFailedBatches() {
+        // Arrange
+        final AmqpException error = new AmqpException(true, "Test error.", new AmqpErrorContext("test-namespace"));
+        when(producer.send(any(EventDataBatch.class))).thenReturn(Mono.error(error));
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(100, 1);
+        final EventData tooLarge = new EventData(new byte[MAX_BATCH_SIZE]);
+        final EventData event = new EventData("1");
+
+        StepVerifier.create(partitionProducer.enqueue(tooLarge)).verifyComplete();
+        StepVerifier.create(partitionProducer.enqueue(event)).verifyComplete();
+
+        // Act
+        StepVerifier.create(partitionProducer.flush()).verifyComplete();
+
+        // Assert
+        assertTrue(succeeded.isEmpty());
+        assertEquals(2, failed.size());
+        assertEquals(Collections.singletonList(tooLarge), failed.get(0).getEvents());
+        assertEquals(AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED,
+            ((AmqpException) failed.get(0).getThrowable()).getErrorCondition());
+        assertEquals(Collections.singletonList(event), failed.get(1).getEvents());
+        assertSame(error, failed.get(1).getThrowable());
+        assertEquals(0, partitionProducer.getBufferedEventCount());
+    }
+
+    /**
+     * Verifies that events can't be enqueued once the producer is closed, and that the enqueues waiting for room fail.
+     */
+    @Test
+    public void closeRejectsEnqueues() {
+        // Arrange
+        final EventHubBufferedPartitionProducer partitionProducer = createPartitionProducer(1, 1);
+        StepVerifier.create(partitionProducer.enqueue(new EventData("1"))).verifyComplete();
+        final MonoProcessor<Void> blocked = partitionProducer.enqueue(new EventData("2")).toProcessor();
+
+        // Act
+        partitionProducer.close();
+
+        // Assert
+        assertTrue(blocked.isError());
+        StepVerifier.create(partitionProducer.enqueue(new EventData("3")))
+            .expectError(IllegalStateException.class)
+            .verify();
+        StepVerifier.create(partitionProducer.flush()).verifyComplete();
+        assertEquals(1, succeeded.size());
+    }
+
+    private static EventDataBatch createBatch() {
+        return new EventDataBatch(MAX_BATCH_SIZE, PARTITION_ID, null, () -> new AmqpErrorContext("test-namespace"),
+            new TracerProvider(Collections.emptyList()), null, null);
+    }
+
+    private EventHubBufferedPartitionProducer createPartitionProducer(int maxBufferedEvents, int maxConcurrentSends) {
+        return new EventHubBufferedPartitionProducer(producer, PARTITION_ID, maxBufferedEvents, maxConcurrentSends,
+            MAX_WAIT_TIME, scheduler, succeeded::add, failed::add);
+    }
+}
@@ -0,0 +1,182 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.exception.AmqpErrorContext;
+import com.azure.core.amqp.implementation.TracerProvider;
+import com.azure.messaging.eventhubs.models.CreateBatchOptions;
+import com.azure.messaging.eventhubs.models.SendBatchFailedContext;
+import com.azure.messaging.eventhubs.models.SendBatchSucceededContext;
+import com.azure.messaging.eventhubs.models.SendOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EventHubBufferedProducerAsyncClient}.
+ */
+public class EventHubBufferedProducerAsyncClientTest {
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(1);
+
+    private final List<SendBatchSucceededContext> succeeded = new CopyOnWriteArrayList<>();
+    private final List<SendBatchFailedContext> failed = new CopyOnWriteArrayList<>();
+    private VirtualTimeScheduler scheduler;
+    private EventHubBufferedProducerAsyncClient client;
+
+    @Mock
+    private EventHubProducerAsyncClient producer;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+        scheduler = VirtualTimeScheduler.create();
+
+        when(producer.getEventHubName()).thenReturn("test-event-hub");
+        when(producer.getPartitionIds()).thenReturn(Flux.just("0", "1", "2"));
+        when(producer.createBatch(any(CreateBatchOptions.class))).thenAnswer(invocation -> {
+            final CreateBatchOptions options = invocation.getArgument(0);
+            return Mono.just(new EventDataBatch(1024, options.getPartitionId(), null,
+                () -> new AmqpErrorContext("test-namespace"), new TracerProvider(Collections.emptyList()), null,
+                null));
+        });
+        when(producer.send(any(EventDataBatch.class))).thenReturn(Mono.empty());
+
+        client = new EventHubBufferedProducerAsyncClient(producer, 100, 1, Duration.ofSeconds(1), CLOSE_TIMEOUT, scheduler,
+            succeeded::add, failed::add);
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Verifies that events are assigned partitions round-robin and that flushing sends them all.
+     */
+    @Test
+    public void sendsRoundRobin() {
+        // Act
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(client.enqueueEvent(new EventData("event-" + i))).verifyComplete();
+        }
+        assertEquals(6, client.getBufferedEventCount());
+        StepVerifier.create(client.flush()).verifyComplete();
+
+        // Assert
+        assertEquals(0, client.getBufferedEventCount());
+        assertEquals(3, succeeded.size());
+        succeeded.forEach(context -> assertEquals(2, context.getEvents().size()));
+        verify(producer, times(1)).getPartitionIds();
+    }
+
+    /**
+     * Verifies that the events with the same partition key are sent to the same partition.
+     */
+    @Test
+    public void sendsPartitionKeyToSamePartition() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(client.enqueueEvent(new EventData("event-" + i),
+                new SendOptions().setPartitionKey("device-1"))).verifyComplete();
+        }
+        StepVerifier.create(client.flush()).verifyComplete();
+
+        // Assert
+        assertEquals(1, succeeded.size());
+        assertEquals(5, succeeded.get(0).getEvents().size());
+        assertEquals(new PartitionResolver().assignForPartitionKey("device-1", new String[]{"0", "1", "2"}),
+            succeeded.get(0).getPartitionId());
+    }
+
+    /**
+     * Verifies that events enqueued with a partition id are sent to that partition.
+     */
+    @Test
+    public void sendsToPartitionId() {
+        // Act
+        StepVerifier.create(client.enqueueEvent(new EventData("1"), new SendOptions().setPartitionId("2")))
+            .verifyComplete();
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+
+        // Assert
+        final Set<String> partitionIds = succeeded.stream()
+            .map(SendBatchSucceededContext::getPartitionId)
+            .collect(Collectors.toSet());
+        assertEquals(Collections.singleton("2"), partitionIds);
+        assertTrue(failed.isEmpty());
+    }
+
+    /**
+     * Verifies that invalid send options are rejected.
+     */
+    @Test
+    public void rejectsInvalidSendOptions() {
+        StepVerifier.create(client.enqueueEvent(new EventData("1"), new SendOptions().setPartitionId("5")))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        StepVerifier.create(client.enqueueEvent(new EventData("1"),
+            new SendOptions().setPartitionId("1").setPartitionKey("key")))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        StepVerifier.create(client.enqueueEvent(null))
+            .expectError(NullPointerException.class)
+            .verify();
+    }
+
+    /**
+     * Verifies that closing sends the buffered events, then rejects new events.
+     */
+    @Test
+    public void closeSendsBufferedEvents() {
+        // Arrange
+        StepVerifier.create(client.enqueueEvent(new EventData("1"))).verifyComplete();
+
+        // Act
+        client.close();
+
+        // Assert
+        assertEquals(1, succeeded.size());
+        verify(producer).close();
+        StepVerifier.create(client.enqueueEvent(new EventData("2")))
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+
+    /**
+     * Verifies that closing waits at most the close timeout for the buffered events to be sent.
+     */
+    @Test
+    public void closeStopsWaitingAfterTimeout() {
+        // Arrange
+        when(producer.send(any(EventDataBatch.class))).thenReturn(Mono.never());
+        StepVerifier.create(client.enqueueEvent(new EventData("1"))).verifyComplete();
+
+        // Act
+        client.close();
+
+        // Assert
+        assertTrue(succeeded.isEmpty());
+        verify(producer).close();
+    }
+}
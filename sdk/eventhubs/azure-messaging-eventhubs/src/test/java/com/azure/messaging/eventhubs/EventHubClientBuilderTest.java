@@ -47,6 +47,13 @@ public class EventHubClientBuilderTest {
         assertThrows(IllegalArgumentException.class, () -> builder.buildAsyncClient());
     }
 
+    @Test
+    public void invalidConnectionPoolSize() {
+        final EventHubClientBuilder builder = new EventHubClientBuilder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.connectionPoolSize(0));
+    }
+
     @Test
     public void defaultProxyConfigurationBuilder() {
         final EventHubClientBuilder builder = new EventHubClientBuilder();
@@ -6,11 +6,15 @@ package com.azure.messaging.eventhubs;
 import com.azure.core.exception.AzureException;
 import com.azure.messaging.eventhubs.implementation.ManagementChannel;
 import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.message.Message;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
@@ -111,6 +115,67 @@ public class EventHubMessageSerializerTest {
         // Verifying the contents of our message is the same.
     }
 
+    /**
+     * Verify that a deserialized {@link EventData} shares the body of the message rather than copying it, and exposes
+     * it as a read-only view.
+     */
+    @Test
+    public void deserializeEventDataSharesBody() {
+        // Arrange
+        final byte[] contents = "hello-world".getBytes(UTF_8);
+        final Message message = getMessage(contents);
+
+        // Act
+        final EventData eventData = serializer.deserialize(message, EventData.class);
+
+        // Assert
+        final ByteBuffer body = eventData.getBodyAsByteBuffer();
+        Assertions.assertTrue(body.isReadOnly());
+        Assertions.assertEquals(ByteBuffer.wrap(contents), body);
+        Assertions.assertThrows(ReadOnlyBufferException.class, () -> body.put(0, (byte) 0));
+
+        contents[0] = 'j';
+        Assertions.assertEquals('j', eventData.getBodyAsByteBuffer().get(0));
+    }
+
+    /**
+     * Verify that only the bytes of a message body that is a slice of a larger array are deserialized.
+     */
+    @Test
+    public void deserializeEventDataWithSlicedBody() {
+        // Arrange
+        final byte[] contents = "__hello-world__".getBytes(UTF_8);
+        final Message message = getMessage(new byte[0]);
+        message.setBody(new Data(new Binary(contents, 2, contents.length - 4)));
+
+        // Act
+        final EventData eventData = serializer.deserialize(message, EventData.class);
+
+        // Assert
+        Assertions.assertEquals("hello-world", new String(eventData.getBody(), UTF_8));
+    }
+
+    /**
+     * Verify that the system properties of a deserialized {@link EventData} can be modified without affecting the
+     * well-known properties.
+     */
+    @Test
+    public void deserializedSystemPropertiesAreMutable() {
+        // Arrange
+        final Message message = getMessage("hello-world".getBytes(UTF_8));
+        final EventData eventData = serializer.deserialize(message, EventData.class);
+
+        // Act
+        eventData.getSystemProperties().put("new-property", 10L);
+        final Object removed = eventData.getSystemProperties().remove(OTHER_SYSTEM_PROPERTY);
+
+        // Assert
+        Assertions.assertEquals(Boolean.TRUE, removed);
+        Assertions.assertEquals(10L, eventData.getSystemProperties().get("new-property"));
+        Assertions.assertFalse(eventData.getSystemProperties().containsKey(OTHER_SYSTEM_PROPERTY));
+        Assertions.assertEquals(OFFSET, eventData.getOffset());
+    }
+
     /**
      * Verify we can deserialize a message to {@link PartitionProperties}.
      */
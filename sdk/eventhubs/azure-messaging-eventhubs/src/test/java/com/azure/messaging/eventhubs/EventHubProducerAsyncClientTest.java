@@ -66,7 +66,7 @@ import static com.azure.messaging.eventhubs.implementation.ClientConstants.AZ_NA
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -104,7 +104,9 @@ class EventHubProducerAsyncClientTest {
     @Captor
     private ArgumentCaptor<Message> singleMessageCaptor;
     @Captor
-    private ArgumentCaptor<List<Message>> messagesCaptor;
+    private ArgumentCaptor<byte[]> encodedBatchCaptor;
+    @Captor
+    private ArgumentCaptor<Integer> encodedSizeCaptor;
 
     private final ClientLogger logger = new ClientLogger(EventHubProducerAsyncClient.class);
     private final MessageSerializer messageSerializer = new EventHubMessageSerializer();
@@ -159,7 +161,8 @@ class EventHubProducerAsyncClientTest {
         Mockito.framework().clearInlineMocks();
         Mockito.reset(sendLink, connection);
         singleMessageCaptor = null;
-        messagesCaptor = null;
+        encodedBatchCaptor = null;
+        encodedSizeCaptor = null;
     }
 
     /**
@@ -179,16 +182,14 @@ class EventHubProducerAsyncClientTest {
         // EC is the prefix they use when creating a link that sends to the service round-robin.
         when(connection.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         // Act
         StepVerifier.create(producer.send(testData, options))
             .verifyComplete();
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
-
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = getSentBatch(sendLink);
         Assertions.assertEquals(count, messagesSent.size());
 
         messagesSent.forEach(message -> Assertions.assertEquals(Section.SectionType.Data, message.getBody().getType()));
@@ -288,7 +289,7 @@ class EventHubProducerAsyncClientTest {
         when(connection.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
 
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         final SendOptions options = new SendOptions()
             .setPartitionKey("Some partition key")
@@ -326,7 +327,7 @@ class EventHubProducerAsyncClientTest {
             argThat(name -> name.endsWith(partitionId)), argThat(name -> name.endsWith(partitionId)), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
 
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         when(tracer1.start(eq("EventHubs.send"), any(), eq(ProcessKind.SEND))).thenAnswer(
             invocation -> {
@@ -409,7 +410,7 @@ class EventHubProducerAsyncClientTest {
         // EC is the prefix they use when creating a link that sends to the service round-robin.
         when(connection.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
         final Throwable error = new AmqpException(true, AmqpErrorCondition.SERVER_BUSY_ERROR, "Test-message",
             new AmqpErrorContext("test-namespace"));
 
@@ -471,7 +472,7 @@ class EventHubProducerAsyncClientTest {
         int maxLinkSize = 1024;
 
         // Overhead when serializing an event, to figure out what the maximum size we can use for an event payload.
-        int eventOverhead = 24;
+        int eventOverhead = 16;
         int maxEventPayload = maxLinkSize - eventOverhead;
 
         final AmqpSendLink link = mock(AmqpSendLink.class);
@@ -620,7 +621,7 @@ class EventHubProducerAsyncClientTest {
         int batchSize = 1024;
 
         // Overhead when serializing an event, to figure out what the maximum size we can use for an event payload.
-        int eventOverhead = 24;
+        int eventOverhead = 16;
         int maxEventPayload = batchSize - eventOverhead;
 
         final AmqpSendLink link = mock(AmqpSendLink.class);
@@ -723,7 +724,7 @@ class EventHubProducerAsyncClientTest {
         int maxLinkSize = 1024;
 
         // Overhead when serializing an event, to figure out what the maximum size we can use for an event payload.
-        int eventOverhead = 24;
+        int eventOverhead = 16;
         int maxEventPayload = maxLinkSize - eventOverhead;
 
         final AmqpSendLink link = mock(AmqpSendLink.class);
@@ -773,9 +774,9 @@ class EventHubProducerAsyncClientTest {
         final String partitionId1 = "my-partition-id";
         final String partitionId2 = "my-partition-id-2";
 
-        when(sendLink2.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink2.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
         when(sendLink2.getLinkSize()).thenReturn(Mono.just(ClientConstants.MAX_MESSAGE_LENGTH_BYTES));
-        when(sendLink3.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink3.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
         when(sendLink3.getLinkSize()).thenReturn(Mono.just(ClientConstants.MAX_MESSAGE_LENGTH_BYTES));
 
         // EC is the prefix they use when creating a link that sends to the service round-robin.
@@ -792,7 +793,7 @@ class EventHubProducerAsyncClientTest {
                 return Mono.error(new IllegalArgumentException("Could not figure out entityPath: " + entityPath));
             }
         });
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         // Act
         StepVerifier.create(producer.send(testData, new SendOptions()))
@@ -805,13 +806,11 @@ class EventHubProducerAsyncClientTest {
             .verifyComplete();
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
-
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = getSentBatch(sendLink);
         Assertions.assertEquals(count, messagesSent.size());
 
-        verify(sendLink3, times(1)).send(anyList());
-        verify(sendLink2, times(1)).send(anyList());
+        verify(sendLink3, times(1)).sendEncodedBatch(any(byte[].class), anyInt());
+        verify(sendLink2, times(1)).sendEncodedBatch(any(byte[].class), anyInt());
     }
 
     /**
@@ -910,7 +909,7 @@ class EventHubProducerAsyncClientTest {
         // EC is the prefix they use when creating a link that sends to the service round-robin.
         when(connection.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         final DirectProcessor<AmqpEndpointState> connectionState2 = DirectProcessor.create();
         when(connection2.getEndpointStates()).thenReturn(connectionState2);
@@ -922,7 +921,7 @@ class EventHubProducerAsyncClientTest {
         when(connection3.getEndpointStates()).thenReturn(connectionState3);
         when(connection3.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink3));
-        when(sendLink3.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink3.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         // Act
         StepVerifier.create(producer.send(testData))
@@ -936,8 +935,7 @@ class EventHubProducerAsyncClientTest {
             .verifyComplete();
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = getSentBatch(sendLink);
         Assertions.assertEquals(count, messagesSent.size());
 
         verify(sendLink2, times(1)).send(any(Message.class));
@@ -985,7 +983,7 @@ class EventHubProducerAsyncClientTest {
         // EC is the prefix they use when creating a link that sends to the service round-robin.
         when(connection.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         final DirectProcessor<AmqpEndpointState> connectionState2 = DirectProcessor.create();
         when(connection2.getEndpointStates()).thenReturn(connectionState2);
@@ -1016,8 +1014,7 @@ class EventHubProducerAsyncClientTest {
             .verify(Duration.ofSeconds(10));
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = getSentBatch(sendLink);
         Assertions.assertEquals(count, messagesSent.size());
 
         verifyZeroInteractions(sendLink2);
@@ -1064,7 +1061,7 @@ class EventHubProducerAsyncClientTest {
         // EC is the prefix they use when creating a link that sends to the service round-robin.
         when(connection.createSendLink(eq(EVENT_HUB_NAME), eq(EVENT_HUB_NAME), eq(retryOptions)))
             .thenReturn(Mono.just(sendLink));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
 
         // Send a transient error, and close the original link, if we get a message that contains the "failureKey".
         // This simulates when a link is closed.
@@ -1092,8 +1089,7 @@ class EventHubProducerAsyncClientTest {
             .verifyComplete();
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = getSentBatch(sendLink);
         Assertions.assertEquals(count, messagesSent.size());
 
         verify(sendLink2, times(1)).send(any(Message.class));
@@ -1126,4 +1122,12 @@ class EventHubProducerAsyncClientTest {
         + "dolor, vitae cursus nunc pulvinar vel. Donec accumsan sapien in malesuada tempor. Maecenas in condimentum "
         + "eros. Sed vestibulum facilisis massa a iaculis. Etiam et nibh felis. Donec maximus, sem quis vestibulum "
         + "gravida, turpis risus congue dolor, pharetra tincidunt lectus nisi at velit.";
+
+    /*
+     * Gets the messages of the batch sent on the link.
+     */
+    private List<Message> getSentBatch(AmqpSendLink link) {
+        verify(link).sendEncodedBatch(encodedBatchCaptor.capture(), encodedSizeCaptor.capture());
+        return TestUtils.decodeBatch(encodedBatchCaptor.getValue(), encodedSizeCaptor.getValue());
+    }
 }
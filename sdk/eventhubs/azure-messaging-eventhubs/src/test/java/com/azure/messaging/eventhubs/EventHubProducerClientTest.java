@@ -52,7 +52,7 @@ import static com.azure.messaging.eventhubs.implementation.ClientConstants.AZ_NA
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -81,7 +81,9 @@ public class EventHubProducerClientTest {
     @Captor
     private ArgumentCaptor<Message> singleMessageCaptor;
     @Captor
-    private ArgumentCaptor<List<Message>> messagesCaptor;
+    private ArgumentCaptor<byte[]> encodedBatchCaptor;
+    @Captor
+    private ArgumentCaptor<Integer> encodedSizeCaptor;
 
     private EventHubProducerAsyncClient asyncProducer;
     private AmqpRetryOptions retryOptions = new AmqpRetryOptions().setTryTimeout(Duration.ofSeconds(30));
@@ -93,7 +95,7 @@ public class EventHubProducerClientTest {
         MockitoAnnotations.initMocks(this);
         when(sendLink.getLinkSize()).thenReturn(Mono.just(ClientConstants.MAX_MESSAGE_LENGTH_BYTES));
         when(sendLink.getErrorContext()).thenReturn(new AmqpErrorContext("test-namespace"));
-        when(sendLink.send(anyList())).thenReturn(Mono.empty());
+        when(sendLink.sendEncodedBatch(any(byte[].class), anyInt())).thenReturn(Mono.empty());
         when(sendLink.send(any(Message.class))).thenReturn(Mono.empty());
 
         final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
@@ -115,7 +117,8 @@ public class EventHubProducerClientTest {
         Mockito.framework().clearInlineMocks();
         sendLink = null;
         singleMessageCaptor = null;
-        messagesCaptor = null;
+        encodedBatchCaptor = null;
+        encodedSizeCaptor = null;
         asyncProducer.close();
     }
 
@@ -284,9 +287,7 @@ public class EventHubProducerClientTest {
         }
 
         // Assert
-        verify(sendLink).send(messagesCaptor.capture());
-
-        final List<Message> messagesSent = messagesCaptor.getValue();
+        final List<Message> messagesSent = getSentBatch(sendLink);
         Assertions.assertEquals(count, messagesSent.size());
 
         messagesSent.forEach(message -> Assertions.assertEquals(Section.SectionType.Data, message.getBody().getType()));
@@ -304,7 +305,7 @@ public class EventHubProducerClientTest {
         int maxLinkSize = 1024;
 
         // Overhead when serializing an event, to figure out what the maximum size we can use for an event payload.
-        int eventOverhead = 24;
+        int eventOverhead = 16;
         int maxEventPayload = maxLinkSize - eventOverhead;
 
         final AmqpSendLink link = mock(AmqpSendLink.class);
@@ -456,7 +457,7 @@ public class EventHubProducerClientTest {
         int maxBatchSize = 1024;
 
         // Overhead when serializing an event, to figure out what the maximum size we can use for an event payload.
-        int eventOverhead = 24;
+        int eventOverhead = 16;
         int maxEventPayload = maxBatchSize - eventOverhead;
 
         // EC is the prefix they use when creating a link that sends to the service round-robin.
@@ -480,4 +481,12 @@ public class EventHubProducerClientTest {
             Assertions.assertEquals(AmqpErrorCondition.LINK_PAYLOAD_SIZE_EXCEEDED, e.getErrorCondition());
         }
     }
+
+    /*
+     * Gets the messages of the batch sent on the link.
+     */
+    private List<Message> getSentBatch(AmqpSendLink link) {
+        verify(link).sendEncodedBatch(encodedBatchCaptor.capture(), encodedSizeCaptor.capture());
+        return TestUtils.decodeBatch(encodedBatchCaptor.getValue(), encodedSizeCaptor.getValue());
+    }
 }
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -78,4 +79,71 @@ public class EventProcessorClientBuilderTest {
         assertNotNull(eventProcessorClient);
     }
 
+    @Test
+    public void testEventProcessorBuilderWithProcessEventBatch() {
+        EventProcessorClient eventProcessorClient = new EventProcessorClientBuilder()
+            .connectionString(CORRECT_CONNECTION_STRING)
+            .consumerGroup("consumer-group")
+            .processEventBatch(eventBatchContext -> {
+                System.out.println("Partition id = " + eventBatchContext.getPartitionContext().getPartitionId()
+                    + " and number of events = " + eventBatchContext.getEvents().size());
+            }, 100, Duration.ofSeconds(30))
+            .processError(errorContext -> {
+                System.out.printf("Error occurred in partition processor for partition %s, %s",
+                    errorContext.getPartitionContext().getPartitionId(),
+                    errorContext.getThrowable());
+            })
+            .checkpointStore(new SampleCheckpointStore())
+            .buildEventProcessorClient();
+
+        assertNotNull(eventProcessorClient);
+    }
+
+    @Test
+    public void testEventProcessorBuilderWithProcessEventAndProcessEventBatch() {
+        assertThrows(IllegalStateException.class, () -> new EventProcessorClientBuilder()
+            .connectionString(CORRECT_CONNECTION_STRING)
+            .consumerGroup("consumer-group")
+            .processEvent(eventContext -> { })
+            .processEventBatch(eventBatchContext -> { }, 100, Duration.ofSeconds(30))
+            .processError(errorContext -> { })
+            .checkpointStore(new SampleCheckpointStore())
+            .buildEventProcessorClient());
+    }
+
+    @Test
+    public void testEventProcessorBuilderInvalidBatchOptions() {
+        EventProcessorClientBuilder builder = new EventProcessorClientBuilder();
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.processEventBatch(eventBatchContext -> { }, 0, Duration.ofSeconds(30)));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.processEventBatch(eventBatchContext -> { }, 100, Duration.ZERO));
+        assertThrows(NullPointerException.class,
+            () -> builder.processEventBatch(eventBatchContext -> { }, 100, null));
+    }
+
+    @Test
+    public void testEventProcessorBuilderInvalidConcurrencyOptions() {
+        EventProcessorClientBuilder builder = new EventProcessorClientBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.maxConcurrentEventsPerPartition(0));
+        assertThrows(NullPointerException.class, () -> builder.maxConcurrentEventsPerPartition(4, null));
+        assertThrows(IllegalStateException.class, () -> new EventProcessorClientBuilder()
+            .connectionString(CORRECT_CONNECTION_STRING)
+            .consumerGroup("consumer-group")
+            .processEventBatch(eventBatchContext -> { }, 100, Duration.ofSeconds(30))
+            .maxConcurrentEventsPerPartition(4)
+            .processError(errorContext -> { })
+            .checkpointStore(new SampleCheckpointStore())
+            .buildEventProcessorClient());
+    }
+
+    @Test
+    public void testEventProcessorBuilderInvalidLoadBalancingOptions() {
+        EventProcessorClientBuilder builder = new EventProcessorClientBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.loadBalancingUpdateInterval(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.loadBalancingUpdateInterval(Duration.ofMinutes(1)));
+        assertThrows(NullPointerException.class, () -> builder.loadBalancingUpdateInterval(null));
+        assertThrows(NullPointerException.class, () -> builder.loadBalancingStrategy(null));
+    }
 }
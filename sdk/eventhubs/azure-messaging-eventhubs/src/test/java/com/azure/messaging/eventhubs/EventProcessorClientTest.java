@@ -8,6 +8,7 @@ import com.azure.core.util.Context;
 import com.azure.core.util.tracing.ProcessKind;
 import com.azure.core.util.tracing.Tracer;
 import com.azure.messaging.eventhubs.implementation.PartitionProcessor;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
 import com.azure.messaging.eventhubs.models.EventContext;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.ErrorContext;
@@ -26,6 +27,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,6 +35,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -142,7 +145,8 @@ public class EventProcessorClientTest {
 
         // Act
         final EventProcessorClient eventProcessorClient = new EventProcessorClient(eventHubClientBuilder, "test-consumer",
-            () -> testPartitionProcessor, checkpointStore, false, tracerProvider, ec -> { }, new HashMap<>());
+            () -> testPartitionProcessor, checkpointStore, false, tracerProvider, ec -> { }, new HashMap<>(),
+            new EventProcessorClientOptions());
         eventProcessorClient.start();
         TimeUnit.SECONDS.sleep(10);
 
@@ -183,6 +187,54 @@ public class EventProcessorClientTest {
 
     }
 
+    /**
+     * Tests that events are delivered in batches and that checkpointing a batch checkpoints its last event.
+     *
+     * @throws Exception if an error occurs while running the test.
+     */
+    @Test
+    public void testWithBatchPartitionProcessor() throws Exception {
+        // Arrange
+        when(eventHubClientBuilder.buildAsyncClient()).thenReturn(eventHubAsyncClient);
+        when(eventHubAsyncClient.getFullyQualifiedNamespace()).thenReturn("test-ns");
+        when(eventHubAsyncClient.getEventHubName()).thenReturn("test-eh");
+        when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.just("1"));
+        when(eventHubAsyncClient
+            .createConsumer(anyString(), anyInt()))
+            .thenReturn(consumer1);
+        when(consumer1.receiveFromPartition(anyString(), any(EventPosition.class), any(ReceiveOptions.class)))
+            .thenReturn(Flux.just(getEvent(eventData1), getEvent(eventData2), getEvent(eventData3)));
+        when(eventData1.getSequenceNumber()).thenReturn(1L);
+        when(eventData2.getSequenceNumber()).thenReturn(2L);
+        when(eventData3.getSequenceNumber()).thenReturn(3L);
+        when(eventData1.getOffset()).thenReturn(1L);
+        when(eventData2.getOffset()).thenReturn(100L);
+        when(eventData3.getOffset()).thenReturn(150L);
+
+        final SampleCheckpointStore checkpointStore = new SampleCheckpointStore();
+        final TestBatchPartitionProcessor testPartitionProcessor = new TestBatchPartitionProcessor();
+        final TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
+
+        // Act
+        final EventProcessorClient eventProcessorClient = new EventProcessorClient(eventHubClientBuilder,
+            "test-consumer", () -> testPartitionProcessor, checkpointStore, false, tracerProvider, ec -> { },
+            new HashMap<>(), new EventProcessorClientOptions().setBatch(2, Duration.ofSeconds(1)));
+        eventProcessorClient.start();
+        TimeUnit.SECONDS.sleep(10);
+        eventProcessorClient.stop();
+
+        // Assert
+        assertEquals(2, testPartitionProcessor.batchSizes.size());
+        assertEquals(2, testPartitionProcessor.batchSizes.get(0));
+        assertEquals(1, testPartitionProcessor.batchSizes.get(1));
+
+        StepVerifier.create(checkpointStore.listCheckpoints("test-ns", "test-eh", "test-consumer"))
+            .assertNext(checkpoint -> {
+                assertEquals(3L, checkpoint.getSequenceNumber());
+                assertEquals(150L, checkpoint.getOffset());
+            }).verifyComplete();
+    }
+
     /**
      * Tests process start spans invoked for {@link EventProcessorClient}.
      *
@@ -232,7 +284,8 @@ public class EventProcessorClientTest {
 
         //Act
         final EventProcessorClient eventProcessorClient = new EventProcessorClient(eventHubClientBuilder, "test-consumer",
-            TestPartitionProcessor::new, checkpointStore, false, tracerProvider, ec -> { }, new HashMap<>());
+            TestPartitionProcessor::new, checkpointStore, false, tracerProvider, ec -> { }, new HashMap<>(),
+            new EventProcessorClientOptions());
 
         eventProcessorClient.start();
         TimeUnit.SECONDS.sleep(10);
@@ -294,7 +347,8 @@ public class EventProcessorClientTest {
         // Act
         final EventProcessorClient eventProcessorClient = new EventProcessorClient(eventHubClientBuilder,
             "test-consumer",
-            TestPartitionProcessor::new, checkpointStore, false, tracerProvider, ec -> { }, new HashMap<>());
+            TestPartitionProcessor::new, checkpointStore, false, tracerProvider, ec -> { }, new HashMap<>(),
+            new EventProcessorClientOptions());
         eventProcessorClient.start();
         final boolean completed = count.await(10, TimeUnit.SECONDS);
         eventProcessorClient.stop();
@@ -323,6 +377,26 @@ public class EventProcessorClientTest {
         return new PartitionEvent(context, event, null);
     }
 
+    private static final class TestBatchPartitionProcessor extends PartitionProcessor {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void processEvent(EventContext eventContext) {
+            throw new IllegalStateException("Events should be processed in batches.");
+        }
+
+        @Override
+        public void processEventBatch(EventBatchContext eventBatchContext) {
+            batchSizes.add(eventBatchContext.getEvents().size());
+            eventBatchContext.updateCheckpoint();
+        }
+
+        @Override
+        public void processError(ErrorContext errorContext) {
+            // do nothing
+        }
+    }
+
     private static final class TestPartitionProcessor extends PartitionProcessor {
 
         @Override
@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A deterministic, in-memory {@link CheckpointStore} for a single Event Hub and consumer group. Ownership claims
+ * succeed only if their ETag matches the stored record, like they do with a blob store, and ETags are sequential so
+ * that runs are repeatable. The number of times ownership is listed is counted.
+ */
+class InMemoryCheckpointStore implements CheckpointStore {
+    private final Clock clock;
+    private final Map<String, PartitionOwnership> ownerships = new TreeMap<>();
+    private final Map<String, Checkpoint> checkpoints = new TreeMap<>();
+    private final AtomicInteger listOwnershipCount = new AtomicInteger();
+    private int lastETag;
+
+    /**
+     * Creates a store that sets the last modified time of ownership records from the given clock.
+     */
+    InMemoryCheckpointStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized Flux<PartitionOwnership> listOwnership(String fullyQualifiedNamespace, String eventHubName,
+        String consumerGroup) {
+        listOwnershipCount.incrementAndGet();
+        final List<PartitionOwnership> copies = new ArrayList<>();
+        ownerships.values().forEach(ownership -> copies.add(copy(ownership)));
+        return Flux.fromIterable(copies);
+    }
+
+    @Override
+    public synchronized Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+        final List<PartitionOwnership> claimed = new ArrayList<>();
+        for (PartitionOwnership request : requestedPartitionOwnerships) {
+            final PartitionOwnership current = ownerships.get(request.getPartitionId());
+            final boolean isClaimable = current == null
+                ? request.getETag() == null
+                : current.getETag().equals(request.getETag());
+            if (!isClaimable) {
+                continue;
+            }
+
+            request.setETag(String.valueOf(++lastETag)).setLastModifiedTime(clock.millis());
+            ownerships.put(request.getPartitionId(), copy(request));
+            claimed.add(request);
+        }
+
+        return Flux.fromIterable(claimed);
+    }
+
+    @Override
+    public synchronized Flux<Checkpoint> listCheckpoints(String fullyQualifiedNamespace, String eventHubName,
+        String consumerGroup) {
+        return Flux.fromIterable(new ArrayList<>(checkpoints.values()));
+    }
+
+    @Override
+    public synchronized Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
+        checkpoints.put(checkpoint.getPartitionId(), checkpoint);
+        return Mono.empty();
+    }
+
+    /**
+     * Gets the id of the owner of a partition, or {@code null} if it has never been claimed.
+     */
+    synchronized String getOwnerId(String partitionId) {
+        final PartitionOwnership ownership = ownerships.get(partitionId);
+        return ownership == null ? null : ownership.getOwnerId();
+    }
+
+    /**
+     * Gets the number of times ownership has been listed.
+     */
+    int getListOwnershipCount() {
+        return listOwnershipCount.get();
+    }
+
+    private static PartitionOwnership copy(PartitionOwnership ownership) {
+        return new PartitionOwnership()
+            .setFullyQualifiedNamespace(ownership.getFullyQualifiedNamespace())
+            .setEventHubName(ownership.getEventHubName())
+            .setConsumerGroup(ownership.getConsumerGroup())
+            .setPartitionId(ownership.getPartitionId())
+            .setOwnerId(ownership.getOwnerId())
+            .setETag(ownership.getETag())
+            .setLastModifiedTime(ownership.getLastModifiedTime());
+    }
+}
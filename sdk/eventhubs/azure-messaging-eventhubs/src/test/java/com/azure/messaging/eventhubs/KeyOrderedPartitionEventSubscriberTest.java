@@ -0,0 +1,205 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.util.Context;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.PartitionContext;
+import com.azure.messaging.eventhubs.models.PartitionEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.publisher.TestPublisher;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link KeyOrderedPartitionEventSubscriber}. Events are processed by running the tasks the subscriber
+ * schedules one at a time, in the order each test chooses.
+ */
+public class KeyOrderedPartitionEventSubscriberTest {
+    private static final PartitionContext PARTITION_CONTEXT = new PartitionContext("test-ns", "test-eh",
+        "test-consumer", "0");
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Scheduler scheduler = Schedulers.fromExecutor(tasks::add);
+    private final List<PartitionEvent> processed = new ArrayList<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicInteger completions = new AtomicInteger();
+    private final WatermarkCheckpointStore checkpointStore =
+        new WatermarkCheckpointStore(new InMemoryCheckpointStore(Clock.systemUTC()));
+    private TestPublisher<PartitionEvent> publisher;
+
+    @BeforeEach
+    public void setup() {
+        publisher = TestPublisher.create();
+    }
+
+    /**
+     * Verifies that events with different keys are processed concurrently, and events with the same key one at a time
+     * in the order they were received.
+     */
+    @Test
+    public void processesEventsWithSameKeyInOrder() {
+        // Arrange
+        final PartitionEvent event1 = getEvent(1, "a");
+        final PartitionEvent event2 = getEvent(2, "b");
+        final PartitionEvent event3 = getEvent(3, "a");
+        final PartitionEvent event4 = getEvent(4, "a");
+        publisher.subscribe(createSubscriber(4, EventData::getPartitionKey, processed::add));
+
+        // Act
+        publisher.next(event1, event2, event3, event4);
+
+        // Assert
+        assertEquals(2, tasks.size());
+        runTask(1);
+        assertEquals(Arrays.asList(event2), processed);
+        runTask(0);
+        assertEquals(Arrays.asList(event2, event1, event3, event4), processed);
+        assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Verifies that events without a key are processed concurrently.
+     */
+    @Test
+    public void processesEventsWithoutKeyConcurrently() {
+        // Arrange
+        publisher.subscribe(createSubscriber(4, eventData -> null, processed::add));
+
+        // Act
+        publisher.next(getEvent(1, "a"), getEvent(2, "a"), getEvent(3, "a"));
+
+        // Assert
+        assertEquals(3, tasks.size());
+    }
+
+    /**
+     * Verifies that no more events than can be processed at a time are requested until some have been processed.
+     */
+    @Test
+    public void limitsEventsInFlight() {
+        // Arrange
+        publisher.subscribe(createSubscriber(2, EventData::getPartitionKey, processed::add));
+
+        // Act & Assert
+        publisher.assertMaxRequested(2);
+        publisher.next(getEvent(1, "a"), getEvent(2, "a"));
+        publisher.assertMaxRequested(2);
+
+        runTask(0);
+        publisher.assertMinRequested(2);
+        publisher.next(getEvent(3, "b"), getEvent(4, "c"));
+        assertEquals(2, tasks.size());
+    }
+
+    /**
+     * Verifies that checkpoints are only written once the events before them have been processed.
+     */
+    @Test
+    public void checkpointsAtLowWatermark() {
+        // Arrange
+        publisher.subscribe(createSubscriber(4, EventData::getPartitionKey, partitionEvent -> {
+            processed.add(partitionEvent);
+            checkpointStore.updateCheckpoint(new Checkpoint()
+                .setPartitionId(PARTITION_CONTEXT.getPartitionId())
+                .setSequenceNumber(partitionEvent.getData().getSequenceNumber())
+                .setOffset(partitionEvent.getData().getOffset()))
+                .block();
+        }));
+        publisher.next(getEvent(1, "a"), getEvent(2, "b"), getEvent(3, "c"));
+
+        // Act & Assert
+        runTask(2);
+        runTask(1);
+        assertNull(checkpointStore.getLowWatermark());
+
+        runTask(0);
+        assertEquals(3L, checkpointStore.getLowWatermark());
+    }
+
+    /**
+     * Verifies that once processing an event fails, upstream is cancelled, the events waiting are discarded, and the
+     * error is handled once the events being processed are done.
+     */
+    @Test
+    public void handlesErrorOnceEventsInFlightAreProcessed() {
+        // Arrange
+        final PartitionEvent event1 = getEvent(1, "a");
+        final PartitionEvent event2 = getEvent(2, "b");
+        final PartitionEvent event3 = getEvent(3, "a");
+        final IllegalStateException exception = new IllegalStateException("Test error.");
+        publisher.subscribe(createSubscriber(4, EventData::getPartitionKey, partitionEvent -> {
+            if (partitionEvent == event2) {
+                throw exception;
+            }
+
+            processed.add(partitionEvent);
+        }));
+        publisher.next(event1, event2, event3);
+
+        // Act & Assert
+        runTask(1);
+        publisher.assertCancelled();
+        assertNull(error.get());
+
+        runTask(0);
+        assertEquals(Arrays.asList(event1), processed);
+        assertSame(exception, error.get());
+        assertEquals(0, completions.get());
+    }
+
+    /**
+     * Verifies that the completion of upstream is handled once the events received have been processed.
+     */
+    @Test
+    public void completesOnceEventsAreProcessed() {
+        // Arrange
+        publisher.subscribe(createSubscriber(4, EventData::getPartitionKey, processed::add));
+        publisher.next(getEvent(1, "a"), getEvent(2, "a"));
+
+        // Act
+        publisher.complete();
+
+        // Assert
+        assertEquals(0, completions.get());
+        runTask(0);
+        assertEquals(2, processed.size());
+        assertEquals(1, completions.get());
+        assertNull(error.get());
+    }
+
+    private KeyOrderedPartitionEventSubscriber createSubscriber(int maxConcurrency,
+        Function<EventData, String> orderingKeySelector, Consumer<PartitionEvent> processEvent) {
+        return new KeyOrderedPartitionEventSubscriber(maxConcurrency, orderingKeySelector, scheduler, checkpointStore,
+            processEvent, error::set, completions::incrementAndGet);
+    }
+
+    private void runTask(int index) {
+        tasks.remove(index).run();
+    }
+
+    private static PartitionEvent getEvent(long sequenceNumber, String partitionKey) {
+        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(sequenceNumber * 100,
+            partitionKey, Instant.EPOCH, sequenceNumber, HashMap::new);
+        return new PartitionEvent(PARTITION_CONTEXT, new EventData(new byte[0], systemProperties, Context.NONE),
+            null);
+    }
+}
@@ -0,0 +1,293 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Simulates event processors balancing the partitions of an Event Hub through an {@link InMemoryCheckpointStore}, and
+ * measures how long they take to converge. Time is simulated: each processor runs its next load balancing cycle after
+ * the delay its load balancer asks for, and the processors run one at a time in order of their next cycle, so that
+ * runs are deterministic.
+ */
+public class LoadBalancingSimulationTest {
+    private static final String NAMESPACE = "fq-namespace";
+    private static final String EVENT_HUB_NAME = "test-event-hub";
+    private static final String CONSUMER_GROUP = "test-consumer-group";
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+    private static final long INACTIVE_TIME_LIMIT_IN_SECONDS = 60;
+    private static final Duration MAX_SIMULATED_TIME = Duration.ofHours(1);
+
+    private final ClientLogger logger = new ClientLogger(LoadBalancingSimulationTest.class);
+
+    /**
+     * Verifies that the greedy strategy converges faster than the balanced strategy when processors start together.
+     */
+    @Test
+    public void greedyConvergesFasterOnStartup() {
+        // Act
+        final Simulation balanced = new Simulation(LoadBalancingStrategy.BALANCED, 32);
+        balanced.addProcessors(8);
+        final Duration balancedTime = balanced.runUntilConverged();
+
+        final Simulation greedy = new Simulation(LoadBalancingStrategy.GREEDY, 32);
+        greedy.addProcessors(8);
+        final Duration greedyTime = greedy.runUntilConverged();
+
+        // Assert
+        logger.info("Startup convergence of 8 processors over 32 partitions: balanced {}, greedy {}", balancedTime,
+            greedyTime);
+        assertTrue(greedyTime.compareTo(balancedTime) < 0,
+            "Greedy took " + greedyTime + ", balanced took " + balancedTime);
+        assertTrue(greedyTime.compareTo(INTERVAL.multipliedBy(2)) <= 0, "Greedy took " + greedyTime);
+    }
+
+    /**
+     * Verifies that the greedy strategy converges faster than the balanced strategy when processors are added to a
+     * balanced fleet, and that it reads fewer ownership records doing so.
+     */
+    @Test
+    public void greedyConvergesFasterOnScaleOut() {
+        // Act
+        final Simulation balanced = new Simulation(LoadBalancingStrategy.BALANCED, 32);
+        balanced.addProcessors(4);
+        balanced.runUntilConverged();
+        balanced.addProcessors(4);
+        final int balancedListCount = balanced.store.getListOwnershipCount();
+        final Duration balancedTime = balanced.runUntilConverged();
+        final int balancedListings = balanced.store.getListOwnershipCount() - balancedListCount;
+
+        final Simulation greedy = new Simulation(LoadBalancingStrategy.GREEDY, 32);
+        greedy.addProcessors(4);
+        greedy.runUntilConverged();
+        greedy.addProcessors(4);
+        final int greedyListCount = greedy.store.getListOwnershipCount();
+        final Duration greedyTime = greedy.runUntilConverged();
+        final int greedyListings = greedy.store.getListOwnershipCount() - greedyListCount;
+
+        // Assert
+        logger.info("Scale out from 4 to 8 processors over 32 partitions: balanced {} with {} listings, greedy {} with"
+            + " {} listings", balancedTime, balancedListings, greedyTime, greedyListings);
+        assertTrue(greedyTime.compareTo(balancedTime) < 0,
+            "Greedy took " + greedyTime + ", balanced took " + balancedTime);
+        assertTrue(greedyListings < balancedListings,
+            "Greedy listed " + greedyListings + " times, balanced listed " + balancedListings + " times");
+    }
+
+    /**
+     * Verifies that once the load is balanced, the greedy strategy only renews ownership, and backs off to the
+     * maximum interval.
+     */
+    @Test
+    public void greedyBacksOffWhenStable() {
+        // Arrange
+        final Simulation greedy = new Simulation(LoadBalancingStrategy.GREEDY, 16);
+        greedy.addProcessors(4);
+        greedy.runUntilConverged();
+        final int listCount = greedy.store.getListOwnershipCount();
+
+        // Act
+        greedy.runFor(Duration.ofMinutes(2));
+
+        // Assert
+        // The records are read again once they are older than half the inactive time limit, rather than every cycle.
+        final int listings = greedy.store.getListOwnershipCount() - listCount;
+        logger.info("{} processors listed ownership {} times in 2 minutes of stable load", greedy.processors.size(),
+            listings);
+        assertTrue(listings <= greedy.processors.size() * 4, "Listed " + listings + " times");
+        assertTrue(greedy.isConverged());
+        final Duration maxInterval = Duration.ofSeconds(INACTIVE_TIME_LIMIT_IN_SECONDS / 3);
+        greedy.processors.forEach(processor ->
+            assertEquals(maxInterval, processor.loadBalancer.getNextLoadBalancingDelay()));
+    }
+
+    /**
+     * Verifies that the greedy strategy takes over the partitions of a processor that stopped renewing them, once their
+     * ownership has expired.
+     */
+    @Test
+    public void greedyClaimsPartitionsOfStoppedProcessor() {
+        // Arrange
+        final Simulation greedy = new Simulation(LoadBalancingStrategy.GREEDY, 12);
+        greedy.addProcessors(3);
+        greedy.runUntilConverged();
+        greedy.runFor(Duration.ofMinutes(1));
+
+        // Act
+        greedy.processors.remove(0);
+        final Duration time = greedy.runUntilConverged();
+
+        // Assert
+        logger.info("Partitions of a stopped processor were taken over in {}", time);
+        final Duration maxTime = Duration.ofSeconds(INACTIVE_TIME_LIMIT_IN_SECONDS)
+            .plusSeconds(INACTIVE_TIME_LIMIT_IN_SECONDS / 3)
+            .plus(INTERVAL);
+        assertTrue(time.compareTo(maxTime) <= 0, "Took " + time);
+        greedy.processors.forEach(processor -> assertEquals(6, processor.pumps.size()));
+    }
+
+    /**
+     * Runs load balancers of event processors against a shared in-memory checkpoint store in simulated time.
+     */
+    private final class Simulation {
+        private final SimulatedClock clock = new SimulatedClock();
+        private final InMemoryCheckpointStore store = new InMemoryCheckpointStore(clock);
+        private final List<SimulatedProcessor> processors = new ArrayList<>();
+        private final LoadBalancingStrategy strategy;
+        private final List<String> partitionIds;
+        private final EventHubAsyncClient eventHubAsyncClient = mock(EventHubAsyncClient.class);
+        private int processorCount;
+
+        private Simulation(LoadBalancingStrategy strategy, int numberOfPartitions) {
+            this.strategy = strategy;
+            this.partitionIds = IntStream.range(0, numberOfPartitions)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+            when(eventHubAsyncClient.getPartitionIds()).thenAnswer(invocation -> Flux.fromIterable(partitionIds));
+        }
+
+        /**
+         * Adds processors that start their first cycle 100 milliseconds apart.
+         */
+        private void addProcessors(int count) {
+            for (int i = 0; i < count; i++) {
+                final int index = processorCount++;
+                final SimulatedProcessor processor = new SimulatedProcessor("owner-" + index);
+                final PartitionPumpManager partitionPumpManager = mock(PartitionPumpManager.class);
+                when(partitionPumpManager.getPartitionPumps()).thenReturn(processor.pumps);
+                doAnswer(invocation -> {
+                    final PartitionOwnership ownership = invocation.getArgument(0);
+                    processor.pumps.put(ownership.getPartitionId(), mock(EventHubConsumerAsyncClient.class));
+                    return null;
+                }).when(partitionPumpManager).startPartitionPump(any(PartitionOwnership.class), any());
+
+                processor.loadBalancer = new PartitionBasedLoadBalancer(store, eventHubAsyncClient, NAMESPACE,
+                    EVENT_HUB_NAME, CONSUMER_GROUP, processor.ownerId, INACTIVE_TIME_LIMIT_IN_SECONDS,
+                    partitionPumpManager, error -> { },
+                    new EventProcessorClientOptions().setLoadBalancing(strategy, INTERVAL), new Random(index), clock);
+                processor.nextCycleMillis = clock.nowMillis + i * 100L;
+                processors.add(processor);
+            }
+        }
+
+        /**
+         * Runs cycles until the partitions are balanced, and returns the simulated time it took.
+         */
+        private Duration runUntilConverged() {
+            final long startMillis = clock.nowMillis;
+            while (!isConverged()) {
+                assertTrue(clock.nowMillis - startMillis < MAX_SIMULATED_TIME.toMillis(), "Load balancing didn't converge.");
+                runNextCycle();
+            }
+
+            return Duration.ofMillis(clock.nowMillis - startMillis);
+        }
+
+        private void runFor(Duration duration) {
+            final long endMillis = clock.nowMillis + duration.toMillis();
+            while (nextProcessor().nextCycleMillis <= endMillis) {
+                runNextCycle();
+            }
+        }
+
+        private void runNextCycle() {
+            final SimulatedProcessor processor = nextProcessor();
+            clock.nowMillis = processor.nextCycleMillis;
+            processor.loadBalancer.loadBalance().block();
+            processor.nextCycleMillis = clock.nowMillis + processor.loadBalancer.getNextLoadBalancingDelay().toMillis();
+
+            // A processor whose partition was claimed by another one stops receiving from it.
+            processors.forEach(other -> other.pumps.keySet()
+                .removeIf(partitionId -> !other.ownerId.equals(store.getOwnerId(partitionId))));
+        }
+
+        private SimulatedProcessor nextProcessor() {
+            return processors.stream()
+                .min(Comparator.comparingLong((SimulatedProcessor processor) -> processor.nextCycleMillis))
+                .get();
+        }
+
+        /**
+         * The partitions are balanced once each of them is processed by exactly one processor, and no processor
+         * processes more than one partition more than any other.
+         */
+        private boolean isConverged() {
+            final Set<String> processed = new HashSet<>();
+            int min = Integer.MAX_VALUE;
+            int max = 0;
+            for (SimulatedProcessor processor : processors) {
+                for (String partitionId : processor.pumps.keySet()) {
+                    if (!processed.add(partitionId)) {
+                        return false;
+                    }
+                }
+
+                min = Math.min(min, processor.pumps.size());
+                max = Math.max(max, processor.pumps.size());
+            }
+
+            return processed.size() == partitionIds.size() && max - min <= 1;
+        }
+    }
+
+    private static final class SimulatedProcessor {
+        private final String ownerId;
+        private final Map<String, EventHubConsumerAsyncClient> pumps = new ConcurrentHashMap<>();
+        private PartitionBasedLoadBalancer loadBalancer;
+        private long nextCycleMillis;
+
+        private SimulatedProcessor(String ownerId) {
+            this.ownerId = ownerId;
+        }
+    }
+
+    /**
+     * A clock that only moves when the simulation advances it.
+     */
+    private static final class SimulatedClock extends Clock {
+        private long nowMillis = Instant.parse("2020-04-01T00:00:00Z").toEpochMilli();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(nowMillis);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.azure.messaging.eventhubs.implementation.PartitionProcessor;
 import com.azure.messaging.eventhubs.models.EventContext;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.ErrorContext;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
 import com.azure.messaging.eventhubs.models.PartitionContext;
 import com.azure.messaging.eventhubs.models.PartitionEvent;
 import com.azure.messaging.eventhubs.models.PartitionOwnership;
@@ -22,8 +23,10 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,9 +35,12 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -44,6 +50,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -118,7 +125,7 @@ public class PartitionBasedLoadBalancerTest {
         PartitionBasedLoadBalancer partitionBasedLoadBalancer = createPartitionLoadBalancer("owner1");
 
         IntStream.range(0, partitionIds.size()).forEach(index -> {
-            partitionBasedLoadBalancer.loadBalance();
+            partitionBasedLoadBalancer.loadBalance().block();
             List<PartitionOwnership> partitionOwnership = checkpointStore.listOwnership(fqNamespace, eventHubName,
                 consumerGroupName).collectList().block();
 
@@ -155,8 +162,8 @@ public class PartitionBasedLoadBalancerTest {
         PartitionBasedLoadBalancer partitionBasedLoadBalancer2 = createPartitionLoadBalancer("owner2");
 
         IntStream.range(0, partitionIds.size()).forEach(index -> {
-            partitionBasedLoadBalancer1.loadBalance();
-            partitionBasedLoadBalancer2.loadBalance();
+            partitionBasedLoadBalancer1.loadBalance().block();
+            partitionBasedLoadBalancer2.loadBalance().block();
             List<PartitionOwnership> partitionOwnership = checkpointStore.listOwnership(fqNamespace, eventHubName,
                 consumerGroupName).collectList().block();
             assertTrue(partitionOwnership.size() <= 3);
@@ -191,7 +198,7 @@ public class PartitionBasedLoadBalancerTest {
 
         // First event processor claims all partitions
         IntStream.range(0, partitionIds.size()).forEach(index -> {
-            partitionBasedLoadBalancer1.loadBalance();
+            partitionBasedLoadBalancer1.loadBalance().block();
             List<PartitionOwnership> partitionOwnership = checkpointStore.listOwnership(fqNamespace, eventHubName,
                 consumerGroupName).collectList().block();
             assertEquals(index + 1, partitionOwnership.size());
@@ -203,7 +210,7 @@ public class PartitionBasedLoadBalancerTest {
         // Now, second event processor comes online and steals a partition as the number of partitions
         // are not evenly distributed
         PartitionBasedLoadBalancer partitionBasedLoadBalancer2 = createPartitionLoadBalancer("owner2");
-        partitionBasedLoadBalancer2.loadBalance();
+        partitionBasedLoadBalancer2.loadBalance().block();
         List<PartitionOwnership> partitionOwnership = checkpointStore.listOwnership(fqNamespace, eventHubName,
             consumerGroupName).collectList().block();
         assertEquals(3, partitionOwnership.size());
@@ -231,7 +238,7 @@ public class PartitionBasedLoadBalancerTest {
         IntStream.range(0, 4).forEach(index -> loadBalancers.add(createPartitionLoadBalancer("owner" + index)));
 
         IntStream.range(0, partitionIds.size()).forEach(index -> {
-            loadBalancers.forEach(lb -> lb.loadBalance());
+            loadBalancers.forEach(lb -> lb.loadBalance().block());
             List<PartitionOwnership> partitionOwnership = checkpointStore.listOwnership(fqNamespace, eventHubName,
                 consumerGroupName).collectList().block();
             assertTrue(partitionOwnership.size() <= 3);
@@ -269,7 +276,7 @@ public class PartitionBasedLoadBalancerTest {
         IntStream.range(0, 4).forEach(index -> loadBalancers.add(createPartitionLoadBalancer("owner" + index)));
 
         IntStream.range(0, partitionIds.size()).forEach(index -> {
-            loadBalancers.forEach(lb -> lb.loadBalance());
+            loadBalancers.forEach(lb -> lb.loadBalance().block());
 
             List<PartitionOwnership> partitionOwnership = checkpointStore.listOwnership(fqNamespace, eventHubName,
                 consumerGroupName).collectList().block();
@@ -293,7 +300,7 @@ public class PartitionBasedLoadBalancerTest {
         IntStream.range(0, loadBalancers.size()).forEach(index -> {
             if (index != 1) {
                 // run all but 2nd load balancer
-                loadBalancers.get(index).loadBalance();
+                loadBalancers.get(index).loadBalance().block();
             }
         });
 
@@ -325,12 +332,13 @@ public class PartitionBasedLoadBalancerTest {
             .thenReturn(Flux.error(new IllegalStateException()));
 
         PartitionPumpManager partitionPumpManager = new PartitionPumpManager(checkpointStore,
-            () -> partitionProcessor, eventHubClientBuilder, false, tracerProvider, new HashMap<>());
+            () -> partitionProcessor, eventHubClientBuilder, false, tracerProvider, new HashMap<>(),
+            new EventProcessorClientOptions());
         PartitionBasedLoadBalancer loadBalancer = new PartitionBasedLoadBalancer(checkpointStore,
             eventHubAsyncClient, fqNamespace, eventHubName, consumerGroupName, "owner", TimeUnit.SECONDS.toSeconds(5),
             partitionPumpManager, ec -> {
-        });
-        loadBalancer.loadBalance();
+        }, new EventProcessorClientOptions(), new Random(), Clock.systemUTC());
+        loadBalancer.loadBalance().block();
         sleep(2);
         verify(partitionProcessor, never()).processEvent(any(EventContext.class));
         verify(partitionProcessor, times(1)).processError(any(ErrorContext.class));
@@ -349,12 +357,13 @@ public class PartitionBasedLoadBalancerTest {
         List<String> partitionIds = Arrays.asList("1", "2", "3");
         when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.fromIterable(partitionIds));
         PartitionPumpManager partitionPumpManager = new PartitionPumpManager(checkpointStore,
-            () -> partitionProcessor, eventHubClientBuilder, false, tracerProvider, new HashMap<>());
+            () -> partitionProcessor, eventHubClientBuilder, false, tracerProvider, new HashMap<>(),
+            new EventProcessorClientOptions());
         PartitionBasedLoadBalancer loadBalancer = new PartitionBasedLoadBalancer(checkpointStore,
             eventHubAsyncClient, fqNamespace, eventHubName, consumerGroupName, "owner", TimeUnit.SECONDS.toSeconds(5),
             partitionPumpManager, ec -> {
-        });
-        loadBalancer.loadBalance();
+        }, new EventProcessorClientOptions(), new Random(), Clock.systemUTC());
+        loadBalancer.loadBalance().block();
         sleep(5);
         verify(eventHubAsyncClient, atLeast(1)).getPartitionIds();
         verify(eventHubAsyncClient, never()).createConsumer(anyString(), anyInt());
@@ -374,12 +383,13 @@ public class PartitionBasedLoadBalancerTest {
         List<String> partitionIds = new ArrayList<>();
         when(eventHubAsyncClient.getPartitionIds()).thenReturn(Flux.fromIterable(partitionIds));
         PartitionPumpManager partitionPumpManager = new PartitionPumpManager(checkpointStore,
-            () -> partitionProcessor, eventHubClientBuilder, false, tracerProvider, new HashMap<>());
+            () -> partitionProcessor, eventHubClientBuilder, false, tracerProvider, new HashMap<>(),
+            new EventProcessorClientOptions());
         PartitionBasedLoadBalancer loadBalancer = new PartitionBasedLoadBalancer(checkpointStore,
             eventHubAsyncClient, fqNamespace, eventHubName, consumerGroupName, "owner", TimeUnit.SECONDS.toSeconds(5),
             partitionPumpManager, ec -> {
-        });
-        loadBalancer.loadBalance();
+        }, new EventProcessorClientOptions(), new Random(), Clock.systemUTC());
+        loadBalancer.loadBalance().block();
         sleep(2);
         verify(eventHubAsyncClient, atLeast(1)).getPartitionIds();
         verify(eventHubAsyncClient, never()).createConsumer(anyString(), anyInt());
@@ -425,7 +435,7 @@ public class PartitionBasedLoadBalancerTest {
         PartitionBasedLoadBalancer partitionBasedLoadBalancer = createPartitionLoadBalancer(ownerName);
 
         IntStream.range(0, partitionIds.size()).forEach(index -> {
-            partitionBasedLoadBalancer.loadBalance();
+            partitionBasedLoadBalancer.loadBalance().block();
         });
 
         final Set<String> allPartitionIds = new HashSet<>(partitionIds);
@@ -450,6 +460,54 @@ public class PartitionBasedLoadBalancerTest {
         assertTrue(allPartitionIds.isEmpty(), "Expected it to claim all partitions.");
     }
 
+    /**
+     * Verifies that the delay before the next cycle reflects the outcome of a cycle only once the cycle completes,
+     * including its ownership renewal.
+     */
+    @Test
+    public void testNextLoadBalancingDelayUpdatedWhenCycleCompletes() {
+        // Arrange
+        final TestPublisher<Object> renewalGate = TestPublisher.create();
+        final AtomicBoolean isRenewalDelayed = new AtomicBoolean();
+        final CheckpointStore store = new InMemoryCheckpointStore(Clock.systemUTC()) {
+            @Override
+            public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+                final Flux<PartitionOwnership> claimed = super.claimOwnership(requestedPartitionOwnerships);
+                return isRenewalDelayed.get() ? claimed.delaySubscription(renewalGate.flux()) : claimed;
+            }
+        };
+        final Map<String, EventHubConsumerAsyncClient> pumps = new HashMap<>();
+        final PartitionPumpManager partitionPumpManager = mock(PartitionPumpManager.class);
+        when(partitionPumpManager.getPartitionPumps()).thenReturn(pumps);
+        doAnswer(invocation -> {
+            final PartitionOwnership ownership = invocation.getArgument(0);
+            pumps.put(ownership.getPartitionId(), eventHubConsumer);
+            return null;
+        }).when(partitionPumpManager).startPartitionPump(any(PartitionOwnership.class), any());
+        when(eventHubAsyncClient.getPartitionIds()).thenAnswer(invocation -> Flux.just("0"));
+
+        final Duration interval = Duration.ofSeconds(10);
+        final PartitionBasedLoadBalancer loadBalancer = new PartitionBasedLoadBalancer(store, eventHubAsyncClient,
+            fqNamespace, eventHubName, consumerGroupName, "owner", 60, partitionPumpManager, ec -> { },
+            new EventProcessorClientOptions().setLoadBalancing(LoadBalancingStrategy.GREEDY, interval), new Random(),
+            Clock.systemUTC());
+
+        // The first cycle claims the partition, so the next one comes sooner.
+        loadBalancer.loadBalance().block();
+        assertEquals(interval.dividedBy(4), loadBalancer.getNextLoadBalancingDelay());
+        isRenewalDelayed.set(true);
+
+        // Act & Assert
+        StepVerifier.create(loadBalancer.loadBalance())
+            .then(() -> assertEquals(interval.dividedBy(4), loadBalancer.getNextLoadBalancingDelay()))
+            .then(renewalGate::complete)
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+
+        // The second cycle found the load balanced and renewed ownership, so the next one comes later.
+        assertEquals(interval, loadBalancer.getNextLoadBalancingDelay());
+    }
+
     private PartitionBasedLoadBalancer createPartitionLoadBalancer(String owner) {
         TracerProvider tracerProvider = new TracerProvider(Collections.emptyList());
         PartitionPumpManager partitionPumpManager = new PartitionPumpManager(checkpointStore,
@@ -471,9 +529,10 @@ public class PartitionBasedLoadBalancerTest {
                         eventProcessingErrorContext.getPartitionContext().getPartitionId(),
                         eventProcessingErrorContext.getThrowable());
                 }
-            }, eventHubClientBuilder, false, tracerProvider, new HashMap<>());
+            }, eventHubClientBuilder, false, tracerProvider, new HashMap<>(),
+            new EventProcessorClientOptions());
         return new PartitionBasedLoadBalancer(checkpointStore, eventHubAsyncClient, fqNamespace,
             eventHubName, consumerGroupName, owner, TimeUnit.SECONDS.toSeconds(5), partitionPumpManager,
-            ec -> { });
+            ec -> { }, new EventProcessorClientOptions(), new Random(), Clock.systemUTC());
     }
 }
@@ -0,0 +1,221 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.models.PartitionContext;
+import com.azure.messaging.eventhubs.models.PartitionEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.publisher.TestPublisher;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link PartitionEventBatchSubscriber}.
+ */
+public class PartitionEventBatchSubscriberTest {
+    private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(5);
+
+    private final List<List<PartitionEvent>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicInteger completions = new AtomicInteger();
+    private TestPublisher<PartitionEvent> publisher;
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        publisher = TestPublisher.create();
+        scheduler = VirtualTimeScheduler.create();
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Verifies that a batch is processed as soon as it is full, and that no more events than a batch holds are
+     * requested until it has been processed.
+     */
+    @Test
+    public void processesFullBatches() {
+        // Arrange
+        final PartitionEventBatchSubscriber subscriber = createSubscriber(2);
+        final PartitionEvent event1 = getEvent("1");
+        final PartitionEvent event2 = getEvent("2");
+
+        // Act
+        publisher.subscribe(subscriber);
+
+        // Assert
+        publisher.assertMaxRequested(2);
+        publisher.next(event1, event2);
+
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertSame(event1, batches.get(0).get(0));
+        assertSame(event2, batches.get(0).get(1));
+        publisher.assertMinRequested(2);
+    }
+
+    /**
+     * Verifies that a batch that isn't full is processed once the maximum wait time has elapsed since its first
+     * event.
+     */
+    @Test
+    public void processesBatchAfterMaxWaitTime() {
+        // Arrange
+        final PartitionEventBatchSubscriber subscriber = createSubscriber(10);
+        publisher.subscribe(subscriber);
+
+        // Act
+        publisher.next(getEvent("1"));
+        scheduler.advanceTimeBy(MAX_WAIT_TIME.minusSeconds(1));
+        publisher.next(getEvent("2"));
+
+        // Assert
+        assertTrue(batches.isEmpty());
+        scheduler.advanceTimeBy(Duration.ofSeconds(1));
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+
+        // Nothing is processed when no events are received.
+        scheduler.advanceTimeBy(MAX_WAIT_TIME.multipliedBy(2));
+        assertEquals(1, batches.size());
+    }
+
+    /**
+     * Verifies that the maximum wait time of a full batch doesn't cut the next batch short.
+     */
+    @Test
+    public void maxWaitTimeRestartsWithEachBatch() {
+        // Arrange
+        final PartitionEventBatchSubscriber subscriber = createSubscriber(2);
+        publisher.subscribe(subscriber);
+
+        // Act
+        publisher.next(getEvent("1"));
+        scheduler.advanceTimeBy(Duration.ofSeconds(3));
+        publisher.next(getEvent("2"), getEvent("3"));
+        scheduler.advanceTimeBy(Duration.ofSeconds(3));
+
+        // Assert
+        assertEquals(1, batches.size());
+        scheduler.advanceTimeBy(Duration.ofSeconds(2));
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(1).size());
+    }
+
+    /**
+     * Verifies that events are received while a batch is processed, and are processed in the next batch once it is
+     * done.
+     */
+    @Test
+    public void receivesEventsWhileProcessingBatch() throws InterruptedException {
+        // Arrange
+        final CountDownLatch processing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final PartitionEventBatchSubscriber subscriber = new PartitionEventBatchSubscriber(2, MAX_WAIT_TIME, scheduler,
+            batch -> {
+                batches.add(batch);
+                processing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, error::set, completions::incrementAndGet);
+        publisher.subscribe(subscriber);
+        publisher.next(getEvent("1"));
+        final Thread timerThread = new Thread(() -> scheduler.advanceTimeBy(MAX_WAIT_TIME));
+        timerThread.start();
+        assertTrue(processing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        publisher.next(getEvent("2"));
+
+        // Assert
+        assertEquals(1, batches.size());
+        release.countDown();
+        timerThread.join(TimeUnit.SECONDS.toMillis(5));
+        scheduler.advanceTimeBy(MAX_WAIT_TIME);
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(1).size());
+        assertNull(error.get());
+    }
+
+    /**
+     * Verifies that the events received before upstream completes are processed before the completion.
+     */
+    @Test
+    public void processesRemainingEventsOnComplete() {
+        // Arrange
+        final PartitionEventBatchSubscriber subscriber = createSubscriber(10);
+        publisher.subscribe(subscriber);
+
+        // Act
+        publisher.next(getEvent("1"));
+        publisher.complete();
+
+        // Assert
+        assertEquals(1, batches.size());
+        assertEquals(1, completions.get());
+        assertNull(error.get());
+    }
+
+    /**
+     * Verifies that an error processing a batch cancels upstream and is handled, and that no more batches are
+     * processed.
+     */
+    @Test
+    public void processingErrorCancelsUpstream() {
+        // Arrange
+        final IllegalStateException processingError = new IllegalStateException("Test error.");
+        final PartitionEventBatchSubscriber subscriber = new PartitionEventBatchSubscriber(1, MAX_WAIT_TIME, scheduler,
+            batch -> {
+                throw processingError;
+            }, error::set, completions::incrementAndGet);
+        publisher.subscribe(subscriber);
+
+        // Act
+        publisher.next(getEvent("1"));
+
+        // Assert
+        assertSame(processingError, error.get());
+        publisher.assertCancelled();
+        assertEquals(0, completions.get());
+    }
+
+    /**
+     * Verifies that batches must hold at least one event.
+     */
+    @Test
+    public void invalidMaxBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> createSubscriber(0));
+    }
+
+    private PartitionEventBatchSubscriber createSubscriber(int maxBatchSize) {
+        return new PartitionEventBatchSubscriber(maxBatchSize, MAX_WAIT_TIME, scheduler, batches::add, error::set,
+            completions::incrementAndGet);
+    }
+
+    private static PartitionEvent getEvent(String body) {
+        return new PartitionEvent(new PartitionContext("test-ns", "test-eh", "test-consumer", "0"),
+            new EventData(body), null);
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link PartitionResolver}.
+ */
+public class PartitionResolverTest {
+    private static final String[] PARTITION_IDS = new String[]{"0", "1", "2", "3"};
+
+    private final PartitionResolver resolver = new PartitionResolver();
+
+    /**
+     * Verifies the hash against the values published with lookup3.
+     */
+    @Test
+    public void computesLookup3Hash() {
+        final byte[] data = "Four score and seven years ago".getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(new int[]{0xdeadbeef, 0xdeadbeef}, PartitionResolver.computeHash(new byte[0], 0, 0));
+        assertArrayEquals(new int[]{0x17770551, 0xce7226e6}, PartitionResolver.computeHash(data, 0, 0));
+        assertArrayEquals(new int[]{0xe3607cae, 0xbd371de4}, PartitionResolver.computeHash(data, 0, 1));
+        assertArrayEquals(new int[]{0xcd628161, 0x6cbea4b3}, PartitionResolver.computeHash(data, 1, 0));
+    }
+
+    /**
+     * Verifies that a partition key is always assigned the same partition.
+     */
+    @Test
+    public void assignsSamePartitionToPartitionKey() {
+        final String partitionId = resolver.assignForPartitionKey("device-42", PARTITION_IDS);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(partitionId, resolver.assignForPartitionKey("device-42", PARTITION_IDS));
+            assertEquals(partitionId, new PartitionResolver().assignForPartitionKey("device-42", PARTITION_IDS));
+        }
+    }
+
+    /**
+     * Verifies that partition keys are spread across all partitions.
+     */
+    @Test
+    public void spreadsPartitionKeys() {
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            counts.merge(resolver.assignForPartitionKey("key-" + i, PARTITION_IDS), 1, Integer::sum);
+        }
+
+        assertEquals(PARTITION_IDS.length, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 150, "Partition count: " + count));
+    }
+
+    /**
+     * Verifies that partitions are assigned round-robin.
+     */
+    @Test
+    public void assignsRoundRobin() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(PARTITION_IDS[i % PARTITION_IDS.length], resolver.assignRoundRobin(PARTITION_IDS));
+        }
+    }
+}
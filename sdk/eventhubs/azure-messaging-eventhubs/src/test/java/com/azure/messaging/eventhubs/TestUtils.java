@@ -13,9 +13,14 @@ import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
 import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.codec.AMQPDefinedTypes;
+import org.apache.qpid.proton.codec.DecoderImpl;
+import org.apache.qpid.proton.codec.EncoderImpl;
 import org.apache.qpid.proton.message.Message;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -154,4 +159,32 @@ public final class TestUtils {
 
     private TestUtils() {
     }
+
+    /**
+     * Decodes the messages of an encoded batch message, each of which is held by a Data section.
+     *
+     * @param encodedBatch The encoded batch message.
+     * @param size The size of the encoded batch message.
+     * @return The messages in the batch.
+     */
+    static List<Message> decodeBatch(byte[] encodedBatch, int size) {
+        final DecoderImpl decoder = new DecoderImpl();
+        AMQPDefinedTypes.registerAllTypes(decoder, new EncoderImpl(decoder));
+
+        final ByteBuffer buffer = ByteBuffer.wrap(encodedBatch, 0, size);
+        decoder.setByteBuffer(buffer);
+
+        final List<Message> messages = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            final Object section = decoder.readObject();
+            if (section instanceof Data) {
+                final Binary binary = ((Data) section).getValue();
+                final Message message = Proton.message();
+                message.decode(binary.getArray(), binary.getArrayOffset(), binary.getLength());
+                messages.add(message);
+            }
+        }
+
+        return messages;
+    }
 }
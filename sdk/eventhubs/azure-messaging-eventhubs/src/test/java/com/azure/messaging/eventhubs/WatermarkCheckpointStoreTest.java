@@ -0,0 +1,146 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link WatermarkCheckpointStore}.
+ */
+public class WatermarkCheckpointStoreTest {
+    private static final String NAMESPACE = "test-ns";
+    private static final String EVENT_HUB_NAME = "test-eh";
+    private static final String CONSUMER_GROUP = "test-consumer";
+
+    private final InMemoryCheckpointStore inMemoryCheckpointStore = new InMemoryCheckpointStore(Clock.systemUTC());
+    private final WatermarkCheckpointStore checkpointStore = new WatermarkCheckpointStore(inMemoryCheckpointStore);
+
+    /**
+     * Verifies that the low watermark only advances over events processed in the order they were dispatched.
+     */
+    @Test
+    public void advancesLowWatermarkInDispatchOrder() {
+        // Arrange
+        checkpointStore.onDispatched(10);
+        checkpointStore.onDispatched(11);
+        checkpointStore.onDispatched(12);
+
+        // Act & Assert
+        checkpointStore.onProcessed(12);
+        assertNull(checkpointStore.getLowWatermark());
+
+        checkpointStore.onProcessed(10);
+        assertEquals(10L, checkpointStore.getLowWatermark());
+
+        checkpointStore.onProcessed(11);
+        assertEquals(12L, checkpointStore.getLowWatermark());
+    }
+
+    /**
+     * Verifies that a checkpoint is held until every event dispatched up to it has been processed.
+     */
+    @Test
+    public void writesCheckpointOnceEarlierEventsAreProcessed() {
+        // Arrange
+        checkpointStore.onDispatched(10);
+        checkpointStore.onDispatched(11);
+        checkpointStore.onDispatched(12);
+
+        // Act & Assert
+        checkpointStore.updateCheckpoint(getCheckpoint(11)).block();
+        checkpointStore.onProcessed(11);
+        assertEquals(0, getCheckpoints().size());
+
+        checkpointStore.onProcessed(10);
+        assertEquals(1, getCheckpoints().size());
+        assertEquals(11L, getCheckpoints().get(0).getSequenceNumber());
+    }
+
+    /**
+     * Verifies that only the latest checkpoint requested is written once the low watermark reaches it.
+     */
+    @Test
+    public void writesLatestCheckpoint() {
+        // Arrange
+        checkpointStore.onDispatched(10);
+        checkpointStore.onDispatched(11);
+        checkpointStore.onDispatched(12);
+
+        // Act
+        checkpointStore.updateCheckpoint(getCheckpoint(12)).block();
+        checkpointStore.updateCheckpoint(getCheckpoint(10)).block();
+        checkpointStore.onProcessed(10);
+        checkpointStore.onProcessed(11);
+
+        // Assert
+        assertEquals(0, getCheckpoints().size());
+        checkpointStore.onProcessed(12);
+        assertEquals(12L, getCheckpoints().get(0).getSequenceNumber());
+    }
+
+    /**
+     * Verifies that a checkpoint is written once the one being written completes, so that they are written in order.
+     */
+    @Test
+    public void writesOneCheckpointAtATime() {
+        // Arrange
+        final CheckpointStore store = mock(CheckpointStore.class);
+        final List<Checkpoint> written = new ArrayList<>();
+        final List<MonoProcessor<Void>> writes = new ArrayList<>();
+        when(store.updateCheckpoint(any(Checkpoint.class))).thenAnswer(invocation -> {
+            final MonoProcessor<Void> write = MonoProcessor.create();
+            written.add(invocation.getArgument(0));
+            writes.add(write);
+            return write;
+        });
+        final WatermarkCheckpointStore watermarkCheckpointStore = new WatermarkCheckpointStore(store);
+        watermarkCheckpointStore.onDispatched(10);
+        watermarkCheckpointStore.onDispatched(11);
+        watermarkCheckpointStore.onDispatched(12);
+
+        // Act
+        watermarkCheckpointStore.onProcessed(10);
+        watermarkCheckpointStore.updateCheckpoint(getCheckpoint(10)).block();
+        watermarkCheckpointStore.onProcessed(11);
+        watermarkCheckpointStore.updateCheckpoint(getCheckpoint(11)).block();
+        watermarkCheckpointStore.onProcessed(12);
+        watermarkCheckpointStore.updateCheckpoint(getCheckpoint(12)).block();
+
+        // Assert
+        assertEquals(1, written.size());
+        writes.get(0).onError(new IllegalStateException("Test error."));
+        assertEquals(2, written.size());
+        assertEquals(12L, written.get(1).getSequenceNumber());
+        writes.get(1).onComplete();
+        assertEquals(2, written.size());
+    }
+
+    private List<Checkpoint> getCheckpoints() {
+        return inMemoryCheckpointStore.listCheckpoints(NAMESPACE, EVENT_HUB_NAME, CONSUMER_GROUP)
+            .collectList()
+            .block();
+    }
+
+    private static Checkpoint getCheckpoint(long sequenceNumber) {
+        return new Checkpoint()
+            .setFullyQualifiedNamespace(NAMESPACE)
+            .setEventHubName(EVENT_HUB_NAME)
+            .setConsumerGroup(CONSUMER_GROUP)
+            .setPartitionId("0")
+            .setSequenceNumber(sequenceNumber)
+            .setOffset(sequenceNumber * 100);
+    }
+}
@@ -0,0 +1,160 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.message.Message;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.azure.messaging.eventhubs.implementation.AdaptivePrefetch.MESSAGE_OVERHEAD_IN_BYTES;
+
+class AdaptivePrefetchTest {
+    private static final int MAX_CREDITS = 500;
+    private static final long MAX_BUFFERED_BYTES = 4 * 1024 * 1024;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AdaptivePrefetch adaptivePrefetch = new AdaptivePrefetch(MAX_BUFFERED_BYTES, MAX_CREDITS,
+        nanoTime::get);
+
+    /**
+     * Verifies that messages are assumed to be as large as they can be until one is received.
+     */
+    @Test
+    void assumesLargestMessagesInitially() {
+        // Act & Assert
+        Assertions.assertEquals(MAX_BUFFERED_BYTES / ClientConstants.MAX_MESSAGE_LENGTH_BYTES,
+            adaptivePrefetch.getTargetCredits());
+    }
+
+    /**
+     * Verifies that the target credits follow the average message size, up to the maximum credits.
+     */
+    @Test
+    void sizesCreditsByAverageMessageSize() {
+        // Act & Assert
+        adaptivePrefetch.onMessageReceived(64 * 1024);
+        Assertions.assertEquals(64, adaptivePrefetch.getTargetCredits());
+
+        adaptivePrefetch.onMessageReceived(128 * 1024);
+        Assertions.assertEquals(42, adaptivePrefetch.getTargetCredits());
+
+        adaptivePrefetch.onMessageReceived(100);
+        adaptivePrefetch.onMessageReceived(100);
+        adaptivePrefetch.onMessageReceived(100);
+        Assertions.assertEquals(338, adaptivePrefetch.getTargetCredits());
+
+        for (int i = 0; i < 20; i++) {
+            adaptivePrefetch.onMessageReceived(100);
+        }
+        Assertions.assertEquals(MAX_CREDITS, adaptivePrefetch.getTargetCredits());
+    }
+
+    /**
+     * Verifies that the target credits are lowered to what the consumer processes in the target buffer duration, as
+     * measured while messages are waiting for it.
+     */
+    @Test
+    void lowersCreditsToProcessingRate() {
+        // Arrange
+        adaptivePrefetch.onMessageReceived(1024);
+
+        // Act
+        adaptivePrefetch.onMessageDelivered(true);
+        for (int i = 0; i < 25; i++) {
+            nanoTime.addAndGet(Duration.ofMillis(20).toNanos());
+            adaptivePrefetch.onMessageDelivered(true);
+        }
+        Assertions.assertEquals(MAX_CREDITS, adaptivePrefetch.getTargetCredits());
+
+        for (int i = 0; i < 25; i++) {
+            nanoTime.addAndGet(Duration.ofMillis(20).toNanos());
+            adaptivePrefetch.onMessageDelivered(true);
+        }
+
+        // Assert
+        Assertions.assertEquals(50 * AdaptivePrefetch.TARGET_BUFFER_DURATION.getSeconds(),
+            adaptivePrefetch.getTargetCredits());
+    }
+
+    /**
+     * Verifies that the time the consumer waits for messages is not counted as processing, so the target credits
+     * don't fall while messages arrive slowly or not at all.
+     */
+    @Test
+    void keepsProcessingRateWhileConsumerWaits() {
+        // Arrange
+        adaptivePrefetch.onMessageReceived(1024);
+        adaptivePrefetch.onMessageDelivered(true);
+        for (int i = 0; i < 50; i++) {
+            nanoTime.addAndGet(Duration.ofMillis(20).toNanos());
+            // The consumer catches up with the last message.
+            adaptivePrefetch.onMessageDelivered(i < 49);
+        }
+        final int busyTarget = adaptivePrefetch.getTargetCredits();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+            adaptivePrefetch.onMessageDelivered(false);
+        }
+
+        // Assert
+        Assertions.assertEquals(50, busyTarget);
+        Assertions.assertEquals(busyTarget, adaptivePrefetch.getTargetCredits());
+    }
+
+    /**
+     * Verifies that at least one credit is targeted, however large the messages or slow the consumer.
+     */
+    @Test
+    void targetsAtLeastOneCredit() {
+        // Arrange
+        adaptivePrefetch.onMessageReceived(2 * MAX_BUFFERED_BYTES);
+        adaptivePrefetch.onMessageDelivered(true);
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        adaptivePrefetch.onMessageDelivered(true);
+
+        // Act & Assert
+        Assertions.assertEquals(1, adaptivePrefetch.getTargetCredits());
+    }
+
+    /**
+     * Verifies that credits already outstanding or buffered are not added again.
+     */
+    @Test
+    void getCreditsToAdd() {
+        // Arrange
+        adaptivePrefetch.onMessageReceived(64 * 1024);
+
+        // Act & Assert
+        Assertions.assertEquals(64, adaptivePrefetch.getCreditsToAdd(0, 0));
+        Assertions.assertEquals(34, adaptivePrefetch.getCreditsToAdd(20, 10));
+        Assertions.assertEquals(0, adaptivePrefetch.getCreditsToAdd(40, 30));
+    }
+
+    /**
+     * Verifies that the size of a message is estimated from its body.
+     */
+    @Test
+    void getSizeInBytes() {
+        // Arrange
+        final Message dataMessage = Proton.message();
+        dataMessage.setBody(new Data(new Binary(new byte[1000])));
+        final Message valueMessage = Proton.message();
+        valueMessage.setBody(new AmqpValue("hello"));
+        final Message emptyMessage = Proton.message();
+
+        // Act & Assert
+        Assertions.assertEquals(MESSAGE_OVERHEAD_IN_BYTES + 1000, AdaptivePrefetch.getSizeInBytes(dataMessage));
+        Assertions.assertEquals(MESSAGE_OVERHEAD_IN_BYTES + 5, AdaptivePrefetch.getSizeInBytes(valueMessage));
+        Assertions.assertEquals(MESSAGE_OVERHEAD_IN_BYTES, AdaptivePrefetch.getSizeInBytes(emptyMessage));
+    }
+}
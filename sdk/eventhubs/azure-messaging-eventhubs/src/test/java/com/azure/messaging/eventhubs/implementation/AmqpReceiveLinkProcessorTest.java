@@ -9,6 +9,9 @@ import com.azure.core.amqp.exception.AmqpErrorCondition;
 import com.azure.core.amqp.exception.AmqpErrorContext;
 import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.amqp.implementation.AmqpReceiveLink;
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Binary;
+import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.message.Message;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -33,8 +36,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -98,6 +103,110 @@ class AmqpReceiveLinkProcessorTest {
             null));
         Assertions.assertThrows(IllegalArgumentException.class, () -> new AmqpReceiveLinkProcessor(-1, retryPolicy,
             parentConnection));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AmqpReceiveLinkProcessor(PREFETCH, -1,
+            retryPolicy, parentConnection));
+    }
+
+    /**
+     * Verifies that with a byte budget, credits are topped up to what the budget allows at the average message size,
+     * and buffered messages are counted until they are emitted.
+     */
+    @Test
+    void adaptiveCreditsSizedByAverageMessageSize() {
+        // Arrange
+        final int prefetch = 100;
+        final long maxBufferedBytes = 2 * ClientConstants.MAX_MESSAGE_LENGTH_BYTES;
+        final AmqpReceiveLinkProcessor processor = Flux.<AmqpReceiveLink>create(sink -> sink.next(link1))
+            .subscribeWith(new AmqpReceiveLinkProcessor(prefetch, maxBufferedBytes, retryPolicy, parentConnection));
+        final Message small1 = createMessage(1000);
+        final Message small2 = createMessage(1000);
+        final long messageSize = AdaptivePrefetch.getSizeInBytes(small1);
+
+        // Act & Assert
+        StepVerifier.create(processor, 0)
+            .then(() -> {
+                messageProcessorSink.next(small1);
+                messageProcessorSink.next(small2);
+            })
+            .then(() -> {
+                Assertions.assertEquals(2, processor.getBufferedMessageCount());
+                Assertions.assertEquals(2 * messageSize, processor.getBufferedBytes());
+            })
+            .thenRequest(1)
+            .expectNext(small1)
+            .then(() -> {
+                Assertions.assertEquals(1, processor.getBufferedMessageCount());
+                Assertions.assertEquals(messageSize, processor.getBufferedBytes());
+            })
+            .thenRequest(1)
+            .expectNext(small2)
+            .then(() -> {
+                Assertions.assertEquals(0, processor.getBufferedMessageCount());
+                Assertions.assertEquals(0, processor.getBufferedBytes());
+            })
+            .thenCancel()
+            .verify();
+
+        // Until a message is received, they are assumed to be as large as they can be.
+        verify(link1).addCredits(eq(2));
+        verify(link1).addCredits(eq(prefetch - 2));
+    }
+
+    /**
+     * Verifies that with a byte budget, no credits are added while the buffered messages use up the budget.
+     */
+    @Test
+    void adaptiveCreditsCappedByBufferedBytes() {
+        // Arrange
+        final long maxBufferedBytes = 2 * ClientConstants.MAX_MESSAGE_LENGTH_BYTES;
+        final AmqpReceiveLinkProcessor processor = Flux.<AmqpReceiveLink>create(sink -> sink.next(link1))
+            .subscribeWith(new AmqpReceiveLinkProcessor(PREFETCH, maxBufferedBytes, retryPolicy, parentConnection));
+        final Message large1 = createMessage(ClientConstants.MAX_MESSAGE_LENGTH_BYTES);
+        final Message large2 = createMessage(ClientConstants.MAX_MESSAGE_LENGTH_BYTES);
+
+        // Act & Assert
+        StepVerifier.create(processor, 0)
+            .then(() -> {
+                messageProcessorSink.next(large1);
+                messageProcessorSink.next(large2);
+            })
+            .then(() -> verify(link1, times(1)).addCredits(anyInt()))
+            .thenRequest(2)
+            .expectNext(large1, large2)
+            .then(() -> {
+                // The message overhead makes the messages larger than half the budget, so once they are emitted,
+                // only one credit is added.
+                verify(link1).addCredits(eq(2));
+                verify(link1).addCredits(eq(1));
+            })
+            .thenCancel()
+            .verify();
+    }
+
+    /**
+     * Verifies that without a byte budget, buffered messages are counted but their sizes are not estimated, and that
+     * cancelling clears the counts of messages that were never emitted.
+     */
+    @Test
+    void bufferedCountsClearedOnCancel() {
+        // Arrange
+        final AmqpReceiveLinkProcessor processor = Flux.<AmqpReceiveLink>create(sink -> sink.next(link1))
+            .subscribeWith(linkProcessor);
+
+        // Act & Assert
+        StepVerifier.create(processor, 0)
+            .then(() -> {
+                messageProcessorSink.next(message1);
+                messageProcessorSink.next(message2);
+            })
+            .then(() -> {
+                Assertions.assertEquals(2, processor.getBufferedMessageCount());
+                Assertions.assertEquals(0, processor.getBufferedBytes());
+            })
+            .thenCancel()
+            .verify();
+
+        Assertions.assertEquals(0, processor.getBufferedMessageCount());
     }
 
     /**
@@ -607,6 +716,12 @@ class AmqpReceiveLinkProcessorTest {
         verify(link1).setEmptyCreditListener(any());
     }
 
+    private static Message createMessage(int bodySize) {
+        final Message message = Proton.message();
+        message.setBody(new Data(new Binary(new byte[bodySize])));
+        return message;
+    }
+
     private static Flux<AmqpReceiveLink> createSink(AmqpReceiveLink[] links) {
         return Flux.create(emitter -> {
             final AtomicInteger counter = new AtomicInteger();
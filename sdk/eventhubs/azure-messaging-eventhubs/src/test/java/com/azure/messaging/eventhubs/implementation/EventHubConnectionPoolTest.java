@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.messaging.eventhubs.implementation.EventHubConnectionPool.PooledConnection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link EventHubConnectionPool}.
+ */
+class EventHubConnectionPoolTest {
+    private final List<EventHubConnectionProcessor> created = new ArrayList<>();
+
+    /**
+     * Verifies that connections are opened as clients acquire them, up to the maximum.
+     */
+    @Test
+    void opensConnectionsUpToMaximum() {
+        // Arrange
+        final EventHubConnectionPool pool = createPool(2);
+
+        // Act
+        final PooledConnection first = pool.acquire();
+        final PooledConnection second = pool.acquire();
+        final PooledConnection third = pool.acquire();
+
+        // Assert
+        Assertions.assertEquals(2, created.size());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first, third);
+        Assertions.assertEquals(2, first.getClientCount());
+        Assertions.assertEquals(1, second.getClientCount());
+    }
+
+    /**
+     * Verifies that a client is given the connection with the least load, the larger of its open links and clients,
+     * once the pool is full.
+     */
+    @Test
+    void acquiresLeastLoadedConnection() {
+        // Arrange
+        final EventHubConnectionPool pool = createPool(2);
+        final PooledConnection first = pool.acquire();
+        final PooledConnection second = pool.acquire();
+        when(first.getConnectionProcessor().getOpenLinkCount()).thenReturn(1);
+        when(second.getConnectionProcessor().getOpenLinkCount()).thenReturn(3);
+
+        // Act & Assert
+        Assertions.assertSame(first, pool.acquire());
+        Assertions.assertSame(first, pool.acquire());
+        Assertions.assertSame(first, pool.acquire());
+        Assertions.assertSame(second, pool.acquire());
+        Assertions.assertEquals(4, first.getClientCount());
+        Assertions.assertEquals(2, second.getClientCount());
+    }
+
+    /**
+     * Verifies that a connection is closed once all the clients that acquired it released it, and that a new one is
+     * opened for the next client.
+     */
+    @Test
+    void closesConnectionOnceReleased() {
+        // Arrange
+        final EventHubConnectionPool pool = createPool(1);
+        final PooledConnection first = pool.acquire();
+        pool.acquire();
+
+        // Act & Assert
+        first.release();
+        verify(first.getConnectionProcessor(), never()).dispose();
+
+        first.release();
+        verify(first.getConnectionProcessor()).dispose();
+        Assertions.assertTrue(pool.getConnections().isEmpty());
+
+        // Releasing too many times doesn't release the connection of other clients.
+        first.release();
+        Assertions.assertEquals(0, first.getClientCount());
+
+        final PooledConnection next = pool.acquire();
+        Assertions.assertNotSame(first, next);
+        Assertions.assertEquals(2, created.size());
+    }
+
+    /**
+     * Verifies that disposing the pool closes its connections, and that no more can be acquired.
+     */
+    @Test
+    void disposeClosesConnections() {
+        // Arrange
+        final EventHubConnectionPool pool = createPool(2);
+        final PooledConnection first = pool.acquire();
+        final PooledConnection second = pool.acquire();
+
+        // Act
+        pool.dispose();
+
+        // Assert
+        Assertions.assertTrue(pool.isDisposed());
+        verify(first.getConnectionProcessor()).dispose();
+        verify(second.getConnectionProcessor()).dispose();
+        Assertions.assertThrows(IllegalStateException.class, pool::acquire);
+    }
+
+    /**
+     * Verifies that the pool holds at least one connection.
+     */
+    @Test
+    void invalidMaxConnections() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> createPool(0));
+    }
+
+    private EventHubConnectionPool createPool(int maxConnections) {
+        return new EventHubConnectionPool(maxConnections, () -> {
+            final EventHubConnectionProcessor processor = mock(EventHubConnectionProcessor.class);
+            created.add(processor);
+            return processor;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.implementation;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.ErrorContext;
+import com.azure.messaging.eventhubs.models.EventBatchContext;
+import com.azure.messaging.eventhubs.models.EventContext;
+import com.azure.messaging.eventhubs.models.PartitionContext;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for {@link PartitionProcessor}.
+ */
+public class PartitionProcessorTest {
+    /**
+     * Verifies that a partition processor that doesn't process batches processes their events one at a time, and can
+     * checkpoint each of them.
+     */
+    @Test
+    public void processesBatchOneEventAtATime() {
+        // Arrange
+        final PartitionContext partitionContext = new PartitionContext("test-ns", "test-eh", "test-consumer", "0");
+        final List<EventData> events = Arrays.asList(new EventData("1"), new EventData("2"));
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+        final List<EventContext> eventContexts = new ArrayList<>();
+        final PartitionProcessor partitionProcessor = new PartitionProcessor() {
+            @Override
+            public void processEvent(EventContext eventContext) {
+                eventContexts.add(eventContext);
+                eventContext.updateCheckpoint();
+            }
+
+            @Override
+            public void processError(ErrorContext errorContext) {
+            }
+        };
+
+        // Act
+        partitionProcessor.processEventBatch(new EventBatchContext(partitionContext, events,
+            new RecordingCheckpointStore(checkpoints), null));
+
+        // Assert
+        assertEquals(2, eventContexts.size());
+        assertSame(partitionContext, eventContexts.get(0).getPartitionContext());
+        assertSame(events.get(0), eventContexts.get(0).getEventData());
+        assertSame(events.get(1), eventContexts.get(1).getEventData());
+        assertEquals(2, checkpoints.size());
+    }
+
+    private static final class RecordingCheckpointStore implements CheckpointStore {
+        private final List<Checkpoint> checkpoints;
+
+        private RecordingCheckpointStore(List<Checkpoint> checkpoints) {
+            this.checkpoints = checkpoints;
+        }
+
+        @Override
+        public Flux<PartitionOwnership> listOwnership(String fullyQualifiedNamespace, String eventHubName,
+            String consumerGroup) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Flux<Checkpoint> listCheckpoints(String fullyQualifiedNamespace, String eventHubName,
+            String consumerGroup) {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
+            return Mono.fromRunnable(() -> checkpoints.add(checkpoint));
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.azure.messaging.servicebus.implementation.ServiceBusAmqpConnection;
 import com.azure.messaging.servicebus.implementation.ServiceBusConnectionProcessor;
 import com.azure.messaging.servicebus.implementation.ServiceBusConstants;
 import com.azure.messaging.servicebus.implementation.ServiceBusReactorAmqpConnection;
+import com.azure.messaging.servicebus.implementation.ServiceBusReceiveLink;
 import com.azure.messaging.servicebus.implementation.ServiceBusSharedKeyCredential;
 import com.azure.messaging.servicebus.models.ReceiveMode;
 import reactor.core.publisher.Flux;
@@ -38,18 +39,23 @@ import reactor.core.scheduler.Schedulers;
 
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
- * The builder to create {@link ServiceBusReceiverAsyncClient} and {@link ServiceBusSenderAsyncClient}.
+ * The builder to create {@link ServiceBusReceiverAsyncClient}, {@link ServiceBusSenderAsyncClient} and {@link
+ * ServiceBusSessionProcessorClient}.
  */
 @ServiceClientBuilder(serviceClients = {ServiceBusReceiverAsyncClient.class, ServiceBusSenderAsyncClient.class,
-    ServiceBusSenderClient.class, ServiceBusReceiverClient.class})
+    ServiceBusSenderClient.class, ServiceBusReceiverClient.class, ServiceBusSessionProcessorClient.class})
 public final class ServiceBusClientBuilder {
     private static final String AZURE_SERVICE_BUS_CONNECTION_STRING = "AZURE_SERVICE_BUS_CONNECTION_STRING";
     private static final AmqpRetryOptions DEFAULT_RETRY =
@@ -60,6 +66,9 @@ public final class ServiceBusClientBuilder {
     private static final String VERSION_KEY = "version";
     private static final String UNKNOWN = "UNKNOWN";
     private static final Pattern HOST_PORT_PATTERN = Pattern.compile("^[^:]+:\\d+");
+    private static final String SUBSCRIPTION_ENTITY_PATH_FORMAT = "%s/subscriptions/%s";
+    private static final Duration DEFAULT_SESSION_IDLE_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_MAX_AUTO_LOCK_RENEW_DURATION = Duration.ofMinutes(5);
 
     private final Object connectionLock = new Object();
     private final ClientLogger logger = new ClientLogger(ServiceBusClientBuilder.class);
@@ -220,6 +229,16 @@ public final class ServiceBusClientBuilder {
         return new ServiceBusReceiverClientBuilder();
     }
 
+    /**
+     * A new instance of {@link ServiceBusSessionProcessorClientBuilder} used to configure a processor of the sessions
+     * of a session-enabled queue or subscription.
+     *
+     * @return A new instance of {@link ServiceBusSessionProcessorClientBuilder}.
+     */
+    public ServiceBusSessionProcessorClientBuilder sessionProcessor() {
+        return new ServiceBusSessionProcessorClientBuilder();
+    }
+
     /**
      * Called when a child client is closed. Disposes of the shared connection if there are no more clients.
      */
@@ -400,6 +419,24 @@ public final class ServiceBusClientBuilder {
         return entityType;
     }
 
+    private static String getReceiverEntityPath(ClientLogger logger, MessagingEntityType entityType, String queueName,
+        String topicName, String subscriptionName) {
+        switch (entityType) {
+            case QUEUE:
+                return queueName;
+            case SUBSCRIPTION:
+                if (isNullOrEmpty(subscriptionName)) {
+                    throw logger.logExceptionAsError(new IllegalStateException(String.format(
+                        "topicName (%s) must have a subscriptionName associated with it.", topicName)));
+                }
+
+                return String.format(Locale.ROOT, SUBSCRIPTION_ENTITY_PATH_FORMAT, topicName, subscriptionName);
+            default:
+                throw logger.logExceptionAsError(
+                    new IllegalArgumentException("Unknown entity type: " + entityType));
+        }
+    }
+
     /**
      * Builder for creating {@link ServiceBusSenderClient} and {@link ServiceBusSenderAsyncClient} to publish messages
      * to Service Bus.
@@ -497,7 +534,6 @@ public final class ServiceBusClientBuilder {
         // Using 0 pre-fetch count for both receive modes, to avoid message lock lost exceptions in application
         // receiving messages at a slow rate. Applications can set it to a higher value if they need better performance.
         private static final int DEFAULT_PREFETCH_COUNT = 1;
-        private static final String SUBSCRIPTION_ENTITY_PATH_FORMAT = "%s/subscriptions/%s";
 
         private int prefetchCount = DEFAULT_PREFETCH_COUNT;
         private String queueName;
@@ -603,26 +639,8 @@ public final class ServiceBusClientBuilder {
         public ServiceBusReceiverAsyncClient buildAsyncClient() {
             final MessagingEntityType entityType = validateEntityPaths(logger, connectionStringEntityName, topicName,
                 queueName);
-
-            final String entityPath;
-            switch (entityType) {
-                case QUEUE:
-                    entityPath = queueName;
-                    break;
-                case SUBSCRIPTION:
-                    if (isNullOrEmpty(subscriptionName)) {
-                        throw logger.logExceptionAsError(new IllegalStateException(String.format(
-                            "topicName (%s) must have a subscriptionName associated with it.", topicName)));
-                    }
-
-                    entityPath = String.format(Locale.ROOT,
-                        SUBSCRIPTION_ENTITY_PATH_FORMAT, topicName, subscriptionName);
-
-                    break;
-                default:
-                    throw logger.logExceptionAsError(
-                        new IllegalArgumentException("Unknown entity type: " + entityType));
-            }
+            final String entityPath = getReceiverEntityPath(logger, entityType, queueName, topicName,
+                subscriptionName);
 
             if (prefetchCount < 1) {
                 throw logger.logExceptionAsError(new IllegalArgumentException(String.format(
@@ -655,4 +673,211 @@ public final class ServiceBusClientBuilder {
             return new ServiceBusReceiverClient(buildAsyncClient(), retryOptions.getTryTimeout());
         }
     }
+    /**
+     * Builder for creating a {@link ServiceBusSessionProcessorClient} that processes the messages of many sessions of
+     * a session-enabled queue or subscription concurrently, in order within each session.
+     */
+    @ServiceClientBuilder(serviceClients = {ServiceBusSessionProcessorClient.class})
+    public final class ServiceBusSessionProcessorClientBuilder {
+        private static final int DEFAULT_PREFETCH_COUNT = 1;
+        private static final int DEFAULT_MAX_CONCURRENT_SESSIONS = 8;
+
+        private int prefetchCount = DEFAULT_PREFETCH_COUNT;
+        private int maxConcurrentSessions = DEFAULT_MAX_CONCURRENT_SESSIONS;
+        private Duration sessionIdleTimeout = DEFAULT_SESSION_IDLE_TIMEOUT;
+        private Duration maxAutoLockRenewDuration = DEFAULT_MAX_AUTO_LOCK_RENEW_DURATION;
+        private String queueName;
+        private String subscriptionName;
+        private String topicName;
+        private ReceiveMode receiveMode = ReceiveMode.PEEK_LOCK;
+        private Function<ServiceBusReceivedMessage, Mono<Void>> processMessage;
+        private Consumer<Throwable> processError;
+
+        private ServiceBusSessionProcessorClientBuilder() {
+        }
+
+        /**
+         * Sets the number of messages prefetched on the link of each session. The default value is 1, so that many
+         * low-traffic sessions can be held without each buffering messages.
+         *
+         * @param prefetchCount The prefetch count of each session.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder prefetchCount(int prefetchCount) {
+            this.prefetchCount = prefetchCount;
+            return this;
+        }
+
+        /**
+         * Sets the most sessions processed at once. The processor accepts the next available session whenever it holds
+         * fewer sessions than this. The default value is {@value #DEFAULT_MAX_CONCURRENT_SESSIONS}.
+         *
+         * @param maxConcurrentSessions The most sessions processed at once.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder maxConcurrentSessions(int maxConcurrentSessions) {
+            this.maxConcurrentSessions = maxConcurrentSessions;
+            return this;
+        }
+
+        /**
+         * Sets how long a session is held without receiving a message before it is released, so the processor can
+         * accept a session that has messages. The default value is one minute.
+         *
+         * @param sessionIdleTimeout How long a session is held without receiving a message.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder sessionIdleTimeout(Duration sessionIdleTimeout) {
+            this.sessionIdleTimeout = sessionIdleTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the longest time the lock of a session is renewed for while it is held. The default value is five
+         * minutes.
+         *
+         * @param maxAutoLockRenewDuration The longest time the lock of a session is renewed for.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder maxAutoLockRenewDuration(Duration maxAutoLockRenewDuration) {
+            this.maxAutoLockRenewDuration = maxAutoLockRenewDuration;
+            return this;
+        }
+
+        /**
+         * Sets the name of the session-enabled queue to process the sessions of.
+         *
+         * @param queueName Name of the queue.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder queueName(String queueName) {
+            this.queueName = queueName;
+            return this;
+        }
+
+        /**
+         * Sets the receive mode for the processor.
+         *
+         * @param receiveMode Mode for receiving messages.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder receiveMode(ReceiveMode receiveMode) {
+            this.receiveMode = receiveMode;
+            return this;
+        }
+
+        /**
+         * Sets the name of the session-enabled subscription in the topic to process the sessions of.
+         *
+         * @param subscriptionName Name of the subscription.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         * @see #topicName A topic name should be set as well.
+         */
+        public ServiceBusSessionProcessorClientBuilder subscriptionName(String subscriptionName) {
+            this.subscriptionName = subscriptionName;
+            return this;
+        }
+
+        /**
+         * Sets the name of the topic.
+         *
+         * @param topicName Name of the topic.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         * @see #subscriptionName A subscription name should be set as well.
+         */
+        public ServiceBusSessionProcessorClientBuilder topicName(String topicName) {
+            this.topicName = topicName;
+            return this;
+        }
+
+        /**
+         * Sets the function that processes each message. The next message of the same session is processed once the
+         * returned {@link Mono} completes. In {@link ReceiveMode#PEEK_LOCK} mode, the message is completed if the
+         * {@link Mono} completes successfully, and abandoned if it errors.
+         *
+         * @param processMessage Processes a message.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder processMessage(
+            Function<ServiceBusReceivedMessage, Mono<Void>> processMessage) {
+            this.processMessage = processMessage;
+            return this;
+        }
+
+        /**
+         * Sets the consumer called with the errors that occur while accepting sessions, processing messages or
+         * settling them.
+         *
+         * @param processError Called with the errors that occur while processing sessions.
+         *
+         * @return The modified {@link ServiceBusSessionProcessorClientBuilder} object.
+         */
+        public ServiceBusSessionProcessorClientBuilder processError(Consumer<Throwable> processError) {
+            this.processError = processError;
+            return this;
+        }
+
+        /**
+         * Creates a {@link ServiceBusSessionProcessorClient} that processes the sessions of a queue or subscription.
+         * The processor does not accept sessions until it is {@link ServiceBusSessionProcessorClient#start()
+         * started}.
+         *
+         * @return A new {@link ServiceBusSessionProcessorClient}.
+         * @throws NullPointerException if {@link #processMessage(Function) processMessage} or {@link
+         *     #processError(Consumer) processError} are not set.
+         * @throws IllegalStateException if {@link #queueName(String) queueName} or {@link #topicName(String)
+         *     topicName} are not set or, both of these fields are set. It is also thrown if a {@link
+         *     #topicName(String) topicName} is set, but {@link #subscriptionName(String) subscriptionName} is not.
+         * @throws IllegalArgumentException if {@code prefetchCount} or {@code maxConcurrentSessions} are less than 1,
+         *     or {@code sessionIdleTimeout} or {@code maxAutoLockRenewDuration} are not positive.
+         */
+        public ServiceBusSessionProcessorClient buildProcessorClient() {
+            Objects.requireNonNull(processMessage, "'processMessage' cannot be null.");
+            Objects.requireNonNull(processError, "'processError' cannot be null.");
+
+            final MessagingEntityType entityType = validateEntityPaths(logger, connectionStringEntityName, topicName,
+                queueName);
+            final String entityPath = getReceiverEntityPath(logger, entityType, queueName, topicName,
+                subscriptionName);
+
+            if (prefetchCount < 1) {
+                throw logger.logExceptionAsError(new IllegalArgumentException(String.format(
+                    "prefetchCount (%s) cannot be less than 1.", prefetchCount)));
+            } else if (maxConcurrentSessions < 1) {
+                throw logger.logExceptionAsError(new IllegalArgumentException(String.format(
+                    "maxConcurrentSessions (%s) cannot be less than 1.", maxConcurrentSessions)));
+            } else if (sessionIdleTimeout == null || sessionIdleTimeout.isZero() || sessionIdleTimeout.isNegative()) {
+                throw logger.logExceptionAsError(new IllegalArgumentException(String.format(
+                    "sessionIdleTimeout (%s) must be positive.", sessionIdleTimeout)));
+            } else if (maxAutoLockRenewDuration == null || maxAutoLockRenewDuration.isNegative()) {
+                throw logger.logExceptionAsError(new IllegalArgumentException(String.format(
+                    "maxAutoLockRenewDuration (%s) cannot be negative.", maxAutoLockRenewDuration)));
+            }
+
+            final ServiceBusConnectionProcessor connectionProcessor = getOrCreateConnectionProcessor(messageSerializer);
+            final Mono<ServiceBusReceiveLink> nextSession = Mono.defer(() -> {
+                final String linkName = StringUtil.getRandomString(entityPath);
+                return connectionProcessor.flatMap(connection -> connection.createSessionReceiveLink(linkName,
+                    entityPath, receiveMode, entityType, null));
+            });
+            final Function<String, Mono<Instant>> renewSessionLock = sessionId -> connectionProcessor
+                .flatMap(connection -> connection.getManagementNode(entityPath, entityType))
+                .flatMap(managementNode -> managementNode.renewSessionLock(sessionId));
+            final SessionProcessorOptions options = new SessionProcessorOptions(receiveMode, prefetchCount,
+                maxConcurrentSessions, sessionIdleTimeout, maxAutoLockRenewDuration);
+
+            return new ServiceBusSessionProcessorClient(entityPath, nextSession, renewSessionLock, messageSerializer,
+                options, processMessage, processError, Schedulers.boundedElastic(),
+                ServiceBusClientBuilder.this::onClientClose);
+        }
+    }
 }
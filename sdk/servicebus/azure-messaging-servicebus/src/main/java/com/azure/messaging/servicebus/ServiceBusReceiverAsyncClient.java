@@ -17,6 +17,7 @@ import com.azure.core.util.CoreUtils;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.servicebus.implementation.DispositionStatus;
 import com.azure.messaging.servicebus.implementation.MessageLockContainer;
+import com.azure.messaging.servicebus.implementation.MessageLockRenewer;
 import com.azure.messaging.servicebus.implementation.MessagingEntityType;
 import com.azure.messaging.servicebus.implementation.ServiceBusAsyncConsumer;
 import com.azure.messaging.servicebus.implementation.ServiceBusConnectionProcessor;
@@ -30,6 +31,8 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -66,6 +69,7 @@ import static com.azure.messaging.servicebus.implementation.Messages.INVALID_OPE
 @ServiceClient(builder = ServiceBusClientBuilder.class, isAsync = true)
 public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
     private static final DeadLetterOptions DEFAULT_DEAD_LETTER_OPTIONS = new DeadLetterOptions();
+    private static final Duration LOCK_RENEWAL_POLL_INTERVAL = Duration.ofSeconds(1);
 
     private final AtomicBoolean isDisposed = new AtomicBoolean();
     private final ClientLogger logger = new ClientLogger(ServiceBusReceiverAsyncClient.class);
@@ -78,6 +82,7 @@ public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
     private final int prefetch;
     private final ReceiveMode receiveMode;
     private final MessageLockContainer managementNodeLocks;
+    private final MessageLockRenewer lockRenewer;
     private final ReceiveAsyncOptions defaultReceiveOptions;
     private final Runnable onClientClose;
     private final String sessionId;
@@ -117,6 +122,7 @@ public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
         this.onClientClose = onClientClose;
         this.linkName = StringUtil.getRandomString(entityPath);
         this.managementNodeLocks = new MessageLockContainer(cleanupInterval);
+        this.lockRenewer = new MessageLockRenewer(this::renewMessageLocks, LOCK_RENEWAL_POLL_INTERVAL);
         this.defaultReceiveOptions = new ReceiveAsyncOptions()
             .setEnableAutoComplete(true)
             .setMaxAutoRenewDuration(connectionProcessor.getRetryOptions().getTryTimeout());
@@ -265,6 +271,84 @@ public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
             deadLetterOptions.getDeadLetterErrorDescription(), deadLetterOptions.getPropertiesToModify());
     }
 
+    /**
+     * Abandons several {@link ServiceBusReceivedMessage messages} with their lock tokens. This will make the messages
+     * available again for processing. The messages received from the same link are abandoned together, rather than
+     * one at a time.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     *
+     * @return A {@link Mono} that completes when the Service Bus operation finishes for all the messages.
+     * @throws NullPointerException if {@code lockTokens} or any of its lock tokens is null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     */
+    public Mono<Void> abandonBatch(Iterable<? extends MessageLockToken> lockTokens) {
+        return updateDisposition(lockTokens, DispositionStatus.ABANDONED, null, null, null);
+    }
+
+    /**
+     * Completes several {@link ServiceBusReceivedMessage messages} using their lock tokens. This will delete the
+     * messages from the service. The messages received from the same link are completed together, rather than one at a
+     * time.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     *
+     * @return A {@link Mono} that completes when the Service Bus operation finishes for all the messages.
+     * @throws NullPointerException if {@code lockTokens} or any of its lock tokens is null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     */
+    public Mono<Void> completeBatch(Iterable<? extends MessageLockToken> lockTokens) {
+        return updateDisposition(lockTokens, DispositionStatus.COMPLETED, null, null, null);
+    }
+
+    /**
+     * Defers several {@link ServiceBusReceivedMessage messages} using their lock tokens. This will move the messages
+     * into the deferred subqueue. The messages received from the same link are deferred together, rather than one at a
+     * time.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     *
+     * @return A {@link Mono} that completes when the Service Bus operation finishes for all the messages.
+     * @throws NullPointerException if {@code lockTokens} or any of its lock tokens is null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     * @see <a href="https://docs.microsoft.com/azure/service-bus-messaging/message-deferral">Message deferral</a>
+     */
+    public Mono<Void> deferBatch(Iterable<? extends MessageLockToken> lockTokens) {
+        return updateDisposition(lockTokens, DispositionStatus.DEFERRED, null, null, null);
+    }
+
+    /**
+     * Moves several {@link ServiceBusReceivedMessage messages} to the deadletter sub-queue. The messages received from
+     * the same link are moved together, rather than one at a time.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     * @param deadLetterOptions The options to specify when moving the messages to the deadletter sub-queue.
+     *
+     * @return A {@link Mono} that completes when the Service Bus operation finishes for all the messages.
+     * @throws NullPointerException if {@code lockTokens}, any of its lock tokens, or {@code deadLetterOptions} is
+     *     null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     * @see <a href="https://docs.microsoft.com/azure/service-bus-messaging/service-bus-dead-letter-queues">Dead letter
+     *     queues</a>
+     */
+    public Mono<Void> deadLetterBatch(Iterable<? extends MessageLockToken> lockTokens,
+        DeadLetterOptions deadLetterOptions) {
+        if (Objects.isNull(deadLetterOptions)) {
+            return monoError(logger, new NullPointerException("'deadLetterOptions' cannot be null."));
+        }
+
+        return updateDisposition(lockTokens, DispositionStatus.SUSPENDED, deadLetterOptions.getDeadLetterReason(),
+            deadLetterOptions.getDeadLetterErrorDescription(), deadLetterOptions.getPropertiesToModify());
+    }
+
     /**
      * Gets the state of a session given its identifier.
      *
@@ -578,9 +662,52 @@ public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
             disposed.close();
         }
 
+        lockRenewer.close();
         onClientClose.run();
     }
 
+    /**
+     * Renews the locks of several messages in a single request. Used to auto-renew the locks of the messages being
+     * processed.
+     *
+     * @param lockTokens Lock tokens of the messages to renew.
+     *
+     * @return The new expiration time of each message, in the order of {@code lockTokens}.
+     */
+    private Mono<List<Instant>> renewMessageLocks(List<MessageLockToken> lockTokens) {
+        if (isDisposed.get()) {
+            return monoError(logger, new IllegalStateException(
+                String.format(INVALID_OPERATION_DISPOSED_RECEIVER, "renewMessageLock")));
+        } else if (isSessionReceiver) {
+            return monoError(logger, new IllegalStateException("Cannot renew message locks for a session receiver."));
+        }
+
+        final List<UUID> lockTokenUuids = new ArrayList<>(lockTokens.size());
+        try {
+            for (MessageLockToken lockToken : lockTokens) {
+                lockTokenUuids.add(UUID.fromString(lockToken.getLockToken()));
+            }
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            return monoError(logger, ex);
+        }
+
+        return connectionProcessor
+            .flatMap(connection -> connection.getManagementNode(entityPath, entityType, sessionId))
+            .flatMap(serviceBusManagementNode -> serviceBusManagementNode.renewMessageLockBatch(lockTokenUuids))
+            .map(instants -> {
+                for (int i = 0; i < instants.size() && i < lockTokens.size(); i++) {
+                    final MessageLockToken lockToken = lockTokens.get(i);
+                    if (lockToken instanceof ServiceBusReceivedMessage) {
+                        ((ServiceBusReceivedMessage) lockToken).setLockedUntil(instants.get(i));
+                    }
+
+                    managementNodeLocks.addOrUpdate(lockToken.getLockToken(), instants.get(i));
+                }
+
+                return instants;
+            });
+    }
+
     /**
      * Gets whether or not the management node contains the message lock token and it has not expired. Lock tokens are
      * held by the management node when they are received from the management node or management operations are
@@ -640,6 +767,62 @@ public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
         }
     }
 
+    private Mono<Void> updateDisposition(Iterable<? extends MessageLockToken> messages,
+        DispositionStatus dispositionStatus, String deadLetterReason, String deadLetterErrorDescription,
+        Map<String, Object> propertiesToModify) {
+
+        if (isDisposed.get()) {
+            return monoError(logger, new IllegalStateException(
+                String.format(INVALID_OPERATION_DISPOSED_RECEIVER, dispositionStatus.getValue())));
+        } else if (Objects.isNull(messages)) {
+            return monoError(logger, new NullPointerException("'lockTokens' cannot be null."));
+        }
+
+        if (receiveMode != ReceiveMode.PEEK_LOCK) {
+            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format(
+                "'%s' is not supported on a receiver opened in ReceiveMode.RECEIVE_AND_DELETE.", dispositionStatus))));
+        }
+
+        // Lock tokens held by the management node are settled through it, the others on the receive link.
+        final ServiceBusAsyncConsumer existingConsumer = consumer.get();
+        final List<String> managementLockTokens = new ArrayList<>();
+        final List<String> linkLockTokens = new ArrayList<>();
+        for (MessageLockToken message : messages) {
+            if (Objects.isNull(message) || Objects.isNull(message.getLockToken())) {
+                return monoError(logger, new NullPointerException("'lockTokens' cannot contain a null lock token."));
+            } else if (message.getLockToken().isEmpty()) {
+                return monoError(logger, new IllegalArgumentException("'lockTokens' cannot contain an empty lock "
+                    + "token."));
+            }
+
+            final String lockToken = message.getLockToken();
+            if (isManagementToken(lockToken) || existingConsumer == null) {
+                managementLockTokens.add(lockToken);
+            } else {
+                linkLockTokens.add(lockToken);
+            }
+        }
+
+        logger.info("{}: Update started. Disposition: {}. Locks: {}.", entityPath, dispositionStatus,
+            managementLockTokens.size() + linkLockTokens.size());
+
+        final Mono<Void> managementUpdate = managementLockTokens.isEmpty()
+            ? Mono.empty()
+            : connectionProcessor
+                .flatMap(connection -> connection.getManagementNode(entityPath, entityType, sessionId))
+                .flatMap(node -> node.updateDispositionBatch(managementLockTokens, dispositionStatus, deadLetterReason,
+                    deadLetterErrorDescription, propertiesToModify))
+                .then(Mono.fromRunnable(() -> managementLockTokens.forEach(managementNodeLocks::remove)));
+        final Mono<Void> linkUpdate = linkLockTokens.isEmpty()
+            ? Mono.empty()
+            : existingConsumer.updateDispositionBatch(linkLockTokens, dispositionStatus, deadLetterReason,
+                deadLetterErrorDescription, propertiesToModify);
+
+        return Mono.when(managementUpdate, linkUpdate)
+            .then(Mono.fromRunnable(() -> logger.info("{}: Update completed. Disposition: {}. Locks: {}.",
+                entityPath, dispositionStatus, managementLockTokens.size() + linkLockTokens.size())));
+    }
+
     private synchronized ServiceBusAsyncConsumer getOrCreateConsumer(ReceiveAsyncOptions options) {
         final ServiceBusAsyncConsumer existing = consumer.get();
         if (existing != null) {
@@ -668,7 +851,7 @@ public final class ServiceBusReceiverAsyncClient implements AutoCloseable {
 
         final ServiceBusAsyncConsumer newConsumer = new ServiceBusAsyncConsumer(linkMessageProcessor, messageSerializer,
             options.isEnableAutoComplete(), isAutoLockRenewal, options.getMaxAutoRenewDuration(),
-            connectionProcessor.getRetryOptions(), this::complete, this::abandon, this::renewMessageLock);
+            connectionProcessor.getRetryOptions(), this::complete, this::abandon, lockRenewer);
 
         consumer.set(newConsumer);
 
@@ -178,6 +178,68 @@ public class ServiceBusReceiverClient implements AutoCloseable {
         asyncClient.deadLetter(lockToken, deadLetterOptions).block(operationTimeout);
     }
 
+    /**
+     * Abandons several {@link ServiceBusReceivedMessage messages} with their lock tokens. This will make the messages
+     * available again for processing.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     *
+     * @throws NullPointerException if {@code lockTokens} or any of its lock tokens is null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     */
+    public void abandonBatch(Iterable<? extends MessageLockToken> lockTokens) {
+        asyncClient.abandonBatch(lockTokens).block(operationTimeout);
+    }
+
+    /**
+     * Completes several {@link ServiceBusReceivedMessage messages} using their lock tokens. This will delete the
+     * messages from the service.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     *
+     * @throws NullPointerException if {@code lockTokens} or any of its lock tokens is null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     */
+    public void completeBatch(Iterable<? extends MessageLockToken> lockTokens) {
+        asyncClient.completeBatch(lockTokens).block(operationTimeout);
+    }
+
+    /**
+     * Defers several {@link ServiceBusReceivedMessage messages} using their lock tokens. This will move the messages
+     * into the deferred subqueue.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     *
+     * @throws NullPointerException if {@code lockTokens} or any of its lock tokens is null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     * @see <a href="https://docs.microsoft.com/azure/service-bus-messaging/message-deferral">Message deferral</a>
+     */
+    public void deferBatch(Iterable<? extends MessageLockToken> lockTokens) {
+        asyncClient.deferBatch(lockTokens).block(operationTimeout);
+    }
+
+    /**
+     * Moves several {@link ServiceBusReceivedMessage messages} to the deadletter sub-queue.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     * @param deadLetterOptions The options to specify when moving the messages to the deadletter sub-queue.
+     *
+     * @throws NullPointerException if {@code lockTokens}, any of its lock tokens, or {@code deadLetterOptions} is
+     *     null.
+     * @throws UnsupportedOperationException if the receiver was opened in {@link ReceiveMode#RECEIVE_AND_DELETE}
+     *     mode.
+     * @throws IllegalArgumentException if any {@link MessageLockToken#getLockToken()} is empty.
+     */
+    public void deadLetterBatch(Iterable<? extends MessageLockToken> lockTokens, DeadLetterOptions deadLetterOptions) {
+        asyncClient.deadLetterBatch(lockTokens, deadLetterOptions).block(operationTimeout);
+    }
+
     /**
      * Gets the state of a session given its identifier.
      *
@@ -0,0 +1,295 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.servicebus;
+
+import com.azure.core.amqp.exception.AmqpErrorCondition;
+import com.azure.core.amqp.exception.AmqpException;
+import com.azure.core.amqp.implementation.MessageSerializer;
+import com.azure.core.annotation.ServiceClient;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.servicebus.implementation.ServiceBusReceiveLink;
+import com.azure.messaging.servicebus.models.ReceiveMode;
+import org.apache.qpid.proton.amqp.messaging.Accepted;
+import org.apache.qpid.proton.amqp.messaging.Modified;
+import org.apache.qpid.proton.amqp.transport.DeliveryState;
+import org.apache.qpid.proton.message.Message;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A processor that receives messages from many sessions of a session-enabled queue or subscription at once. It accepts
+ * the next available session whenever it is processing fewer than its maximum number of concurrent sessions. The
+ * messages of each session are processed one at a time, in the order they are received, while the messages of
+ * different sessions are processed concurrently.
+ *
+ * <p>A session that has not received a message for the {@link
+ * ServiceBusClientBuilder.ServiceBusSessionProcessorClientBuilder#sessionIdleTimeout(Duration) session idle timeout}
+ * is released, and its place is taken by the next session with messages available. Processing is non-blocking, so a
+ * processor can hold many more low-traffic sessions than it has threads.</p>
+ *
+ * <p>In {@link ReceiveMode#PEEK_LOCK} mode, a message is completed once it is processed, and abandoned if processing it
+ * fails. The lock of each session is renewed while it is held, for up to the maximum auto lock renew duration.</p>
+ *
+ * @see ServiceBusClientBuilder#sessionProcessor()
+ */
+@ServiceClient(builder = ServiceBusClientBuilder.class)
+public final class ServiceBusSessionProcessorClient implements AutoCloseable {
+    private static final Duration RENEWAL_BUFFER = Duration.ofSeconds(2);
+    private static final Duration ERROR_DELAY = Duration.ofSeconds(1);
+
+    private final ClientLogger logger = new ClientLogger(ServiceBusSessionProcessorClient.class);
+    private final AtomicBoolean isRunning = new AtomicBoolean();
+    private final AtomicReference<Disposable> subscription = new AtomicReference<>();
+    private final AtomicInteger activeSessionCount = new AtomicInteger();
+    private final String entityPath;
+    private final Mono<ServiceBusReceiveLink> nextSession;
+    private final Function<String, Mono<Instant>> renewSessionLock;
+    private final MessageSerializer messageSerializer;
+    private final SessionProcessorOptions options;
+    private final Function<ServiceBusReceivedMessage, Mono<Void>> processMessage;
+    private final Consumer<Throwable> processError;
+    private final Scheduler scheduler;
+    private final Runnable onClientClose;
+
+    /**
+     * Creates a processor of the sessions of a Service Bus resource.
+     *
+     * @param entityPath The name of the queue or subscription.
+     * @param nextSession Opens a link that accepts the next available session, each time it is subscribed to.
+     * @param renewSessionLock Renews the lock of the session with the given id.
+     * @param messageSerializer Deserializes the received messages.
+     * @param options Options for processing sessions.
+     * @param processMessage Processes a message, completing when it is processed.
+     * @param processError Called with the errors that occur while processing sessions.
+     * @param scheduler Scheduler the messages are processed on.
+     * @param onClientClose Operation to run when the client closes.
+     */
+    ServiceBusSessionProcessorClient(String entityPath, Mono<ServiceBusReceiveLink> nextSession,
+        Function<String, Mono<Instant>> renewSessionLock, MessageSerializer messageSerializer,
+        SessionProcessorOptions options, Function<ServiceBusReceivedMessage, Mono<Void>> processMessage,
+        Consumer<Throwable> processError, Scheduler scheduler, Runnable onClientClose) {
+        this.entityPath = Objects.requireNonNull(entityPath, "'entityPath' cannot be null.");
+        this.nextSession = Objects.requireNonNull(nextSession, "'nextSession' cannot be null.");
+        this.renewSessionLock = Objects.requireNonNull(renewSessionLock, "'renewSessionLock' cannot be null.");
+        this.messageSerializer = Objects.requireNonNull(messageSerializer, "'messageSerializer' cannot be null.");
+        this.options = Objects.requireNonNull(options, "'options' cannot be null.");
+        this.processMessage = Objects.requireNonNull(processMessage, "'processMessage' cannot be null.");
+        this.processError = Objects.requireNonNull(processError, "'processError' cannot be null.");
+        this.scheduler = Objects.requireNonNull(scheduler, "'scheduler' cannot be null.");
+        this.onClientClose = onClientClose;
+    }
+
+    /**
+     * Gets the Service Bus resource this client processes the sessions of.
+     *
+     * @return The Service Bus resource this client processes the sessions of.
+     */
+    public String getEntityPath() {
+        return entityPath;
+    }
+
+    /**
+     * Starts accepting and processing sessions. Calling this method on a running processor is a no-op.
+     */
+    public synchronized void start() {
+        if (!isRunning.compareAndSet(false, true)) {
+            logger.info("entityPath[{}]: Session processor is already running.", entityPath);
+            return;
+        }
+
+        final int maxConcurrentSessions = options.getMaxConcurrentSessions();
+        logger.info("entityPath[{}], maxConcurrentSessions[{}]: Starting session processor.", entityPath,
+            maxConcurrentSessions);
+
+        // Each slot processes one session at a time, and accepts the next one once it is released.
+        subscription.set(Flux.range(0, maxConcurrentSessions)
+            .flatMap(slot -> Mono.defer(this::processNextSession).repeat(isRunning::get), maxConcurrentSessions)
+            .subscribe());
+    }
+
+    /**
+     * Stops processing sessions, releasing the sessions held. Messages being processed are abandoned by the service
+     * once their locks expire. Calling this method on a stopped processor is a no-op.
+     */
+    public synchronized void stop() {
+        if (!isRunning.compareAndSet(true, false)) {
+            logger.info("entityPath[{}]: Session processor is already stopped.", entityPath);
+            return;
+        }
+
+        logger.info("entityPath[{}]: Stopping session processor.", entityPath);
+        final Disposable current = subscription.getAndSet(null);
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Gets whether the processor is running.
+     *
+     * @return {@code true} if the processor is running.
+     */
+    public synchronized boolean isRunning() {
+        return isRunning.get();
+    }
+
+    /**
+     * Gets the number of sessions currently held by the processor.
+     *
+     * @return The number of sessions currently held by the processor.
+     */
+    public int getActiveSessionCount() {
+        return activeSessionCount.get();
+    }
+
+    /**
+     * Stops the processor and closes its connection to the service, if no other client shares it.
+     */
+    @Override
+    public void close() {
+        stop();
+
+        if (onClientClose != null) {
+            onClientClose.run();
+        }
+    }
+
+    /**
+     * Accepts the next available session and processes it until it is released. Errors are reported and not
+     * propagated, so the slot goes on to accept another session.
+     */
+    private Mono<Void> processNextSession() {
+        return nextSession
+            .flatMap(link -> link.getSessionId()
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                    "Link accepted for the next available session has no session id. Link: " + link.getLinkName())))
+                .flatMap(sessionId -> link.getSessionLockedUntil()
+                    .flatMap(lockedUntil -> processSession(link, sessionId, lockedUntil)))
+                .doFinally(signal -> link.dispose()))
+            .onErrorResume(error -> {
+                if (error instanceof AmqpException
+                    && ((AmqpException) error).getErrorCondition() == AmqpErrorCondition.TIMEOUT_ERROR) {
+                    logger.verbose("entityPath[{}]: No session available to accept.", entityPath);
+                    return Mono.empty();
+                }
+
+                logger.warning("entityPath[{}]: Error processing session.", entityPath, error);
+                reportError(error);
+                return Mono.delay(ERROR_DELAY).then();
+            });
+    }
+
+    /**
+     * Processes the messages of an accepted session in order, until it is idle for the session idle timeout, its link
+     * closes, or its lock is lost.
+     */
+    private Mono<Void> processSession(ServiceBusReceiveLink link, String sessionId, Instant lockedUntil) {
+        final Duration idleTimeout = options.getSessionIdleTimeout();
+        logger.info("entityPath[{}], sessionId[{}], lockedUntil[{}]: Accepted session.", entityPath, sessionId,
+            lockedUntil);
+
+        // Emits true when a message starts being processed and false once it is, so the idle timer only runs between
+        // messages.
+        final Mono<Void> messages = link.receive()
+            .publishOn(scheduler)
+            .concatMap(message -> Flux.concat(Mono.just(true), processMessage(link, sessionId, message)
+                .thenReturn(false)))
+            .timeout(Mono.delay(idleTimeout),
+                isProcessing -> isProcessing ? Mono.never() : Mono.delay(idleTimeout))
+            .onErrorResume(TimeoutException.class, error -> {
+                logger.info("entityPath[{}], sessionId[{}]: Releasing idle session.", entityPath, sessionId);
+                return Mono.empty();
+            })
+            .then();
+
+        final Mono<Void> session = options.getReceiveMode() == ReceiveMode.PEEK_LOCK
+            ? messages.or(renewSessionLock(sessionId, lockedUntil).then(Mono.never()))
+            : messages;
+
+        return Mono.fromRunnable(() -> {
+            activeSessionCount.incrementAndGet();
+            link.addCredits(options.getPrefetchCount());
+        })
+            .then(session)
+            .doFinally(signal -> {
+                activeSessionCount.decrementAndGet();
+                logger.info("entityPath[{}], sessionId[{}], signal[{}]: Released session.", entityPath, sessionId,
+                    signal);
+            });
+    }
+
+    /**
+     * Processes a message, then settles it and adds a credit to the link for the next message. Errors are reported
+     * and not propagated, so the next message of the session is processed.
+     */
+    private Mono<Void> processMessage(ServiceBusReceiveLink link, String sessionId, Message amqpMessage) {
+        final ServiceBusReceivedMessage message =
+            messageSerializer.deserialize(amqpMessage, ServiceBusReceivedMessage.class);
+        final String lockToken = message.getLockToken();
+
+        return Mono.defer(() -> processMessage.apply(message))
+            .then(Mono.<DeliveryState>fromSupplier(Accepted::getInstance))
+            .onErrorResume(error -> {
+                logger.warning("entityPath[{}], sessionId[{}], lockToken[{}]: Error processing message.",
+                    entityPath, sessionId, lockToken, error);
+                reportError(error);
+                return Mono.just(new Modified());
+            })
+            .flatMap(state -> options.getReceiveMode() == ReceiveMode.PEEK_LOCK
+                ? link.updateDisposition(lockToken, state)
+                : Mono.empty())
+            .onErrorResume(error -> {
+                logger.warning("entityPath[{}], sessionId[{}], lockToken[{}]: Error settling message.",
+                    entityPath, sessionId, lockToken, error);
+                reportError(error);
+                return Mono.empty();
+            })
+            .doFinally(signal -> link.addCredits(1));
+    }
+
+    /**
+     * Renews the lock of a session shortly before it expires, until renewing it any further would exceed the maximum
+     * auto lock renew duration. Errors if a renewal fails.
+     */
+    private Mono<Void> renewSessionLock(String sessionId, Instant initialLockedUntil) {
+        final Instant maxRenewalTime = Instant.now().plus(options.getMaxAutoLockRenewDuration());
+
+        return Mono.just(initialLockedUntil)
+            .expand(lockedUntil -> {
+                final Instant renewalTime = lockedUntil.minus(RENEWAL_BUFFER);
+                if (renewalTime.isAfter(maxRenewalTime)) {
+                    logger.info("entityPath[{}], sessionId[{}]: Max renewal time reached. Not renewing lock.",
+                        entityPath, sessionId);
+                    return Mono.empty();
+                }
+
+                final Duration delay = Duration.between(Instant.now(), renewalTime);
+                return Mono.delay(delay.isNegative() ? Duration.ZERO : delay)
+                    .then(Mono.defer(() -> renewSessionLock.apply(sessionId)))
+                    .doOnNext(next -> logger.verbose("entityPath[{}], sessionId[{}], lockedUntil[{}]: Renewed lock.",
+                        entityPath, sessionId, next));
+            })
+            .then();
+    }
+
+    private void reportError(Throwable error) {
+        try {
+            processError.accept(error);
+        } catch (Exception e) {
+            logger.warning("entityPath[{}]: Error thrown by the error handler.", entityPath, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.servicebus;
+
+import com.azure.messaging.servicebus.models.ReceiveMode;
+
+import java.time.Duration;
+
+/**
+ * Options set when creating a session processor.
+ */
+class SessionProcessorOptions {
+    private final ReceiveMode receiveMode;
+    private final int prefetchCount;
+    private final int maxConcurrentSessions;
+    private final Duration sessionIdleTimeout;
+    private final Duration maxAutoLockRenewDuration;
+
+    SessionProcessorOptions(ReceiveMode receiveMode, int prefetchCount, int maxConcurrentSessions,
+        Duration sessionIdleTimeout, Duration maxAutoLockRenewDuration) {
+        this.receiveMode = receiveMode;
+        this.prefetchCount = prefetchCount;
+        this.maxConcurrentSessions = maxConcurrentSessions;
+        this.sessionIdleTimeout = sessionIdleTimeout;
+        this.maxAutoLockRenewDuration = maxAutoLockRenewDuration;
+    }
+
+    /**
+     * Gets the receive mode for the messages.
+     *
+     * @return the receive mode for the messages.
+     */
+    ReceiveMode getReceiveMode() {
+        return receiveMode;
+    }
+
+    /**
+     * Gets the number of messages prefetched on the link of each session.
+     *
+     * @return The number of messages prefetched on the link of each session.
+     */
+    int getPrefetchCount() {
+        return prefetchCount;
+    }
+
+    /**
+     * Gets the most sessions processed at once.
+     *
+     * @return The most sessions processed at once.
+     */
+    int getMaxConcurrentSessions() {
+        return maxConcurrentSessions;
+    }
+
+    /**
+     * Gets how long a session is held without receiving a message before it is released.
+     *
+     * @return How long a session is held without receiving a message before it is released.
+     */
+    Duration getSessionIdleTimeout() {
+        return sessionIdleTimeout;
+    }
+
+    /**
+     * Gets the longest time the lock of a session is renewed for.
+     *
+     * @return The longest time the lock of a session is renewed for.
+     */
+    Duration getMaxAutoLockRenewDuration() {
+        return maxAutoLockRenewDuration;
+    }
+}
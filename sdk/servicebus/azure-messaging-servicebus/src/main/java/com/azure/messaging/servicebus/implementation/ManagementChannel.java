@@ -219,12 +219,20 @@ public class ManagementChannel implements ServiceBusManagementNode {
      */
     @Override
     public Mono<Instant> renewMessageLock(UUID lockToken) {
+        return renewMessageLockBatch(Collections.singletonList(lockToken)).map(renewTimeList -> renewTimeList.get(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<List<Instant>> renewMessageLockBatch(List<UUID> lockTokens) {
         return isAuthorized(ManagementConstants.OPERATION_PEEK).then(createChannel.flatMap(channel -> {
             final Message requestMessage = createManagementMessage(ManagementConstants.OPERATION_RENEW_LOCK,
                 null);
             final Map<String, Object> requestBody = new HashMap<>();
 
-            requestBody.put(ManagementConstants.LOCK_TOKENS_KEY, new UUID[]{lockToken});
+            requestBody.put(ManagementConstants.LOCK_TOKENS_KEY, lockTokens.toArray(new UUID[0]));
 
             if (isSessionEnabled) {
                 requestBody.put(ManagementConstants.SESSION_ID, sessionId);
@@ -237,16 +245,24 @@ public class ManagementChannel implements ServiceBusManagementNode {
             final List<Instant> renewTimeList = messageSerializer.deserializeList(responseMessage, Instant.class);
             if (CoreUtils.isNullOrEmpty(renewTimeList)) {
                 throw logger.logExceptionAsError(Exceptions.propagate(new AmqpException(false, String.format(
-                    "Service bus response empty. Could not renew message with lock token: '%s'.", lockToken),
+                    "Service bus response empty. Could not renew message with lock tokens: '%s'.", lockTokens),
                     getErrorContext())));
             }
 
-            return renewTimeList.get(0);
+            return renewTimeList;
         }));
     }
 
     @Override
     public Mono<Instant> renewSessionLock() {
+        return renewSessionLock(sessionId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Instant> renewSessionLock(String sessionId) {
         return isAuthorized(ManagementConstants.OPERATION_RENEW_SESSION_LOCK).then(createChannel.flatMap(channel -> {
             final Message message = createManagementMessage(ManagementConstants.OPERATION_RENEW_SESSION_LOCK, null);
 
@@ -368,9 +384,20 @@ public class ManagementChannel implements ServiceBusManagementNode {
     public Mono<Void> updateDisposition(String lockToken, DispositionStatus dispositionStatus, String deadLetterReason,
         String deadLetterErrorDescription, Map<String, Object> propertiesToModify) {
 
-        final UUID token = UUID.fromString(lockToken);
+        return updateDispositionBatch(Collections.singletonList(lockToken), dispositionStatus, deadLetterReason,
+            deadLetterErrorDescription, propertiesToModify);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> updateDispositionBatch(List<String> lockTokens, DispositionStatus dispositionStatus,
+        String deadLetterReason, String deadLetterErrorDescription, Map<String, Object> propertiesToModify) {
+
+        final UUID[] tokens = lockTokens.stream().map(UUID::fromString).toArray(UUID[]::new);
         return isAuthorized(ManagementConstants.OPERATION_UPDATE_DISPOSITION).then(createChannel.flatMap(channel -> {
-            final Message message = createDispositionMessage(new UUID[]{token}, dispositionStatus,
+            final Message message = createDispositionMessage(tokens, dispositionStatus,
                 deadLetterReason, deadLetterErrorDescription, propertiesToModify, null);
 
             return sendWithVerify(channel, message);
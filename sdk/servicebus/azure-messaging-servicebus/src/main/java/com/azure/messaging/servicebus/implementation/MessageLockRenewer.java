@@ -0,0 +1,290 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.servicebus.implementation;
+
+import com.azure.core.amqp.exception.AmqpErrorCondition;
+import com.azure.core.amqp.exception.AmqpErrorContext;
+import com.azure.core.amqp.exception.AmqpException;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.servicebus.MessageLockToken;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Renews the locks of the messages being processed, for all the messages of a receiver at once.
+ *
+ * <p>Locks are kept in a queue ordered by the time they are next due, which is checked once every poll interval. The
+ * locks that are due are renewed together, in requests of up to {@link #MAX_LOCKS_PER_REQUEST} lock tokens, so the
+ * cost of renewing does not grow with a timer or a request for each message. Disposed renewals stay in the queue until
+ * they are due, unless they make up more than half of it, in which case they are all removed.</p>
+ */
+public class MessageLockRenewer implements AutoCloseable {
+    /**
+     * The most lock tokens renewed in a single request.
+     */
+    static final int MAX_LOCKS_PER_REQUEST = 100;
+
+    /**
+     * How long before it expires a lock is renewed, in addition to the poll interval.
+     */
+    static final Duration RENEWAL_BUFFER = Duration.ofSeconds(2);
+
+    private final ClientLogger logger = new ClientLogger(MessageLockRenewer.class);
+    private final Object lock = new Object();
+    private final AtomicBoolean isDisposed = new AtomicBoolean();
+    private final Function<List<MessageLockToken>, Mono<List<Instant>>> renewLocks;
+    private final Duration renewalBuffer;
+    private final Disposable pollOperation;
+
+    // Guarded by lock.
+    private final PriorityQueue<LockRenewal> renewals =
+        new PriorityQueue<>(Comparator.comparing(renewal -> renewal.dueTime));
+    private int disposedCount;
+
+    /**
+     * Creates a renewer that checks for the locks due every {@code pollInterval}.
+     *
+     * @param renewLocks Renews the given locks in a single request, returning the time each is locked until.
+     * @param pollInterval How often to check for locks due.
+     * @throws NullPointerException if {@code renewLocks} or {@code pollInterval} is null.
+     */
+    public MessageLockRenewer(Function<List<MessageLockToken>, Mono<List<Instant>>> renewLocks,
+        Duration pollInterval) {
+        this.renewLocks = Objects.requireNonNull(renewLocks, "'renewLocks' cannot be null.");
+        Objects.requireNonNull(pollInterval, "'pollInterval' cannot be null.");
+
+        // A lock that becomes due just after a poll is renewed on the next one, so it is renewed early by as much.
+        this.renewalBuffer = RENEWAL_BUFFER.plus(pollInterval);
+
+        this.pollOperation = Flux.interval(pollInterval).subscribe(i -> renewDueLocks());
+    }
+
+    /**
+     * Starts renewing the lock of a message until the returned {@link Disposable} is disposed. If the message is still
+     * locked after {@code maxRenewDuration}, {@code onError} is called with a timeout error and the lock is no longer
+     * renewed. If renewing the lock fails, {@code onError} is called with the error.
+     *
+     * @param lockToken The message to renew the lock of.
+     * @param lockedUntil When the lock currently expires.
+     * @param maxRenewDuration The longest time to renew the lock for.
+     * @param errorContext Context for the timeout error.
+     * @param onError Called at most once if the lock is not renewed.
+     * @return A {@link Disposable} that stops renewing the lock.
+     * @throws IllegalStateException if the renewer is closed.
+     */
+    public Disposable renew(MessageLockToken lockToken, Instant lockedUntil, Duration maxRenewDuration,
+        AmqpErrorContext errorContext, Consumer<Throwable> onError) {
+        if (isDisposed.get()) {
+            throw logger.logExceptionAsError(new IllegalStateException("Cannot renew locks with a closed renewer."));
+        }
+
+        final LockRenewal renewal = new LockRenewal(lockToken, Instant.now().plus(maxRenewDuration), errorContext,
+            onError);
+        renewal.setLockedUntil(lockedUntil, renewalBuffer);
+
+        synchronized (lock) {
+            enqueue(renewal);
+        }
+
+        logger.verbose("lockToken[{}]. lockedUntil[{}]. Renewing lock.", lockToken.getLockToken(), lockedUntil);
+        return renewal;
+    }
+
+    /**
+     * Gets the number of locks being renewed.
+     *
+     * @return The number of locks being renewed.
+     */
+    public int getRenewalCount() {
+        synchronized (lock) {
+            return renewals.size() - disposedCount;
+        }
+    }
+
+    /**
+     * Gets the number of renewals in the queue, including the disposed renewals not removed from it yet.
+     *
+     * @return The number of renewals in the queue.
+     */
+    int getQueuedRenewalCount() {
+        synchronized (lock) {
+            return renewals.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (isDisposed.getAndSet(true)) {
+            return;
+        }
+
+        pollOperation.dispose();
+        synchronized (lock) {
+            renewals.clear();
+            disposedCount = 0;
+        }
+    }
+
+    /**
+     * Renews the locks that are due, and fails those renewed for longer than their maximum renewal duration.
+     */
+    void renewDueLocks() {
+        final Instant now = Instant.now();
+        final List<LockRenewal> due = new ArrayList<>();
+        final List<LockRenewal> expired = new ArrayList<>();
+        synchronized (lock) {
+            while (!renewals.isEmpty() && !renewals.peek().dueTime.isAfter(now)) {
+                final LockRenewal renewal = renewals.poll();
+                renewal.isQueued = false;
+                if (renewal.isDisposed()) {
+                    disposedCount--;
+                    continue;
+                }
+
+                if (renewal.expirationTime.isAfter(now)) {
+                    due.add(renewal);
+                } else {
+                    expired.add(renewal);
+                }
+            }
+        }
+
+        expired.forEach(renewal -> renewal.fail(new AmqpException(true, AmqpErrorCondition.TIMEOUT_ERROR,
+            "Could not complete within renewal time. Lock token: " + renewal.lockToken.getLockToken(),
+            renewal.errorContext)));
+
+        for (int i = 0; i < due.size(); i += MAX_LOCKS_PER_REQUEST) {
+            renewBatch(due.subList(i, Math.min(i + MAX_LOCKS_PER_REQUEST, due.size())));
+        }
+    }
+
+    private void renewBatch(List<LockRenewal> batch) {
+        final List<MessageLockToken> lockTokens = batch.stream()
+            .map(renewal -> renewal.lockToken)
+            .collect(Collectors.toList());
+
+        logger.verbose("count[{}]. Renewing locks that are due.", lockTokens.size());
+        renewLocks.apply(lockTokens).subscribe(lockedUntils -> onRenewed(batch, lockedUntils), error -> {
+            logger.warning("count[{}]. Could not renew locks.", lockTokens.size(), error);
+            batch.forEach(renewal -> renewal.fail(error));
+        });
+    }
+
+    private void onRenewed(List<LockRenewal> batch, List<Instant> lockedUntils) {
+        if (lockedUntils.size() != batch.size()) {
+            final IllegalStateException error = new IllegalStateException(String.format(Locale.US,
+                "Renewed %d locks, but the service returned %d expiration times.", batch.size(), lockedUntils.size()));
+            batch.forEach(renewal -> renewal.fail(error));
+            return;
+        }
+
+        synchronized (lock) {
+            for (int i = 0; i < batch.size(); i++) {
+                final LockRenewal renewal = batch.get(i);
+                if (!renewal.isDisposed() && !isDisposed.get()) {
+                    renewal.setLockedUntil(lockedUntils.get(i), renewalBuffer);
+                    enqueue(renewal);
+                }
+            }
+        }
+    }
+
+    /*
+     * Must be called holding the lock.
+     */
+    private void enqueue(LockRenewal renewal) {
+        renewals.add(renewal);
+        renewal.isQueued = true;
+    }
+
+    /*
+     * Disposes a renewal, counting it if it is in the queue, and removes all the disposed renewals once they make up
+     * more than half of the queue, so that settled messages don't keep it growing until their locks are due. Disposed
+     * under the lock, so a renewal polled from the queue is counted if and only if it was disposed there.
+     */
+    private void disposeRenewal(LockRenewal renewal) {
+        synchronized (lock) {
+            if (renewal.isDisposed.getAndSet(true) || !renewal.isQueued) {
+                return;
+            }
+
+            disposedCount++;
+            if (disposedCount * 2 > renewals.size()) {
+                renewals.removeIf(queued -> {
+                    if (!queued.isDisposed()) {
+                        return false;
+                    }
+
+                    queued.isQueued = false;
+                    return true;
+                });
+                disposedCount = 0;
+            }
+        }
+    }
+
+    /**
+     * The lock of a message being renewed.
+     */
+    private final class LockRenewal implements Disposable {
+        private final AtomicBoolean isDisposed = new AtomicBoolean();
+        private final MessageLockToken lockToken;
+        private final Instant expirationTime;
+        private final AmqpErrorContext errorContext;
+        private final Consumer<Throwable> onError;
+
+        // Only changed while the renewal is out of the queue.
+        private Instant dueTime;
+
+        // Guarded by the renewer's lock.
+        private boolean isQueued;
+
+        private LockRenewal(MessageLockToken lockToken, Instant expirationTime, AmqpErrorContext errorContext,
+            Consumer<Throwable> onError) {
+            this.lockToken = lockToken;
+            this.expirationTime = expirationTime;
+            this.errorContext = errorContext;
+            this.onError = onError;
+        }
+
+        /**
+         * The lock is next due to be renewed shortly before it expires, or once renewing it for any longer would exceed
+         * its maximum renewal duration.
+         */
+        private void setLockedUntil(Instant lockedUntil, Duration renewalBuffer) {
+            final Instant renewalTime = lockedUntil.minus(renewalBuffer);
+            dueTime = renewalTime.isBefore(expirationTime) ? renewalTime : expirationTime;
+        }
+
+        private void fail(Throwable error) {
+            if (!isDisposed.getAndSet(true)) {
+                onError.accept(error);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposeRenewal(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return isDisposed.get();
+        }
+    }
+}
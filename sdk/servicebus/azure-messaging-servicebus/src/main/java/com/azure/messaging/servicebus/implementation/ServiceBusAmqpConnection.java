@@ -75,4 +75,20 @@ public interface ServiceBusAmqpConnection extends AmqpConnection {
      */
     Mono<AmqpReceiveLink> createReceiveLink(String linkName, String entityPath, ReceiveMode receiveMode,
         String transferEntityPath, MessagingEntityType entityType, String sessionId);
+
+    /**
+     * Creates a receive link that exclusively receives the messages of a session. If {@code sessionId} is {@code
+     * null}, the link accepts the next available session, whose id is resolved by {@link
+     * ServiceBusReceiveLink#getSessionId()} once the link is open.
+     *
+     * @param linkName The name of the link.
+     * @param entityPath The remote address to connect to for the message broker.
+     * @param receiveMode {@link ReceiveMode} to use when creating the link.
+     * @param entityType {@link MessagingEntityType} to use when creating the link.
+     * @param sessionId The session to receive messages from, or {@code null} for the next available session.
+     *
+     * @return A new or existing receive link for the session.
+     */
+    Mono<ServiceBusReceiveLink> createSessionReceiveLink(String linkName, String entityPath, ReceiveMode receiveMode,
+        MessagingEntityType entityType, String sessionId);
 }
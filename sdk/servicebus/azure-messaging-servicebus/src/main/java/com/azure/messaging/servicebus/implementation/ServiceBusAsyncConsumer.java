@@ -20,8 +20,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -43,15 +43,14 @@ public class ServiceBusAsyncConsumer implements AutoCloseable {
         MessageSerializer messageSerializer, boolean isAutoComplete, boolean autoLockRenewal,
         Duration maxAutoLockRenewDuration, AmqpRetryOptions retryOptions,
         Function<MessageLockToken, Mono<Void>> onComplete,
-        Function<MessageLockToken, Mono<Void>> onAbandon,
-        Function<MessageLockToken, Mono<Instant>> onRenewLock) {
+        Function<MessageLockToken, Mono<Void>> onAbandon, MessageLockRenewer lockRenewer) {
         this.amqpReceiveLinkProcessor = amqpReceiveLinkProcessor;
         this.messageSerializer = messageSerializer;
 
         this.processor = amqpReceiveLinkProcessor
             .map(message -> this.messageSerializer.deserialize(message, ServiceBusReceivedMessage.class))
             .subscribeWith(new ServiceBusMessageProcessor(isAutoComplete, autoLockRenewal, maxAutoLockRenewDuration,
-                retryOptions, amqpReceiveLinkProcessor.getErrorContext(), onComplete, onAbandon, onRenewLock));
+                retryOptions, amqpReceiveLinkProcessor.getErrorContext(), onComplete, onAbandon, lockRenewer));
     }
 
     /**
@@ -76,7 +75,38 @@ public class ServiceBusAsyncConsumer implements AutoCloseable {
 
     public Mono<Void> updateDisposition(String lockToken, DispositionStatus dispositionStatus, String deadLetterReason,
         String deadLetterErrorDescription, Map<String, Object> propertiesToModify) {
+        final DeliveryState state = getDeliveryState(dispositionStatus, deadLetterReason, deadLetterErrorDescription,
+            propertiesToModify);
+        if (state == null) {
+            return Mono.error(new IllegalArgumentException("Unknown disposition status: " + dispositionStatus));
+        }
+
+        return amqpReceiveLinkProcessor.updateDisposition(lockToken, state);
+    }
 
+    /**
+     * Updates the disposition of the messages with the given lock tokens. The dispositions are sent together.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     * @param dispositionStatus Disposition to update the messages to.
+     * @param deadLetterReason Reason the messages are dead-lettered, if they are.
+     * @param deadLetterErrorDescription Description of the error the messages are dead-lettered for, if they are.
+     * @param propertiesToModify Properties to modify on the messages.
+     * @return A Mono that completes when the service acknowledges all the dispositions.
+     */
+    public Mono<Void> updateDispositionBatch(List<String> lockTokens, DispositionStatus dispositionStatus,
+        String deadLetterReason, String deadLetterErrorDescription, Map<String, Object> propertiesToModify) {
+        final DeliveryState state = getDeliveryState(dispositionStatus, deadLetterReason, deadLetterErrorDescription,
+            propertiesToModify);
+        if (state == null) {
+            return Mono.error(new IllegalArgumentException("Unknown disposition status: " + dispositionStatus));
+        }
+
+        return amqpReceiveLinkProcessor.updateDispositionBatch(lockTokens, state);
+    }
+
+    private static DeliveryState getDeliveryState(DispositionStatus dispositionStatus, String deadLetterReason,
+        String deadLetterErrorDescription, Map<String, Object> propertiesToModify) {
         final DeliveryState state;
         switch (dispositionStatus) {
             case COMPLETED:
@@ -118,9 +148,9 @@ public class ServiceBusAsyncConsumer implements AutoCloseable {
                 state = deferredOutcome;
                 break;
             default:
-                return Mono.error(new IllegalArgumentException("Unknown disposition status: " + dispositionStatus));
+                return null;
         }
 
-        return amqpReceiveLinkProcessor.updateDisposition(lockToken, state);
+        return state;
     }
 }
@@ -10,6 +10,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -98,6 +99,14 @@ public interface ServiceBusManagementNode extends AutoCloseable {
      */
     Mono<Instant> renewMessageLock(UUID messageLock);
 
+    /**
+     * Renews the locks on several messages given their lock tokens, in a single request.
+     *
+     * @param messageLocks The lock tokens of the messages to be renewed.
+     * @return The time each message is locked until, in the order of {@code messageLocks}.
+     */
+    Mono<List<Instant>> renewMessageLockBatch(List<UUID> messageLocks);
+
     /**
      * Renews the lock on the session.
      *
@@ -105,6 +114,15 @@ public interface ServiceBusManagementNode extends AutoCloseable {
      */
     Mono<Instant> renewSessionLock();
 
+    /**
+     * Renews the lock on a session held by another link, such as one of the sessions accepted by a session processor.
+     *
+     * @param sessionId Identifier of the session to renew the lock of.
+     *
+     * @return The next expiration time for the session.
+     */
+    Mono<Instant> renewSessionLock(String sessionId);
+
     /**
      * Sends a scheduled message to the Azure Service Bus entity this sender is connected to. A scheduled message is
      * enqueued and made available to receivers only at the scheduled enqueue time. This is an asynchronous method
@@ -137,6 +155,14 @@ public interface ServiceBusManagementNode extends AutoCloseable {
     Mono<Void> updateDisposition(String lockToken, DispositionStatus dispositionStatus, String deadLetterReason,
         String deadLetterErrorDescription, Map<String, Object> propertiesToModify);
 
+    /**
+     * Updates the disposition status of several messages given their lock tokens, in a single request.
+     *
+     * @return Mono that completes successfully when the messages are updated. Otherwise, returns an error.
+     */
+    Mono<Void> updateDispositionBatch(List<String> lockTokens, DispositionStatus dispositionStatus,
+        String deadLetterReason, String deadLetterErrorDescription, Map<String, Object> propertiesToModify);
+
     @Override
     void close();
 }
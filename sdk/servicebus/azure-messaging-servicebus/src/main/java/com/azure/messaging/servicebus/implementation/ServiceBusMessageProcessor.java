@@ -3,9 +3,7 @@
 package com.azure.messaging.servicebus.implementation;
 
 import com.azure.core.amqp.AmqpRetryOptions;
-import com.azure.core.amqp.exception.AmqpErrorCondition;
 import com.azure.core.amqp.exception.AmqpErrorContext;
-import com.azure.core.amqp.exception.AmqpException;
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.servicebus.MessageLockToken;
@@ -15,10 +13,7 @@ import reactor.core.CoreSubscriber;
 import reactor.core.Disposable;
 import reactor.core.Disposables;
 import reactor.core.Exceptions;
-import reactor.core.publisher.EmitterProcessor;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxProcessor;
-import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Operators;
 import reactor.util.context.Context;
@@ -45,7 +40,7 @@ class ServiceBusMessageProcessor extends FluxProcessor<ServiceBusReceivedMessage
     private final AmqpErrorContext errorContext;
     private final Function<MessageLockToken, Mono<Void>> completeFunction;
     private final Function<MessageLockToken, Mono<Void>> onAbandon;
-    private final Function<MessageLockToken, Mono<Instant>> onRenewLock;
+    private final MessageLockRenewer lockRenewer;
     private final Deque<ServiceBusReceivedMessage> messageQueue = new ConcurrentLinkedDeque<>();
     private final boolean isAutoRenewLock;
     private final Duration maxAutoLockRenewal;
@@ -53,8 +48,7 @@ class ServiceBusMessageProcessor extends FluxProcessor<ServiceBusReceivedMessage
     ServiceBusMessageProcessor(boolean isAutoComplete, boolean isAutoRenewLock, Duration maxAutoLockRenewal,
         AmqpRetryOptions retryOptions, AmqpErrorContext errorContext,
         Function<MessageLockToken, Mono<Void>> onComplete,
-        Function<MessageLockToken, Mono<Void>> onAbandon,
-        Function<MessageLockToken, Mono<Instant>> onRenewLock) {
+        Function<MessageLockToken, Mono<Void>> onAbandon, MessageLockRenewer lockRenewer) {
 
         super();
 
@@ -62,7 +56,7 @@ class ServiceBusMessageProcessor extends FluxProcessor<ServiceBusReceivedMessage
         this.errorContext = Objects.requireNonNull(errorContext, "'errorContext' cannot be null.");
         this.completeFunction = Objects.requireNonNull(onComplete, "'onComplete' cannot be null.");
         this.onAbandon = Objects.requireNonNull(onAbandon, "'onAbandon' cannot be null.");
-        this.onRenewLock = Objects.requireNonNull(onRenewLock, "'onRenewLock' cannot be null.");
+        this.lockRenewer = Objects.requireNonNull(lockRenewer, "'lockRenewer' cannot be null.");
 
         this.isAutoComplete = isAutoComplete;
         this.isAutoRenewLock = isAutoRenewLock;
@@ -387,63 +381,14 @@ class ServiceBusMessageProcessor extends FluxProcessor<ServiceBusReceivedMessage
                 "Cannot renew lock token without a value for 'message.getLockedUntil()'"));
         }
 
-        final Instant now = Instant.now();
-        Duration initialInterval = Duration.between(now, initialLockedUntil);
-        if (initialInterval.isNegative()) {
-            logger.info("Duration was negative. now[{}] lockedUntil[{}]", now, initialLockedUntil);
-            initialInterval = Duration.ZERO;
-        } else {
-            final Duration adjusted = MessageUtils.adjustServerTimeout(initialInterval);
-            if (adjusted.isNegative()) {
-                logger.info("Adjusted duration is negative. Adjusted: {}ms", initialInterval.toMillis());
-            } else {
-                initialInterval = adjusted;
-            }
-        }
+        logger.info("lockToken[{}]. lockedUntil[{}]. Renewing lock.", lockToken, initialLockedUntil);
 
-        logger.info("lockToken[{}]. lockedUntil[{}]. firstInterval[{}].", lockToken, initialLockedUntil,
-            initialInterval);
-
-        final EmitterProcessor<Duration> emitterProcessor = EmitterProcessor.create();
-        final FluxSink<Duration> sink = emitterProcessor.sink(FluxSink.OverflowStrategy.BUFFER);
-
-        // Adjust the interval, so we can buffer time for the time it'll take to refresh.
-        sink.next(MessageUtils.adjustServerTimeout(initialInterval));
-
-        final Disposable timeoutOperation = Mono.delay(maxAutoLockRenewal)
-            .subscribe(l -> {
-                if (!sink.isCancelled()) {
-                    sink.error(new AmqpException(true, AmqpErrorCondition.TIMEOUT_ERROR,
-                        "Could not complete within renewal time. Max renewal time: " + maxAutoLockRenewal,
-                        errorContext));
-                }
-            });
-
-        final Disposable renewLockSubscription = Flux.switchOnNext(emitterProcessor.map(i -> Flux.interval(i)))
-            .flatMap(delay -> {
-                logger.info("lockToken[{}]. now[{}]. Starting lock renewal.", lockToken, Instant.now());
-                return onRenewLock.apply(message);
-            })
-            .map(instant -> {
-                final Duration next = Duration.between(Instant.now(), instant);
-                logger.info("lockToken[{}]. nextExpiration[{}]. Next renewal: [{}]",
-                    lockToken, instant, next);
-
-                sink.next(MessageUtils.adjustServerTimeout(next));
-                return instant;
-            })
-            .subscribe(lockedUntil -> {
-                logger.verbose("lockToken[{}]. lockedUntil[{}]. Lock renewal successful.",
-                    sequenceNumber, lockToken, lockedUntil);
-            },
-                error -> {
-                    logger.error("Error occurred while renewing lock token.", error);
-                    hasError.set(true);
-                    setInternalError(error);
-                },
-                () -> logger.info("Renewing lock token task completed."));
-
-        return Disposables.composite(renewLockSubscription, timeoutOperation);
+        return lockRenewer.renew(message, initialLockedUntil, maxAutoLockRenewal, errorContext, error -> {
+            logger.error("sequenceNumber[{}]. lockToken[{}]. Error occurred while renewing lock token.",
+                sequenceNumber, lockToken, error);
+            hasError.set(true);
+            setInternalError(error);
+        });
     }
 
     private void setInternalError(Throwable error) {
@@ -203,9 +203,39 @@ public class ServiceBusReactorAmqpConnection extends ReactorConnection implement
                 logger.verbose("Get or create consumer for path: '{}'", entityPath);
                 final AmqpRetryPolicy retryPolicy = RetryUtil.getRetryPolicy(retryOptions);
 
+                return CoreUtils.isNullOrEmpty(sessionId)
+                    ? session.createConsumer(linkName, entityPath, entityType, retryOptions.getTryTimeout(),
+                        retryPolicy, receiveMode)
+                    : session.createConsumer(linkName, entityPath, entityType, retryOptions.getTryTimeout(),
+                        retryPolicy, receiveMode, sessionId);
+            });
+    }
+
+    /**
+     * Creates a receive link that exclusively receives the messages of a session, or of the next available session if
+     * {@code sessionId} is {@code null}.
+     *
+     * @param linkName The name of the link.
+     * @param entityPath The remote address to connect to for the message broker.
+     * @param receiveMode Consumer options to use when creating the link.
+     * @param entityType {@link MessagingEntityType} to use when creating the link.
+     * @param sessionId The session to receive messages from, or {@code null} for the next available session.
+     *
+     * @return A new or existing receive link for the session.
+     */
+    @Override
+    public Mono<ServiceBusReceiveLink> createSessionReceiveLink(String linkName, String entityPath,
+        ReceiveMode receiveMode, MessagingEntityType entityType, String sessionId) {
+        return createSession(entityPath).cast(ServiceBusSession.class)
+            .flatMap(session -> {
+                logger.verbose("Get or create session consumer for path: '{}'. sessionId: '{}'", entityPath,
+                    sessionId);
+                final AmqpRetryPolicy retryPolicy = RetryUtil.getRetryPolicy(retryOptions);
+
                 return session.createConsumer(linkName, entityPath, entityType, retryOptions.getTryTimeout(),
                     retryPolicy, receiveMode, sessionId);
-            });
+            })
+            .cast(ServiceBusReceiveLink.class);
     }
 
     @Override
@@ -35,6 +35,8 @@ import reactor.core.publisher.MonoSink;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -157,6 +159,14 @@ public class ServiceBusReactorReceiver extends ReactorReceiver implements Servic
             .cache(value -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
     }
 
+    /**
+     * Updates the disposition of the delivery with the given lock token.
+     *
+     * @param lockToken Lock token of the delivery.
+     * @param deliveryState State to update the delivery to.
+     * @return A Mono that completes when the service acknowledges the disposition.
+     */
+    @Override
     public Mono<Void> updateDisposition(String lockToken, DeliveryState deliveryState) {
         if (isDisposed.get()) {
             return monoError(logger, new IllegalStateException("Cannot perform operations on a disposed receiver."));
@@ -190,6 +200,72 @@ public class ServiceBusReactorReceiver extends ReactorReceiver implements Servic
         return result;
     }
 
+    /**
+     * Updates the disposition of the deliveries with the given lock tokens. The dispositions of the deliveries on the
+     * link are applied in one dispatch to the reactor thread, so they are sent together.
+     *
+     * @param lockTokens Lock tokens of the deliveries.
+     * @param deliveryState State to update the deliveries to.
+     * @return A Mono that completes when the service acknowledges all the dispositions. Lock tokens whose delivery is
+     *     not on the link are not updated, and each of them errors once the other dispositions are done, combined if
+     *     there is more than one error.
+     */
+    public Mono<Void> updateDispositionBatch(List<String> lockTokens, DeliveryState deliveryState) {
+        if (isDisposed.get()) {
+            return monoError(logger, new IllegalStateException("Cannot perform operations on a disposed receiver."));
+        }
+
+        final Map<String, Delivery> deliveries = new LinkedHashMap<>();
+        final List<Mono<Void>> results = new ArrayList<>();
+        for (String lockToken : lockTokens) {
+            final Delivery unsettled = unsettledDeliveries.get(lockToken);
+            if (unsettled == null) {
+                logger.warning(
+                    "entityPath[{}], linkName[{}], deliveryTag[{}]. Delivery not found to update disposition.",
+                    getEntityPath(), getLinkName(), lockToken);
+
+                results.add(monoError(logger, Exceptions.propagate(new IllegalArgumentException(String.format(
+                    "lockToken[%s]. Delivery not on receive link.", lockToken)))));
+            } else {
+                deliveries.put(lockToken, unsettled);
+            }
+        }
+
+        if (!deliveries.isEmpty()) {
+            results.add(updateDispositions(deliveries, deliveryState));
+        }
+
+        return Mono.whenDelayError(results);
+    }
+
+    private Mono<Void> updateDispositions(Map<String, Delivery> deliveries, DeliveryState deliveryState) {
+        return Mono.create(sink -> {
+            final Map<String, UpdateDispositionWorkItem> workItems = new LinkedHashMap<>();
+            final List<Mono<Void>> results = new ArrayList<>(deliveries.size());
+            deliveries.keySet().forEach(lockToken -> {
+                final UpdateDispositionWorkItem workItem = new UpdateDispositionWorkItem(deliveryState, timeout);
+                final Mono<Void> result = Mono.create(workItem::start);
+                workItem.setMono(result);
+                workItems.put(lockToken, workItem);
+                results.add(result);
+            });
+
+            // Subscribing starts every work item, so all of them can be completed once their dispositions are applied.
+            sink.onDispose(Mono.whenDelayError(results).subscribe(null, sink::error, sink::success));
+
+            try {
+                provider.getReactorDispatcher().invoke(() -> deliveries.forEach((lockToken, unsettled) -> {
+                    unsettled.disposition(deliveryState);
+                    pendingUpdates.put(lockToken, workItems.get(lockToken));
+                }));
+            } catch (IOException error) {
+                final AmqpException amqpException = new AmqpException(false,
+                    "updateDisposition failed while dispatching to Reactor.", error, handler.getErrorContext(receiver));
+                workItems.values().forEach(workItem -> workItem.getSink().error(amqpException));
+            }
+        });
+    }
+
     @Override
     public Flux<Message> receive() {
         // Remove empty update disposition messages. The deliveries themselves are ACKs with no message.
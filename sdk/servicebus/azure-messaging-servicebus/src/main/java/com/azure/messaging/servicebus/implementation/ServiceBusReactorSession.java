@@ -21,6 +21,7 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.servicebus.models.ReceiveMode;
 import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.UnsignedInteger;
+import org.apache.qpid.proton.amqp.messaging.Source;
 import org.apache.qpid.proton.amqp.transport.ReceiverSettleMode;
 import org.apache.qpid.proton.amqp.transport.SenderSettleMode;
 import org.apache.qpid.proton.engine.Receiver;
@@ -74,12 +75,17 @@ class ServiceBusReactorSession extends ReactorSession implements ServiceBusSessi
     @Override
     public Mono<AmqpReceiveLink> createConsumer(String linkName, String entityPath, MessagingEntityType entityType,
         Duration timeout, AmqpRetryPolicy retry, ReceiveMode receiveMode) {
-        return createConsumer(linkName, entityPath, entityType, timeout, retry, receiveMode, null);
+        return createConsumer(linkName, entityPath, entityType, timeout, retry, receiveMode, null, false);
     }
 
     @Override
     public Mono<AmqpReceiveLink> createConsumer(String linkName, String entityPath, MessagingEntityType entityType,
         Duration timeout, AmqpRetryPolicy retry, ReceiveMode receiveMode, String sessionId) {
+        return createConsumer(linkName, entityPath, entityType, timeout, retry, receiveMode, sessionId, true);
+    }
+
+    private Mono<AmqpReceiveLink> createConsumer(String linkName, String entityPath, MessagingEntityType entityType,
+        Duration timeout, AmqpRetryPolicy retry, ReceiveMode receiveMode, String sessionId, boolean isSessionEnabled) {
         Objects.requireNonNull(linkName, "'linkName' cannot be null.");
         Objects.requireNonNull(entityPath, "'entityPath' cannot be null.");
         Objects.requireNonNull(timeout, "'timeout' cannot be null.");
@@ -95,8 +101,9 @@ class ServiceBusReactorSession extends ReactorSession implements ServiceBusSessi
             linkProperties.put(ENTITY_TYPE_PROPERTY, entityType.getValue());
         }
 
-        if (!CoreUtils.isNullOrEmpty(sessionId)) {
-            filter.put(SESSION_FILTER, sessionId);
+        // A session filter without a session id accepts the next available session.
+        if (isSessionEnabled) {
+            filter.put(SESSION_FILTER, CoreUtils.isNullOrEmpty(sessionId) ? null : sessionId);
         }
 
         final SenderSettleMode senderSettleMode;
@@ -121,7 +128,15 @@ class ServiceBusReactorSession extends ReactorSession implements ServiceBusSessi
     @Override
     protected ReactorReceiver createConsumer(String entityPath, Receiver receiver,
         ReceiveLinkHandler receiveLinkHandler, TokenManager tokenManager, ReactorProvider reactorProvider) {
+        final Source source = (Source) receiver.getSource();
+        final Map<?, ?> filter = source == null ? null : source.getFilter();
+        if (filter == null || !filter.containsKey(SESSION_FILTER)) {
+            return new ServiceBusReactorReceiver(entityPath, receiver, receiveLinkHandler, tokenManager,
+                reactorProvider, openTimeout, retryPolicy);
+        }
+
+        final Object sessionId = filter.get(SESSION_FILTER);
         return new ServiceBusReactorReceiver(entityPath, receiver, receiveLinkHandler, tokenManager,
-            reactorProvider, openTimeout, retryPolicy);
+            reactorProvider, openTimeout, retryPolicy, sessionId == null ? null : String.valueOf(sessionId));
     }
 }
@@ -4,6 +4,7 @@
 package com.azure.messaging.servicebus.implementation;
 
 import com.azure.core.amqp.implementation.AmqpReceiveLink;
+import org.apache.qpid.proton.amqp.transport.DeliveryState;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
@@ -25,4 +26,14 @@ public interface ServiceBusReceiveLink extends AmqpReceiveLink {
      * @return The {@link Instant} the session is locked until or an empty Mono if this is not a session link.
      */
     Mono<Instant> getSessionLockedUntil();
+
+    /**
+     * Updates the disposition of the delivery with the given lock token.
+     *
+     * @param lockToken Lock token of the delivery.
+     * @param deliveryState State to update the delivery to.
+     *
+     * @return A Mono that completes when the service acknowledges the disposition.
+     */
+    Mono<Void> updateDisposition(String lockToken, DeliveryState deliveryState);
 }
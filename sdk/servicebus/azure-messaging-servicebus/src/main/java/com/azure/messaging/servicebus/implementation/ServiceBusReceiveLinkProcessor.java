@@ -21,7 +21,9 @@ import reactor.core.publisher.Operators;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -29,6 +31,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.azure.core.util.FluxUtil.monoError;
 
@@ -106,22 +110,42 @@ public class ServiceBusReceiveLinkProcessor extends FluxProcessor<AmqpReceiveLin
     }
 
     public Mono<Void> updateDisposition(String lockToken, DeliveryState deliveryState) {
-        if (isDisposed()) {
-            return monoError(logger, new IllegalStateException(String.format(
-                "lockToken[%s]. state[%s]. Cannot update disposition on closed processor.", lockToken, deliveryState)));
-        }
+        return updateDisposition(Collections.singletonList(lockToken), deliveryState,
+            link -> link.updateDisposition(lockToken, deliveryState));
+    }
+
+    /**
+     * Updates the disposition of the messages with the given lock tokens on the current link. The dispositions are sent
+     * together.
+     *
+     * @param lockTokens Lock tokens of the messages.
+     * @param deliveryState State to update the messages to.
+     * @return A Mono that completes when the service acknowledges all the dispositions. If the dispositions cannot be
+     *     sent, it errors with an error for each lock token, combined if there is more than one.
+     */
+    public Mono<Void> updateDispositionBatch(List<String> lockTokens, DeliveryState deliveryState) {
+        return updateDisposition(lockTokens, deliveryState,
+            link -> link.updateDispositionBatch(lockTokens, deliveryState));
+    }
 
+    private Mono<Void> updateDisposition(List<String> lockTokens, DeliveryState deliveryState,
+        Function<ServiceBusReactorReceiver, Mono<Void>> update) {
         final AmqpReceiveLink link = currentLink;
-        if (link == null) {
-            return monoError(logger, new IllegalStateException(String.format(
-                "lockToken[%s]. state[%s]. Cannot update disposition with no link.", lockToken, deliveryState)));
+        final String reason;
+        if (isDisposed()) {
+            reason = "Cannot update disposition on closed processor.";
+        } else if (link == null) {
+            reason = "Cannot update disposition with no link.";
         } else if (!(link instanceof ServiceBusReactorReceiver)) {
-            return monoError(logger, new IllegalStateException(String.format(
-                "lockToken[%s]. state[%s]. Cannot update disposition with non Service Bus receive link.",
-                lockToken, deliveryState)));
+            reason = "Cannot update disposition with non Service Bus receive link.";
+        } else {
+            return update.apply((ServiceBusReactorReceiver) link);
         }
 
-        return ((ServiceBusReactorReceiver) link).updateDisposition(lockToken, deliveryState);
+        return Mono.whenDelayError(lockTokens.stream()
+            .map(lockToken -> monoError(logger, new IllegalStateException(String.format(
+                "lockToken[%s]. state[%s]. %s", lockToken, deliveryState, reason))))
+            .collect(Collectors.toList()));
     }
 
     /**
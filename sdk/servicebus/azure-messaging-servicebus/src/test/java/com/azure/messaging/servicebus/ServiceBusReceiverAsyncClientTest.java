@@ -48,6 +48,7 @@ import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -356,6 +357,92 @@ class ServiceBusReceiverAsyncClientTest {
         StepVerifier.create(consumer.complete(null)).expectError(NullPointerException.class).verify();
     }
 
+    /**
+     * Verifies that messages not received on a link are completed together, in one request to the management node.
+     */
+    @Test
+    void completeBatchWithManagementNode() {
+        // Arrange
+        final String lockToken1 = UUID.randomUUID().toString();
+        final String lockToken2 = UUID.randomUUID().toString();
+        when(receivedMessage.getLockToken()).thenReturn(lockToken1);
+        when(receivedMessage2.getLockToken()).thenReturn(lockToken2);
+        when(connection.getManagementNode(ENTITY_PATH, ENTITY_TYPE)).thenReturn(Mono.just(managementNode));
+        when(managementNode.updateDispositionBatch(any(), eq(DispositionStatus.COMPLETED), isNull(), isNull(),
+            isNull())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(consumer.completeBatch(Arrays.asList(receivedMessage, receivedMessage2)))
+            .verifyComplete();
+
+        verify(managementNode).updateDispositionBatch(eq(Arrays.asList(lockToken1, lockToken2)),
+            eq(DispositionStatus.COMPLETED), isNull(), isNull(), isNull());
+    }
+
+    /**
+     * Verifies that a batch is split between the lock tokens held by the management node, which are completed in one
+     * request to it, and the lock tokens of messages received on the link, which are completed together on the link.
+     */
+    @Test
+    void completeBatchWithManagementNodeAndLink() {
+        // Arrange
+        final UUID linkLockToken = UUID.randomUUID();
+        final UUID managementLockToken = UUID.randomUUID();
+        final long sequenceNumber = 10L;
+        final Instant expiration = Instant.now().plus(Duration.ofMinutes(5));
+
+        final ServiceBusReceivedMessage linkMessage = new ServiceBusReceivedMessage(PAYLOAD_BYTES);
+        linkMessage.setLockToken(linkLockToken);
+        linkMessage.setLockedUntil(expiration);
+        final ServiceBusReceivedMessage deferredMessage = new ServiceBusReceivedMessage(PAYLOAD_BYTES);
+        deferredMessage.setLockToken(managementLockToken);
+        deferredMessage.setLockedUntil(expiration);
+
+        final MessageWithLockToken message = mock(MessageWithLockToken.class);
+        when(messageSerializer.deserialize(message, ServiceBusReceivedMessage.class)).thenReturn(linkMessage);
+
+        when(managementNode.receiveDeferredMessage(ReceiveMode.PEEK_LOCK, sequenceNumber))
+            .thenReturn(Mono.just(deferredMessage));
+        when(managementNode.updateDispositionBatch(any(), eq(DispositionStatus.COMPLETED), isNull(), isNull(),
+            isNull())).thenReturn(Mono.empty());
+        when(amqpReceiveLink.updateDispositionBatch(any(), any())).thenReturn(Mono.empty());
+
+        // The deferred message is received from the management node, so its lock token is held by it.
+        StepVerifier.create(consumer.receiveDeferredMessage(sequenceNumber))
+            .expectNext(deferredMessage)
+            .verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(consumer.receive()
+            .take(1)
+            .flatMap(received -> consumer.completeBatch(Arrays.asList(received, deferredMessage))))
+            .then(() -> messageSink.next(message))
+            .verifyComplete();
+
+        verify(managementNode).updateDispositionBatch(eq(Collections.singletonList(managementLockToken.toString())),
+            eq(DispositionStatus.COMPLETED), isNull(), isNull(), isNull());
+        verify(amqpReceiveLink).updateDispositionBatch(eq(Collections.singletonList(linkLockToken.toString())),
+            isA(Accepted.class));
+    }
+
+    /**
+     * Verifies that we error if we try to complete a batch with a message without a lock token, and that no message of
+     * the batch is completed.
+     */
+    @Test
+    void completeBatchNullLockToken() {
+        // Arrange
+        when(receivedMessage.getLockToken()).thenReturn(UUID.randomUUID().toString());
+        when(receivedMessage2.getLockToken()).thenReturn(null);
+
+        // Act & Assert
+        StepVerifier.create(consumer.completeBatch(Arrays.asList(receivedMessage, receivedMessage2)))
+            .expectError(NullPointerException.class)
+            .verify();
+
+        verifyZeroInteractions(managementNode);
+    }
+
     /**
      * Verifies that we error if we complete in RECEIVE_AND_DELETE mode.
      */
@@ -0,0 +1,331 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.servicebus;
+
+import com.azure.core.amqp.AmqpEndpointState;
+import com.azure.core.amqp.implementation.MessageSerializer;
+import com.azure.messaging.servicebus.implementation.ServiceBusReceiveLink;
+import com.azure.messaging.servicebus.models.ReceiveMode;
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.messaging.Accepted;
+import org.apache.qpid.proton.amqp.messaging.Modified;
+import org.apache.qpid.proton.amqp.transport.DeliveryState;
+import org.apache.qpid.proton.message.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.ReplayProcessor;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ServiceBusSessionProcessorClient}, against links that stand in for accepted sessions.
+ */
+class ServiceBusSessionProcessorClientTest {
+    private static final String ENTITY_PATH = "test-entity-path";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final Queue<TestSessionLink> sessions = new ConcurrentLinkedQueue<>();
+    private final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+    private final MessageSerializer messageSerializer = new TestMessageSerializer();
+    private ServiceBusSessionProcessorClient processor;
+
+    @AfterEach
+    void teardown() {
+        if (processor != null) {
+            processor.close();
+        }
+    }
+
+    /**
+     * Verifies that the messages of a session are processed in order, and completed once processed.
+     */
+    @Test
+    void processesSessionMessagesInOrder() throws InterruptedException {
+        // Arrange
+        final TestSessionLink session = new TestSessionLink("session-1", "a", "b", "c");
+        sessions.add(session);
+        final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(3);
+        processor = createProcessor(1, TIMEOUT, message -> {
+            processed.add(getBody(message));
+            latch.countDown();
+            return Mono.empty();
+        });
+
+        // Act
+        processor.start();
+
+        // Assert
+        assertTrue(latch.await(TIMEOUT.getSeconds(), TimeUnit.SECONDS));
+        session.awaitDispositions(3);
+        assertEquals(Arrays.asList("a", "b", "c"), processed);
+        session.getDispositions().values().forEach(state -> assertSame(Accepted.getInstance(), state));
+        // A credit is added once each disposition completes, after it is recorded.
+        session.awaitCredits(1 + 3);
+        assertTrue(errors.isEmpty());
+    }
+
+    /**
+     * Verifies that no more than the maximum number of concurrent sessions are held at once.
+     */
+    @Test
+    void respectsMaxConcurrentSessions() throws InterruptedException {
+        // Arrange
+        final List<TestSessionLink> links = Arrays.asList(new TestSessionLink("session-1", "a"),
+            new TestSessionLink("session-2", "b"), new TestSessionLink("session-3", "c"));
+        sessions.addAll(links);
+        final CountDownLatch latch = new CountDownLatch(2);
+        processor = createProcessor(2, TIMEOUT, message -> {
+            latch.countDown();
+            return Mono.never();
+        });
+
+        // Act
+        processor.start();
+
+        // Assert
+        assertTrue(latch.await(TIMEOUT.getSeconds(), TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(2, processor.getActiveSessionCount());
+        assertEquals(1, sessions.size());
+        assertSame(links.get(2), sessions.peek());
+    }
+
+    /**
+     * Verifies that a session without messages for the idle timeout is released, so the next session is accepted.
+     */
+    @Test
+    void releasesIdleSession() throws InterruptedException {
+        // Arrange
+        final TestSessionLink idle = new TestSessionLink("session-1", "a");
+        final TestSessionLink next = new TestSessionLink("session-2", "b");
+        sessions.add(idle);
+        sessions.add(next);
+        final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(2);
+        processor = createProcessor(1, Duration.ofMillis(100), message -> {
+            processed.add(getBody(message));
+            latch.countDown();
+            return Mono.empty();
+        });
+
+        // Act
+        processor.start();
+
+        // Assert
+        assertTrue(latch.await(TIMEOUT.getSeconds(), TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("a", "b"), processed);
+        assertTrue(idle.isDisposed());
+    }
+
+    /**
+     * Verifies that a message that fails processing is abandoned and the error reported, and that the next message of
+     * the session is still processed.
+     */
+    @Test
+    void abandonsFailedMessage() throws InterruptedException {
+        // Arrange
+        final TestSessionLink session = new TestSessionLink("session-1", "a", "b");
+        sessions.add(session);
+        final IllegalStateException processingError = new IllegalStateException("Test error.");
+        processor = createProcessor(1, TIMEOUT, message -> "a".equals(getBody(message))
+            ? Mono.error(processingError)
+            : Mono.empty());
+
+        // Act
+        processor.start();
+
+        // Assert
+        session.awaitDispositions(2);
+        final List<DeliveryState> states = new ArrayList<>(session.getDispositions().values());
+        assertTrue(states.get(0) instanceof Modified);
+        assertSame(Accepted.getInstance(), states.get(1));
+        assertEquals(Collections.singletonList(processingError), errors);
+    }
+
+    private ServiceBusSessionProcessorClient createProcessor(int maxConcurrentSessions, Duration sessionIdleTimeout,
+        Function<ServiceBusReceivedMessage, Mono<Void>> processMessage) {
+        final Mono<ServiceBusReceiveLink> nextSession = Mono.defer(() -> {
+            final TestSessionLink link = sessions.poll();
+            return link != null ? Mono.just(link) : Mono.never();
+        });
+        final SessionProcessorOptions options = new SessionProcessorOptions(ReceiveMode.PEEK_LOCK, 1,
+            maxConcurrentSessions, sessionIdleTimeout, Duration.ZERO);
+
+        return new ServiceBusSessionProcessorClient(ENTITY_PATH, nextSession,
+            sessionId -> Mono.just(Instant.now().plus(TIMEOUT)), messageSerializer, options, processMessage,
+            errors::add, Schedulers.parallel(), null);
+    }
+
+    private static String getBody(ServiceBusReceivedMessage message) {
+        return new String(message.getBody(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserializes a message whose body is its string subject, with a new lock token.
+     */
+    private static final class TestMessageSerializer implements MessageSerializer {
+        @Override
+        public int getSize(Message amqpMessage) {
+            return 0;
+        }
+
+        @Override
+        public <T> Message serialize(T object) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T deserialize(Message message, Class<T> clazz) {
+            final ServiceBusReceivedMessage received =
+                new ServiceBusReceivedMessage(message.getSubject().getBytes(StandardCharsets.UTF_8));
+            received.setLockToken(UUID.fromString((String) message.getMessageId()));
+            return clazz.cast(received);
+        }
+
+        @Override
+        public <T> List<T> deserializeList(Message message, Class<T> clazz) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * A link to an accepted session, which records the credits added and the dispositions updated.
+     */
+    private static final class TestSessionLink implements ServiceBusReceiveLink {
+        private final ReplayProcessor<Message> messages = ReplayProcessor.create();
+        private final AtomicInteger credits = new AtomicInteger();
+        private final AtomicBoolean isDisposed = new AtomicBoolean();
+        private final Map<String, DeliveryState> dispositions = new LinkedHashMap<>();
+        private final String sessionId;
+
+        private TestSessionLink(String sessionId, String... bodies) {
+            this.sessionId = sessionId;
+            for (String body : bodies) {
+                final Message message = Proton.message();
+                message.setSubject(body);
+                message.setMessageId(UUID.randomUUID().toString());
+                messages.onNext(message);
+            }
+        }
+
+        private synchronized Map<String, DeliveryState> getDispositions() {
+            return new LinkedHashMap<>(dispositions);
+        }
+
+        private synchronized void awaitDispositions(int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (dispositions.size() < count) {
+                final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                assertTrue(remaining > 0, "Timed out waiting for dispositions.");
+                wait(remaining);
+            }
+        }
+
+        private synchronized void awaitCredits(int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (credits.get() < count) {
+                final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                assertTrue(remaining > 0, "Timed out waiting for credits.");
+                wait(remaining);
+            }
+
+            assertEquals(count, credits.get());
+        }
+
+        @Override
+        public Mono<String> getSessionId() {
+            return Mono.just(sessionId);
+        }
+
+        @Override
+        public Mono<Instant> getSessionLockedUntil() {
+            return Mono.just(Instant.now().plus(TIMEOUT));
+        }
+
+        @Override
+        public Mono<Void> updateDisposition(String lockToken, DeliveryState deliveryState) {
+            return Mono.fromRunnable(() -> {
+                synchronized (this) {
+                    dispositions.put(lockToken, deliveryState);
+                    notifyAll();
+                }
+            });
+        }
+
+        @Override
+        public Flux<Message> receive() {
+            return messages;
+        }
+
+        @Override
+        public synchronized void addCredits(int credits) {
+            this.credits.addAndGet(credits);
+            notifyAll();
+        }
+
+        @Override
+        public int getCredits() {
+            return credits.get();
+        }
+
+        @Override
+        public void setEmptyCreditListener(Supplier<Integer> creditSupplier) {
+        }
+
+        @Override
+        public String getLinkName() {
+            return sessionId + "-link";
+        }
+
+        @Override
+        public String getEntityPath() {
+            return ENTITY_PATH;
+        }
+
+        @Override
+        public String getHostname() {
+            return "test-host";
+        }
+
+        @Override
+        public Flux<AmqpEndpointState> getEndpointStates() {
+            return Flux.never();
+        }
+
+        @Override
+        public void dispose() {
+            isDisposed.set(true);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return isDisposed.get();
+        }
+    }
+}
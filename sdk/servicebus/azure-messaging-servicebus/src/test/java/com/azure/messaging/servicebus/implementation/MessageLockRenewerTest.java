@@ -0,0 +1,225 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.servicebus.implementation;
+
+import com.azure.core.amqp.exception.AmqpErrorCondition;
+import com.azure.core.amqp.exception.AmqpErrorContext;
+import com.azure.core.amqp.exception.AmqpException;
+import com.azure.messaging.servicebus.MessageLockToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MessageLockRenewer}, polled directly rather than on its interval.
+ */
+class MessageLockRenewerTest {
+    private static final Duration POLL_INTERVAL = Duration.ofHours(1);
+    private static final Duration LOCK_DURATION = Duration.ofHours(3);
+    private static final Duration MAX_RENEW_DURATION = Duration.ofHours(5);
+
+    private final AmqpErrorContext errorContext = new AmqpErrorContext("test-namespace");
+    private final List<List<MessageLockToken>> requests = Collections.synchronizedList(new ArrayList<>());
+    private MessageLockRenewer renewer;
+
+    @AfterEach
+    void teardown() {
+        if (renewer != null) {
+            renewer.close();
+        }
+    }
+
+    /**
+     * Verifies that the locks due are renewed in a single request, and not renewed again until due.
+     */
+    @Test
+    void renewsDueLocksTogether() {
+        // Arrange
+        renewer = new MessageLockRenewer(renewAll(Instant.now().plus(LOCK_DURATION)), POLL_INTERVAL);
+        final List<MessageLockToken> lockTokens = createLockTokens(3);
+        final MessageLockToken notDue = createLockTokens(1).get(0);
+        lockTokens.forEach(lockToken -> renewer.renew(lockToken, Instant.now(), MAX_RENEW_DURATION, errorContext,
+            error -> { }));
+        renewer.renew(notDue, Instant.now().plus(LOCK_DURATION), MAX_RENEW_DURATION, errorContext, error -> { });
+
+        // Act
+        renewer.renewDueLocks();
+        renewer.renewDueLocks();
+
+        // Assert
+        assertEquals(1, requests.size());
+        assertEquals(lockTokens, requests.get(0));
+        assertEquals(4, renewer.getRenewalCount());
+    }
+
+    /**
+     * Verifies that the locks due are renewed in requests of at most {@link MessageLockRenewer#MAX_LOCKS_PER_REQUEST}
+     * lock tokens.
+     */
+    @Test
+    void splitsDueLocksIntoRequests() {
+        // Arrange
+        renewer = new MessageLockRenewer(renewAll(Instant.now().plus(LOCK_DURATION)), POLL_INTERVAL);
+        final int count = MessageLockRenewer.MAX_LOCKS_PER_REQUEST * 2 + 1;
+        createLockTokens(count).forEach(lockToken -> renewer.renew(lockToken, Instant.now(), MAX_RENEW_DURATION,
+            errorContext, error -> { }));
+
+        // Act
+        renewer.renewDueLocks();
+
+        // Assert
+        assertEquals(3, requests.size());
+        assertEquals(MessageLockRenewer.MAX_LOCKS_PER_REQUEST, requests.get(0).size());
+        assertEquals(1, requests.get(2).size());
+        assertEquals(count, renewer.getRenewalCount());
+    }
+
+    /**
+     * Verifies that a lock is no longer renewed once its renewal is disposed.
+     */
+    @Test
+    void doesNotRenewDisposedLocks() {
+        // Arrange
+        renewer = new MessageLockRenewer(renewAll(Instant.now().plus(LOCK_DURATION)), POLL_INTERVAL);
+        final List<MessageLockToken> lockTokens = createLockTokens(2);
+        final Disposable disposed = renewer.renew(lockTokens.get(0), Instant.now(), MAX_RENEW_DURATION,
+            errorContext, error -> { });
+        renewer.renew(lockTokens.get(1), Instant.now(), MAX_RENEW_DURATION, errorContext, error -> { });
+
+        // Act
+        disposed.dispose();
+        renewer.renewDueLocks();
+
+        // Assert
+        assertEquals(1, requests.size());
+        assertEquals(Collections.singletonList(lockTokens.get(1)), requests.get(0));
+        assertEquals(1, renewer.getRenewalCount());
+    }
+
+    /**
+     * Verifies that disposed renewals are removed from the queue before they are due, once they make up more than half
+     * of it.
+     */
+    @Test
+    void removesDisposedLocksBeforeDue() {
+        // Arrange
+        renewer = new MessageLockRenewer(renewAll(Instant.now().plus(LOCK_DURATION)), POLL_INTERVAL);
+        final List<Disposable> renewals = createLockTokens(4).stream()
+            .map(lockToken -> renewer.renew(lockToken, Instant.now().plus(LOCK_DURATION), MAX_RENEW_DURATION,
+                errorContext, error -> { }))
+            .collect(Collectors.toList());
+
+        // Act & Assert
+        renewals.get(0).dispose();
+        renewals.get(1).dispose();
+        assertEquals(2, renewer.getRenewalCount());
+        assertEquals(4, renewer.getQueuedRenewalCount());
+
+        renewals.get(1).dispose();
+        renewals.get(2).dispose();
+        assertEquals(1, renewer.getRenewalCount());
+        assertEquals(1, renewer.getQueuedRenewalCount());
+    }
+
+    /**
+     * Verifies that a lock renewed for longer than its maximum renewal duration fails with a timeout.
+     */
+    @Test
+    void failsLocksPastMaxRenewDuration() {
+        // Arrange
+        renewer = new MessageLockRenewer(renewAll(Instant.now().plus(LOCK_DURATION)), POLL_INTERVAL);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        renewer.renew(createLockTokens(1).get(0), Instant.now().plus(LOCK_DURATION), Duration.ZERO, errorContext,
+            error::set);
+
+        // Act
+        renewer.renewDueLocks();
+
+        // Assert
+        assertTrue(requests.isEmpty());
+        assertTrue(error.get() instanceof AmqpException);
+        assertEquals(AmqpErrorCondition.TIMEOUT_ERROR, ((AmqpException) error.get()).getErrorCondition());
+        assertSame(errorContext, ((AmqpException) error.get()).getContext());
+        assertEquals(0, renewer.getRenewalCount());
+    }
+
+    /**
+     * Verifies that every lock in a request fails when the request fails.
+     */
+    @Test
+    void failsAllLocksInFailedRequest() {
+        // Arrange
+        final IllegalStateException requestError = new IllegalStateException("Test error.");
+        renewer = new MessageLockRenewer(lockTokens -> {
+            requests.add(lockTokens);
+            return Mono.error(requestError);
+        }, POLL_INTERVAL);
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        createLockTokens(2).forEach(lockToken -> renewer.renew(lockToken, Instant.now(), MAX_RENEW_DURATION,
+            errorContext, errors::add));
+
+        // Act
+        renewer.renewDueLocks();
+        renewer.renewDueLocks();
+
+        // Assert
+        assertEquals(1, requests.size());
+        assertEquals(2, errors.size());
+        assertTrue(errors.stream().allMatch(error -> error == requestError));
+        assertEquals(0, renewer.getRenewalCount());
+    }
+
+    /**
+     * Verifies that a closed renewer no longer renews locks.
+     */
+    @Test
+    void closeStopsRenewals() {
+        // Arrange
+        renewer = new MessageLockRenewer(renewAll(Instant.now().plus(LOCK_DURATION)), POLL_INTERVAL);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        renewer.renew(createLockTokens(1).get(0), Instant.now(), MAX_RENEW_DURATION, errorContext, error::set);
+
+        // Act
+        renewer.close();
+        renewer.renewDueLocks();
+
+        // Assert
+        assertTrue(requests.isEmpty());
+        assertNull(error.get());
+        assertEquals(0, renewer.getRenewalCount());
+    }
+
+    private Function<List<MessageLockToken>, Mono<List<Instant>>> renewAll(Instant lockedUntil) {
+        return lockTokens -> {
+            requests.add(lockTokens);
+            return Mono.just(lockTokens.stream().map(lockToken -> lockedUntil).collect(Collectors.toList()));
+        };
+    }
+
+    private static List<MessageLockToken> createLockTokens(int count) {
+        final List<MessageLockToken> lockTokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final String lockToken = UUID.randomUUID().toString();
+            lockTokens.add(() -> lockToken);
+        }
+
+        return lockTokens;
+    }
+}
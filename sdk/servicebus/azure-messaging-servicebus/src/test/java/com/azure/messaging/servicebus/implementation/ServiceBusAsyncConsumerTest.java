@@ -31,7 +31,6 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -67,7 +66,7 @@ class ServiceBusAsyncConsumerTest {
     @Mock
     private Function<MessageLockToken, Mono<Void>> onAbandon;
     @Mock
-    private Function<MessageLockToken, Mono<Instant>> onRenewLock;
+    private MessageLockRenewer lockRenewer;
 
     @BeforeAll
     static void beforeAll() {
@@ -113,7 +112,7 @@ class ServiceBusAsyncConsumerTest {
         final boolean isAutoComplete = true;
         final ServiceBusAsyncConsumer consumer = new ServiceBusAsyncConsumer(linkProcessor, serializer,
             isAutoComplete, false, renewDuration, retryOptions, onComplete, onAbandon,
-            onRenewLock);
+            lockRenewer);
 
         when(link.getCredits()).thenReturn(1);
 
@@ -151,7 +150,7 @@ class ServiceBusAsyncConsumerTest {
         final boolean isAutoComplete = false;
         final ServiceBusAsyncConsumer consumer = new ServiceBusAsyncConsumer(linkProcessor, serializer,
             isAutoComplete, false, renewDuration, retryOptions, onComplete, onAbandon,
-            onRenewLock);
+            lockRenewer);
 
         final Message message1 = mock(Message.class);
         final Message message2 = mock(Message.class);
@@ -195,7 +194,7 @@ class ServiceBusAsyncConsumerTest {
         };
         final ServiceBusAsyncConsumer consumer = new ServiceBusAsyncConsumer(linkProcessor, serializer,
             isAutoComplete, false, renewDuration, retryOptions, onComplete, onAbandon,
-            onRenewLock);
+            lockRenewer);
 
         final Message message1 = mock(Message.class);
         final ServiceBusReceivedMessage receivedMessage1 = mock(ServiceBusReceivedMessage.class);
@@ -22,11 +22,13 @@ import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static com.azure.messaging.servicebus.TestUtils.createMessageSink;
+import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.verify;
@@ -48,21 +50,25 @@ class ServiceBusMessageProcessorTest {
     @Mock
     private Function<MessageLockToken, Mono<Void>> onAbandon;
     @Mock
-    private Function<MessageLockToken, Mono<Instant>> onRenewLock;
+    private Function<List<MessageLockToken>, Mono<List<Instant>>> onRenewLock;
 
     private final AmqpErrorContext errorContext = new LinkErrorContext("foo", "bar", "link-name", 10);
     private final ClientLogger logger = new ClientLogger(ServiceBusMessageProcessorTest.class);
     private final AmqpRetryOptions retryOptions = new AmqpRetryOptions();
+    private MessageLockRenewer lockRenewer;
 
     @BeforeEach
     void setup() {
         MockitoAnnotations.initMocks(this);
 
         when(onComplete.apply(any())).thenReturn(Mono.empty());
+
+        lockRenewer = new MessageLockRenewer(onRenewLock, Duration.ofMillis(100));
     }
 
     @AfterEach
     void teardown() {
+        lockRenewer.close();
         Mockito.framework().clearInlineMocks();
     }
 
@@ -84,7 +90,7 @@ class ServiceBusMessageProcessorTest {
 
         final ServiceBusMessageProcessor processor = createMessageSink(message1, message2, message3, message4)
             .subscribeWith(new ServiceBusMessageProcessor(true, false, Duration.ZERO,
-                retryOptions, errorContext, onComplete, onAbandon, onRenewLock));
+                retryOptions, errorContext, onComplete, onAbandon, lockRenewer));
 
         // Act & Assert
         StepVerifier.create(processor)
@@ -113,11 +119,12 @@ class ServiceBusMessageProcessorTest {
         when(message2.getLockToken()).thenReturn(lock2);
         when(message2.getLockedUntil()).thenAnswer(invocationOnMock -> Instant.now().plusSeconds(5));
 
-        when(onRenewLock.apply(message1)).thenAnswer(invocationOnMock -> Mono.just(Instant.now().plusSeconds(3)));
+        when(onRenewLock.apply(singletonList(message1))).thenAnswer(
+            invocationOnMock -> Mono.just(singletonList(Instant.now().plusSeconds(3))));
 
         final ServiceBusMessageProcessor processor = createMessageSink(message1, message2)
             .subscribeWith(new ServiceBusMessageProcessor(true, true, maxRenewDuration,
-                retryOptions, errorContext, onComplete, onAbandon, onRenewLock));
+                retryOptions, errorContext, onComplete, onAbandon, lockRenewer));
 
         // Act & Assert
         StepVerifier.create(processor)
@@ -134,7 +141,7 @@ class ServiceBusMessageProcessorTest {
             .expectNext(message2)
             .verifyComplete();
 
-        verify(onRenewLock, atLeast(3)).apply(message1);
+        verify(onRenewLock, atLeast(3)).apply(singletonList(message1));
 
         verify(onComplete).apply(message1);
         verify(onComplete).apply(message2);
@@ -148,7 +155,7 @@ class ServiceBusMessageProcessorTest {
         // Arrange
         final ServiceBusMessageProcessor processor = createMessageSink(message1, message2, message3, message4)
             .subscribeWith(new ServiceBusMessageProcessor(false, false, Duration.ZERO,
-                retryOptions, errorContext, onComplete, onAbandon, onRenewLock));
+                retryOptions, errorContext, onComplete, onAbandon, lockRenewer));
 
         // Act & Assert
         StepVerifier.create(processor)
@@ -175,11 +182,12 @@ class ServiceBusMessageProcessorTest {
 
         when(onComplete.apply(any())).thenReturn(Mono.empty());
 
-        when(onRenewLock.apply(message1)).thenAnswer(invocationOnMock -> Mono.just(Instant.now().plusSeconds(7)));
+        when(onRenewLock.apply(singletonList(message1))).thenAnswer(
+            invocationOnMock -> Mono.just(singletonList(Instant.now().plusSeconds(7))));
 
         final ServiceBusMessageProcessor processor = createMessageSink(message1, message2)
             .subscribeWith(new ServiceBusMessageProcessor(true, true, maxRenewDuration,
-                retryOptions, errorContext, onComplete, onAbandon, onRenewLock));
+                retryOptions, errorContext, onComplete, onAbandon, lockRenewer));
 
         // Act & Assert
         StepVerifier.create(processor)
@@ -199,7 +207,7 @@ class ServiceBusMessageProcessorTest {
             })
             .verify();
 
-        verify(onRenewLock).apply(message1);
+        verify(onRenewLock).apply(singletonList(message1));
         verifyZeroInteractions(message2);
         verifyZeroInteractions(onComplete);
     }
@@ -221,11 +229,11 @@ class ServiceBusMessageProcessorTest {
 
         when(onComplete.apply(any())).thenReturn(Mono.empty());
 
-        when(onRenewLock.apply(message1)).thenAnswer(invocationOnMock -> Mono.error(new IllegalArgumentException("Test error occurred.")));
+        when(onRenewLock.apply(singletonList(message1))).thenAnswer(invocationOnMock -> Mono.error(new IllegalArgumentException("Test error occurred.")));
 
         final ServiceBusMessageProcessor processor = createMessageSink(message1, message2)
             .subscribeWith(new ServiceBusMessageProcessor(true, true, maxRenewDuration,
-                retryOptions, errorContext, onComplete, onAbandon, onRenewLock));
+                retryOptions, errorContext, onComplete, onAbandon, lockRenewer));
 
         // Act & Assert
         StepVerifier.create(processor)
@@ -244,7 +252,7 @@ class ServiceBusMessageProcessorTest {
             })
             .verify();
 
-        verify(onRenewLock).apply(message1);
+        verify(onRenewLock).apply(singletonList(message1));
         verifyZeroInteractions(message2);
         verifyZeroInteractions(onComplete);
     }
@@ -273,7 +281,7 @@ class ServiceBusMessageProcessorTest {
 
         final ServiceBusMessageProcessor processor = createMessageSink(message1, message2)
             .subscribeWith(new ServiceBusMessageProcessor(true, true, maxRenewDuration,
-                retryOptions, errorContext, onComplete, onAbandon, onRenewLock));
+                retryOptions, errorContext, onComplete, onAbandon, lockRenewer));
 
         // Act & Assert
         StepVerifier.create(processor)